@@ -1,9 +1,5 @@
 package com.ware.spring;
 
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
-
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Controller;
@@ -11,20 +7,19 @@ import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 
 import com.ware.spring.security.vo.SecurityUser;
-import com.ware.spring.vehicle.domain.VehicleDistributorSales;
-import com.ware.spring.vehicle.domain.VehicleSales;
-import com.ware.spring.vehicle.repository.VehicleDistributorSalesRepository;
-import com.ware.spring.vehicle.repository.VehicleSalesRepository;
+import com.ware.spring.vehicle.service.VehicleSalesCubeService;
+import com.ware.spring.vehicle.service.VehicleSalesForecastService;
 
 @Controller
 public class HomeController {
 
-    private final VehicleSalesRepository vehicleSalesRepository;
-    private final VehicleDistributorSalesRepository vehicleDistributorSalesRepository;
+    private final VehicleSalesCubeService vehicleSalesCubeService;
+    private final VehicleSalesForecastService vehicleSalesForecastService;
 
-    public HomeController(VehicleSalesRepository vehicleSalesRepository, VehicleDistributorSalesRepository vehicleDistributorSalesRepository) {
-        this.vehicleSalesRepository = vehicleSalesRepository;
-        this.vehicleDistributorSalesRepository = vehicleDistributorSalesRepository;
+    public HomeController(VehicleSalesCubeService vehicleSalesCubeService,
+                          VehicleSalesForecastService vehicleSalesForecastService) {
+        this.vehicleSalesCubeService = vehicleSalesCubeService;
+        this.vehicleSalesForecastService = vehicleSalesForecastService;
     }
 
     @GetMapping({"/", ""})
@@ -58,56 +53,10 @@ public class HomeController {
             return "redirect:/login";
         }
 
-        // 개인 월별 판매량 및 매출액 집계
-        List<VehicleSales> salesList = vehicleSalesRepository.findByMember_MemNo(memNo);
-        Map<Integer, Integer> monthlyIndividualSales = new HashMap<>();
-        Map<Integer, Integer> monthlyIndividualSalePrices = new HashMap<>();
-
-        // 월별 집계 초기화
-        for (int i = 1; i <= 12; i++) {
-            monthlyIndividualSales.put(i, 0);
-            monthlyIndividualSalePrices.put(i, 0);
-        }
-
-        // 판매량 및 매출액 집계
-        for (VehicleSales sale : salesList) {
-            int month = sale.getSaleDate().getMonthValue();
-            monthlyIndividualSales.put(month, monthlyIndividualSales.get(month) + sale.getSaleCount());
-            monthlyIndividualSalePrices.put(month, monthlyIndividualSalePrices.get(month) + sale.getSalePrices());
-        }
-
-        // 부서별 상위 5개 판매량 및 매출액 집계
-        int currentYear = java.time.Year.now().getValue();
-        int currentMonth = java.time.LocalDate.now().getMonthValue();
-        List<VehicleDistributorSales> topDistributors = vehicleDistributorSalesRepository.findTop5BySaleDateBetween(
-                java.time.LocalDate.of(currentYear, currentMonth, 1),
-                java.time.LocalDate.of(currentYear, currentMonth, java.time.YearMonth.of(currentYear, currentMonth).lengthOfMonth())
-        );
-
-        // 현재 사용자가 속한 지점의 월별 판매량 및 매출액 집계
-        List<VehicleDistributorSales> distributorSalesList = vehicleDistributorSalesRepository.findByDistributor_DistributorNo(distributorNo);
-        Map<Integer, Integer> monthlyDistributorSales = new HashMap<>();
-        Map<Integer, Integer> monthlyDistributorSalesPrices = new HashMap<>();
-
-        // 월별 집계 초기화
-        for (int i = 1; i <= 12; i++) {
-            monthlyDistributorSales.put(i, 0);
-            monthlyDistributorSalesPrices.put(i, 0);
-        }
-
-        // 지점 판매량 및 매출액 집계
-        for (VehicleDistributorSales sale : distributorSalesList) {
-            int month = sale.getSaleDate().getMonthValue();
-            monthlyDistributorSales.put(month, monthlyDistributorSales.get(month) + sale.getDistributorSaleCount());
-            monthlyDistributorSalesPrices.put(month, monthlyDistributorSalesPrices.get(month) + sale.getDistributorSalePrices());
-        }
-
-        // 모델에 데이터 추가
-        model.addAttribute("monthlyIndividualSales", monthlyIndividualSales); // 개인 월별 판매량 추가
-        model.addAttribute("monthlyIndividualSalePrices", monthlyIndividualSalePrices); // 개인 월별 매출액 추가
-        model.addAttribute("topDistributors", topDistributors); // 부서별 상위 5개 판매량 및 매출액 추가
-        model.addAttribute("monthlyDistributorSales", monthlyDistributorSales); // 지점의 월별 판매량 추가
-        model.addAttribute("monthlyDistributorSalesPrices", monthlyDistributorSalesPrices); // 지점의 월별 매출액 추가
+        // 올해 개인/지점 월별 판매와 이번 달 지점 순위 (월별 집계에서 읽고 회원별로 잠시 캐시)
+        model.addAllAttributes(vehicleSalesCubeService.getDashboard(memNo, distributorNo));
+        // 지점 월말 예상 판매와 전날 이상 판매 알림 (매일 새벽 계산된 예측 테이블에서 읽음)
+        model.addAttribute("distributorForecast", vehicleSalesForecastService.getForecast(distributorNo));
         model.addAttribute("memNo", memNo); // 사용자 memNo 추가
 
         return "home";
@@ -1,16 +1,30 @@
 package com.ware.spring.approval_route.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.ware.spring.approval_route.domain.ApprovalRoute;
  
 public interface ApprovalRouteRepository extends JpaRepository<ApprovalRoute, Long> {  // Long 타입으로 변경
     List<ApprovalRoute> findByAuthorization_AuthorNo(Long authorNo);
+
+    // 문서 상세용 결재 경로 조회 (결재자/참조자 회원, 직급, 지점까지 한 번에 조회)
+    @Query("SELECT r FROM ApprovalRoute r " +
+           "JOIN FETCH r.member m " +
+           "LEFT JOIN FETCH m.rank " +
+           "LEFT JOIN FETCH m.distributor " +
+           "LEFT JOIN FETCH r.rank " +
+           "WHERE r.authorization.authorNo = :authorNo " +
+           "ORDER BY r.approvalOrder")
+    List<ApprovalRoute> findWithMemberByAuthorNo(@Param("authorNo") Long authorNo);
     List<ApprovalRoute> findByMember_MemNo(Long memNo);
 
     Optional<ApprovalRoute> findByAuthorization_AuthorNoAndMember_MemNo(Long authorNo, Long memNo);
@@ -28,5 +42,27 @@ public interface ApprovalRouteRepository extends JpaRepository<ApprovalRoute, Lo
     // 알람관련
 	boolean existsByMember_MemNoAndApprovalStatus(Long memNo, String string);
 
+    // 일괄 결재용 결재 경로 요약 조회 (approNo, authorNo, memNo, approvalOrder, isApprover, isReferer, approvalStatus)
+    @Query("SELECT r.approNo, r.authorization.authorNo, r.member.memNo, r.approvalOrder, r.isApprover, r.isReferer, r.approvalStatus " +
+           "FROM ApprovalRoute r " +
+           "WHERE r.authorization.authorNo IN :authorNos " +
+           "ORDER BY r.authorization.authorNo, r.approvalOrder")
+    List<Object[]> findRouteSummariesByAuthorNoIn(@Param("authorNos") List<Long> authorNos);
+
+    // 일괄 승인 - 결재자 경로 상태 및 서명 일괄 변경
+    @Modifying
+    @Query("UPDATE ApprovalRoute r SET r.approvalStatus = :status, r.approverSignature = :signature, r.approvedDate = :approvedDate " +
+           "WHERE r.approNo IN :approNos")
+    int updateApproverRoutesByApproNoIn(@Param("approNos") List<Long> approNos,
+                                        @Param("status") String status,
+                                        @Param("signature") String signature,
+                                        @Param("approvedDate") LocalDateTime approvedDate);
+
+    // 일괄 반려 - 반려된 문서의 남은 대기(P) 경로를 반려(N)로 일괄 변경
+    @Modifying
+    @Query("UPDATE ApprovalRoute r SET r.approvalStatus = 'N' " +
+           "WHERE r.authorization.authorNo IN :authorNos AND r.approvalStatus = 'P'")
+    int rejectPendingRoutesByAuthorNoIn(@Param("authorNos") List<Long> authorNos);
+
     
 }
@@ -8,6 +8,7 @@ import com.ware.spring.approval_route.domain.ApprovalRouteDto;
 import com.ware.spring.approval_route.repository.ApprovalRouteRepository;
 import com.ware.spring.authorization.domain.Authorization;
 import com.ware.spring.authorization.repository.AuthorizationRepository;
+import com.ware.spring.authorization.service.AuthorizationDetailService;
 import com.ware.spring.member.domain.Member;
 import com.ware.spring.member.repository.MemberRepository;
 
@@ -26,12 +27,15 @@ public class ApprovalRouteService {
     private final ApprovalRouteRepository approvalRouteRepository;
     private final AuthorizationRepository authorizationRepository;
     private final MemberRepository memberRepository;
+    private final AuthorizationDetailService authorizationDetailService;
 
     @Autowired
-    public ApprovalRouteService(ApprovalRouteRepository approvalRouteRepository, AuthorizationRepository authorizationRepository, MemberRepository memberRepository) {
+    public ApprovalRouteService(ApprovalRouteRepository approvalRouteRepository, AuthorizationRepository authorizationRepository, MemberRepository memberRepository,
+                                AuthorizationDetailService authorizationDetailService) {
         this.approvalRouteRepository = approvalRouteRepository;
         this.authorizationRepository = authorizationRepository;
         this.memberRepository = memberRepository;
+        this.authorizationDetailService = authorizationDetailService;
     }
 
     /**
@@ -44,7 +48,8 @@ public class ApprovalRouteService {
      * @return 결재 경로 목록을 `ApprovalRouteDto` 형태로 반환
      */
     public List<ApprovalRouteDto> getApprovalRoutesByAuthorNo(Long authorNo) {
-        List<ApprovalRoute> approvalRoutes = approvalRouteRepository.findByAuthorization_AuthorNo(authorNo);
+        // 결재 경로와 회원 정보를 한 번에 조회 (경로마다 회원을 다시 조회하지 않음)
+        List<ApprovalRoute> approvalRoutes = approvalRouteRepository.findWithMemberByAuthorNo(authorNo);
 
         return approvalRoutes.stream()
             .map(approvalRoute -> {
@@ -55,7 +60,7 @@ public class ApprovalRouteService {
 
                 // 결재자가 존재하는 경우
                 if ("Y".equals(approvalRoute.getIsApprover())) {
-                    approver = memberRepository.findById(approvalRoute.getMember().getMemNo()).orElse(null);
+                    approver = approvalRoute.getMember();
                     if (approver != null) {
                         approverSignature = approvalRoute.getApproverSignature(); // Approver의 서명 정보 가져오기
                     }
@@ -63,7 +68,7 @@ public class ApprovalRouteService {
 
                 // 참조자가 존재하는 경우
                 if ("Y".equals(approvalRoute.getIsReferer())) {
-                    referer = memberRepository.findById(approvalRoute.getMember().getMemNo()).orElse(null);
+                    referer = approvalRoute.getMember();
                     if (referer != null) {
                         refererSignature = approvalRoute.getRefererSignature(); // Referer의 서명 정보 가져오기
                     }
@@ -94,6 +99,7 @@ public class ApprovalRouteService {
      */
     @Transactional
     public void updateApprovalStatus(Long authorNo, Long memNo, String status) {
+        authorizationDetailService.evict(authorNo);
         Optional<ApprovalRoute> optionalApprovalRoute = approvalRouteRepository.findByAuthorization_AuthorNoAndMember_MemNo(authorNo, memNo);
         if (optionalApprovalRoute.isPresent()) {
             ApprovalRoute approvalRoute = optionalApprovalRoute.get();
@@ -231,6 +237,7 @@ public class ApprovalRouteService {
      */
     @Transactional
     public void updateApprovalRouteToRecalled(Long authorNo) {
+        authorizationDetailService.evict(authorNo);
         List<ApprovalRoute> approvalRoutes = approvalRouteRepository.findByAuthorization_AuthorNo(authorNo);
 
         // 모든 관련 결재 경로 상태를 'R'로 변경
@@ -17,11 +17,13 @@ import org.jsoup.select.Elements;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.WebDataBinder;
+import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.InitBinder;
 import org.springframework.web.bind.annotation.ModelAttribute;
@@ -34,13 +36,16 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.multipart.MultipartFile;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.ware.spring.approval_route.domain.ApprovalRoute;
 import com.ware.spring.approval_route.domain.ApprovalRouteDto;
 import com.ware.spring.approval_route.repository.ApprovalRouteRepository;
 import com.ware.spring.approval_route.service.ApprovalRouteService;
 import com.ware.spring.authorization.domain.Authorization;
+import com.ware.spring.authorization.domain.AuthorizationAttachmentDto;
 import com.ware.spring.authorization.domain.AuthorizationDto;
+import com.ware.spring.authorization.domain.BulkApprovalResultDto;
 import com.ware.spring.authorization.repository.AuthorizationRepository;
+import com.ware.spring.authorization.service.AuthorizationAttachmentService;
+import com.ware.spring.authorization.service.AuthorizationDetailService;
 import com.ware.spring.authorization.service.AuthorizationFileService;
 import com.ware.spring.authorization.service.AuthorizationService;
 import com.ware.spring.member.domain.Member;
@@ -53,6 +58,8 @@ public class AuthorizationApiController {
 
     private final AuthorizationService authorizationService;
     private final AuthorizationFileService authorizationFileService;
+    private final AuthorizationAttachmentService authorizationAttachmentService;
+    private final AuthorizationDetailService authorizationDetailService;
     private final ApprovalRouteService approvalRouteService;
     private final MemberService memberService;
     private final MemberRepository memberRepository;
@@ -63,7 +70,8 @@ public class AuthorizationApiController {
     public AuthorizationApiController(AuthorizationService authorizationService, 
                                       AuthorizationFileService authorizationFileService, ApprovalRouteService approvalRouteService, 
                                       MemberService memberService, MemberRepository memberRepository, ApprovalRouteRepository approvalRouteRepository
-                                      ,AuthorizationRepository authorizationRepository) {
+                                      ,AuthorizationRepository authorizationRepository, AuthorizationAttachmentService authorizationAttachmentService,
+                                      AuthorizationDetailService authorizationDetailService) {
         this.authorizationService = authorizationService;
         this.authorizationFileService = authorizationFileService;
         this.approvalRouteService = approvalRouteService;
@@ -71,12 +79,77 @@ public class AuthorizationApiController {
         this.memberRepository = memberRepository;
         this.approvalRouteRepository = approvalRouteRepository;
         this.authorizationRepository = authorizationRepository;
+        this.authorizationAttachmentService = authorizationAttachmentService;
+        this.authorizationDetailService = authorizationDetailService;
     }
 
     @GetMapping("/download/{author_no}")
     public ResponseEntity<Object> boardImgDownload(@PathVariable("author_no") Long author_no) {
         return authorizationFileService.download(author_no);
     }
+
+    /**
+     * 결재 문서 첨부파일(다중) API
+     * 
+     * ## 기능
+     * - 문서에 여러 파일을 첨부하고, 첨부 목록 조회/다운로드/삭제
+     * 
+     * ## 기술
+     * - 파일 내용의 SHA-256 해시로 원본을 한 번만 저장 (같은 파일 재첨부 시 참조 수만 증가)
+     * - 다운로드는 Range, ETag(해시) 조건부 요청 지원
+     */
+    @ResponseBody
+    @PostMapping("/api/authorization/{authorNo}/attachments")
+    public ResponseEntity<?> uploadAttachments(@PathVariable("authorNo") Long authorNo,
+                                               @RequestParam("files") List<MultipartFile> files) {
+        try {
+            return ResponseEntity.ok(authorizationAttachmentService.attach(authorNo, currentMemNo(), files));
+        } catch (AccessDeniedException e) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(e.getMessage());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        } catch (Exception e) {
+            e.printStackTrace();
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("파일 업로드 실패");
+        }
+    }
+
+    @ResponseBody
+    @GetMapping("/api/authorization/{authorNo}/attachments")
+    public ResponseEntity<List<AuthorizationAttachmentDto>> getAttachments(@PathVariable("authorNo") Long authorNo) {
+        try {
+            return ResponseEntity.ok(authorizationAttachmentService.getAttachments(authorNo, currentMemNo()));
+        } catch (AccessDeniedException e) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+    }
+
+    @GetMapping("/download/attachment/{attach_no}")
+    public ResponseEntity<Object> attachmentDownload(@PathVariable("attach_no") Long attachNo) {
+        return authorizationAttachmentService.download(attachNo, currentMemNo());
+    }
+
+    @ResponseBody
+    @DeleteMapping("/api/authorization/attachments/{attachNo}")
+    public ResponseEntity<String> deleteAttachment(@PathVariable("attachNo") Long attachNo) {
+        try {
+            authorizationAttachmentService.detach(attachNo, currentMemNo());
+            return ResponseEntity.ok("첨부파일이 삭제되었습니다.");
+        } catch (AccessDeniedException e) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(e.getMessage());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        }
+    }
+
+    // 로그인한 사용자의 memNo (없으면 null)
+    private Long currentMemNo() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof SecurityUser) {
+            return ((SecurityUser) authentication.getPrincipal()).getMember().getMemNo();
+        }
+        return null;
+    }
     /**
      * 결재 문서를 생성하는 API 엔드포인트.
      * 
@@ -100,6 +173,7 @@ public class AuthorizationApiController {
      * 
      * @param dto 결재 문서 정보를 담고 있는 DTO
      * @param file 첨부할 파일 (선택적)
+     * @param files 추가로 첨부할 파일 목록 (선택적)
      * @param title 문서 제목
      * @param approversJson 결재자 ID의 JSON 문자열
      * @param referer 참조자 ID
@@ -121,6 +195,7 @@ public class AuthorizationApiController {
     public Map<String, String> createAuthorization(
             AuthorizationDto dto, 
             @RequestParam(value = "file", required = false) MultipartFile file,
+            @RequestParam(value = "files", required = false) List<MultipartFile> files,
             @RequestParam("title") String title,
             @RequestParam("approvers") String approversJson,
             @RequestParam("referer") Long referer,
@@ -241,6 +316,11 @@ public class AuthorizationApiController {
 
             System.out.println("Saved Authorization: " + savedAuthorization); // 저장된 Authorization 확인
 
+            // 다중 첨부파일 처리
+            if (files != null && !files.isEmpty()) {
+                authorizationAttachmentService.attach(savedAuthorization.getAuthorNo(), files);
+            }
+
             resultMap.put("res_code", "200");
             resultMap.put("res_msg", "문서가 성공적으로 등록되었습니다.");
         } catch (Exception e) {
@@ -414,8 +494,8 @@ public class AuthorizationApiController {
      * 
      * ## 기술
      * - Spring MVC를 사용한 RESTful API 구현
-     * - JPA를 통해 데이터베이스와의 상호작용 수행
-     * - DTO를 사용하여 클라이언트에 필요한 데이터 형식으로 변환
+     * - EntityGraph/fetch join으로 문서와 결재 경로를 각각 한 번에 조회
+     * - 상태 변경 시 무효화되는 짧은 TTL 캐시 (AuthorizationDetailService)
      * 
      * @param authorNo 결재 번호 (필수)
      * @return 결재 정보를 포함하는 AuthorizationDto 객체 또는 null
@@ -423,58 +503,8 @@ public class AuthorizationApiController {
     @RequestMapping(value = "/api/authorization/{authorNo}", method = RequestMethod.GET)
     @ResponseBody
     public AuthorizationDto getAuthorizationById(@PathVariable("authorNo") Long authorNo) {
-        System.out.println("Entering getAuthorizationById method with authorNo: " + authorNo);
-        
-        if (authorNo == null) {
-            System.out.println("authorNo is null");
-        } else {
-            System.out.println("authorNo is not null: " + authorNo);
-        }
-        
-        // Authorization 엔터티 로드
-        Authorization authorization = authorizationService.getAuthorizationById(authorNo);
-        
-        if (authorization != null) {
-            System.out.println("Found authorization: " + authorization);
-
-            // approvalRoute 테이블에서 결재자 및 참조자 리스트 가져오기
-            List<ApprovalRoute> approvalRoutes = approvalRouteRepository.findByAuthorization_AuthorNo(authorNo);
-
-            // 결재자와 참조자를 구분하여 리스트에 추가
-            List<ApprovalRouteDto> approvers = new ArrayList<>();
-            List<ApprovalRouteDto> referers = new ArrayList<>();
-            
-            for (ApprovalRoute route : approvalRoutes) {
-                ApprovalRouteDto dto = ApprovalRouteDto.toDto(route);
-                
-                // 서명 필드 추가
-                dto.setApproverSignature(route.getApproverSignature());
-                dto.setRefererSignature(route.getRefererSignature());
-
-                // 결재자인 경우 리스트에 추가
-                if ("Y".equals(route.getIsApprover())) {
-                    approvers.add(dto);
-                }
-
-                // 참조자인 경우 리스트에 추가
-                if ("Y".equals(route.getIsReferer())) {
-                    referers.add(dto);
-                }
-            }
-            
-            // AuthorizationDto로 변환 후 결재자와 참조자 리스트 추가
-            AuthorizationDto authorizationDto = AuthorizationDto.toDto(authorization);
-            authorizationDto.setApprovers(approvers);
-            authorizationDto.setReferers(referers);
-            
-            System.out.println("Approvers: " + approvers.size());
-            System.out.println("Referers: " + referers.size());
-            
-            return authorizationDto;
-        } else {
-            System.out.println("No authorization found for authorNo: " + authorNo);
-            return null;
-        }
+        // 문서(하위 문서 포함)와 결재 경로(회원 포함)를 두 번의 쿼리로 조회, 짧은 시간 캐시
+        return authorizationDetailService.getDetail(authorNo);
     }
     
     /**
@@ -536,6 +566,39 @@ public class AuthorizationApiController {
 	    }
 	}
 
+    /**
+     * 여러 결재 문서를 한 번에 승인 또는 반려하는 API 엔드포인트
+     * 
+     * ## 기능
+     * - 로그인한 사용자가 현재 결재 순서인 문서들을 하나의 서명으로 일괄 처리
+     * - 문서별 처리 결과(성공 여부, 처리 후 상태, 사유)를 목록으로 반환
+     * 
+     * ## 기술
+     * - 문서와 결재 경로를 일괄 조회한 뒤 IN 절 UPDATE로 묶어서 반영 (문서 수만큼 쿼리가 늘어나지 않음)
+     * 
+     * @param authorNos 결재 문서 번호 목록 (필수)
+     * @param signature 결재자의 서명 (필수)
+     * @param action "approve" 또는 "reject" (필수)
+     * @return 문서별 처리 결과 목록
+     */
+	@PostMapping("/api/authorization/sign/bulk")
+	public ResponseEntity<?> bulkSignAuthorization(@RequestParam("authorNos") List<Long> authorNos,
+	                                               @RequestParam("signature") String signature,
+	                                               @RequestParam("action") String action) {
+	    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+	    if (authentication == null || !(authentication.getPrincipal() instanceof SecurityUser)) {
+	        return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("로그인된 사용자가 없습니다.");
+	    }
+	    Long memNo = ((SecurityUser) authentication.getPrincipal()).getMember().getMemNo();
+
+	    try {
+	        List<BulkApprovalResultDto> results = authorizationService.bulkSignDocuments(authorNos, signature, action, memNo);
+	        return ResponseEntity.ok(results);
+	    } catch (IllegalArgumentException e) {
+	        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+	    }
+	}
+
 	/**
 	 * Spring MVC의 데이터 바인딩을 위한 초기 설정 메서드.
 	 * 
@@ -0,0 +1,48 @@
+package com.ware.spring.authorization.domain;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 첨부파일 원본 (내용 주소 기반 저장소)
+ * 같은 내용의 파일은 SHA-256 해시 하나로 한 번만 저장하고, 참조하는 첨부 수(refCount)를 관리합니다.
+ * refCount가 0이 된 뒤 일정 시간이 지나면 백그라운드 작업에서 파일과 함께 삭제됩니다.
+ */
+@Entity
+@Table(name = "attachment_blob")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+@Setter
+@Getter
+@Builder
+public class AttachmentBlob {
+
+    @Id
+    @Column(name = "blob_hash", length = 64)
+    private String blobHash;        // SHA-256 (16진수 소문자)
+
+    @Column(name = "blob_size")
+    private long blobSize;          // 파일 크기 (byte)
+
+    @Column(name = "stored_path")
+    private String storedPath;      // 저장소 기준 상대 경로
+
+    @Column(name = "ref_count")
+    private int refCount;           // 참조 중인 첨부 수
+
+    @Column(name = "blob_reg_date")
+    private LocalDateTime blobRegDate;
+
+    @Column(name = "blob_mod_date")
+    private LocalDateTime blobModDate; // 참조 수가 마지막으로 바뀐 시각 (삭제 유예 기준)
+}
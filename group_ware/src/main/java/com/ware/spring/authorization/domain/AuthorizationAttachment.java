@@ -0,0 +1,55 @@
+package com.ware.spring.authorization.domain;
+
+import java.time.LocalDateTime;
+
+import org.hibernate.annotations.CreationTimestamp;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 결재 문서 첨부파일
+ * 문서 하나에 여러 개를 첨부할 수 있으며, 실제 파일은 AttachmentBlob(내용 해시)으로 공유됩니다.
+ */
+@Entity
+@Table(name = "authorization_attachment")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+@Setter
+@Getter
+@Builder
+public class AuthorizationAttachment {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "attach_no")
+    private Long attachNo;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "author_no")
+    private Authorization authorization;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "blob_hash")
+    private AttachmentBlob blob;
+
+    @Column(name = "ori_file_name")
+    private String oriFileName;     // 사용자가 올린 파일 이름
+
+    @Column(name = "attach_reg_date")
+    @CreationTimestamp
+    private LocalDateTime attachRegDate;
+}
@@ -0,0 +1,38 @@
+package com.ware.spring.authorization.domain;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@ToString
+@Builder
+public class AuthorizationAttachmentDto {
+
+    private Long attachNo;
+    private Long authorNo;
+    private String oriFileName;
+    private long fileSize;
+    private String blobHash;
+    private LocalDateTime attachRegDate;
+
+    // blob을 함께 조회(fetch join)한 엔티티를 DTO로 변환
+    public static AuthorizationAttachmentDto toDto(AuthorizationAttachment attachment) {
+        return AuthorizationAttachmentDto.builder()
+                .attachNo(attachment.getAttachNo())
+                .authorNo(attachment.getAuthorization() != null ? attachment.getAuthorization().getAuthorNo() : null)
+                .oriFileName(attachment.getOriFileName())
+                .fileSize(attachment.getBlob() != null ? attachment.getBlob().getBlobSize() : 0)
+                .blobHash(attachment.getBlob() != null ? attachment.getBlob().getBlobHash() : null)
+                .attachRegDate(attachment.getAttachRegDate())
+                .build();
+    }
+}
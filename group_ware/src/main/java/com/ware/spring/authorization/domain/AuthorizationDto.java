@@ -100,6 +100,12 @@ public class AuthorizationDto {
                 .map(ApprovalRouteDto::toDto)
                 .collect(Collectors.toList());
 
+            return toDto(authorization, approvalRoutes);
+        }
+
+    // 이미 변환된 결재 경로 목록으로 DTO 생성 (상세 조회처럼 결재 경로를 따로 조회한 경우)
+    public static AuthorizationDto toDto(Authorization authorization, List<ApprovalRouteDto> approvalRoutes) {
+
             // 결재자 리스트 필터링
             List<ApprovalRouteDto> approvers = approvalRoutes.stream()
                     .filter(route -> "Y".equals(route.getIsApprover()))  // "Y"를 사용해 필터링
@@ -0,0 +1,40 @@
+package com.ware.spring.authorization.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@ToString
+@Builder
+public class BulkApprovalResultDto {
+
+    private Long authorNo;
+    private boolean success;       // 처리 성공 여부
+    private String authorStatus;   // 처리 후 문서 상태 (P: 대기, Y: 승인, N: 반려)
+    private String message;        // 실패 사유 또는 처리 결과 메시지
+
+    public static BulkApprovalResultDto success(Long authorNo, String authorStatus, String message) {
+        return BulkApprovalResultDto.builder()
+                .authorNo(authorNo)
+                .success(true)
+                .authorStatus(authorStatus)
+                .message(message)
+                .build();
+    }
+
+    public static BulkApprovalResultDto fail(Long authorNo, String authorStatus, String message) {
+        return BulkApprovalResultDto.builder()
+                .authorNo(authorNo)
+                .success(false)
+                .authorStatus(authorStatus)
+                .message(message)
+                .build();
+    }
+}
@@ -0,0 +1,39 @@
+package com.ware.spring.authorization.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.ware.spring.authorization.domain.AttachmentBlob;
+
+public interface AttachmentBlobRepository extends JpaRepository<AttachmentBlob, String> {
+
+	// 해시가 없으면 새로 등록, 있으면 참조 수 증가 (동시 업로드에도 한 행만 생성)
+	@Transactional
+	@Modifying
+	@Query(value = "INSERT INTO attachment_blob (blob_hash, blob_size, stored_path, ref_count, blob_reg_date, blob_mod_date) " +
+	               "VALUES (:hash, :size, :storedPath, 1, NOW(), NOW()) " +
+	               "ON DUPLICATE KEY UPDATE ref_count = ref_count + 1, blob_mod_date = NOW()",
+	       nativeQuery = true)
+	int upsertReference(@Param("hash") String hash, @Param("size") long size, @Param("storedPath") String storedPath);
+
+	// 참조 수 감소
+	@Transactional
+	@Modifying
+	@Query("UPDATE AttachmentBlob b SET b.refCount = b.refCount - 1, b.blobModDate = :now WHERE b.blobHash = :hash AND b.refCount > 0")
+	int decrementRefCount(@Param("hash") String hash, @Param("now") LocalDateTime now);
+
+	// 유예 시간이 지난 미사용 원본 조회
+	List<AttachmentBlob> findByRefCountLessThanEqualAndBlobModDateBefore(int refCount, LocalDateTime before);
+
+	// 조회 이후 다시 참조되지 않은 경우에만 삭제
+	@Transactional
+	@Modifying
+	@Query("DELETE FROM AttachmentBlob b WHERE b.blobHash = :hash AND b.refCount <= 0 AND b.blobModDate < :before")
+	int deleteIfUnreferenced(@Param("hash") String hash, @Param("before") LocalDateTime before);
+}
@@ -0,0 +1,22 @@
+package com.ware.spring.authorization.repository;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.ware.spring.authorization.domain.AuthorizationAttachment;
+
+public interface AuthorizationAttachmentRepository extends JpaRepository<AuthorizationAttachment, Long> {
+
+	// 문서별 첨부 목록 (원본 정보 함께 조회)
+	@Query("SELECT a FROM AuthorizationAttachment a JOIN FETCH a.blob " +
+	       "WHERE a.authorization.authorNo = :authorNo ORDER BY a.attachNo")
+	List<AuthorizationAttachment> findWithBlobByAuthorNo(@Param("authorNo") Long authorNo);
+
+	// 첨부 단건 (다운로드용)
+	@Query("SELECT a FROM AuthorizationAttachment a JOIN FETCH a.blob WHERE a.attachNo = :attachNo")
+	Optional<AuthorizationAttachment> findWithBlobByAttachNo(@Param("attachNo") Long attachNo);
+}
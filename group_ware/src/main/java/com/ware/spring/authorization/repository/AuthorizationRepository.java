@@ -1,11 +1,16 @@
 package com.ware.spring.authorization.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.ware.spring.authorization.domain.Authorization;
 import com.ware.spring.authorization.domain.AuthorizationDto;
@@ -14,6 +19,11 @@ public interface AuthorizationRepository extends JpaRepository<Authorization, Lo
 
 	Authorization findByAuthorNo(Long AuthorNo);
 
+	// 문서 상세 조회 (기안자, 직급, 지점과 문서 유형별 하위 문서를 한 번에 조회)
+	@EntityGraph(attributePaths = {"member", "member.rank", "member.distributor",
+	                               "authTrip", "authOff", "authLate", "authOutside", "authOvertime"})
+	Optional<Authorization> findDetailByAuthorNo(Long authorNo);
+
 	List<Authorization> findByAuthorStatus(String string);
 
 	List<Authorization> findByAuthorStatusNot(String string);
@@ -44,9 +54,42 @@ public interface AuthorizationRepository extends JpaRepository<Authorization, Lo
 	// 완료된 문서만 가져오기 (본인의 문서)
 	Page<Authorization> findByAuthorStatusInAndMember_MemNo(List<String> statuses, Long memNo, Pageable pageable);
 
-
-
-
-
+	// 일괄 결재용 문서 요약 조회 (authorNo, authorStatus, doctype, startEndDate, 기안자 memNo, 기안자 잔여 연차, startDate)
+	@Query("SELECT a.authorNo, a.authorStatus, a.doctype, a.startEndDate, m.memNo, m.memOff, a.startDate " +
+	       "FROM Authorization a LEFT JOIN a.member m " +
+	       "WHERE a.authorNo IN :authorNos")
+	List<Object[]> findApprovalSummariesByAuthorNoIn(@Param("authorNos") List<Long> authorNos);
+
+	// 승인된 문서의 회원별 합계 [회원 번호, 건수, 기간/일수 합계] (야근 시간, 휴가 일수)
+	// startDate는 yyyy-MM-dd(THH:mm) 문자열이므로 같은 형식의 문자열 범위로 비교
+	@Query("SELECT a.member.memNo, COUNT(a), COALESCE(SUM(a.startEndDate), 0) " +
+	       "FROM Authorization a WHERE a.doctype = :doctype AND a.authorStatus = 'Y' " +
+	       "AND a.member.memNo IN :memNos AND a.startDate >= :from AND a.startDate < :to " +
+	       "GROUP BY a.member.memNo")
+	List<Object[]> sumApprovedByDoctypeAndMemNos(@Param("doctype") String doctype,
+	                                             @Param("memNos") Collection<Long> memNos,
+	                                             @Param("from") String from,
+	                                             @Param("to") String to);
+
+	// 기간 내 승인된 문서 [문서 번호, 회원 번호, 기간/일수] (주 52시간 점검 초기화)
+	@Query("SELECT a.authorNo, a.member.memNo, a.startEndDate FROM Authorization a " +
+	       "WHERE a.doctype = :doctype AND a.authorStatus = 'Y' AND a.startDate >= :from AND a.startDate < :to")
+	List<Object[]> findApprovedByDoctypeAndStartDateRange(@Param("doctype") String doctype,
+	                                                      @Param("from") String from,
+	                                                      @Param("to") String to);
+
+	// 일괄 결재 - 문서 상태 일괄 변경
+	@Modifying
+	@Query("UPDATE Authorization a SET a.authorStatus = :status, a.authorModDate = CURRENT_TIMESTAMP " +
+	       "WHERE a.authorNo IN :authorNos")
+	int updateAuthorStatusByAuthorNoIn(@Param("authorNos") List<Long> authorNos, @Param("status") String status);
+
+	// 일괄 반려 - 문서 상태 및 반려 서명 일괄 변경
+	@Modifying
+	@Query("UPDATE Authorization a SET a.authorStatus = :status, a.signature = :signature, a.authorModDate = CURRENT_TIMESTAMP " +
+	       "WHERE a.authorNo IN :authorNos")
+	int updateAuthorStatusAndSignatureByAuthorNoIn(@Param("authorNos") List<Long> authorNos,
+	                                               @Param("status") String status,
+	                                               @Param("signature") String signature);
 
 }
@@ -0,0 +1,249 @@
+package com.ware.spring.authorization.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.ware.spring.approval_route.repository.ApprovalRouteRepository;
+import com.ware.spring.authorization.domain.AttachmentBlob;
+import com.ware.spring.authorization.domain.Authorization;
+import com.ware.spring.authorization.domain.AuthorizationAttachment;
+import com.ware.spring.authorization.domain.AuthorizationAttachmentDto;
+import com.ware.spring.authorization.repository.AttachmentBlobRepository;
+import com.ware.spring.authorization.repository.AuthorizationAttachmentRepository;
+import com.ware.spring.authorization.repository.AuthorizationRepository;
+
+@Service
+public class AuthorizationAttachmentService {
+
+    // 참조가 끊긴 원본을 바로 지우지 않고 기다리는 시간 (재첨부, 진행 중인 업로드 보호)
+    private static final long ORPHAN_GRACE_MINUTES = 60;
+
+    // 같은 해시에 대한 파일 배치/삭제를 직렬화하는 잠금 (해시 값으로 분산)
+    private final Object[] blobLocks = new Object[64];
+
+    private final AuthorizationAttachmentRepository attachmentRepository;
+    private final AttachmentBlobRepository blobRepository;
+    private final AuthorizationRepository authorizationRepository;
+    private final ApprovalRouteRepository approvalRouteRepository;
+    private final AuthorizationFileService authorizationFileService;
+    private final Path blobDir;
+
+    @Autowired
+    public AuthorizationAttachmentService(AuthorizationAttachmentRepository attachmentRepository,
+                                          AttachmentBlobRepository blobRepository,
+                                          AuthorizationRepository authorizationRepository,
+                                          ApprovalRouteRepository approvalRouteRepository,
+                                          AuthorizationFileService authorizationFileService,
+                                          @Value("${authorization.file.upload-dir:C:/document/upload/}") String fileDir) {
+        this.attachmentRepository = attachmentRepository;
+        this.blobRepository = blobRepository;
+        this.authorizationRepository = authorizationRepository;
+        this.approvalRouteRepository = approvalRouteRepository;
+        this.authorizationFileService = authorizationFileService;
+        this.blobDir = Paths.get(fileDir, "blobs");
+        for (int i = 0; i < blobLocks.length; i++) {
+            blobLocks[i] = new Object();
+        }
+    }
+
+    /**
+     * 결재 문서에 첨부파일 추가
+     * 기술: SHA-256 (DigestInputStream), 내용 주소 기반 저장, Spring Data JPA
+     * 설명: 업로드 스트림을 임시 파일로 복사하면서 동시에 해시를 계산합니다.
+     *        - 같은 해시의 원본이 이미 있으면 임시 파일을 버리고 참조 수만 늘립니다.
+     *        - 없으면 임시 파일을 blobs/{해시 앞 2자리}/{해시} 위치로 옮깁니다.
+     *        원본 등록(참조 수 증가)은 해시 단위로 즉시 커밋하여 백그라운드 정리 작업과 겹치지 않게 하고,
+     *        첨부 행 저장이 실패하면 늘린 참조 수를 되돌립니다.
+     *
+     * @param authorNo 결재 문서 번호
+     * @param memNo 요청한 회원 번호 (기안자만 가능)
+     * @param files 첨부할 파일 목록
+     * @return 저장된 첨부 목록
+     * @throws IllegalArgumentException 문서가 없는 경우
+     * @throws AccessDeniedException 기안자가 아니거나 결재가 진행된 문서인 경우
+     */
+    public List<AuthorizationAttachmentDto> attach(Long authorNo, Long memNo, List<MultipartFile> files) throws IOException {
+        Authorization authorization = authorizationRepository.findById(authorNo)
+                .orElseThrow(() -> new IllegalArgumentException("해당 문서를 찾을 수 없습니다."));
+        checkEditable(authorization, memNo);
+
+        List<AuthorizationAttachmentDto> attachments = new ArrayList<>();
+        for (MultipartFile file : files) {
+            if (file == null || file.isEmpty()) {
+                continue;
+            }
+            AttachmentBlob blob = storeBlob(file);
+            try {
+                AuthorizationAttachment attachment = attachmentRepository.save(AuthorizationAttachment.builder()
+                        .authorization(authorization)
+                        .blob(blob)
+                        .oriFileName(file.getOriginalFilename())
+                        .build());
+                attachments.add(AuthorizationAttachmentDto.toDto(attachment));
+            } catch (RuntimeException e) {
+                blobRepository.decrementRefCount(blob.getBlobHash(), LocalDateTime.now());
+                throw e;
+            }
+        }
+        return attachments;
+    }
+
+    // 업로드 스트림을 해시하면서 저장하고, 원본 참조를 등록
+    private AttachmentBlob storeBlob(MultipartFile file) throws IOException {
+        Files.createDirectories(blobDir);
+        Path temp = Files.createTempFile(blobDir, "upload-", ".tmp");
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            long size;
+            try (InputStream in = new DigestInputStream(file.getInputStream(), digest)) {
+                size = Files.copy(in, temp, StandardCopyOption.REPLACE_EXISTING);
+            }
+            String hash = HexFormat.of().formatHex(digest.digest());
+            String storedPath = hash.substring(0, 2) + "/" + hash;
+
+            synchronized (lockFor(hash)) {
+                blobRepository.upsertReference(hash, size, storedPath);
+                Path target = blobDir.resolve(storedPath);
+                if (!Files.exists(target)) {
+                    Files.createDirectories(target.getParent());
+                    try {
+                        Files.move(temp, target);
+                    } catch (FileAlreadyExistsException e) {
+                        // 같은 내용이 이미 저장됨
+                    }
+                }
+            }
+            return blobRepository.findById(hash)
+                    .orElseThrow(() -> new IllegalStateException("첨부 원본 등록에 실패했습니다: " + hash));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * 문서의 첨부 목록 (기안자, 결재자만)
+     * @throws AccessDeniedException 기안자도 결재자도 아닌 경우
+     */
+    @Transactional(readOnly = true)
+    public List<AuthorizationAttachmentDto> getAttachments(Long authorNo, Long memNo) {
+        authorizationRepository.findById(authorNo).ifPresent(authorization -> checkReadable(authorization, memNo));
+        return attachmentRepository.findWithBlobByAuthorNo(authorNo).stream()
+                .map(AuthorizationAttachmentDto::toDto)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 첨부 삭제 (원본은 참조 수만 줄이고, 실제 파일은 정리 작업에서 삭제)
+     * @throws IllegalArgumentException 첨부가 없는 경우
+     * @throws AccessDeniedException 기안자가 아니거나 결재가 진행된 문서인 경우
+     */
+    @Transactional
+    public void detach(Long attachNo, Long memNo) {
+        AuthorizationAttachment attachment = attachmentRepository.findWithBlobByAttachNo(attachNo)
+                .orElseThrow(() -> new IllegalArgumentException("해당 첨부파일을 찾을 수 없습니다."));
+        checkEditable(attachment.getAuthorization(), memNo);
+        attachmentRepository.delete(attachment);
+        blobRepository.decrementRefCount(attachment.getBlob().getBlobHash(), LocalDateTime.now());
+    }
+
+    /**
+     * 첨부 다운로드 (기안자, 결재자만, ETag는 내용 해시를 그대로 사용)
+     */
+    @Transactional(readOnly = true)
+    public ResponseEntity<Object> download(Long attachNo, Long memNo) {
+        try {
+            AuthorizationAttachment attachment = attachmentRepository.findWithBlobByAttachNo(attachNo).orElse(null);
+            if (attachment == null) {
+                return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+            }
+            if (!isDrafter(attachment.getAuthorization(), memNo) && !isApprover(attachment.getAuthorization(), memNo)) {
+                return new ResponseEntity<>(HttpStatus.FORBIDDEN);
+            }
+            AttachmentBlob blob = attachment.getBlob();
+            Path filePath = blobDir.resolve(blob.getStoredPath());
+            if (!Files.isRegularFile(filePath)) {
+                return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+            }
+            return authorizationFileService.fileResponse(filePath, attachment.getOriFileName(), blob.getBlobHash());
+        } catch (Exception e) {
+            e.printStackTrace();
+            return new ResponseEntity<>(HttpStatus.CONFLICT);
+        }
+    }
+
+    /**
+     * 미사용 원본 정리 (1시간마다)
+     * 설명: 참조 수가 0이 된 뒤 유예 시간이 지난 원본을 DB와 디스크에서 삭제합니다.
+     *        조회 이후 다시 참조된 원본은 삭제 조건(refCount <= 0)에 걸리지 않으므로 남습니다.
+     */
+    @Scheduled(fixedDelay = 3600000)
+    public void collectOrphanBlobs() {
+        LocalDateTime before = LocalDateTime.now().minusMinutes(ORPHAN_GRACE_MINUTES);
+        for (AttachmentBlob blob : blobRepository.findByRefCountLessThanEqualAndBlobModDateBefore(0, before)) {
+            synchronized (lockFor(blob.getBlobHash())) {
+                if (blobRepository.deleteIfUnreferenced(blob.getBlobHash(), before) > 0) {
+                    try {
+                        Files.deleteIfExists(blobDir.resolve(blob.getStoredPath()));
+                    } catch (IOException e) {
+                        e.printStackTrace();
+                    }
+                }
+            }
+        }
+    }
+
+    // 첨부 추가/삭제는 기안자가 결재 대기(P) 또는 임시 저장(T) 문서에만 가능
+    private void checkEditable(Authorization authorization, Long memNo) {
+        if (!isDrafter(authorization, memNo)) {
+            throw new AccessDeniedException("기안자만 첨부파일을 변경할 수 있습니다.");
+        }
+        if (!"P".equals(authorization.getAuthorStatus()) && !"T".equals(authorization.getAuthorStatus())) {
+            throw new AccessDeniedException("결재가 끝난 문서의 첨부파일은 변경할 수 없습니다.");
+        }
+    }
+
+    private void checkReadable(Authorization authorization, Long memNo) {
+        if (!isDrafter(authorization, memNo) && !isApprover(authorization, memNo)) {
+            throw new AccessDeniedException("기안자와 결재자만 첨부파일을 볼 수 있습니다.");
+        }
+    }
+
+    private boolean isDrafter(Authorization authorization, Long memNo) {
+        return memNo != null && authorization.getMember() != null && memNo.equals(authorization.getMember().getMemNo());
+    }
+
+    private boolean isApprover(Authorization authorization, Long memNo) {
+        return memNo != null && approvalRouteRepository
+                .findByAuthorization_AuthorNoAndMember_MemNoAndIsApprover(authorization.getAuthorNo(), memNo, "Y")
+                .isPresent();
+    }
+
+    private Object lockFor(String hash) {
+        return blobLocks[Math.floorMod(hash.hashCode(), blobLocks.length)];
+    }
+}
@@ -0,0 +1,126 @@
+package com.ware.spring.authorization.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.ware.spring.approval_route.domain.ApprovalRoute;
+import com.ware.spring.approval_route.domain.ApprovalRouteDto;
+import com.ware.spring.approval_route.repository.ApprovalRouteRepository;
+import com.ware.spring.authorization.domain.Authorization;
+import com.ware.spring.authorization.domain.AuthorizationDto;
+import com.ware.spring.authorization.repository.AuthorizationRepository;
+
+/**
+ * 결재 문서 상세 조회 (읽기 전용 모델 + 짧은 TTL 캐시)
+ * 기술: Spring Data JPA (EntityGraph, fetch join), ConcurrentHashMap 캐시
+ * 설명: 결재 모달에서 반복 호출되는 문서 상세를 두 번의 쿼리로 조회합니다.
+ *        1) 문서 + 기안자(직급, 지점) + 문서 유형별 하위 문서
+ *        2) 결재 경로 + 결재자/참조자(직급, 지점)
+ *        조회 결과는 CACHE_TTL_MILLIS 동안 보관하며, 결재/반려/회수 등 상태가 바뀌면 evict로 즉시 무효화합니다.
+ */
+@Service
+public class AuthorizationDetailService {
+
+    private static final long CACHE_TTL_MILLIS = 30_000;
+    private static final int CACHE_MAX_SIZE = 1_000;
+
+    private final AuthorizationRepository authorizationRepository;
+    private final ApprovalRouteRepository approvalRouteRepository;
+
+    private final Map<Long, CachedDetail> cache = new ConcurrentHashMap<>();
+    // 무효화 횟수 (조회 중에 무효화가 일어나면 조회 결과를 캐시에 넣지 않음)
+    private final AtomicLong invalidations = new AtomicLong();
+
+    @Autowired
+    public AuthorizationDetailService(AuthorizationRepository authorizationRepository,
+                                      ApprovalRouteRepository approvalRouteRepository) {
+        this.authorizationRepository = authorizationRepository;
+        this.approvalRouteRepository = approvalRouteRepository;
+    }
+
+    /**
+     * 문서 상세 조회
+     * @param authorNo 결재 문서 번호
+     * @return 결재자/참조자(서명 포함)가 채워진 AuthorizationDto, 문서가 없으면 null
+     */
+    @Transactional(readOnly = true)
+    public AuthorizationDto getDetail(Long authorNo) {
+        long now = System.currentTimeMillis();
+        CachedDetail cached = cache.get(authorNo);
+        if (cached != null && cached.expiresAt > now) {
+            return cached.detail;
+        }
+
+        long invalidationsBefore = invalidations.get();
+        Authorization authorization = authorizationRepository.findDetailByAuthorNo(authorNo).orElse(null);
+        if (authorization == null) {
+            return null;
+        }
+
+        List<ApprovalRouteDto> routes = approvalRouteRepository.findWithMemberByAuthorNo(authorNo).stream()
+                .map(this::toRouteDto)
+                .collect(Collectors.toList());
+        AuthorizationDto detail = AuthorizationDto.toDto(authorization, routes);
+
+        if (invalidations.get() == invalidationsBefore) {
+            if (cache.size() >= CACHE_MAX_SIZE) {
+                cache.values().removeIf(entry -> entry.expiresAt <= now);
+            }
+            cache.put(authorNo, new CachedDetail(detail, now + CACHE_TTL_MILLIS));
+        }
+        return detail;
+    }
+
+    /**
+     * 문서 상세 캐시 무효화
+     * 트랜잭션 안에서 호출되면 커밋 이후에 한 번 더 무효화하여, 커밋 전에 다시 캐시된 값도 제거합니다.
+     * @param authorNo 결재 문서 번호
+     */
+    public void evict(Long authorNo) {
+        invalidations.incrementAndGet();
+        cache.remove(authorNo);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    invalidations.incrementAndGet();
+                    cache.remove(authorNo);
+                }
+            });
+        }
+    }
+
+    public void evictAll(List<Long> authorNos) {
+        authorNos.forEach(this::evict);
+    }
+
+    // 결재 경로 DTO (결재자/참조자 이름, 직급, 서명 포함)
+    private ApprovalRouteDto toRouteDto(ApprovalRoute route) {
+        boolean approver = "Y".equals(route.getIsApprover());
+        boolean referer = "Y".equals(route.getIsReferer());
+
+        ApprovalRouteDto dto = ApprovalRouteDto.toDto(route, approver ? route.getMember() : null, referer ? route.getMember() : null);
+        dto.setApproverSignature(route.getApproverSignature());
+        dto.setRefererSignature(route.getRefererSignature());
+        return dto;
+    }
+
+    private static class CachedDetail {
+        private final AuthorizationDto detail;
+        private final long expiresAt;
+
+        private CachedDetail(AuthorizationDto detail, long expiresAt) {
+            this.detail = detail;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
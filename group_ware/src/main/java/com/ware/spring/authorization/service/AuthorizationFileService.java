@@ -1,6 +1,7 @@
 package com.ware.spring.authorization.service;
  
 import java.io.File;
+import java.io.IOException;
 import java.io.FileInputStream;
 import java.io.ObjectInputStream;
 import java.io.ObjectStreamClass;
@@ -11,11 +12,14 @@ import java.nio.file.Paths;
 import java.util.UUID;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.core.io.InputStreamResource;
-import org.springframework.core.io.Resource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ContentDisposition;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
@@ -26,16 +30,25 @@ import com.ware.spring.authorization.repository.AuthorizationRepository;
 @Service
 public class AuthorizationFileService {
  
-    private String fileDir = "C:\\document\\upload\\";
+    // 첨부파일 저장 경로 (application.yml의 authorization.file.upload-dir)
+    private final String fileDir;
     
     private final AuthorizationRepository authorizationRepository;
     
     @Autowired
-    public AuthorizationFileService(AuthorizationRepository authorizationRepository) {
+    public AuthorizationFileService(AuthorizationRepository authorizationRepository,
+                                    @Value("${authorization.file.upload-dir:C:/document/upload/}") String fileDir) {
         this.authorizationRepository = authorizationRepository;
+        this.fileDir = fileDir.endsWith(File.separator) || fileDir.endsWith("/") ? fileDir : fileDir + File.separator;
     }
  
     // 파일 업로드 메서드
+    /**
+     * 기술: MultipartFile.transferTo(Path)
+     * 설명: 업로드된 파일을 UUID 파일명으로 저장 경로에 기록합니다.
+     *        저장 경로가 없으면 디렉터리를 먼저 만들고, 임시 파일을 그대로 옮기거나 스트림으로 복사하므로
+     *        파일 전체를 메모리에 올리지 않습니다.
+     */
     public String upload(MultipartFile file) {
         String newFileName = null;
 
@@ -54,20 +67,26 @@ public class AuthorizationFileService {
             UUID uuid = UUID.randomUUID();
             String uniqueName = uuid.toString().replaceAll("-", "");
             newFileName = uniqueName + fileExt;
-            File saveFile = new File(fileDir + newFileName);
 
-            if (!saveFile.exists()) {
-                saveFile.mkdirs();
-            }
-
-            file.transferTo(saveFile);
+            Path uploadDir = Paths.get(fileDir);
+            Files.createDirectories(uploadDir);
+            file.transferTo(uploadDir.resolve(newFileName));
         } catch (Exception e) {
             e.printStackTrace();
+            newFileName = null;
         }
         return newFileName;
     }
 
     // 파일 다운로드 메서드
+    /**
+     * 기술: FileSystemResource, HTTP 조건부 요청(ETag/Last-Modified), Range 요청
+     * 설명: 첨부파일을 FileSystemResource(FileChannel 기반)로 반환합니다.
+     *        - Content-Length, Last-Modified, ETag(파일 크기 + 수정 시각), Accept-Ranges 헤더를 설정합니다.
+     *        - If-None-Match / If-Modified-Since가 일치하면 Spring MVC가 304 Not Modified로 응답합니다.
+     *        - Range 헤더가 있으면 Spring MVC가 ResourceRegion으로 변환하여 206 Partial Content로
+     *          요청한 구간만 전송하므로, 큰 스캔 파일도 이어받기가 가능합니다.
+     */
     public ResponseEntity<Object> download(Long authorNo) {
         try {
             Authorization authorization = authorizationRepository.findByAuthorNo(authorNo);
@@ -80,24 +99,17 @@ public class AuthorizationFileService {
             String oriFileName = authorization.getAuthorOriThumbnail();
 
             // 파일 이름이 직렬화된 객체로 저장된 경우 처리
-            if (!(oriFileName instanceof String)) {
+            if (!(oriFileName instanceof String) || newFileName == null) {
                 throw new ClassCastException("파일 이름이 올바른 문자열 형식이 아닙니다.");
             }
 
-            oriFileName = URLEncoder.encode(oriFileName, "UTF-8");
-            String downDir = fileDir + newFileName;
+            Path filePath = Paths.get(fileDir).resolve(newFileName).normalize();
 
-            Path filePath = Paths.get(downDir);
-
-            if (!Files.exists(filePath)) {
+            if (!filePath.startsWith(Paths.get(fileDir).normalize()) || !Files.isRegularFile(filePath)) {
                 return new ResponseEntity<>(HttpStatus.NOT_FOUND);
             }
 
-            Resource resource = new InputStreamResource(Files.newInputStream(filePath));
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentDisposition(ContentDisposition.builder("attachment").filename(oriFileName).build());
-
-            return new ResponseEntity<>(resource, headers, HttpStatus.OK);
+            return fileResponse(filePath, oriFileName, null);
 
         } catch (Exception e) {
             e.printStackTrace();
@@ -105,6 +117,35 @@ public class AuthorizationFileService {
         }
     }
 
+    /**
+     * 파일 다운로드 응답 생성 (단일 첨부, 다중 첨부 공용)
+     * @param filePath 저장된 파일 경로
+     * @param oriFileName 다운로드 시 보여줄 원본 파일 이름
+     * @param eTag 지정할 ETag (null이면 파일 크기와 수정 시각으로 생성)
+     */
+    public ResponseEntity<Object> fileResponse(Path filePath, String oriFileName, String eTag) throws IOException {
+        long contentLength = Files.size(filePath);
+        long lastModified = Files.getLastModifiedTime(filePath).toMillis();
+        if (eTag == null) {
+            eTag = Long.toHexString(contentLength) + "-" + Long.toHexString(lastModified);
+        }
+
+        MediaType mediaType = MediaTypeFactory.getMediaType(oriFileName)
+                .orElse(MediaType.APPLICATION_OCTET_STREAM);
+        String encodedFileName = URLEncoder.encode(oriFileName, "UTF-8");
+
+        return ResponseEntity.ok()
+                .contentType(mediaType)
+                .contentLength(contentLength)
+                .lastModified(lastModified)
+                .eTag("\"" + eTag + "\"")
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.builder("attachment").filename(encodedFileName).build().toString())
+                .body(new FileSystemResource(filePath));
+    }
+
  // 직렬화된 데이터를 읽어오는 메서드
     public void readSerializedData() {
         try {
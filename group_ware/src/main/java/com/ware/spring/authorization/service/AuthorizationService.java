@@ -6,8 +6,12 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -28,7 +32,9 @@ import com.ware.spring.approval_route.repository.ApprovalRouteRepository;
 import com.ware.spring.approval_route.service.ApprovalRouteService;
 import com.ware.spring.authorization.domain.Authorization;
 import com.ware.spring.authorization.domain.AuthorizationDto;
+import com.ware.spring.authorization.domain.BulkApprovalResultDto;
 import com.ware.spring.authorization.repository.AuthorizationRepository;
+import com.ware.spring.commute.service.WorkHourComplianceService;
 import com.ware.spring.member.domain.Member;
 import com.ware.spring.member.repository.MemberRepository;
 import com.ware.spring.security.vo.SecurityUser;
@@ -45,14 +51,20 @@ public class AuthorizationService {
     private final ApprovalRouteService approvalRouteService;
     private final MemberRepository memberRepository;
     private final ApprovalRouteRepository approvalRouteRepository;
+    private final AuthorizationDetailService authorizationDetailService;
+    private final WorkHourComplianceService workHourComplianceService;
 
     @Autowired
     public AuthorizationService(AuthorizationRepository authorizationRepository, ApprovalRouteService approvalRouteService, 
-                                MemberRepository memberRepository, ApprovalRouteRepository approvalRouteRepository) {
+                                MemberRepository memberRepository, ApprovalRouteRepository approvalRouteRepository,
+                                AuthorizationDetailService authorizationDetailService,
+                                WorkHourComplianceService workHourComplianceService) {
         this.authorizationRepository = authorizationRepository;
         this.approvalRouteService = approvalRouteService;
         this.memberRepository = memberRepository;
         this.approvalRouteRepository = approvalRouteRepository;
+        this.authorizationDetailService = authorizationDetailService;
+        this.workHourComplianceService = workHourComplianceService;
     }
 
     // Authorization 목록 조회
@@ -369,6 +381,7 @@ public class AuthorizationService {
      */
     @Transactional
     public void approveDocument(Long authorNo, String signature, Long memNo) {
+        authorizationDetailService.evict(authorNo);
         Authorization authorization = authorizationRepository.findById(authorNo)
             .orElseThrow(() -> new IllegalArgumentException("해당 문서를 찾을 수 없습니다."));
 
@@ -423,8 +436,155 @@ public class AuthorizationService {
         // 결재자 또는 참조자 상태가 'Y'로 변경되었으면, 문서 상태도 승인 상태로 변경
         authorization.setAuthorStatus("Y"); 
         authorizationRepository.save(authorization);
+        notifyOvertimeApproved(authorization);
     }
 
+    // 승인된 야근 문서를 주 52시간 점검에 반영 (커밋 후)
+    private void notifyOvertimeApproved(Authorization authorization) {
+        if ("overtime Report".equals(authorization.getDoctype()) && authorization.getMember() != null) {
+            workHourComplianceService.onOvertimeApproved(authorization.getAuthorNo(), authorization.getMember().getMemNo(),
+                    authorization.getStartDate(), authorization.getStartEndDate());
+        }
+    }
+
+
+    /**
+     * 일괄 승인/반려 처리 메서드
+     * 기술: Spring Data JPA (JPQL 일괄 UPDATE), 트랜잭션 관리
+     * 설명: 여러 문서(authorNos)를 하나의 서명으로 한 번에 승인 또는 반려합니다.
+     *        - 문서 요약과 결재 경로를 각각 한 번의 조회로 가져와 문서별로 현재 결재 순서를 검증합니다.
+     *          (대기(P) 중인 결재자 중 가장 앞선 순서가 로그인한 사용자여야 처리 가능)
+     *        - 상태 변경은 문서마다 저장하지 않고 IN 절 UPDATE 문으로 묶어서 실행합니다.
+     *        - "off Report" 문서는 이번 결재로 최종 승인되는 문서만 기안자별로 합산하여 연차를 차감하며,
+     *          잔여 연차가 부족한 문서는 단건 결재와 동일하게 반려(N) 처리합니다.
+     *
+     * @param authorNos 처리할 문서 번호 목록
+     * @param signature 결재자의 서명
+     * @param action 'approve' 또는 'reject'
+     * @param memNo 결재자의 회원 번호
+     * @return 문서별 처리 결과 목록 (요청 순서 유지)
+     * @throws IllegalArgumentException action 값이 올바르지 않은 경우
+     */
+    @Transactional
+    public List<BulkApprovalResultDto> bulkSignDocuments(List<Long> authorNos, String signature, String action, Long memNo) {
+        if (!"approve".equals(action) && !"reject".equals(action)) {
+            throw new IllegalArgumentException("알 수 없는 처리 유형입니다: " + action);
+        }
+        boolean approve = "approve".equals(action);
+
+        List<Long> distinctAuthorNos = authorNos.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .collect(Collectors.toList());
+        if (distinctAuthorNos.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        // 문서 요약: authorNo, authorStatus, doctype, startEndDate, 기안자 memNo, 기안자 잔여 연차, startDate
+        Map<Long, Object[]> documents = new HashMap<>();
+        for (Object[] row : authorizationRepository.findApprovalSummariesByAuthorNoIn(distinctAuthorNos)) {
+            documents.put((Long) row[0], row);
+        }
+
+        // 결재 경로 요약: approNo, authorNo, memNo, approvalOrder, isApprover, isReferer, approvalStatus (결재 순서 정렬)
+        Map<Long, List<Object[]>> routesByAuthorNo = new HashMap<>();
+        for (Object[] row : approvalRouteRepository.findRouteSummariesByAuthorNoIn(distinctAuthorNos)) {
+            routesByAuthorNo.computeIfAbsent((Long) row[1], key -> new ArrayList<>()).add(row);
+        }
+
+        Map<Long, BulkApprovalResultDto> results = new LinkedHashMap<>();
+        List<Long> signedRouteNos = new ArrayList<>();     // 이번에 서명한 결재 경로
+        List<Long> completedAuthorNos = new ArrayList<>(); // 최종 승인 문서
+        List<Long> rejectedAuthorNos = new ArrayList<>();  // 반려 문서
+        Map<Long, Double> remainingOffByMember = new HashMap<>();    // 기안자별 잔여 연차 (배치 내 누적)
+        Map<Long, Double> deductionByMember = new LinkedHashMap<>(); // 기안자별 차감할 연차 합계
+
+        for (Long authorNo : distinctAuthorNos) {
+            Object[] document = documents.get(authorNo);
+            if (document == null) {
+                results.put(authorNo, BulkApprovalResultDto.fail(authorNo, null, "해당 문서를 찾을 수 없습니다."));
+                continue;
+            }
+            if (!"P".equals(document[1])) {
+                results.put(authorNo, BulkApprovalResultDto.fail(authorNo, (String) document[1], "대기중 상태가 아닌 문서는 결재할 수 없습니다."));
+                continue;
+            }
+
+            // 대기 중인 결재자 중 가장 앞선 순서가 현재 결재자
+            Object[] currentRoute = null;
+            boolean lastApprover = true;
+            for (Object[] route : routesByAuthorNo.getOrDefault(authorNo, Collections.emptyList())) {
+                if (!"Y".equals(route[4]) || !"P".equals(route[6])) {
+                    continue;
+                }
+                if (currentRoute == null) {
+                    currentRoute = route;
+                } else {
+                    lastApprover = false;
+                    break;
+                }
+            }
+
+            if (currentRoute == null || !memNo.equals(currentRoute[2])) {
+                results.put(authorNo, BulkApprovalResultDto.fail(authorNo, "P", "현재 결재 순서가 아닙니다."));
+                continue;
+            }
+            // 서명은 실제로 승인/반려되는 문서의 경로에만 기록 (연차 부족 문서의 경로는 아래에서 반려로 변경)
+            Long currentApproNo = (Long) currentRoute[0];
+
+            if (!approve) {
+                signedRouteNos.add(currentApproNo);
+                rejectedAuthorNos.add(authorNo);
+                results.put(authorNo, BulkApprovalResultDto.success(authorNo, "N", "반려 처리되었습니다."));
+                continue;
+            }
+            if (!lastApprover) {
+                signedRouteNos.add(currentApproNo);
+                results.put(authorNo, BulkApprovalResultDto.success(authorNo, "P", "승인되었습니다. 다음 결재자의 결재를 기다립니다."));
+                continue;
+            }
+
+            // 최종 승인되는 휴가 문서는 기안자별로 누적하여 연차 확인
+            if ("off Report".equals(document[2]) && document[4] != null) {
+                Long drafterNo = (Long) document[4];
+                double days = document[3] != null ? ((Number) document[3]).doubleValue() : 0;
+                double remaining = remainingOffByMember.computeIfAbsent(drafterNo,
+                        key -> document[5] != null ? ((Number) document[5]).doubleValue() : 0); // 잔여 연차 미입력은 0일
+
+                if (remaining < days) {
+                    rejectedAuthorNos.add(authorNo);
+                    results.put(authorNo, BulkApprovalResultDto.fail(authorNo, "N", "남아 있는 연차 일수가 부족합니다."));
+                    continue;
+                }
+                remainingOffByMember.put(drafterNo, remaining - days);
+                deductionByMember.merge(drafterNo, days, Double::sum);
+            }
+
+            signedRouteNos.add(currentApproNo);
+            completedAuthorNos.add(authorNo);
+            if ("overtime Report".equals(document[2])) {
+                workHourComplianceService.onOvertimeApproved(authorNo, (Long) document[4], (String) document[6],
+                        document[3] != null ? ((Number) document[3]).doubleValue() : null);
+            }
+            results.put(authorNo, BulkApprovalResultDto.success(authorNo, "Y", "최종 승인되었습니다."));
+        }
+
+        // 검증이 끝난 변경 사항을 묶어서 반영
+        authorizationDetailService.evictAll(distinctAuthorNos);
+        if (!signedRouteNos.isEmpty()) {
+            approvalRouteRepository.updateApproverRoutesByApproNoIn(signedRouteNos, approve ? "Y" : "N", signature, LocalDateTime.now());
+        }
+        if (!completedAuthorNos.isEmpty()) {
+            authorizationRepository.updateAuthorStatusByAuthorNoIn(completedAuthorNos, "Y");
+        }
+        if (!rejectedAuthorNos.isEmpty()) {
+            authorizationRepository.updateAuthorStatusAndSignatureByAuthorNoIn(rejectedAuthorNos, "N", signature);
+            approvalRouteRepository.rejectPendingRoutesByAuthorNoIn(rejectedAuthorNos);
+        }
+        deductionByMember.forEach(memberRepository::deductLeaveDays);
+
+        return new ArrayList<>(results.values());
+    }
 
      /**
      * 모든 결재자가 승인했는지 확인하는 메서드
@@ -464,6 +624,7 @@ public class AuthorizationService {
 	     * @param signature 결재자의 서명
 	     */
 	    public void rejectDocument(Long authorNo, String signature) {
+	        authorizationDetailService.evict(authorNo);
 	        Authorization authorization = authorizationRepository.findById(authorNo)
 	            .orElseThrow(() -> new IllegalArgumentException("해당 문서를 찾을 수 없습니다."));
 	        
@@ -486,6 +647,7 @@ public class AuthorizationService {
 	     */
 	    @Transactional
 	    public void checkAndUpdateDocumentStatus(Long authorNo) {
+	        authorizationDetailService.evict(authorNo);
 	        List<ApprovalRoute> routes = approvalRouteRepository.findByAuthorization_AuthorNo(authorNo);
 
 	        // 모든 결재자와 참조자가 승인했는지 확인
@@ -516,6 +678,9 @@ public class AuthorizationService {
 
 	        // 변경된 상태 저장
 	        authorizationRepository.save(authorization);
+	        if (allApproved) {
+	            notifyOvertimeApproved(authorization);
+	        }
 	    }
 
 	    /**
@@ -531,6 +696,7 @@ public class AuthorizationService {
 	     */
 	    @Transactional
 	    public void updateApprovalRouteStatus(Long authorNo, String action) {
+	        authorizationDetailService.evict(authorNo);
 	        List<ApprovalRoute> routes = approvalRouteRepository.findByAuthorization_AuthorNo(authorNo);
 	        
 	        boolean previousApproved = true; // 이전 결재자가 승인되었는지 확인하는 변수
@@ -644,6 +810,7 @@ public class AuthorizationService {
 	     */
 	    @Transactional
 	    public void updateApprovalRouteStatusToRecalled(Long authorNo) {
+	        authorizationDetailService.evict(authorNo);
 	        List<ApprovalRoute> routes = approvalRouteRepository.findByAuthorization_AuthorNo(authorNo);
 	        
 	        for (ApprovalRoute route : routes) {
@@ -661,6 +828,7 @@ public class AuthorizationService {
 	     * @param authorNo 회수할 문서의 고유 번호
 	     */
 	    public void recallDocument(Long authorNo) {
+	        authorizationDetailService.evict(authorNo);
 	        Authorization authorization = authorizationRepository.findById(authorNo)
 	            .orElseThrow(() -> new IllegalArgumentException("해당 문서를 찾을 수 없습니다."));
 
@@ -690,6 +858,7 @@ public class AuthorizationService {
 	     */
 	    @Transactional
 	    public void updateApproverSignature(Long authorNo, Long memNo, String signature) {
+	        authorizationDetailService.evict(authorNo);
 	        Optional<ApprovalRoute> optionalRoute = approvalRouteRepository.findByAuthorization_AuthorNoAndMember_MemNo(authorNo, memNo);
 
 	        if (optionalRoute.isPresent()) {
@@ -714,6 +883,7 @@ public class AuthorizationService {
 	     */
 	    @Transactional
 	    public void updateRefererSignature(Long authorNo, Long memNo, String signature) {
+	        authorizationDetailService.evict(authorNo);
 	        Optional<ApprovalRoute> optionalRoute = approvalRouteRepository.findByAuthorization_AuthorNoAndMember_MemNo(authorNo, memNo);
 
 	        if (optionalRoute.isPresent()) {
@@ -761,6 +931,7 @@ public class AuthorizationService {
 	     */
 	    @Transactional
 	    public void clearAuthorNotification(Long authorNo, Long memNo) {
+	        authorizationDetailService.evict(authorNo);
 	        System.out.println("clearAuthorNotification 메서드 호출됨, authorNo: " + authorNo + ", memNo: " + memNo);
 	        
 	        // 문서가 memNo 사용자의 문서인지 확인
@@ -16,10 +16,18 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import com.ware.spring.commute.domain.Commute;
+import com.ware.spring.commute.domain.ComplianceAlertDto;
+import com.ware.spring.commute.domain.PresenceDto;
+import com.ware.spring.commute.domain.TeamAttendanceDto;
 import com.ware.spring.commute.service.CommuteService;
+import com.ware.spring.commute.service.PresenceService;
+import com.ware.spring.commute.service.TeamAttendanceService;
+import com.ware.spring.commute.service.WorkHourComplianceService;
 import com.ware.spring.member.domain.Member;
+import com.ware.spring.member.repository.MemberRepository;
 import com.ware.spring.security.vo.SecurityUser;
 
 @RestController
@@ -27,9 +35,19 @@ import com.ware.spring.security.vo.SecurityUser;
 public class CommuteApiController {
 
     private final CommuteService commuteService;
+    private final TeamAttendanceService teamAttendanceService;
+    private final PresenceService presenceService;
+    private final WorkHourComplianceService workHourComplianceService;
+    private final MemberRepository memberRepository;
 
-    public CommuteApiController(CommuteService commuteService) {
+    public CommuteApiController(CommuteService commuteService, TeamAttendanceService teamAttendanceService,
+                                PresenceService presenceService, WorkHourComplianceService workHourComplianceService,
+                                MemberRepository memberRepository) {
         this.commuteService = commuteService;
+        this.teamAttendanceService = teamAttendanceService;
+        this.presenceService = presenceService;
+        this.workHourComplianceService = workHourComplianceService;
+        this.memberRepository = memberRepository;
     }
     /**
      출근 버튼
@@ -40,7 +58,6 @@ public class CommuteApiController {
     public ResponseEntity<Map<String, Object>> startWork(@RequestParam("memNo") Long memNo) {
     	try {
     		Commute commute = commuteService.startWork(memNo);
-    		commuteService.updateTotalWorkingTime(memNo);
     		
     		Map<String, Object> response = Map.of(
     				"message", "출근이 완료되었습니다.",
@@ -96,7 +113,6 @@ public class CommuteApiController {
     public ResponseEntity<Map<String, Object>> endWork(@RequestParam("memNo") Long memNo) {
         try {
             Map<String, Object> workTime = commuteService.endWork(memNo);
-            commuteService.updateTotalWorkingTime(memNo);
             return ResponseEntity.ok(workTime);
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(null);
@@ -130,7 +146,6 @@ public class CommuteApiController {
     public ResponseEntity<String> updateEndStatus(@RequestParam("memNo") Long memNo) {
         try {
             commuteService.updateEndStatus(memNo);
-            commuteService.updateTotalWorkingTime(memNo);
             return ResponseEntity.ok("퇴근 상태가 업데이트되었습니다.");
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("퇴근 상태 업데이트 중 오류가 발생했습니다.");
@@ -178,19 +193,8 @@ public class CommuteApiController {
     public ResponseEntity<Map<String, Object>> getYearlyCommuteData(@RequestParam("year") int year, Principal principal) {
         try {
             Long memNo = commuteService.getMemberNoByUsername(principal.getName());
-
-            Map<Integer, Map<String, Integer>> monthlyWorkingTime = commuteService.getMonthlyWorkingTime(memNo, year);
-            int totalWorkingTime = commuteService.getTotalWorkingTime(memNo, year);
-            int totalLateCount = commuteService.getTotalLateCount(memNo, year);
-            Map<String, Integer> monthlyLateCount = commuteService.getMonthlyLateCount(memNo, year);
-
-            Map<String, Object> response = new HashMap<>();
-            response.put("monthlyWorkingTime", monthlyWorkingTime);
-            response.put("monthlyLateCount", monthlyLateCount);
-            response.put("totalWorkingTime", totalWorkingTime);
-            response.put("totalLateCount", totalLateCount);
-
-            return ResponseEntity.ok(response);
+            // 월별 근무 시간, 지각 횟수, 출근 일수를 한 번의 집계 쿼리로 조회
+            return ResponseEntity.ok(commuteService.getAnnualAttendanceStats(memNo, year));
         } catch (Exception e) {
             e.printStackTrace();
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(Map.of(
@@ -200,6 +204,92 @@ public class CommuteApiController {
         }
     }
 
+    /**
+     * 특정 회원의 월별 근태 통계를 반환
+     * 본인 통계만 조회할 수 있으며, 대표는 모든 회원을, 지점대표는 본인 지점 회원을 조회할 수 있습니다.
+     * 
+     * @param memNo 회원 번호
+     * @param year 조회할 연도
+     * @return 월별 지각 횟수, 근무 시간(초), 출근 일수와 연간 합계
+     */
+    @GetMapping("/stats/{memNo}")
+    public ResponseEntity<Map<String, Object>> getAttendanceStats(@PathVariable("memNo") Long memNo, @RequestParam("year") int year) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof SecurityUser)) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        if (!canViewMember(((SecurityUser) authentication.getPrincipal()).getMember(), memNo)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(Map.of("error", "다른 회원의 근태 통계를 조회할 권한이 없습니다."));
+        }
+        try {
+            return ResponseEntity.ok(commuteService.getAnnualAttendanceStats(memNo, year));
+        } catch (Exception e) {
+            e.printStackTrace();
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(Map.of("error", "근태 통계 데이터를 가져오는 중 오류가 발생했습니다."));
+        }
+    }
+
+    /**
+     * 지점 근태 현황 (이번 주 근무 시간, 지각 횟수, 현재 근무 상태)
+     * 대표는 distributorNo로 다른 지점을 조회할 수 있고, 그 외에는 본인 지점만 조회합니다.
+     * 
+     * @param distributorNo 조회할 지점 번호 (대표만 사용)
+     * @return 직원별 근태 현황 목록
+     */
+    @GetMapping("/team")
+    public ResponseEntity<List<TeamAttendanceDto>> getTeamAttendance(@RequestParam(value = "distributorNo", required = false) Long distributorNo) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof SecurityUser)) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        Member loginMember = ((SecurityUser) authentication.getPrincipal()).getMember();
+        boolean isCeo = loginMember.getRank() != null && "대표".equals(loginMember.getRank().getRankName());
+        if (distributorNo == null || !isCeo) {
+            distributorNo = loginMember.getDistributor().getDistributorNo();
+        }
+        try {
+            return ResponseEntity.ok(teamAttendanceService.getBranchAttendance(distributorNo));
+        } catch (Exception e) {
+            e.printStackTrace();
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    /**
+     * 여러 회원의 현재 근무 상태 (조직도, 채팅 상대 목록, SQL 없이 메모리에서 조회)
+     * 
+     * @param memNos 회원 번호 목록, 없으면 오늘 출근한 전체 회원
+     * @return 회원 번호별 근무 상태 (IN, OUT, LEFT, ABSENT)
+     */
+    @GetMapping("/presence")
+    public ResponseEntity<Map<Long, PresenceDto>> getPresence(@RequestParam(value = "memNos", required = false) List<Long> memNos) {
+        return ResponseEntity.ok(presenceService.getPresence(memNos));
+    }
+
+    /**
+     * 근무 상태 변경 알림 (SSE, "presence" 이벤트로 변경된 회원의 상태 전송)
+     */
+    @GetMapping("/presence/sse")
+    public SseEmitter subscribePresence() {
+        return presenceService.subscribe();
+    }
+
+    /**
+     * 주 52시간 점검 최근 알림 (최신순, 지점대표/대표 전용)
+     */
+    @GetMapping("/compliance/alerts")
+    public ResponseEntity<List<ComplianceAlertDto>> getComplianceAlerts() {
+        return ResponseEntity.ok(workHourComplianceService.getRecentAlerts());
+    }
+
+    /**
+     * 주 52시간 점검 알림 (SSE, "compliance" 이벤트)
+     */
+    @GetMapping("/compliance/sse")
+    public SseEmitter subscribeCompliance() {
+        return workHourComplianceService.subscribe();
+    }
+
     /**
      * 특정 회원의 주간 근무 시간 및 지각 데이터를 반환
      * 
@@ -238,4 +328,22 @@ public class CommuteApiController {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(Map.of("error", "연간 근무 시간 데이터를 가져오는 중 오류가 발생했습니다."));
         }
     }
+
+    // 본인, 대표(전체), 지점대표(본인 지점 회원)만 다른 회원의 근태를 조회
+    private boolean canViewMember(Member loginMember, Long memNo) {
+        if (memNo.equals(loginMember.getMemNo())) {
+            return true;
+        }
+        String rankName = loginMember.getRank() != null ? loginMember.getRank().getRankName() : null;
+        if ("대표".equals(rankName)) {
+            return true;
+        }
+        if (!"지점대표".equals(rankName) || loginMember.getDistributor() == null) {
+            return false;
+        }
+        Long distributorNo = loginMember.getDistributor().getDistributorNo();
+        return memberRepository.findById(memNo)
+                .map(member -> member.getDistributor() != null && distributorNo.equals(member.getDistributor().getDistributorNo()))
+                .orElse(false);
+    }
 }
@@ -15,7 +15,9 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestParam;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ware.spring.commute.domain.TeamAttendanceDto;
 import com.ware.spring.commute.service.CommuteService;
+import com.ware.spring.commute.service.TeamAttendanceService;
 import com.ware.spring.member.domain.Member;
 import com.ware.spring.member.repository.MemberRepository;
 import com.ware.spring.member.service.MemberService;
@@ -27,11 +29,14 @@ public class CommuteViewController {
     private final CommuteService commuteService;
     private final MemberService memberService;
     private final MemberRepository memberRepository;
+    private final TeamAttendanceService teamAttendanceService;
 
-    public CommuteViewController(MemberRepository memberRepository, MemberService memberService, CommuteService commuteService) {
+    public CommuteViewController(MemberRepository memberRepository, MemberService memberService, CommuteService commuteService,
+                                 TeamAttendanceService teamAttendanceService) {
         this.commuteService = commuteService;
         this.memberService = memberService;
         this.memberRepository = memberRepository;
+        this.teamAttendanceService = teamAttendanceService;
     }
     /**
      * 출근 페이지를 표시합니다.
@@ -66,9 +71,10 @@ public class CommuteViewController {
             year = java.time.Year.now().getValue();
         }
 
-        Map<Integer, Map<String, Integer>> monthlyWorkingTime = commuteService.getMonthlyWorkingTime(memNo, year);
-        int totalWorkingTime = commuteService.getTotalWorkingTime(memNo, year);
-        int totalLateCount = commuteService.getTotalLateCount(memNo, year);
+        Map<String, Object> annualStats = commuteService.getAnnualAttendanceStats(memNo, year);
+        Object monthlyWorkingTime = annualStats.get("monthlyWorkingTime");
+        int totalWorkingTime = (int) annualStats.get("totalWorkingTime");
+        int totalLateCount = (int) annualStats.get("totalLateCount");
 
         ObjectMapper objectMapper = new ObjectMapper();
         try {
@@ -145,6 +151,33 @@ public class CommuteViewController {
         return "commute/commute_list";
     }
 
+    /**
+     * 지점 근태 현황판을 표시합니다.
+     * 설명: 지점 직원 전체의 이번 주 근무 시간, 지각 횟수, 현재 근무 상태를 한 화면에 표시합니다.
+     *       대표는 distributorNo로 다른 지점을 조회할 수 있고, 그 외에는 본인 지점만 조회합니다.
+     * 
+     * @param distributorNo 조회할 지점 번호 (대표만 사용)
+     * @param model 뷰에 전달할 데이터
+     * @param securityUser 현재 로그인된 사용자 정보
+     * @return 지점 근태 현황판 뷰 (commute/commute_team)
+     */
+    @GetMapping("/commute/team")
+    public String showTeamAttendance(@RequestParam(value = "distributorNo", required = false) Long distributorNo,
+                                     Model model,
+                                     @AuthenticationPrincipal SecurityUser securityUser) {
+        Member loginMember = securityUser.getMember();
+        boolean isCeo = loginMember.getRank() != null && "대표".equals(loginMember.getRank().getRankName());
+        if (distributorNo == null || !isCeo) {
+            distributorNo = loginMember.getDistributor().getDistributorNo();
+        }
+
+        List<TeamAttendanceDto> teamAttendance = teamAttendanceService.getBranchAttendance(distributorNo);
+        model.addAttribute("teamAttendance", teamAttendance);
+        model.addAttribute("distributorNo", distributorNo);
+        model.addAttribute("presentCount", teamAttendance.stream().filter(row -> !"ABSENT".equals(row.getStatus())).count());
+        return "commute/commute_team";
+    }
+
     /**
      * 특정 회원의 상세 근태 기록을 조회합니다.
      * 설명: 주별, 연간 근무 기록 및 총 근무 시간과 지각 횟수를 조회하여 모델에 추가합니다.
@@ -0,0 +1,113 @@
+package com.ware.spring.commute.controller;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Map;
+
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.ware.spring.commute.domain.PayrollExportJob;
+import com.ware.spring.commute.service.PayrollExportService;
+
+/**
+ * 급여 기간 근태 내보내기 (대표 전용, WebSecurityConfig에서 제한)
+ */
+@RestController
+@RequestMapping("/api/commute/export")
+public class PayrollExportApiController {
+
+    private final PayrollExportService payrollExportService;
+
+    public PayrollExportApiController(PayrollExportService payrollExportService) {
+        this.payrollExportService = payrollExportService;
+    }
+
+    /**
+     * 파일 내보내기 시작 (같은 기간의 중단된 작업이 있으면 이어서 진행)
+     *
+     * @param from 기간 시작일 (yyyy-MM-dd, 포함)
+     * @param to 기간 종료일 (yyyy-MM-dd, 미포함)
+     * @param restart true이면 처음부터 다시 기록
+     * @return 작업 상태 (jobId로 진행률 조회)
+     */
+    @PostMapping
+    public ResponseEntity<?> startExport(@RequestParam("from") String from, @RequestParam("to") String to,
+                                         @RequestParam(value = "restart", defaultValue = "false") boolean restart) {
+        try {
+            return ResponseEntity.ok(payrollExportService.start(LocalDate.parse(from), LocalDate.parse(to), restart));
+        } catch (DateTimeParseException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", "날짜 형식이 올바르지 않습니다 (yyyy-MM-dd)."));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        } catch (Exception e) {
+            e.printStackTrace();
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(Map.of("error", "근태 내보내기를 시작하는 중 오류가 발생했습니다."));
+        }
+    }
+
+    /**
+     * 내보내기 진행 상황 (처리한 회원 수, 진행률, 상태)
+     */
+    @GetMapping("/{jobId}")
+    public ResponseEntity<PayrollExportJob> getExport(@PathVariable("jobId") String jobId) {
+        PayrollExportJob job = payrollExportService.getJob(jobId);
+        return job != null ? ResponseEntity.ok(job) : ResponseEntity.notFound().build();
+    }
+
+    /**
+     * 완료된 내보내기 파일 다운로드
+     */
+    @GetMapping("/{jobId}/file")
+    public ResponseEntity<Resource> downloadExport(@PathVariable("jobId") String jobId) {
+        try {
+            Path file = payrollExportService.getFile(jobId);
+            if (!Files.exists(file)) {
+                return ResponseEntity.notFound().build();
+            }
+            return ResponseEntity.ok()
+                    .contentType(new MediaType("text", "csv", StandardCharsets.UTF_8))
+                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + file.getFileName() + "\"")
+                    .body(new FileSystemResource(file));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+
+    /**
+     * 기간 근태를 CSV로 바로 다운로드 (파일을 만들지 않고 구간별로 응답에 기록)
+     */
+    @GetMapping("/stream")
+    public ResponseEntity<StreamingResponseBody> streamExport(@RequestParam("from") String from, @RequestParam("to") String to) {
+        LocalDate fromDate;
+        LocalDate toDate;
+        try {
+            fromDate = LocalDate.parse(from);
+            toDate = LocalDate.parse(to);
+        } catch (DateTimeParseException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        if (!fromDate.isBefore(toDate)) {
+            return ResponseEntity.badRequest().build();
+        }
+        StreamingResponseBody body = out -> payrollExportService.stream(fromDate, toDate, out);
+        return ResponseEntity.ok()
+                .contentType(new MediaType("text", "csv", StandardCharsets.UTF_8))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"payroll_" + from + "_" + to + ".csv\"")
+                .body(body);
+    }
+}
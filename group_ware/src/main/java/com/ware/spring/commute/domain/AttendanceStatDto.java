@@ -0,0 +1,28 @@
+package com.ware.spring.commute.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AttendanceStatDto {
+
+    private int month;          // 월 (1~12)
+    private int lateCount;      // 지각 횟수
+    private long workedSeconds; // 근무 시간 (초)
+    private int daysPresent;    // 출근 일수
+
+    // [월, 지각 횟수, 근무 초, 출근 일수] 집계 결과를 DTO로 변환
+    public static AttendanceStatDto fromRow(Object[] row) {
+        return AttendanceStatDto.builder()
+                .month(((Number) row[0]).intValue())
+                .lateCount(row[1] != null ? ((Number) row[1]).intValue() : 0)
+                .workedSeconds(row[2] != null ? ((Number) row[2]).longValue() : 0)
+                .daysPresent(row[3] != null ? ((Number) row[3]).intValue() : 0)
+                .build();
+    }
+}
@@ -1,6 +1,7 @@
 package com.ware.spring.commute.domain;
 
 import java.sql.Time;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 import com.ware.spring.member.domain.Member;
@@ -9,16 +10,20 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "commute")
+@Table(name = "commute",
+       uniqueConstraints = @UniqueConstraint(columnNames = {"mem_no", "work_date"}),
+       indexes = @Index(name = "idx_commute_member_start", columnList = "mem_no, commute_on_start_time"))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -33,6 +38,7 @@ public class Commute {
     @JoinColumn(name = "mem_no")
     private Member member;
 
+    private LocalDate workDate;  // 근무일 (회원별 하루 한 건)
     private LocalDateTime commuteOnStartTime;
     private LocalDateTime commuteOnEndTime;
     private String commuteFlagBlue;
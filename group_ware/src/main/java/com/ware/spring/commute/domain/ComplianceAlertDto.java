@@ -0,0 +1,23 @@
+package com.ware.spring.commute.domain;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ComplianceAlertDto {
+
+    private Long memNo;
+    private String type;                 // APPROACHING(경고 시간 도달), EXCEEDED(주 최대 시간 초과), UNAPPROVED_OVERTIME(승인 없는 연장 근무)
+    private LocalDate weekStart;         // 해당 주 월요일
+    private long workedMinutes;          // 이번 주 근무 시간 (근무 중이면 현재까지 포함)
+    private long approvedOvertimeMinutes; // 이번 주 승인된 야근 시간
+    private LocalDateTime at;
+}
@@ -0,0 +1,32 @@
+package com.ware.spring.commute.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "daily_attendance", uniqueConstraints = @UniqueConstraint(columnNames = {"mem_no", "work_date"}))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DailyAttendance {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long dailyNo;
+
+    private Long memNo;
+
+    private LocalDate workDate;
+
+    private long workedSeconds;     // 근무 시간 (퇴근 시 확정, 분 단위로 절삭)
+
+    private String isLate;          // 지각 여부 (Y/N)
+
+    private int awayMinutes;        // 외출/외근/식사 상태로 보낸 시간 (분)
+
+    private LocalDateTime awaySince; // 현재 자리 비움 상태가 시작된 시각 (착석 중이면 null)
+}
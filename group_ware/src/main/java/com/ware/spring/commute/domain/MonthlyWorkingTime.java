@@ -0,0 +1,27 @@
+package com.ware.spring.commute.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+@Entity
+@Table(name = "monthly_working_time", uniqueConstraints = @UniqueConstraint(columnNames = {"mem_no", "start_of_month"}))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MonthlyWorkingTime {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long monthNo;
+
+    private Long memNo;
+
+    private int monthHours;
+
+    private int monthMinutes;
+
+    private LocalDate startOfMonth;
+}
@@ -0,0 +1,35 @@
+package com.ware.spring.commute.domain;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PayrollExportJob {
+
+    private String jobId;             // payroll_{from}_{to}
+    private LocalDate from;           // 기간 시작 (포함)
+    private LocalDate to;             // 기간 종료 (미포함)
+    private String status;            // RUNNING, DONE, FAILED
+    private long totalMembers;        // 전체 회원 수
+    private long processedMembers;    // 파일에 기록된 회원 수
+    private long lastMemNo;           // 마지막으로 기록된 회원 번호 (이어받기 기준)
+    private String errorMessage;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+
+    // 진행률 (0 ~ 100)
+    public int getProgress() {
+        if (totalMembers == 0) {
+            return "DONE".equals(status) ? 100 : 0;
+        }
+        return (int) Math.min(100, processedMembers * 100 / totalMembers);
+    }
+}
@@ -0,0 +1,24 @@
+package com.ware.spring.commute.domain;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PresenceDto {
+
+    private Long memNo;
+    private String status;       // IN(근무 중), OUT(외출/외근/식사), LEFT(퇴근), ABSENT(미출근)
+    private String statusLabel;  // 화면에 표시할 상태 (착석, 외출, 외근, 식사 등)
+    private LocalDateTime since; // 상태가 바뀐 시각
+
+    public static PresenceDto absent(Long memNo) {
+        return PresenceDto.builder().memNo(memNo).status("ABSENT").build();
+    }
+}
@@ -0,0 +1,29 @@
+package com.ware.spring.commute.domain;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TeamAttendanceDto {
+
+    private Long memNo;
+    private String empNo;
+    private String memName;
+    private String rankName;
+
+    private int weekHours;       // 이번 주 근무 시간
+    private int weekMinutes;
+    private int weekLateCount;   // 이번 주 지각 횟수
+    private int monthLateCount;  // 이번 달 지각 횟수
+
+    private String status;       // IN(근무 중), OUT(외출/외근), LEFT(퇴근), ABSENT(미출근)
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
+}
@@ -6,7 +6,7 @@ import lombok.*;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "weekly_working_time")
+@Table(name = "weekly_working_time", uniqueConstraints = @UniqueConstraint(columnNames = {"mem_no", "start_of_week"}))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
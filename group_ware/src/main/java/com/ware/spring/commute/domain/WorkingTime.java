@@ -6,7 +6,7 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "working_time")
+@Table(name = "working_time", uniqueConstraints = @UniqueConstraint(columnNames = "mem_no"))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -1,13 +1,17 @@
 package com.ware.spring.commute.repository;
 
-import java.sql.Date;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.Year;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.ware.spring.commute.domain.Commute;
 import com.ware.spring.member.domain.Member;
@@ -23,17 +27,48 @@ public interface CommuteRepository extends JpaRepository<Commute, Long> {
     }
     // 오늘 해당 회원의 출근 기록을 찾는 메서드
     Optional<Commute> findTodayCommuteByMemberAndCommuteOnStartTimeBetween(Member member, LocalDateTime startOfDay, LocalDateTime endOfDay);
-    // 특정 주차에 해당하는 근무 시간 합계
-    @Query("SELECT COALESCE(SUM(TIME_TO_SEC(c.commuteOutTime)), 0) FROM Commute c " +
-           "WHERE c.member.memNo = :memNo " +
-           "AND c.commuteOnStartTime BETWEEN :startOfWeek AND :endOfWeek")
-    long findTotalCommuteOutTimeForWeek(@Param("memNo") Long memNo,
-                                        @Param("startOfWeek") LocalDateTime startOfWeek,
-                                        @Param("endOfWeek") LocalDateTime endOfWeek);
-
-    // 특정 멤버의 출근 날짜 리스트 조회 (중복 제거)
-    @Query("SELECT DISTINCT DATE(commuteOnStartTime) FROM Commute c WHERE c.member.memNo = :memNo")
-    List<Date> findDistinctWorkingDays(@Param("memNo") Long memNo);
+
+    // 출근 기록이 없을 때만 생성 (회원+근무일 유니크 키로 중복 출근 방지, 존재하지 않는 회원이면 0건)
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO commute (mem_no, work_date, commute_on_start_time, commute_flag_blue, commute_flag_purple, is_late) " +
+                   "SELECT m.mem_no, :workDate, :startTime, 'Y', 'N', :isLate FROM member m WHERE m.mem_no = :memNo",
+           nativeQuery = true)
+    int insertCommuteIfAbsent(@Param("memNo") Long memNo,
+                              @Param("workDate") LocalDate workDate,
+                              @Param("startTime") LocalDateTime startTime,
+                              @Param("isLate") String isLate);
+
+    // 회원+근무일 출근 기록 (유니크 키 조회)
+    Optional<Commute> findByMemberMemNoAndWorkDate(Long memNo, LocalDate workDate);
+
+    // 특정 근무일에 출근한 회원 번호 목록
+    @Query("SELECT c.member.memNo FROM Commute c WHERE c.workDate = :workDate")
+    List<Long> findMemNosByWorkDate(@Param("workDate") LocalDate workDate);
+    // 근무 시간 재집계용 (출근 시각, 근무 시간)
+    @Query("SELECT c.commuteOnStartTime, c.commuteOutTime FROM Commute c " +
+           "WHERE c.member.memNo = :memNo AND c.commuteOnStartTime IS NOT NULL")
+    List<Object[]> findWorkTimesByMemNo(@Param("memNo") Long memNo);
+
+    // 월별 보관 대상 [회원 번호, 근무일, 출근 시각, 퇴근 시각, 근무 시간, 지각 여부] (회원 번호, 근무일 순)
+    @Query("SELECT c.member.memNo, c.workDate, c.commuteOnStartTime, c.commuteOnEndTime, c.commuteOutTime, c.isLate " +
+           "FROM Commute c WHERE c.workDate >= :from AND c.workDate < :to " +
+           "ORDER BY c.member.memNo, c.workDate")
+    List<Object[]> findArchiveRows(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    // 가장 오래된 근무일 (보관 시작 월)
+    @Query("SELECT MIN(c.workDate) FROM Commute c")
+    LocalDate findMinWorkDate();
+
+    // 보관 파일로 옮긴 기간 삭제
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM Commute c WHERE c.workDate >= :from AND c.workDate < :to")
+    int deleteByWorkDateRange(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    // 출퇴근 기록이 있는 회원 번호 목록
+    @Query("SELECT DISTINCT c.member.memNo FROM Commute c")
+    List<Long> findDistinctMemNos();
 
     // 특정 멤버의 특정 기간 동안의 지각 횟수 조회
     @Query("SELECT c FROM Commute c WHERE c.member.memNo = :memNo AND c.commuteOnStartTime BETWEEN :startDate AND :endDate AND c.isLate = 'Y'")
@@ -41,16 +76,90 @@ public interface CommuteRepository extends JpaRepository<Commute, Long> {
                                                        @Param("startDate") LocalDateTime startDate,
                                                        @Param("endDate") LocalDateTime endDate);
 
-    // 특정 연도에 해당하는 모든 월별 지각 기록 조회
-    @Query("SELECT c FROM Commute c WHERE c.member.memNo = :memNo " +
-           "AND YEAR(c.commuteOnStartTime) = :year " +
-           "AND c.isLate = 'Y'")
-    List<Commute> findLateCommutesByYear(@Param("memNo") Long memNo, @Param("year") int year);
+    // 특정 연도에 해당하는 모든 월별 지각 기록 조회 (연도 → 날짜 범위, (mem_no, commute_on_start_time) 인덱스 사용)
+    default List<Commute> findLateCommutesByYear(Long memNo, int year) {
+        return findLateCommutesByStartTimeRange(memNo, Year.of(year).atDay(1).atStartOfDay(), Year.of(year + 1).atDay(1).atStartOfDay());
+    }
 
     // 특정 연도에 해당하는 모든 월별 근무 시간 조회
+    default List<Commute> findCommutesByYear(Long memNo, int year) {
+        return findCommutesByStartTimeRange(memNo, Year.of(year).atDay(1).atStartOfDay(), Year.of(year + 1).atDay(1).atStartOfDay());
+    }
+
+    // 월별 근태 통계 [월, 지각 횟수, 근무 초, 출근 일수] (엔티티 대신 집계값만 한 번에 조회)
+    @Query("SELECT MONTH(c.commuteOnStartTime), " +
+           "SUM(CASE WHEN c.isLate = 'Y' THEN 1 ELSE 0 END), " +
+           "SUM(HOUR(c.commuteOutTime) * 3600 + MINUTE(c.commuteOutTime) * 60 + SECOND(c.commuteOutTime)), " +
+           "COUNT(c) " +
+           "FROM Commute c WHERE c.member.memNo = :memNo " +
+           "AND c.commuteOnStartTime >= :from AND c.commuteOnStartTime < :to " +
+           "GROUP BY MONTH(c.commuteOnStartTime)")
+    List<Object[]> findMonthlyAttendanceStats(@Param("memNo") Long memNo,
+                                              @Param("from") LocalDateTime from,
+                                              @Param("to") LocalDateTime to);
+
+    // 여러 회원의 지각 횟수 [회원 번호, weekFrom 이후 지각 횟수, monthFrom 이후 지각 횟수] (팀 근태 현황)
+    @Query("SELECT c.member.memNo, " +
+           "SUM(CASE WHEN c.commuteOnStartTime >= :weekFrom THEN 1 ELSE 0 END), " +
+           "SUM(CASE WHEN c.commuteOnStartTime >= :monthFrom THEN 1 ELSE 0 END) " +
+           "FROM Commute c WHERE c.member.memNo IN :memNos AND c.isLate = 'Y' " +
+           "AND c.commuteOnStartTime >= :from AND c.commuteOnStartTime < :to " +
+           "GROUP BY c.member.memNo")
+    List<Object[]> countLateCommutesByMemNos(@Param("memNos") Collection<Long> memNos,
+                                             @Param("weekFrom") LocalDateTime weekFrom,
+                                             @Param("monthFrom") LocalDateTime monthFrom,
+                                             @Param("from") LocalDateTime from,
+                                             @Param("to") LocalDateTime to);
+
+    // 여러 회원의 특정 근무일 출근 상태 [회원 번호, 착석, 외출, 출근 시각, 퇴근 시각] (팀 근태 현황)
+    @Query("SELECT c.member.memNo, c.commuteFlagBlue, c.commuteFlagPurple, c.commuteOnStartTime, c.commuteOnEndTime " +
+           "FROM Commute c WHERE c.member.memNo IN :memNos AND c.workDate = :workDate")
+    List<Object[]> findStatusByMemNosAndWorkDate(@Param("memNos") Collection<Long> memNos,
+                                                 @Param("workDate") LocalDate workDate);
+
+    // 특정 근무일 전체 출근 상태 [회원 번호, 착석, 외출, 출근 시각, 퇴근 시각] (접속 상태 초기화)
+    @Query("SELECT c.member.memNo, c.commuteFlagBlue, c.commuteFlagPurple, c.commuteOnStartTime, c.commuteOnEndTime " +
+           "FROM Commute c WHERE c.workDate = :workDate")
+    List<Object[]> findStatusByWorkDate(@Param("workDate") LocalDate workDate);
+
+    // 근무 상태 플래그만 변경 (회원+근무일 유니크 키로 바로 갱신)
+    @Transactional
+    @Modifying
+    @Query("UPDATE Commute c SET c.commuteFlagBlue = :blue, c.commuteFlagPurple = :purple " +
+           "WHERE c.member.memNo = :memNo AND c.workDate = :workDate")
+    int updateFlags(@Param("memNo") Long memNo,
+                    @Param("workDate") LocalDate workDate,
+                    @Param("blue") String blue,
+                    @Param("purple") String purple);
+
+    // 기간 내 지각 횟수
+    @Query("SELECT COUNT(c) FROM Commute c WHERE c.member.memNo = :memNo " +
+           "AND c.commuteOnStartTime >= :from AND c.commuteOnStartTime < :to " +
+           "AND c.isLate = 'Y'")
+    long countLateCommutesByStartTimeRange(@Param("memNo") Long memNo,
+                                           @Param("from") LocalDateTime from,
+                                           @Param("to") LocalDateTime to);
+
+    // 기간 내 근무 시간 (일별 시간 단위 합계)
+    @Query("SELECT COALESCE(SUM(HOUR(c.commuteOutTime)), 0) FROM Commute c WHERE c.member.memNo = :memNo " +
+           "AND c.commuteOnStartTime >= :from AND c.commuteOnStartTime < :to")
+    long sumWorkedHoursByStartTimeRange(@Param("memNo") Long memNo,
+                                        @Param("from") LocalDateTime from,
+                                        @Param("to") LocalDateTime to);
+
+    // 출근 시각 범위 조회 (from 이상, to 미만)
     @Query("SELECT c FROM Commute c WHERE c.member.memNo = :memNo " +
-           "AND YEAR(c.commuteOnStartTime) = :year")
-    List<Commute> findCommutesByYear(@Param("memNo") Long memNo, @Param("year") int year);
+           "AND c.commuteOnStartTime >= :from AND c.commuteOnStartTime < :to")
+    List<Commute> findCommutesByStartTimeRange(@Param("memNo") Long memNo,
+                                               @Param("from") LocalDateTime from,
+                                               @Param("to") LocalDateTime to);
+
+    @Query("SELECT c FROM Commute c WHERE c.member.memNo = :memNo " +
+           "AND c.commuteOnStartTime >= :from AND c.commuteOnStartTime < :to " +
+           "AND c.isLate = 'Y'")
+    List<Commute> findLateCommutesByStartTimeRange(@Param("memNo") Long memNo,
+                                                   @Param("from") LocalDateTime from,
+                                                   @Param("to") LocalDateTime to);
     @Query("SELECT c FROM Commute c WHERE c.member.memNo = :memNo " +
     	       "AND c.commuteOnStartTime BETWEEN :startDate AND :endDate")
     	List<Commute> findCommutesByYearAndMonth(@Param("memNo") Long memNo,
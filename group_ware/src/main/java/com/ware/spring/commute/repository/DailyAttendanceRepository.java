@@ -0,0 +1,64 @@
+package com.ware.spring.commute.repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.ware.spring.commute.domain.DailyAttendance;
+
+public interface DailyAttendanceRepository extends JpaRepository<DailyAttendance, Long> {
+
+    Optional<DailyAttendance> findByMemNoAndWorkDate(Long memNo, LocalDate workDate);
+
+    // 기간 내 일별 근태 (from 이상, to 미만)
+    @Query("SELECT d FROM DailyAttendance d WHERE d.memNo = :memNo " +
+           "AND d.workDate >= :from AND d.workDate < :to ORDER BY d.workDate")
+    List<DailyAttendance> findByMemNoAndWorkDateRange(@Param("memNo") Long memNo,
+                                                      @Param("from") LocalDate from,
+                                                      @Param("to") LocalDate to);
+
+    // 월별 합계 [월, 근무 초, 지각 횟수]
+    @Query("SELECT MONTH(d.workDate), SUM(d.workedSeconds), SUM(CASE WHEN d.isLate = 'Y' THEN 1 ELSE 0 END) " +
+           "FROM DailyAttendance d WHERE d.memNo = :memNo " +
+           "AND d.workDate >= :from AND d.workDate < :to " +
+           "GROUP BY MONTH(d.workDate)")
+    List<Object[]> sumMonthlyByMemNo(@Param("memNo") Long memNo,
+                                     @Param("from") LocalDate from,
+                                     @Param("to") LocalDate to);
+
+    // 여러 회원의 기간 합계 [회원 번호, 근무 초, 출근 일수, 지각 횟수, 외출 분] (급여 기간 내보내기)
+    @Query("SELECT d.memNo, SUM(d.workedSeconds), COUNT(d), SUM(CASE WHEN d.isLate = 'Y' THEN 1 ELSE 0 END), SUM(d.awayMinutes) " +
+           "FROM DailyAttendance d WHERE d.memNo IN :memNos " +
+           "AND d.workDate >= :from AND d.workDate < :to " +
+           "GROUP BY d.memNo")
+    List<Object[]> sumByMemNosAndWorkDateRange(@Param("memNos") Collection<Long> memNos,
+                                               @Param("from") LocalDate from,
+                                               @Param("to") LocalDate to);
+
+    // 출근 시 하루 한 건 생성 (이미 있으면 무시)
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO daily_attendance (mem_no, work_date, worked_seconds, is_late, away_minutes) " +
+                   "VALUES (:memNo, :workDate, 0, :isLate, 0)",
+           nativeQuery = true)
+    int insertIfAbsent(@Param("memNo") Long memNo,
+                       @Param("workDate") LocalDate workDate,
+                       @Param("isLate") String isLate);
+
+    // 출퇴근 원본 기록으로 기간 내 일별 근태를 채움 (외출 시간은 원본에 없으므로 기존 값 유지)
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO daily_attendance (mem_no, work_date, worked_seconds, is_late, away_minutes) " +
+                   "SELECT c.mem_no, c.work_date, COALESCE(TIME_TO_SEC(c.commute_out_time), 0), COALESCE(c.is_late, 'N'), 0 " +
+                   "FROM commute c WHERE c.work_date >= :from AND c.work_date < :to " +
+                   "ON DUPLICATE KEY UPDATE worked_seconds = VALUES(worked_seconds), is_late = VALUES(is_late)",
+           nativeQuery = true)
+    int backfill(@Param("from") LocalDate from, @Param("to") LocalDate to);
+}
@@ -0,0 +1,33 @@
+package com.ware.spring.commute.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.ware.spring.commute.domain.MonthlyWorkingTime;
+
+public interface MonthlyWorkingTimeRepository extends JpaRepository<MonthlyWorkingTime, Long> {
+
+    List<MonthlyWorkingTime> findByMemNo(Long memNo);
+
+    // 특정 기간(연간 등)의 월별 근무 데이터
+    List<MonthlyWorkingTime> findByMemNoAndStartOfMonthBetweenOrderByStartOfMonth(Long memNo, LocalDate from, LocalDate to);
+
+    // 월간 근무 시간 누적 (행이 없으면 생성, 있으면 분 단위로 더함)
+    // month_hours가 month_minutes보다 먼저 계산되어야 하므로 SET 순서를 바꾸지 말 것
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO monthly_working_time (mem_no, month_hours, month_minutes, start_of_month) " +
+                   "VALUES (:memNo, FLOOR(:minutes / 60), MOD(:minutes, 60), :startOfMonth) " +
+                   "ON DUPLICATE KEY UPDATE month_hours = month_hours + FLOOR((month_minutes + :minutes) / 60), " +
+                   "month_minutes = MOD(month_minutes + :minutes, 60)",
+           nativeQuery = true)
+    int addWorkingMinutes(@Param("memNo") Long memNo,
+                          @Param("minutes") int minutes,
+                          @Param("startOfMonth") LocalDate startOfMonth);
+}
@@ -1,12 +1,15 @@
 package com.ware.spring.commute.repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.ware.spring.commute.domain.WeeklyWorkingTime;
 
@@ -16,19 +19,34 @@ public interface WeeklyWorkingTimeRepository extends JpaRepository<WeeklyWorking
 
     Optional<WeeklyWorkingTime> findByMemNoAndStartOfWeek(Long memNo, LocalDate startOfWeek);
 
+    // 특정 주 전체 회원 근무 시간 (주 52시간 점검 초기화)
+    List<WeeklyWorkingTime> findByStartOfWeek(LocalDate startOfWeek);
+
+    // 여러 회원의 특정 주 근무 시간 (팀 근태 현황)
+    List<WeeklyWorkingTime> findByMemNoInAndStartOfWeek(Collection<Long> memNos, LocalDate startOfWeek);
+
     @Query("SELECT COALESCE(SUM(TIME_TO_SEC(c.commuteOutTime)), 0) FROM Commute c " +
            "WHERE c.member.memNo = :memNo " +
            "AND c.commuteOnStartTime BETWEEN :startOfWeek AND :endOfWeek")
     Long findTotalWorkingSecondsForWeek(@Param("memNo") Long memNo,
                                         @Param("startOfWeek") LocalDate startOfWeek,
                                         @Param("endOfWeek") LocalDate endOfWeek);
-    // 특정 연도의 특정 사용자에 대한 모든 주간 근무 데이터
-    @Query("SELECT w FROM WeeklyWorkingTime w WHERE w.memNo = :memNo AND YEAR(w.startOfWeek) = :year")
-    List<WeeklyWorkingTime> findByMemNoAndYear(@Param("memNo") Long memNo, @Param("year") int year);
+    // 특정 연도의 특정 사용자에 대한 모든 주간 근무 데이터 (연도 → 날짜 범위, (mem_no, start_of_week) 인덱스 사용)
+    default List<WeeklyWorkingTime> findByMemNoAndYear(Long memNo, int year) {
+        return findByMemNoAndStartOfWeekRange(memNo, LocalDate.of(year, 1, 1), LocalDate.of(year + 1, 1, 1));
+    }
 
     // 특정 월에 속한 주간 근무 데이터를 가져오는 (월별 계산 시 사용)
-    @Query("SELECT w FROM WeeklyWorkingTime w WHERE w.memNo = :memNo AND MONTH(w.startOfWeek) = :month AND YEAR(w.startOfWeek) = :year")
-    List<WeeklyWorkingTime> findByMemNoAndMonth(@Param("memNo") Long memNo, @Param("month") int month, @Param("year") int year);
+    default List<WeeklyWorkingTime> findByMemNoAndMonth(Long memNo, int month, int year) {
+        LocalDate startOfMonth = LocalDate.of(year, month, 1);
+        return findByMemNoAndStartOfWeekRange(memNo, startOfMonth, startOfMonth.plusMonths(1));
+    }
+
+    // 주 시작일 범위 조회 (from 이상, to 미만)
+    @Query("SELECT w FROM WeeklyWorkingTime w WHERE w.memNo = :memNo AND w.startOfWeek >= :from AND w.startOfWeek < :to")
+    List<WeeklyWorkingTime> findByMemNoAndStartOfWeekRange(@Param("memNo") Long memNo,
+                                                           @Param("from") LocalDate from,
+                                                           @Param("to") LocalDate to);
     // 특정 직원의 특정 주간 범위 내의 근무 시간 기록을 가져오기
     @Query("SELECT w FROM WeeklyWorkingTime w WHERE w.memNo = :memNo AND w.startOfWeek >= :startOfWeek AND w.endOfWeek <= :endOfWeek")
     Optional<WeeklyWorkingTime> findWeeklyByMemNoAndWeekRange(@Param("memNo") Long memNo,
@@ -43,5 +61,19 @@ public interface WeeklyWorkingTimeRepository extends JpaRepository<WeeklyWorking
     List<WeeklyWorkingTime> findByMemNoAndDateRange(@Param("memNo") Long memNo,
                                                     @Param("startDate") LocalDate startDate,
                                                     @Param("endDate") LocalDate endDate);
+
+    // 주간 근무 시간 누적 (행이 없으면 생성, 있으면 분 단위로 더함)
+    // week_hours가 week_minutes보다 먼저 계산되어야 하므로 SET 순서를 바꾸지 말 것
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO weekly_working_time (mem_no, week_hours, week_minutes, start_of_week, end_of_week) " +
+                   "VALUES (:memNo, FLOOR(:minutes / 60), MOD(:minutes, 60), :startOfWeek, :endOfWeek) " +
+                   "ON DUPLICATE KEY UPDATE week_hours = week_hours + FLOOR((week_minutes + :minutes) / 60), " +
+                   "week_minutes = MOD(week_minutes + :minutes, 60)",
+           nativeQuery = true)
+    int addWorkingMinutes(@Param("memNo") Long memNo,
+                          @Param("minutes") int minutes,
+                          @Param("startOfWeek") LocalDate startOfWeek,
+                          @Param("endOfWeek") LocalDate endOfWeek);
 }
 
@@ -2,9 +2,29 @@ package com.ware.spring.commute.repository;
 
 import com.ware.spring.commute.domain.WorkingTime;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 public interface WorkingTimeRepository extends JpaRepository<WorkingTime, Long> {
     Optional<WorkingTime> findByMemNo(Long memNo);
+
+    // 전체 근무 시간/일수 누적 (행이 없으면 생성, 있으면 더함)
+    // total_hours가 total_minutes보다 먼저 계산되어야 하므로 SET 순서를 바꾸지 말 것
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO working_time (mem_no, total_hours, total_minutes, total_date, last_updated) " +
+                   "VALUES (:memNo, FLOOR(:minutes / 60), MOD(:minutes, 60), :days, :now) " +
+                   "ON DUPLICATE KEY UPDATE total_hours = total_hours + FLOOR((total_minutes + :minutes) / 60), " +
+                   "total_minutes = MOD(total_minutes + :minutes, 60), " +
+                   "total_date = total_date + :days, last_updated = :now",
+           nativeQuery = true)
+    int addWorkingTime(@Param("memNo") Long memNo,
+                       @Param("minutes") int minutes,
+                       @Param("days") int days,
+                       @Param("now") LocalDateTime now);
 }
@@ -0,0 +1,289 @@
+package com.ware.spring.commute.service;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.ware.spring.commute.domain.AttendanceStatDto;
+import com.ware.spring.commute.repository.CommuteRepository;
+
+/**
+ * 출퇴근 기록 월별 보관 및 보관 기록 통계
+ * 기술: 열 단위 기본형 배열 파일(CommuteMonthArchive), Spring @Scheduled
+ * 설명: 최근 commute.archive.hot-months 개월만 commute 테이블에 두고, 마감된 월은 commute-YYYY-MM.bin 파일로 옮긴 뒤 테이블에서 삭제합니다.
+ *        연간 통계, 근무 시간 재집계는 테이블(최근 월)과 보관 파일(이전 월)을 합쳐서 계산합니다.
+ *        보관 파일은 쓰기 후 다시 읽어 행 수를 확인한 다음에만 테이블 행을 삭제하며,
+ *        같은 월을 다시 보관하면 기존 파일과 병합합니다.
+ */
+@Service
+public class CommuteArchiveService {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final String FILE_PREFIX = "commute-";
+    private static final String FILE_SUFFIX = ".bin";
+    private static final int LOADED_MONTHS_MAX = 12;
+
+    private final CommuteRepository commuteRepository;
+    private final Path archiveDir;
+    private final int hotMonths;
+
+    // 최근에 읽은 보관 파일 (보관 파일은 다시 보관될 때만 바뀜)
+    private final Map<YearMonth, CommuteMonthArchive> loadedMonths = new ConcurrentHashMap<>();
+    // 회원별 보관 기록 합계 [근무 분(일별 분 단위 합), 근무 일수] (재집계용, 보관 시 초기화)
+    private volatile Map<Long, long[]> archivedTotals;
+    private volatile LocalDate archivedUntil;
+    private volatile boolean archivedUntilLoaded;
+
+    public CommuteArchiveService(CommuteRepository commuteRepository,
+                                 @Value("${commute.archive.dir:C:/document/commute-archive/}") String archiveDir,
+                                 @Value("${commute.archive.hot-months:3}") int hotMonths) {
+        this.commuteRepository = commuteRepository;
+        this.archiveDir = Paths.get(archiveDir.endsWith(File.separator) || archiveDir.endsWith("/") ? archiveDir : archiveDir + File.separator);
+        this.hotMonths = hotMonths;
+    }
+
+    // ===== 보관 =====
+
+    @Scheduled(cron = "0 0 4 1 * *", zone = "Asia/Seoul") // 매월 1일 04:00 (일별 집계 보정 이후)
+    public void archiveClosedMonths() {
+        LocalDate oldest = commuteRepository.findMinWorkDate();
+        if (oldest == null) {
+            return;
+        }
+        YearMonth hotFrom = YearMonth.now(ZONE).minusMonths(hotMonths);
+        for (YearMonth month = YearMonth.from(oldest); month.isBefore(hotFrom); month = month.plusMonths(1)) {
+            try {
+                int archived = archiveMonth(month);
+                System.out.println("출퇴근 기록 보관 완료: " + month + " (" + archived + "건)");
+            } catch (Exception e) {
+                // 이후 월을 먼저 보관하면 보관 경계가 어긋나므로 여기서 중단
+                e.printStackTrace();
+                return;
+            }
+        }
+    }
+
+    /**
+     * 한 달치 출퇴근 기록을 보관 파일로 옮기고 테이블에서 삭제
+     * @param month 보관할 월 (최근 hot-months 개월은 보관할 수 없음)
+     * @return 테이블에서 옮긴 행 수
+     */
+    public synchronized int archiveMonth(YearMonth month) throws IOException {
+        if (!month.isBefore(YearMonth.now(ZONE).minusMonths(hotMonths))) {
+            throw new IllegalArgumentException("최근 " + hotMonths + "개월은 보관할 수 없습니다: " + month);
+        }
+        LocalDate from = month.atDay(1);
+        LocalDate to = month.plusMonths(1).atDay(1);
+        List<Object[]> rows = commuteRepository.findArchiveRows(from, to);
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        CommuteMonthArchive archive = CommuteMonthArchive.fromRows(month, rows);
+        Path path = pathOf(month);
+        if (Files.exists(path)) {
+            archive = CommuteMonthArchive.merge(CommuteMonthArchive.read(path), archive);
+        }
+
+        // 임시 파일에 쓰고 다시 읽어 확인한 뒤 교체
+        Files.createDirectories(archiveDir);
+        Path temp = archiveDir.resolve(path.getFileName() + ".tmp");
+        archive.write(temp);
+        if (CommuteMonthArchive.read(temp).size() != archive.size()) {
+            Files.deleteIfExists(temp);
+            throw new IOException("출퇴근 보관 파일 확인 실패: " + temp);
+        }
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        loadedMonths.remove(month);
+        archivedTotals = null;
+        archivedUntilLoaded = false;
+        return commuteRepository.deleteByWorkDateRange(from, to);
+    }
+
+    // ===== 보관 기록 조회 =====
+
+    /**
+     * 보관된 마지막 월의 다음 날짜 (이 날짜 이전 기록은 보관 파일에만 있음)
+     * @return 보관된 월이 없으면 null
+     */
+    public LocalDate getArchivedUntil() {
+        if (!archivedUntilLoaded) {
+            YearMonth last = null;
+            for (YearMonth month : listArchivedMonths()) {
+                if (last == null || month.isAfter(last)) {
+                    last = month;
+                }
+            }
+            archivedUntil = last != null ? last.plusMonths(1).atDay(1) : null;
+            archivedUntilLoaded = true;
+        }
+        return archivedUntil;
+    }
+
+    /**
+     * 한 회원의 보관된 월별 근태 통계 (1~12월, 보관되지 않은 월은 0)
+     */
+    public List<AttendanceStatDto> getMonthlyStats(Long memNo, int year) {
+        List<AttendanceStatDto> stats = new ArrayList<>();
+        for (int month = 1; month <= 12; month++) {
+            AttendanceStatDto stat = AttendanceStatDto.builder().month(month).build();
+            CommuteMonthArchive archive = load(YearMonth.of(year, month));
+            if (archive != null) {
+                int late = 0;
+                int days = 0;
+                long seconds = 0;
+                for (int i = archive.firstIndexOf(memNo); i < archive.size() && archive.memNos[i] == memNo; i++) {
+                    late += archive.late[i];
+                    seconds += archive.workedSeconds[i];
+                    days++;
+                }
+                stat.setLateCount(late);
+                stat.setWorkedSeconds(seconds);
+                stat.setDaysPresent(days);
+            }
+            stats.add(stat);
+        }
+        return stats;
+    }
+
+    /**
+     * 한 회원의 보관된 연간 근무 시간 (일별 시간 단위 합계)
+     * 설명: commute 테이블의 HOUR(commuteOutTime) 합계와 같도록 날마다 시간 단위로 버린 뒤 더합니다.
+     */
+    public long getWorkedHours(Long memNo, int year) {
+        long hours = 0;
+        for (int month = 1; month <= 12; month++) {
+            CommuteMonthArchive archive = load(YearMonth.of(year, month));
+            if (archive == null) {
+                continue;
+            }
+            for (int i = archive.firstIndexOf(memNo); i < archive.size() && archive.memNos[i] == memNo; i++) {
+                hours += archive.workedSeconds[i] / 3600;
+            }
+        }
+        return hours;
+    }
+
+    /**
+     * 전체 회원의 보관된 연간 근태 합계 (근태 분석용)
+     * @return 회원 번호별 [지각 횟수, 근무 초, 출근 일수] (month는 0)
+     */
+    public Map<Long, AttendanceStatDto> getAnnualSummaries(int year) {
+        Map<Long, long[]> totals = new HashMap<>();
+        for (int month = 1; month <= 12; month++) {
+            CommuteMonthArchive archive = read(YearMonth.of(year, month));
+            if (archive == null) {
+                continue;
+            }
+            long[] current = null;
+            long currentMemNo = Long.MIN_VALUE;
+            for (int i = 0; i < archive.size(); i++) {
+                if (current == null || archive.memNos[i] != currentMemNo) {
+                    currentMemNo = archive.memNos[i];
+                    current = totals.computeIfAbsent(currentMemNo, k -> new long[3]);
+                }
+                current[0] += archive.late[i];
+                current[1] += archive.workedSeconds[i];
+                current[2]++;
+            }
+        }
+        Map<Long, AttendanceStatDto> result = new HashMap<>();
+        totals.forEach((memNo, total) -> result.put(memNo, AttendanceStatDto.builder()
+                .lateCount((int) total[0])
+                .workedSeconds(total[1])
+                .daysPresent((int) total[2])
+                .build()));
+        return result;
+    }
+
+    /**
+     * 한 회원의 전체 보관 기록 합계 (근무 시간 재집계용)
+     * @return [근무 분(일별 분 단위 합), 근무 일수]
+     */
+    public long[] getArchivedTotals(Long memNo) {
+        Map<Long, long[]> totals = archivedTotals;
+        if (totals == null) {
+            totals = new HashMap<>();
+            for (YearMonth month : listArchivedMonths()) {
+                CommuteMonthArchive archive = read(month);
+                for (int i = 0; archive != null && i < archive.size(); i++) {
+                    long[] total = totals.computeIfAbsent(archive.memNos[i], k -> new long[2]);
+                    total[0] += archive.workedSeconds[i] / 60;
+                    total[1]++;
+                }
+            }
+            archivedTotals = totals;
+        }
+        return totals.getOrDefault(memNo, new long[2]);
+    }
+
+    // 화면 조회용 (최근 LOADED_MONTHS_MAX 개월 파일을 메모리에 유지)
+    private CommuteMonthArchive load(YearMonth month) {
+        CommuteMonthArchive archive = loadedMonths.get(month);
+        if (archive == null) {
+            archive = read(month);
+            if (archive != null) {
+                if (loadedMonths.size() >= LOADED_MONTHS_MAX) {
+                    loadedMonths.clear();
+                }
+                loadedMonths.put(month, archive);
+            }
+        }
+        return archive;
+    }
+
+    // 일괄 계산용 (메모리에 유지하지 않음)
+    private CommuteMonthArchive read(YearMonth month) {
+        Path path = pathOf(month);
+        if (!Files.exists(path)) {
+            return null;
+        }
+        try {
+            return CommuteMonthArchive.read(path);
+        } catch (IOException e) {
+            throw new IllegalStateException("출퇴근 보관 파일을 읽을 수 없습니다: " + path, e);
+        }
+    }
+
+    private List<YearMonth> listArchivedMonths() {
+        List<YearMonth> months = new ArrayList<>();
+        if (!Files.isDirectory(archiveDir)) {
+            return months;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(archiveDir, FILE_PREFIX + "*" + FILE_SUFFIX)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                try {
+                    months.add(YearMonth.parse(name.substring(FILE_PREFIX.length(), name.length() - FILE_SUFFIX.length())));
+                } catch (DateTimeParseException e) {
+                    System.out.println("출퇴근 보관 파일 이름 형식 오류: " + name);
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("출퇴근 보관 경로를 읽을 수 없습니다: " + archiveDir, e);
+        }
+        return months;
+    }
+
+    private Path pathOf(YearMonth month) {
+        return archiveDir.resolve(FILE_PREFIX + month + FILE_SUFFIX);
+    }
+}
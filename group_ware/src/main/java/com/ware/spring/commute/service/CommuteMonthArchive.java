@@ -0,0 +1,198 @@
+package com.ware.spring.commute.service;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Time;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 한 달치 출퇴근 기록 보관 파일 (열 단위 기본형 배열)
+ * 기술: DataOutputStream + GZIP, 기본형 배열(long[], int[], byte[])
+ * 설명: 마감된 월의 출퇴근 기록을 회원 번호, 근무일 순으로 정렬하여 열마다 하나의 배열로 저장합니다.
+ *        출근/퇴근 시각은 근무일 0시 기준 초(없으면 -1), 근무 시간은 초, 지각 여부는 0/1로 저장합니다.
+ *        회원 번호가 정렬되어 있으므로 특정 회원의 구간은 이진 탐색으로 찾습니다.
+ *
+ * 파일 구조: MAGIC, VERSION, 연, 월, 행 수, memNo[], day[], startSecond[], endSecond[], workedSecond[], late[]
+ */
+class CommuteMonthArchive {
+
+    private static final int MAGIC = 0x434D5441; // "CMTA"
+    private static final short VERSION = 1;
+
+    final YearMonth month;
+    final long[] memNos;
+    final byte[] days;
+    final int[] startSeconds;
+    final int[] endSeconds;
+    final int[] workedSeconds;
+    final byte[] late;
+
+    private CommuteMonthArchive(YearMonth month, int size) {
+        this.month = month;
+        this.memNos = new long[size];
+        this.days = new byte[size];
+        this.startSeconds = new int[size];
+        this.endSeconds = new int[size];
+        this.workedSeconds = new int[size];
+        this.late = new byte[size];
+    }
+
+    int size() {
+        return memNos.length;
+    }
+
+    /**
+     * 조회 결과로 보관 파일 생성
+     * @param rows [회원 번호, 근무일, 출근 시각, 퇴근 시각, 근무 시간, 지각 여부] (회원 번호, 근무일 순 정렬)
+     */
+    static CommuteMonthArchive fromRows(YearMonth month, List<Object[]> rows) {
+        CommuteMonthArchive archive = new CommuteMonthArchive(month, rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            Object[] row = rows.get(i);
+            LocalDate workDate = (LocalDate) row[1];
+            archive.memNos[i] = (Long) row[0];
+            archive.days[i] = (byte) workDate.getDayOfMonth();
+            archive.startSeconds[i] = secondsFrom(workDate, (LocalDateTime) row[2]);
+            archive.endSeconds[i] = secondsFrom(workDate, (LocalDateTime) row[3]);
+            Time outTime = (Time) row[4];
+            archive.workedSeconds[i] = outTime != null ? outTime.toLocalTime().toSecondOfDay() : 0;
+            archive.late[i] = (byte) ("Y".equals(row[5]) ? 1 : 0);
+        }
+        return archive;
+    }
+
+    /**
+     * 기존 보관 파일에 새 기록 병합 (같은 회원, 같은 날은 새 기록 우선)
+     */
+    static CommuteMonthArchive merge(CommuteMonthArchive existing, CommuteMonthArchive fresh) {
+        CommuteMonthArchive merged = new CommuteMonthArchive(fresh.month, existing.size() + fresh.size());
+        int i = 0, j = 0, n = 0;
+        while (i < existing.size() || j < fresh.size()) {
+            int cmp;
+            if (i >= existing.size()) {
+                cmp = 1;
+            } else if (j >= fresh.size()) {
+                cmp = -1;
+            } else {
+                cmp = Long.compare(existing.memNos[i], fresh.memNos[j]);
+                if (cmp == 0) {
+                    cmp = Byte.compare(existing.days[i], fresh.days[j]);
+                }
+            }
+            if (cmp < 0) {
+                merged.copyFrom(n++, existing, i++);
+            } else {
+                merged.copyFrom(n++, fresh, j++);
+                if (cmp == 0) {
+                    i++;
+                }
+            }
+        }
+        return merged.truncate(n);
+    }
+
+    // 특정 회원 구간의 시작 위치 (없으면 해당 회원이 들어갈 위치)
+    int firstIndexOf(long memNo) {
+        int low = 0, high = memNos.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (memNos[mid] < memNo) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    void write(Path path) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new GZIPOutputStream(Files.newOutputStream(path))))) {
+            out.writeInt(MAGIC);
+            out.writeShort(VERSION);
+            out.writeInt(month.getYear());
+            out.writeInt(month.getMonthValue());
+            out.writeInt(size());
+            for (long memNo : memNos) {
+                out.writeLong(memNo);
+            }
+            out.write(days);
+            for (int value : startSeconds) {
+                out.writeInt(value);
+            }
+            for (int value : endSeconds) {
+                out.writeInt(value);
+            }
+            for (int value : workedSeconds) {
+                out.writeInt(value);
+            }
+            out.write(late);
+        }
+    }
+
+    static CommuteMonthArchive read(Path path) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new GZIPInputStream(Files.newInputStream(path))))) {
+            if (in.readInt() != MAGIC || in.readShort() != VERSION) {
+                throw new IOException("출퇴근 보관 파일 형식이 아닙니다: " + path);
+            }
+            YearMonth month = YearMonth.of(in.readInt(), in.readInt());
+            CommuteMonthArchive archive = new CommuteMonthArchive(month, in.readInt());
+            for (int i = 0; i < archive.size(); i++) {
+                archive.memNos[i] = in.readLong();
+            }
+            in.readFully(archive.days);
+            for (int i = 0; i < archive.size(); i++) {
+                archive.startSeconds[i] = in.readInt();
+            }
+            for (int i = 0; i < archive.size(); i++) {
+                archive.endSeconds[i] = in.readInt();
+            }
+            for (int i = 0; i < archive.size(); i++) {
+                archive.workedSeconds[i] = in.readInt();
+            }
+            in.readFully(archive.late);
+            return archive;
+        }
+    }
+
+    private void copyFrom(int to, CommuteMonthArchive source, int from) {
+        memNos[to] = source.memNos[from];
+        days[to] = source.days[from];
+        startSeconds[to] = source.startSeconds[from];
+        endSeconds[to] = source.endSeconds[from];
+        workedSeconds[to] = source.workedSeconds[from];
+        late[to] = source.late[from];
+    }
+
+    private CommuteMonthArchive truncate(int size) {
+        if (size == size()) {
+            return this;
+        }
+        CommuteMonthArchive result = new CommuteMonthArchive(month, size);
+        System.arraycopy(memNos, 0, result.memNos, 0, size);
+        System.arraycopy(days, 0, result.days, 0, size);
+        System.arraycopy(startSeconds, 0, result.startSeconds, 0, size);
+        System.arraycopy(endSeconds, 0, result.endSeconds, 0, size);
+        System.arraycopy(workedSeconds, 0, result.workedSeconds, 0, size);
+        System.arraycopy(late, 0, result.late, 0, size);
+        return result;
+    }
+
+    // 근무일 0시 기준 경과 초 (값이 없으면 -1, 자정을 넘긴 퇴근은 86400 이상)
+    private static int secondsFrom(LocalDate workDate, LocalDateTime time) {
+        if (time == null) {
+            return -1;
+        }
+        return (int) Duration.between(workDate.atStartOfDay(), time).getSeconds();
+    }
+}
@@ -1,24 +1,34 @@
 package com.ware.spring.commute.service;
 
-import java.sql.Date;
+import java.sql.Time;
 import java.time.DayOfWeek;
 import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.YearMonth;
+import java.time.Year;
 import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import com.ware.spring.commute.domain.AttendanceStatDto;
 import com.ware.spring.commute.domain.Commute;
+import com.ware.spring.commute.domain.DailyAttendance;
+import com.ware.spring.commute.domain.MonthlyWorkingTime;
 import com.ware.spring.commute.domain.WeeklyWorkingTime;
 import com.ware.spring.commute.domain.WorkingTime;
 import com.ware.spring.commute.repository.CommuteRepository;
+import com.ware.spring.commute.repository.MonthlyWorkingTimeRepository;
 import com.ware.spring.commute.repository.WeeklyWorkingTimeRepository;
 import com.ware.spring.commute.repository.WorkingTimeRepository;
 import com.ware.spring.member.domain.Member;
@@ -31,49 +41,89 @@ public class CommuteService {
     private final MemberRepository memberRepository;
     private final WeeklyWorkingTimeRepository weeklyWorkingTimeRepository;
     private final WorkingTimeRepository workingTimeRepository;
-
-    public CommuteService(WorkingTimeRepository workingTimeRepository,CommuteRepository commuteRepository, MemberRepository memberRepository, WeeklyWorkingTimeRepository weeklyWorkingTimeRepository) {
+    private final MonthlyWorkingTimeRepository monthlyWorkingTimeRepository;
+    private final TodayCommuteCache todayCommuteCache;
+    private final TeamAttendanceService teamAttendanceService;
+    private final DailyAttendanceService dailyAttendanceService;
+    private final PresenceService presenceService;
+    private final CommuteArchiveService commuteArchiveService;
+    private final WorkHourComplianceService workHourComplianceService;
+
+    public CommuteService(WorkingTimeRepository workingTimeRepository,CommuteRepository commuteRepository, MemberRepository memberRepository, WeeklyWorkingTimeRepository weeklyWorkingTimeRepository,
+                          MonthlyWorkingTimeRepository monthlyWorkingTimeRepository, TodayCommuteCache todayCommuteCache,
+                          TeamAttendanceService teamAttendanceService, DailyAttendanceService dailyAttendanceService,
+                          PresenceService presenceService, CommuteArchiveService commuteArchiveService,
+                          WorkHourComplianceService workHourComplianceService) {
         this.commuteRepository = commuteRepository;
         this.memberRepository = memberRepository;
         this.weeklyWorkingTimeRepository = weeklyWorkingTimeRepository;
         this.workingTimeRepository = workingTimeRepository;
+        this.monthlyWorkingTimeRepository = monthlyWorkingTimeRepository;
+        this.todayCommuteCache = todayCommuteCache;
+        this.teamAttendanceService = teamAttendanceService;
+        this.dailyAttendanceService = dailyAttendanceService;
+        this.presenceService = presenceService;
+        this.commuteArchiveService = commuteArchiveService;
+        this.workHourComplianceService = workHourComplianceService;
     }
     // 출근 기록
+    // 회원 조회/오늘 기록 조회 없이 INSERT 한 번으로 처리 (중복 클릭이나 동시 요청에도 하루 한 건만 생성)
+    @Transactional
     public Commute startWork(Long memNo) {
-    	Member member = memberRepository.findById(memNo)
-    			.orElseThrow(() -> new IllegalArgumentException("존재하지 않는 회원입니다."));
-    	Optional<Commute> existingCommute = commuteRepository.findTodayCommuteByMember(member);
-    	if (existingCommute.isPresent()) {
-    		return existingCommute.get(); 
-    	} else {
-    		LocalDateTime now = LocalDateTime.now(ZoneId.of("Asia/Seoul"));
-    		boolean isWeekend = now.getDayOfWeek() == DayOfWeek.SATURDAY || now.getDayOfWeek() == DayOfWeek.SUNDAY;
-    		String isLate = isWeekend ? "N" : (now.getHour() >= 9 ? "Y" : "N");
-
-    		Commute commute = Commute.builder()
-    				.member(member)
-    				.commuteOnStartTime(now)
-    				.commuteFlagBlue("Y")
-    				.commuteFlagPurple("N")
-    				.isLate(isLate)
-    				.build();
-    		return commuteRepository.save(commute);
+    	LocalDateTime now = LocalDateTime.now(ZoneId.of("Asia/Seoul"));
+    	LocalDate today = now.toLocalDate();
+    	boolean isWeekend = now.getDayOfWeek() == DayOfWeek.SATURDAY || now.getDayOfWeek() == DayOfWeek.SUNDAY;
+    	String isLate = isWeekend ? "N" : (now.getHour() >= 9 ? "Y" : "N");
+
+    	int inserted = commuteRepository.insertCommuteIfAbsent(memNo, today, now, isLate);
+    	if (inserted > 0) {
+    		// 새로운 근무일이므로 전체 근무 일수만 1 증가
+    		workingTimeRepository.addWorkingTime(memNo, 0, 1, now);
+    		dailyAttendanceService.recordClockIn(memNo, today, isLate);
     	}
+    	Commute commute = commuteRepository.findByMemberMemNoAndWorkDate(memNo, today)
+    			.orElseThrow(() -> new IllegalArgumentException("존재하지 않는 회원입니다."));
+    	markClockedInAfterCommit(memNo, today, inserted > 0 ? now : null);
+    	teamAttendanceService.evictMember(memNo);
+    	return commute;
+    }
+
+    // 출근 비트맵과 근무 상태는 커밋이 끝난 뒤에 표시 (롤백된 출근이 출근으로 보이지 않도록)
+    // clockInAt이 null이면 이미 출근한 회원의 중복 요청이므로 현재 근무 상태는 그대로 둠
+    private void markClockedInAfterCommit(Long memNo, LocalDate today, LocalDateTime clockInAt) {
+        afterCommit(() -> markClockedIn(memNo, today, clockInAt));
+    }
+
+    // 커밋된 뒤에 실행 (SSE 전송처럼 롤백할 수 없는 작업, 트랜잭션 밖이면 바로 실행)
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private void markClockedIn(Long memNo, LocalDate today, LocalDateTime clockInAt) {
+        todayCommuteCache.markClockedIn(memNo, today);
+        if (clockInAt != null) {
+            presenceService.clockIn(memNo, clockInAt);
+            workHourComplianceService.onClockIn(memNo, clockInAt);
+        }
     }
     
-    // 오늘 출근 기록 여부 확인
+    // 오늘 출근 기록 여부 확인 (메모리 비트맵, SQL 없음)
     public boolean hasTodayCommute(Long memNo) {
-        Member member = memberRepository.findById(memNo)
-            .orElse(null); 
-        if (member == null) {
-            return false;
-        }
-        Optional<Commute> todayCommute = commuteRepository.findTodayCommuteByMember(member);
-        return todayCommute.isPresent();
+        return todayCommuteCache.isClockedIn(memNo, LocalDate.now(ZoneId.of("Asia/Seoul")));
     }
 
 
     // 퇴근 기록 및 근무 시간 계산
+    @Transactional
     public Map<String, Object> endWork(Long memNo) {
         try {
             Member member = memberRepository.findById(memNo)
@@ -92,10 +142,16 @@ public class CommuteService {
                 Duration duration = Duration.between(startTime, endTime);
                 long hoursWorked = duration.toHours();
                 long minutesWorked = duration.toMinutes() % 60;
+                // 같은 날 퇴근을 다시 누른 경우 이전에 반영된 근무 시간을 빼고 차이만 누적
+                int previousMinutes = toMinutes(commute.getCommuteOutTime());
                 commute.setCommuteOutTime(java.sql.Time.valueOf(String.format("%02d:%02d:00", hoursWorked, minutesWorked)));
                 commuteRepository.save(commute);
-                updateWeeklyWorkingTime(memNo);
-                updateTotalWorkingTime(memNo);
+                int deltaMinutes = (int) (hoursWorked * 60 + minutesWorked) - previousMinutes;
+                addWorkingMinutes(memNo, startTime.toLocalDate(), Math.max(deltaMinutes, 0), endTime);
+                dailyAttendanceService.recordClockOut(memNo, startTime.toLocalDate(), (hoursWorked * 60 + minutesWorked) * 60, endTime);
+                teamAttendanceService.evictMember(memNo);
+                afterCommit(() -> presenceService.clockOut(memNo, endTime)); // 롤백된 퇴근이 퇴근으로 전송되지 않도록
+                workHourComplianceService.onClockOut(memNo, startTime.toLocalDate(), Math.max(deltaMinutes, 0), endTime);
                 Map<String, Object> result = new HashMap<>();
                 result.put("hoursWorked", hoursWorked);
                 result.put("minutesWorked", minutesWorked);
@@ -112,68 +168,38 @@ public class CommuteService {
     }
 
 
-    // 주간 근무 시간 업데이트 
-    private void updateWeeklyWorkingTime(Long memNo) {
-        LocalDate today = LocalDate.now(ZoneId.of("Asia/Seoul"));
-        LocalDateTime startOfWeek = today.with(DayOfWeek.MONDAY).atStartOfDay();
-        LocalDateTime endOfWeek = today.with(DayOfWeek.SUNDAY).atTime(23, 59, 59);
-
-        long totalSeconds = commuteRepository.findTotalCommuteOutTimeForWeek(memNo, startOfWeek, endOfWeek);
-        int totalHours = (int) (totalSeconds / 3600);
-        int totalMinutes = (int) ((totalSeconds % 3600) / 60);
-
-
-        Optional<WeeklyWorkingTime> weeklyWorkingTimeOpt = weeklyWorkingTimeRepository.findByMemNoAndStartOfWeek(memNo, startOfWeek.toLocalDate());
-        WeeklyWorkingTime weeklyWorkingTime;
-
-        if (weeklyWorkingTimeOpt.isPresent()) {
-            weeklyWorkingTime = weeklyWorkingTimeOpt.get();
-            weeklyWorkingTime.setWeekHours(totalHours);
-            weeklyWorkingTime.setWeekMinutes(totalMinutes);
-        } else {
-            weeklyWorkingTime = WeeklyWorkingTime.builder()
-                    .memNo(memNo)
-                    .weekHours(totalHours)
-                    .weekMinutes(totalMinutes)
-                    .startOfWeek(startOfWeek.toLocalDate())
-                    .endOfWeek(endOfWeek.toLocalDate())
-                    .build();
+    // 근무 시간 누적 (주간, 월간, 전체 집계에 이번 퇴근분만 더함, endWork 트랜잭션 안에서 실행)
+    private void addWorkingMinutes(Long memNo, LocalDate workDate, int minutes, LocalDateTime now) {
+        if (minutes <= 0) {
+            return;
         }
+        LocalDate startOfWeek = workDate.with(DayOfWeek.MONDAY);
+        weeklyWorkingTimeRepository.addWorkingMinutes(memNo, minutes, startOfWeek, startOfWeek.plusDays(6));
+        monthlyWorkingTimeRepository.addWorkingMinutes(memNo, minutes, workDate.withDayOfMonth(1));
+        workingTimeRepository.addWorkingTime(memNo, minutes, 0, now);
+    }
 
-        weeklyWorkingTimeRepository.save(weeklyWorkingTime);
+    private int toMinutes(Time time) {
+        if (time == null) {
+            return 0;
+        }
+        return time.toLocalTime().getHour() * 60 + time.toLocalTime().getMinute();
     }
 
 
 
     // 상태 업데이트 메서드 (착석, 외출, 외근, 식사)
+    // 출근 여부는 메모리 비트맵으로 확인하고, 상태는 PresenceService에 반영 (DB 플래그/일별 근태는 비동기로 기록)
     public void updateStatus(Long memNo, String status) {
-        Member member = memberRepository.findById(memNo)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 회원입니다."));
-        Optional<Commute> commuteOpt = commuteRepository.findTodayCommuteByMember(member);
-        if (commuteOpt.isPresent()) {
-            Commute commute = commuteOpt.get();
-            if ("seated".equals(status)) {
-                commute.setCommuteFlagBlue("Y");
-                commute.setCommuteFlagPurple("N");
-            } else {
-                commute.setCommuteFlagBlue("N");
-                commute.setCommuteFlagPurple("Y");
-            }
-            commuteRepository.save(commute);
-        } else {
+        if (!hasTodayCommute(memNo)) {
             throw new IllegalStateException("출근 기록이 존재하지 않습니다.");
         }
+        presenceService.changeStatus(memNo, status, LocalDateTime.now(ZoneId.of("Asia/Seoul")));
     }
     // 퇴근 시 플래그 상태 업데이트
     public void updateEndStatus(Long memNo) {
-        Member member = memberRepository.findById(memNo)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 회원입니다."));
-        Optional<Commute> commuteOpt = commuteRepository.findTodayCommuteByMember(member);
-        if (commuteOpt.isPresent()) {
-            Commute commute = commuteOpt.get();
-            commute.setCommuteFlagBlue("N");
-            commute.setCommuteFlagPurple("N");
-            commuteRepository.save(commute);
+        if (hasTodayCommute(memNo)) {
+            presenceService.leave(memNo, LocalDateTime.now(ZoneId.of("Asia/Seoul")));
         }
     }
     public String getFormattedWeeklyWorkingTime(Long memNo) {
@@ -188,49 +214,88 @@ public class CommuteService {
         }
     }
     
-    public void updateTotalWorkingTime(Long memNo) {
-        List<WeeklyWorkingTime> weeklyWorkingTimes = weeklyWorkingTimeRepository.findByMemNo(memNo);
-        
-        int totalHours = 0;
+    /**
+     * 근무 시간 집계 재계산
+     * 기술: Spring Data JPA, 트랜잭션
+     * 설명: 출퇴근 원본 기록으로 주간/월간/전체 집계를 다시 만들어 누적 과정에서 생긴 오차를 바로잡습니다.
+     *        보관 파일로 옮긴 월(archivedUntil 이전)의 주간/월간 집계는 그대로 두고, 전체 집계에는 보관 기록 합계를 더합니다.
+     *        (WorkingTimeReconcileService에서 주기적으로 호출)
+     */
+    @Transactional
+    public void rebuildWorkingTime(Long memNo) {
+        Map<LocalDate, Integer> weeklyMinutes = new TreeMap<>();
+        Map<LocalDate, Integer> monthlyMinutes = new TreeMap<>();
+        Set<LocalDate> workingDays = new HashSet<>();
         int totalMinutes = 0;
-
-        for (WeeklyWorkingTime weeklyWorkingTime : weeklyWorkingTimes) {
-            // 주간 근무 시간 누적
-            totalHours += weeklyWorkingTime.getWeekHours();
-            totalMinutes += weeklyWorkingTime.getWeekMinutes();
+        LocalDate archivedUntil = commuteArchiveService.getArchivedUntil();
+
+        for (Object[] row : commuteRepository.findWorkTimesByMemNo(memNo)) {
+            LocalDate workDate = ((LocalDateTime) row[0]).toLocalDate();
+            int minutes = toMinutes((Time) row[1]);
+            workingDays.add(workDate);
+            if (row[1] == null) {
+                continue;
+            }
+            weeklyMinutes.merge(workDate.with(DayOfWeek.MONDAY), minutes, Integer::sum);
+            monthlyMinutes.merge(workDate.withDayOfMonth(1), minutes, Integer::sum);
+            totalMinutes += minutes;
         }
 
-        // 총 근무 시간 계산 (60분을 1시간으로 변환)
-        totalHours += totalMinutes / 60;
-        totalMinutes = totalMinutes % 60;
-
-        // 총 근무 일수 계산
-        List<Date> distinctWorkingDays = commuteRepository.findDistinctWorkingDays(memNo);
-        int totalDays = distinctWorkingDays.size(); // 중복되지 않는 고유한 근무 일수
-
-        // working_time 테이블 업데이트
-        Optional<WorkingTime> workingTimeOpt = workingTimeRepository.findByMemNo(memNo);
-        WorkingTime workingTime;
-
-        if (workingTimeOpt.isPresent()) {
-            // 기존 데이터가 있는 경우 업데이트
-            workingTime = workingTimeOpt.get();
-            workingTime.setTotalHours(totalHours);
-            workingTime.setTotalMinutes(totalMinutes);
-            workingTime.setTotalDate(totalDays);
-            workingTime.setLastUpdated(LocalDateTime.now(ZoneId.of("Asia/Seoul")));
-        } else {
-            // 기존 데이터가 없는 경우 새로 생성
-            workingTime = WorkingTime.builder()
-                    .memNo(memNo)
-                    .totalHours(totalHours)
-                    .totalMinutes(totalMinutes)
-                    .totalDate(totalDays)
-                    .lastUpdated(LocalDateTime.now(ZoneId.of("Asia/Seoul")))
-                    .build();
+        // 보관 경계에 걸친 주는 테이블에 일부만 남아 있으므로 다시 계산하지 않음
+        if (archivedUntil != null) {
+            weeklyMinutes.keySet().removeIf(startOfWeek -> startOfWeek.isBefore(archivedUntil));
         }
 
-        // 데이터 저장
+        // 주간 집계
+        for (WeeklyWorkingTime weekly : weeklyWorkingTimeRepository.findByMemNo(memNo)) {
+            if (archivedUntil != null && weekly.getStartOfWeek().isBefore(archivedUntil)) {
+                continue;
+            }
+            Integer minutes = weeklyMinutes.remove(weekly.getStartOfWeek());
+            if (minutes == null) {
+                weeklyWorkingTimeRepository.delete(weekly);
+            } else {
+                weekly.setWeekHours(minutes / 60);
+                weekly.setWeekMinutes(minutes % 60);
+            }
+        }
+        weeklyMinutes.forEach((startOfWeek, minutes) -> weeklyWorkingTimeRepository.save(WeeklyWorkingTime.builder()
+                .memNo(memNo)
+                .weekHours(minutes / 60)
+                .weekMinutes(minutes % 60)
+                .startOfWeek(startOfWeek)
+                .endOfWeek(startOfWeek.plusDays(6))
+                .build()));
+
+        // 월간 집계
+        for (MonthlyWorkingTime monthly : monthlyWorkingTimeRepository.findByMemNo(memNo)) {
+            if (archivedUntil != null && monthly.getStartOfMonth().isBefore(archivedUntil)) {
+                continue;
+            }
+            Integer minutes = monthlyMinutes.remove(monthly.getStartOfMonth());
+            if (minutes == null) {
+                monthlyWorkingTimeRepository.delete(monthly);
+            } else {
+                monthly.setMonthHours(minutes / 60);
+                monthly.setMonthMinutes(minutes % 60);
+            }
+        }
+        monthlyMinutes.forEach((startOfMonth, minutes) -> monthlyWorkingTimeRepository.save(MonthlyWorkingTime.builder()
+                .memNo(memNo)
+                .monthHours(minutes / 60)
+                .monthMinutes(minutes % 60)
+                .startOfMonth(startOfMonth)
+                .build()));
+
+        // 전체 집계 (보관 기록 + 테이블 기록)
+        long[] archived = commuteArchiveService.getArchivedTotals(memNo);
+        totalMinutes += (int) archived[0];
+        WorkingTime workingTime = workingTimeRepository.findByMemNo(memNo)
+                .orElseGet(() -> WorkingTime.builder().memNo(memNo).build());
+        workingTime.setTotalHours(totalMinutes / 60);
+        workingTime.setTotalMinutes(totalMinutes % 60);
+        workingTime.setTotalDate(workingDays.size() + (int) archived[1]);
+        workingTime.setLastUpdated(LocalDateTime.now(ZoneId.of("Asia/Seoul")));
         workingTimeRepository.save(workingTime);
     }
 
@@ -257,74 +322,114 @@ public class CommuteService {
     }
 
 
+    // 보관된 월도 일별 시간 단위 합계로 더함
     public int getTotalWorkingTime(Long memNo, int year) {
-        YearMonth startOfYear = YearMonth.of(year, 1);
-        YearMonth endOfYear = YearMonth.of(year, 12);
-
-        LocalDateTime startDate = startOfYear.atDay(1).atStartOfDay();
-        LocalDateTime endDate = endOfYear.atEndOfMonth().atTime(23, 59, 59);
-
-        List<Commute> commutes = commuteRepository.findCommutesByYear(memNo, startDate, endDate);
-        return commutes.stream()
-                .mapToInt(commute -> commute.getCommuteOutTime().toLocalTime().getHour())
-                .sum();
+        long hours = commuteRepository.sumWorkedHoursByStartTimeRange(memNo, startOfYear(year), startOfYear(year + 1));
+        if (isArchived(year)) {
+            hours += commuteArchiveService.getWorkedHours(memNo, year);
+        }
+        return (int) hours;
     }
 
     public int getTotalLateCount(Long memNo, int year) {
-        YearMonth startOfYear = YearMonth.of(year, 1);
-        YearMonth endOfYear = YearMonth.of(year, 12);
-
-        LocalDateTime startDate = startOfYear.atDay(1).atStartOfDay();
-        LocalDateTime endDate = endOfYear.atEndOfMonth().atTime(23, 59, 59);
+        long lateCount = commuteRepository.countLateCommutesByStartTimeRange(memNo, startOfYear(year), startOfYear(year + 1));
+        if (isArchived(year)) {
+            for (AttendanceStatDto stat : commuteArchiveService.getMonthlyStats(memNo, year)) {
+                lateCount += stat.getLateCount();
+            }
+        }
+        return (int) lateCount;
+    }
 
-        List<Commute> lateCommutes = commuteRepository.findLateCommutesByYear(memNo, startDate, endDate);
-        return lateCommutes.size();
+    // 해당 연도에 보관 파일로 옮긴 월이 있는지
+    private boolean isArchived(int year) {
+        LocalDate archivedUntil = commuteArchiveService.getArchivedUntil();
+        return archivedUntil != null && archivedUntil.isAfter(Year.of(year).atDay(1));
     }
  // 월별 지각 횟수를 계산하는 메서드
     public Map<String, Integer> getMonthlyLateCount(Long memNo, int year) {
         Map<String, Integer> monthlyLateCount = new HashMap<>();
-
-        // 각 월별로 데이터를 초기화 (1월 ~ 12월)
-        for (int month = 1; month <= 12; month++) {
-            YearMonth yearMonth = YearMonth.of(year, month);
-            LocalDateTime startDate = yearMonth.atDay(1).atStartOfDay(); // 해당 월의 시작 일자 (자정)
-            LocalDateTime endDate = yearMonth.atEndOfMonth().atTime(23, 59, 59); // 해당 월의 종료 일자 (23:59:59)
-
-            // 해당 월의 지각 횟수를 조회
-            List<Commute> lateCommutes = commuteRepository.findLateCommutesByMemberAndDateRange(memNo, startDate, endDate);
-            monthlyLateCount.put(String.valueOf(month), lateCommutes.size());
+        for (AttendanceStatDto stat : getMonthlyAttendanceStats(memNo, year)) {
+            monthlyLateCount.put(String.valueOf(stat.getMonth()), stat.getLateCount());
         }
-
         return monthlyLateCount;
     }
 
-    public Map<Integer, Map<String, Integer>> getMonthlyWorkingTime(Long memNo, int year) {
-        Map<Integer, Map<String, Integer>> monthlyWorkingTime = new HashMap<>();
+    /**
+     * 월별 근태 통계
+     * 기술: JPQL GROUP BY (스칼라 프로젝션)
+     * 설명: 월별 지각 횟수, 근무 시간(초), 출근 일수를 쿼리 한 번으로 조회합니다.
+     *        기록이 없는 달은 0으로 채워 1월~12월을 모두 반환합니다.
+     *        보관 파일로 옮긴 월은 CommuteArchiveService에서 읽어 더합니다.
+     */
+    public List<AttendanceStatDto> getMonthlyAttendanceStats(Long memNo, int year) {
+        List<AttendanceStatDto> stats = new ArrayList<>();
+        if (isArchived(year)) {
+            stats.addAll(commuteArchiveService.getMonthlyStats(memNo, year));
+        } else {
+            for (int month = 1; month <= 12; month++) {
+                stats.add(AttendanceStatDto.builder().month(month).build());
+            }
+        }
+        for (Object[] row : commuteRepository.findMonthlyAttendanceStats(memNo, startOfYear(year), startOfYear(year + 1))) {
+            AttendanceStatDto stat = AttendanceStatDto.fromRow(row);
+            AttendanceStatDto archived = stats.get(stat.getMonth() - 1);
+            stat.setLateCount(stat.getLateCount() + archived.getLateCount());
+            stat.setWorkedSeconds(stat.getWorkedSeconds() + archived.getWorkedSeconds());
+            stat.setDaysPresent(stat.getDaysPresent() + archived.getDaysPresent());
+            stats.set(stat.getMonth() - 1, stat);
+        }
+        return stats;
+    }
 
-        // 예를 들어 DB에서 주간 데이터를 가져오는 로직을 작성합니다.
-        List<WeeklyWorkingTime> weeklyWorkingTimes = weeklyWorkingTimeRepository.findByMemNoAndYear(memNo, year);
+    /**
+     * 연간 근태 현황 (개인 연간 근태 화면용)
+     * 설명: getMonthlyAttendanceStats 한 번의 조회 결과로 월별 근무 시간/지각 횟수와 연간 합계를 함께 만듭니다.
+     */
+    public Map<String, Object> getAnnualAttendanceStats(Long memNo, int year) {
+        List<AttendanceStatDto> stats = getMonthlyAttendanceStats(memNo, year);
 
-        for (WeeklyWorkingTime weekly : weeklyWorkingTimes) {
-            // 주별 데이터에서 해당 주의 월을 가져옵니다.
-            int month = weekly.getStartOfWeek().getMonthValue(); // 월 값을 가져옴 (1~12)
+        Map<Integer, Map<String, Integer>> monthlyWorkingTime = new HashMap<>();
+        Map<String, Integer> monthlyLateCount = new HashMap<>();
+        long totalWorkedSeconds = 0;
+        int totalLateCount = 0;
+        int totalDays = 0;
+        for (AttendanceStatDto stat : stats) {
+            int minutes = (int) (stat.getWorkedSeconds() / 60);
+            monthlyWorkingTime.put(stat.getMonth(), new HashMap<>(Map.of("hours", minutes / 60, "minutes", minutes % 60)));
+            monthlyLateCount.put(String.valueOf(stat.getMonth()), stat.getLateCount());
+            totalWorkedSeconds += stat.getWorkedSeconds();
+            totalLateCount += stat.getLateCount();
+            totalDays += stat.getDaysPresent();
+        }
 
-            // 월별 합산을 위해 초기 값 설정
-            monthlyWorkingTime.putIfAbsent(month, new HashMap<>(Map.of("hours", 0, "minutes", 0)));
+        Map<String, Object> response = new HashMap<>();
+        response.put("year", year);
+        response.put("months", stats);
+        response.put("monthlyWorkingTime", monthlyWorkingTime);
+        response.put("monthlyLateCount", monthlyLateCount);
+        // 연간 총 근무 시간은 상세 화면과 같은 정의(일별 시간 단위 합계)를 사용
+        response.put("totalWorkingTime", getTotalWorkingTime(memNo, year));
+        response.put("totalWorkedSeconds", totalWorkedSeconds);
+        response.put("totalLateCount", totalLateCount);
+        response.put("totalDays", totalDays);
+        return response;
+    }
 
-            // 현재 월의 기존 시간 및 분
-            int currentHours = monthlyWorkingTime.get(month).get("hours");
-            int currentMinutes = monthlyWorkingTime.get(month).get("minutes");
+    private LocalDateTime startOfYear(int year) {
+        return Year.of(year).atDay(1).atStartOfDay();
+    }
 
-            // 주간 데이터를 월별로 합산
-            int updatedHours = currentHours + weekly.getWeekHours();
-            int updatedMinutes = currentMinutes + weekly.getWeekMinutes();
+    public Map<Integer, Map<String, Integer>> getMonthlyWorkingTime(Long memNo, int year) {
+        Map<Integer, Map<String, Integer>> monthlyWorkingTime = new HashMap<>();
 
-            // 분을 시간으로 변환 (60분 초과 시)
-            updatedHours += updatedMinutes / 60;
-            updatedMinutes = updatedMinutes % 60;
+        // 월간 집계 테이블에서 해당 연도의 데이터를 가져옵니다.
+        List<MonthlyWorkingTime> monthlyWorkingTimes = monthlyWorkingTimeRepository.findByMemNoAndStartOfMonthBetweenOrderByStartOfMonth(
+                memNo, LocalDate.of(year, 1, 1), LocalDate.of(year, 12, 1));
 
-            monthlyWorkingTime.get(month).put("hours", updatedHours);
-            monthlyWorkingTime.get(month).put("minutes", updatedMinutes);
+        for (MonthlyWorkingTime monthly : monthlyWorkingTimes) {
+            int month = monthly.getStartOfMonth().getMonthValue(); // 월 값 (1~12)
+            monthlyWorkingTime.put(month, new HashMap<>(Map.of("hours", monthly.getMonthHours(), "minutes", monthly.getMonthMinutes())));
         }
 
         return monthlyWorkingTime;
@@ -359,25 +464,15 @@ public class CommuteService {
             responseList.add(commuteData);
         }
 
-        // 해당 주간의 실제 근무 데이터 가져오기
-        List<Commute> weeklyCommutes = commuteRepository.findCommutesByMemberAndDateRange(memNo, startOfWeek.atStartOfDay(), endOfWeek.atTime(23, 59, 59));
-
-        // 실제 근무 데이터를 주간 데이터에 반영
-        for (Commute commute : weeklyCommutes) {
-            if (commute.getCommuteOnStartTime() != null && commute.getCommuteOnEndTime() != null) {
-                LocalDateTime startTime = commute.getCommuteOnStartTime();
-                int dayIndex = startTime.getDayOfWeek().getValue() - 1; // 월요일이 0번째 인덱스
-
-                Map<String, Object> commuteData = responseList.get(dayIndex);
-                Duration duration = Duration.between(commute.getCommuteOnStartTime(), commute.getCommuteOnEndTime());
-                int hours = duration.toHoursPart();
-                int minutes = duration.toMinutesPart();
-
-                commuteData.put("hours", (int) commuteData.get("hours") + hours);
-                commuteData.put("minutes", (int) commuteData.get("minutes") + minutes);
-                if ("Y".equals(commute.getIsLate())) {
-                    commuteData.put("isLate", "Y");
-                }
+        // 일별 근태 집계(daily_attendance)에서 해당 주간 7일치를 가져와 반영
+        for (DailyAttendance daily : dailyAttendanceService.getDaily(memNo, startOfWeek, endOfWeek.plusDays(1))) {
+            int dayIndex = daily.getWorkDate().getDayOfWeek().getValue() - 1; // 월요일이 0번째 인덱스
+            Map<String, Object> commuteData = responseList.get(dayIndex);
+            commuteData.put("hours", (int) (daily.getWorkedSeconds() / 3600));
+            commuteData.put("minutes", (int) (daily.getWorkedSeconds() % 3600 / 60));
+            commuteData.put("awayMinutes", daily.getAwayMinutes());
+            if ("Y".equals(daily.getIsLate())) {
+                commuteData.put("isLate", "Y");
             }
         }
 
@@ -390,35 +485,18 @@ public class CommuteService {
 
     public Map<String, Object> getAnnualWorkingTimeSummary(Long memNo, int yearOffset) {
         int year = LocalDate.now().getYear() + yearOffset;
-        YearMonth startOfYear = YearMonth.of(year, 1);
-        YearMonth endOfYear = YearMonth.of(year, 12);
-        LocalDateTime startDate = startOfYear.atDay(1).atStartOfDay();
-        LocalDateTime endDate = endOfYear.atEndOfMonth().atTime(23, 59, 59);
-
-        List<Commute> annualCommutes = commuteRepository.findCommutesByMemberAndDateRange(memNo, startDate, endDate);
 
         int[] monthlyHours = new int[12];
         int[] monthlyMinutes = new int[12];
         int[] monthlyLateCounts = new int[12];
 
-        for (Commute commute : annualCommutes) {
-            if (commute.getCommuteOnStartTime() != null && commute.getCommuteOnEndTime() != null) {
-                int monthIndex = commute.getCommuteOnStartTime().getMonthValue() - 1; // 월 인덱스 (0부터 시작)
-
-                Duration duration = Duration.between(commute.getCommuteOnStartTime(), commute.getCommuteOnEndTime());
-                monthlyHours[monthIndex] += duration.toHours();
-                monthlyMinutes[monthIndex] += duration.toMinutesPart();
-
-                if ("Y".equals(commute.getIsLate())) {
-                    monthlyLateCounts[monthIndex]++;
-                }
-            }
-        }
-
-        // 시간과 분 계산 (60분 이상이면 시간으로 전환)
-        for (int i = 0; i < 12; i++) {
-            monthlyHours[i] += monthlyMinutes[i] / 60;
-            monthlyMinutes[i] %= 60;
+        // 일별 근태 집계를 월 단위로 합산한 결과 [월, 근무 초, 지각 횟수]
+        for (Object[] row : dailyAttendanceService.getMonthlyTotals(memNo, year)) {
+            int monthIndex = ((Number) row[0]).intValue() - 1; // 월 인덱스 (0부터 시작)
+            long seconds = row[1] != null ? ((Number) row[1]).longValue() : 0;
+            monthlyHours[monthIndex] = (int) (seconds / 3600);
+            monthlyMinutes[monthIndex] = (int) (seconds % 3600 / 60);
+            monthlyLateCounts[monthIndex] = row[2] != null ? ((Number) row[2]).intValue() : 0;
         }
 
         // 응답 데이터 구성
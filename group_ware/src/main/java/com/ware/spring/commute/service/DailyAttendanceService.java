@@ -0,0 +1,98 @@
+package com.ware.spring.commute.service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.ware.spring.commute.domain.DailyAttendance;
+import com.ware.spring.commute.repository.DailyAttendanceRepository;
+
+/**
+ * 일별 근태 집계 (daily_attendance)
+ * 기술: Spring Data JPA, Spring @Scheduled
+ * 설명: 출근/상태 변경/퇴근 시점에 회원별 하루 한 행을 갱신하여, 주간/월간/연간 화면이 원본 출퇴근 기록 대신
+ *        미리 집계된 행을 읽도록 합니다. 매일 새벽 최근 기록을 원본으로 다시 채워 누락분을 보정합니다.
+ */
+@Service
+public class DailyAttendanceService {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final int BACKFILL_DAYS = 7;
+
+    private final DailyAttendanceRepository dailyAttendanceRepository;
+
+    public DailyAttendanceService(DailyAttendanceRepository dailyAttendanceRepository) {
+        this.dailyAttendanceRepository = dailyAttendanceRepository;
+    }
+
+    // 출근 (하루 한 건 생성)
+    public void recordClockIn(Long memNo, LocalDate workDate, String isLate) {
+        dailyAttendanceRepository.insertIfAbsent(memNo, workDate, isLate);
+    }
+
+    // 상태 변경 (자리 비움 시간 누적)
+    @Transactional
+    public void recordStatus(Long memNo, LocalDate workDate, boolean seated, LocalDateTime now) {
+        DailyAttendance daily = findOrCreate(memNo, workDate);
+        if (seated) {
+            closeAway(daily, now);
+        } else if (daily.getAwaySince() == null) {
+            daily.setAwaySince(now);
+        }
+    }
+
+    // 퇴근 (근무 시간 확정)
+    @Transactional
+    public void recordClockOut(Long memNo, LocalDate workDate, long workedSeconds, LocalDateTime now) {
+        DailyAttendance daily = findOrCreate(memNo, workDate);
+        closeAway(daily, now);
+        daily.setWorkedSeconds(workedSeconds);
+    }
+
+    /**
+     * 기간 내 일별 근태
+     * @param from 시작일 (포함)
+     * @param to 종료일 (미포함)
+     */
+    public List<DailyAttendance> getDaily(Long memNo, LocalDate from, LocalDate to) {
+        return dailyAttendanceRepository.findByMemNoAndWorkDateRange(memNo, from, to);
+    }
+
+    /**
+     * 연도별 월 합계 [월, 근무 초, 지각 횟수]
+     */
+    public List<Object[]> getMonthlyTotals(Long memNo, int year) {
+        return dailyAttendanceRepository.sumMonthlyByMemNo(memNo, LocalDate.of(year, 1, 1), LocalDate.of(year + 1, 1, 1));
+    }
+
+    // 매일 03:40 최근 기록 보정
+    @Scheduled(cron = "0 40 3 * * *", zone = "Asia/Seoul")
+    public void backfillRecent() {
+        LocalDate today = LocalDate.now(ZONE);
+        int rows = dailyAttendanceRepository.backfill(today.minusDays(BACKFILL_DAYS), today);
+        System.out.println("일별 근태 집계 보정 완료: " + rows + "건");
+    }
+
+    private DailyAttendance findOrCreate(Long memNo, LocalDate workDate) {
+        return dailyAttendanceRepository.findByMemNoAndWorkDate(memNo, workDate)
+                .orElseGet(() -> dailyAttendanceRepository.save(DailyAttendance.builder()
+                        .memNo(memNo)
+                        .workDate(workDate)
+                        .isLate("N")
+                        .build()));
+    }
+
+    private void closeAway(DailyAttendance daily, LocalDateTime now) {
+        if (daily.getAwaySince() != null) {
+            long minutes = Duration.between(daily.getAwaySince(), now).toMinutes();
+            daily.setAwayMinutes(daily.getAwayMinutes() + (int) Math.max(minutes, 0));
+            daily.setAwaySince(null);
+        }
+    }
+}
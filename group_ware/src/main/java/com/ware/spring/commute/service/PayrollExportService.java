@@ -0,0 +1,425 @@
+package com.ware.spring.commute.service;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import com.ware.spring.authorization.repository.AuthorizationRepository;
+import com.ware.spring.commute.domain.PayrollExportJob;
+import com.ware.spring.commute.repository.DailyAttendanceRepository;
+import com.ware.spring.member.repository.MemberRepository;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 급여 기간 근태 내보내기 (CSV)
+ * 기술: 회원 번호 구간(keyset) 분할, 고정 크기 스레드 풀, 스트리밍 Writer
+ * 설명: 회원을 CHUNK_SIZE 명씩 나누고, 구간마다 일별 근태(근무 시간, 출근 일수, 지각)와 승인된 야근/휴가 문서를
+ *        GROUP BY 쿼리로 한 번씩 조회합니다. 구간 계산은 WORKERS 개 스레드에서 병렬로 하되
+ *        동시에 진행되는 구간 수를 제한하고 회원 번호 순서대로 기록하므로 전체 결과를 메모리에 올리지 않습니다.
+ *        파일 내보내기는 구간을 기록할 때마다 진행 상황(.progress)을 남겨, 중단되면 마지막 구간 다음부터 이어서 기록합니다.
+ */
+@Service
+public class PayrollExportService {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final int CHUNK_SIZE = 500;
+    private static final int WORKERS = 4;
+    private static final String HEADER = "회원번호,사번,이름,직급,지점,퇴사여부,출근일수,근무시간(분),지각횟수,외출시간(분),야근건수,야근시간,휴가건수,휴가일수";
+
+    private final MemberRepository memberRepository;
+    private final DailyAttendanceRepository dailyAttendanceRepository;
+    private final AuthorizationRepository authorizationRepository;
+    private final Path exportDir;
+
+    // 구간 계산용 (대기열이 가득 차면 요청한 스레드에서 직접 실행)
+    private final ThreadPoolExecutor workers = new ThreadPoolExecutor(WORKERS, WORKERS, 60, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(WORKERS * 2), new ThreadPoolExecutor.CallerRunsPolicy());
+    // 파일 내보내기 작업 실행용 (한 번에 하나씩)
+    private final ExecutorService jobRunner = Executors.newSingleThreadExecutor();
+    private final Map<String, PayrollExportJob> jobs = new ConcurrentHashMap<>();
+
+    public PayrollExportService(MemberRepository memberRepository, DailyAttendanceRepository dailyAttendanceRepository,
+                                AuthorizationRepository authorizationRepository,
+                                @Value("${commute.export.dir:C:/document/payroll-export/}") String exportDir) {
+        this.memberRepository = memberRepository;
+        this.dailyAttendanceRepository = dailyAttendanceRepository;
+        this.authorizationRepository = authorizationRepository;
+        this.exportDir = Paths.get(exportDir.endsWith(File.separator) || exportDir.endsWith("/") ? exportDir : exportDir + File.separator);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        jobRunner.shutdownNow();
+        workers.shutdownNow();
+    }
+
+    // ===== 파일 내보내기 =====
+
+    /**
+     * 파일 내보내기 시작 (같은 기간의 작업이 중단되어 있으면 이어서 진행)
+     * @param from 기간 시작 (포함)
+     * @param to 기간 종료 (미포함)
+     * @param restart true이면 기존 파일을 지우고 처음부터 다시 기록
+     * @return 작업 상태
+     */
+    public synchronized PayrollExportJob start(LocalDate from, LocalDate to, boolean restart) throws IOException {
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("기간 시작일은 종료일보다 앞서야 합니다.");
+        }
+        String jobId = "payroll_" + from + "_" + to;
+        PayrollExportJob running = jobs.get(jobId);
+        if (running != null && "RUNNING".equals(running.getStatus())) {
+            return snapshot(running);
+        }
+
+        Path file = csvPath(jobId);
+        Path progress = progressPath(jobId);
+        if (restart) {
+            Files.deleteIfExists(file);
+            Files.deleteIfExists(progress);
+        } else if (Files.exists(file) && !Files.exists(progress)) {
+            // 진행 파일 없이 결과 파일만 있으면 완료된 작업
+            PayrollExportJob done = PayrollExportJob.builder().jobId(jobId).from(from).to(to).status("DONE")
+                    .totalMembers(memberRepository.count()).processedMembers(memberRepository.count())
+                    .finishedAt(LocalDateTime.ofInstant(Files.getLastModifiedTime(file).toInstant(), ZONE))
+                    .build();
+            jobs.put(jobId, done);
+            return snapshot(done);
+        }
+
+        PayrollExportJob job = PayrollExportJob.builder()
+                .jobId(jobId)
+                .from(from)
+                .to(to)
+                .status("RUNNING")
+                .totalMembers(memberRepository.count())
+                .startedAt(LocalDateTime.now(ZONE))
+                .build();
+        jobs.put(jobId, job);
+        jobRunner.submit(() -> runJob(job));
+        return snapshot(job);
+    }
+
+    public PayrollExportJob getJob(String jobId) {
+        PayrollExportJob job = jobs.get(jobId);
+        return job != null ? snapshot(job) : null;
+    }
+
+    // 완료된 작업의 CSV 파일
+    public Path getFile(String jobId) {
+        PayrollExportJob job = jobs.get(jobId);
+        if (job == null || !"DONE".equals(job.getStatus())) {
+            throw new IllegalStateException("완료된 내보내기 작업이 아닙니다: " + jobId);
+        }
+        return csvPath(jobId);
+    }
+
+    private void runJob(PayrollExportJob job) {
+        Path file = csvPath(job.getJobId());
+        Path progress = progressPath(job.getJobId());
+        try {
+            Files.createDirectories(exportDir);
+            long afterMemNo = 0;
+            long processed = 0;
+            long bytes = 0;
+            if (Files.exists(progress)) {
+                Properties checkpoint = new Properties();
+                try (InputStream in = Files.newInputStream(progress)) {
+                    checkpoint.load(in);
+                }
+                afterMemNo = Long.parseLong(checkpoint.getProperty("lastMemNo", "0"));
+                processed = Long.parseLong(checkpoint.getProperty("processedMembers", "0"));
+                bytes = Long.parseLong(checkpoint.getProperty("bytes", "0"));
+                System.out.println("급여 근태 내보내기 이어받기: " + job.getJobId() + " (회원 번호 " + afterMemNo + " 이후)");
+            } else {
+                Files.deleteIfExists(file);
+                // 결과 파일보다 진행 파일을 먼저 만들어, 중간에 멈춘 파일이 완료된 파일로 보이지 않도록 함
+                saveCheckpoint(progress, 0, 0, 0);
+            }
+
+            // 마지막 체크포인트 이후에 일부만 기록된 줄은 잘라냄
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+                channel.truncate(bytes);
+                channel.position(bytes);
+                CountingOutputStream counter = new CountingOutputStream(Channels.newOutputStream(channel), bytes);
+                try (Writer writer = new BufferedWriter(new OutputStreamWriter(counter, StandardCharsets.UTF_8))) {
+                    if (bytes == 0) {
+                        writer.write('\uFEFF'); // 엑셀에서 UTF-8로 열리도록 BOM 추가
+                        writer.write(HEADER);
+                        writer.write("\r\n");
+                        writer.flush();
+                        saveCheckpoint(progress, 0, 0, counter.getCount());
+                    }
+                    long[] processedRef = {processed};
+                    synchronized (job) {
+                        job.setProcessedMembers(processed);
+                        job.setLastMemNo(afterMemNo);
+                    }
+                    export(job.getFrom(), job.getTo(), afterMemNo, writer, chunk -> {
+                        processedRef[0] += chunk.size;
+                        saveCheckpoint(progress, chunk.lastMemNo, processedRef[0], counter.getCount());
+                        synchronized (job) {
+                            job.setProcessedMembers(processedRef[0]);
+                            job.setLastMemNo(chunk.lastMemNo);
+                        }
+                    });
+                }
+            }
+            Files.deleteIfExists(progress);
+            synchronized (job) {
+                job.setStatus("DONE");
+                job.setFinishedAt(LocalDateTime.now(ZONE));
+            }
+            System.out.println("급여 근태 내보내기 완료: " + job.getJobId() + " (" + job.getProcessedMembers() + "명)");
+        } catch (Exception e) {
+            e.printStackTrace();
+            synchronized (job) {
+                job.setStatus("FAILED");
+                job.setErrorMessage(e.getMessage());
+                job.setFinishedAt(LocalDateTime.now(ZONE));
+            }
+        }
+    }
+
+    // ===== 응답으로 바로 내보내기 =====
+
+    /**
+     * 기간 근태를 CSV로 바로 기록 (다운로드 응답용, 이어받기 없음)
+     */
+    public void stream(LocalDate from, LocalDate to, OutputStream out) throws IOException {
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("기간 시작일은 종료일보다 앞서야 합니다.");
+        }
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write('\uFEFF');
+        writer.write(HEADER);
+        writer.write("\r\n");
+        export(from, to, 0, writer, chunk -> { });
+        writer.flush();
+    }
+
+    // ===== 공통 =====
+
+    /**
+     * 회원 번호 순으로 구간을 나누어 병렬 계산하고, 계산이 끝난 구간부터 순서대로 기록
+     * @param afterMemNo 이 회원 번호 다음부터 기록
+     * @param onChunkWritten 구간 기록 후 호출 (진행 상황 저장)
+     */
+    private void export(LocalDate from, LocalDate to, long afterMemNo, Writer writer, ChunkListener onChunkWritten) throws IOException {
+        Deque<Future<Chunk>> inFlight = new ArrayDeque<>();
+        long after = afterMemNo;
+        try {
+            while (true) {
+                List<Object[]> members = memberRepository.findExportRowsAfter(after, PageRequest.of(0, CHUNK_SIZE));
+                if (members.isEmpty()) {
+                    break;
+                }
+                after = (Long) members.get(members.size() - 1)[0];
+                inFlight.add(workers.submit(() -> buildChunk(members, from, to)));
+                if (inFlight.size() >= WORKERS) {
+                    writeChunk(inFlight.poll().get(), writer, onChunkWritten);
+                }
+            }
+            while (!inFlight.isEmpty()) {
+                writeChunk(inFlight.poll().get(), writer, onChunkWritten);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("급여 근태 내보내기가 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            throw new IOException("급여 근태 계산 중 오류가 발생했습니다.", e.getCause());
+        } finally {
+            inFlight.forEach(future -> future.cancel(true));
+        }
+    }
+
+    private void writeChunk(Chunk chunk, Writer writer, ChunkListener onChunkWritten) throws IOException {
+        for (String line : chunk.lines) {
+            writer.write(line);
+        }
+        writer.flush();
+        onChunkWritten.onChunk(chunk);
+    }
+
+    // 구간 하나의 CSV 줄 (근태 1회, 야근 1회, 휴가 1회 조회)
+    private Chunk buildChunk(List<Object[]> members, LocalDate from, LocalDate to) {
+        List<Long> memNos = new ArrayList<>();
+        for (Object[] member : members) {
+            memNos.add((Long) member[0]);
+        }
+        Map<Long, Object[]> attendance = byMemNo(dailyAttendanceRepository.sumByMemNosAndWorkDateRange(memNos, from, to));
+        Map<Long, Object[]> overtime = byMemNo(authorizationRepository.sumApprovedByDoctypeAndMemNos(
+                "overtime Report", memNos, from.toString(), to.toString()));
+        Map<Long, Object[]> off = byMemNo(authorizationRepository.sumApprovedByDoctypeAndMemNos(
+                "off Report", memNos, from.toString(), to.toString()));
+
+        List<String> lines = new ArrayList<>(members.size());
+        for (Object[] member : members) {
+            Long memNo = (Long) member[0];
+            Object[] work = attendance.get(memNo);
+            Object[] overtimeRow = overtime.get(memNo);
+            Object[] offRow = off.get(memNo);
+            StringBuilder line = new StringBuilder(128);
+            line.append(memNo).append(',')
+                .append(csv(member[1])).append(',')
+                .append(csv(member[2])).append(',')
+                .append(csv(member[3])).append(',')
+                .append(csv(member[4])).append(',')
+                .append(csv(member[5])).append(',')
+                .append(number(work, 2)).append(',')
+                .append(number(work, 1) / 60).append(',')
+                .append(number(work, 3)).append(',')
+                .append(number(work, 4)).append(',')
+                .append(number(overtimeRow, 1)).append(',')
+                .append(decimal(overtimeRow, 2)).append(',')
+                .append(number(offRow, 1)).append(',')
+                .append(decimal(offRow, 2)).append("\r\n");
+            lines.add(line.toString());
+        }
+        return new Chunk(lines, memNos.get(memNos.size() - 1), members.size());
+    }
+
+    private Map<Long, Object[]> byMemNo(List<Object[]> rows) {
+        Map<Long, Object[]> result = new HashMap<>();
+        for (Object[] row : rows) {
+            result.put((Long) row[0], row);
+        }
+        return result;
+    }
+
+    private long number(Object[] row, int index) {
+        return row != null && row[index] != null ? ((Number) row[index]).longValue() : 0;
+    }
+
+    private double decimal(Object[] row, int index) {
+        return row != null && row[index] != null ? ((Number) row[index]).doubleValue() : 0;
+    }
+
+    // 쉼표, 따옴표, 줄바꿈이 있으면 따옴표로 감쌈
+    private String csv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+            return "\"" + text.replace("\"", "\"\"") + "\"";
+        }
+        return text;
+    }
+
+    // 진행 상황은 임시 파일에 쓰고 교체 (중간에 멈춰도 이전 체크포인트가 남도록)
+    private void saveCheckpoint(Path progress, long lastMemNo, long processedMembers, long bytes) throws IOException {
+        Properties checkpoint = new Properties();
+        checkpoint.setProperty("lastMemNo", String.valueOf(lastMemNo));
+        checkpoint.setProperty("processedMembers", String.valueOf(processedMembers));
+        checkpoint.setProperty("bytes", String.valueOf(bytes));
+        Path temp = progress.resolveSibling(progress.getFileName() + ".tmp");
+        try (OutputStream out = Files.newOutputStream(temp)) {
+            checkpoint.store(out, null);
+        }
+        Files.move(temp, progress, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private PayrollExportJob snapshot(PayrollExportJob job) {
+        synchronized (job) {
+            return PayrollExportJob.builder()
+                    .jobId(job.getJobId())
+                    .from(job.getFrom())
+                    .to(job.getTo())
+                    .status(job.getStatus())
+                    .totalMembers(job.getTotalMembers())
+                    .processedMembers(job.getProcessedMembers())
+                    .lastMemNo(job.getLastMemNo())
+                    .errorMessage(job.getErrorMessage())
+                    .startedAt(job.getStartedAt())
+                    .finishedAt(job.getFinishedAt())
+                    .build();
+        }
+    }
+
+    private Path csvPath(String jobId) {
+        return exportDir.resolve(jobId + ".csv");
+    }
+
+    private Path progressPath(String jobId) {
+        return exportDir.resolve(jobId + ".progress");
+    }
+
+    // 파일에 기록된 바이트 수 (이어받을 때 잘라낼 위치)
+    private static class CountingOutputStream extends FilterOutputStream {
+        private long count;
+
+        private CountingOutputStream(OutputStream out, long count) {
+            super(out);
+            this.count = count;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+
+        private long getCount() {
+            return count;
+        }
+    }
+
+    private interface ChunkListener {
+        void onChunk(Chunk chunk) throws IOException;
+    }
+
+    private static class Chunk {
+        private final List<String> lines;
+        private final long lastMemNo;
+        private final int size;
+
+        private Chunk(List<String> lines, long lastMemNo, int size) {
+            this.lines = lines;
+            this.lastMemNo = lastMemNo;
+            this.size = size;
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package com.ware.spring.commute.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.ware.spring.commute.domain.PresenceDto;
+import com.ware.spring.commute.repository.CommuteRepository;
+
+/**
+ * 실시간 근무 상태 (메모리 + SSE)
+ * 기술: ConcurrentHashMap, SseEmitter, Spring @Scheduled
+ * 설명: 회원별 현재 근무 상태(근무 중/외출/퇴근/미출근)를 메모리에 보관하여 조직도, 채팅 상대 목록 등에서
+ *        SQL 없이 조회하도록 합니다. 상태 변경은 메모리에 바로 반영하고 SSE로 알리며,
+ *        DB(commute 플래그, 일별 근태)에는 FLUSH_INTERVAL_MILLIS 마다 모아서 기록합니다.
+ *        플래그는 회원별 마지막 상태만, 일별 근태는 자리 비움 시작/종료가 빠지지 않도록 모든 변경을 순서대로 기록합니다.
+ *        날짜가 바뀌면 오늘 출근 기록으로 다시 채웁니다.
+ */
+@Service
+public class PresenceService {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final long FLUSH_INTERVAL_MILLIS = 2000;
+    private static final String SEATED = "seated";
+
+    private final CommuteRepository commuteRepository;
+    private final DailyAttendanceService dailyAttendanceService;
+    private final TeamAttendanceService teamAttendanceService;
+
+    private final Map<Long, PresenceDto> presence = new ConcurrentHashMap<>();
+    // DB 반영 대기 (회원별 변경 순서대로, 목록은 compute 안에서만 수정)
+    private final Map<Long, List<PendingStatus>> pending = new ConcurrentHashMap<>();
+    private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+    private volatile LocalDate presenceDate;
+
+    public PresenceService(CommuteRepository commuteRepository, DailyAttendanceService dailyAttendanceService,
+                           TeamAttendanceService teamAttendanceService) {
+        this.commuteRepository = commuteRepository;
+        this.dailyAttendanceService = dailyAttendanceService;
+        this.teamAttendanceService = teamAttendanceService;
+    }
+
+    // ===== 조회 =====
+
+    public PresenceDto getPresence(Long memNo) {
+        ensureLoaded();
+        return presence.getOrDefault(memNo, PresenceDto.absent(memNo));
+    }
+
+    /**
+     * 여러 회원의 근무 상태 (조직도, 채팅 상대 목록)
+     * @param memNos 회원 번호 목록, null이면 오늘 출근한 전체 회원
+     */
+    public Map<Long, PresenceDto> getPresence(Collection<Long> memNos) {
+        ensureLoaded();
+        if (memNos == null) {
+            return new LinkedHashMap<>(presence);
+        }
+        Map<Long, PresenceDto> result = new LinkedHashMap<>();
+        for (Long memNo : memNos) {
+            result.put(memNo, presence.getOrDefault(memNo, PresenceDto.absent(memNo)));
+        }
+        return result;
+    }
+
+    // ===== 상태 변경 =====
+
+    // 출근 (commute 행은 CommuteService.startWork에서 이미 저장됨)
+    public void clockIn(Long memNo, LocalDateTime at) {
+        ensureLoaded();
+        publish(PresenceDto.builder().memNo(memNo).status("IN").statusLabel("착석").since(at).build());
+    }
+
+    // 퇴근 (commute 행은 CommuteService.endWork에서 이미 저장됨)
+    public void clockOut(Long memNo, LocalDateTime at) {
+        ensureLoaded();
+        pending.remove(memNo);
+        publish(PresenceDto.builder().memNo(memNo).status("LEFT").statusLabel("퇴근").since(at).build());
+    }
+
+    /**
+     * 근무 상태 변경 (착석, 외출, 외근, 식사)
+     * @param status "seated" 또는 화면에 표시되는 상태 이름
+     */
+    public void changeStatus(Long memNo, String status, LocalDateTime at) {
+        ensureLoaded();
+        boolean seated = SEATED.equals(status);
+        publish(PresenceDto.builder()
+                .memNo(memNo)
+                .status(seated ? "IN" : "OUT")
+                .statusLabel(seated ? "착석" : status)
+                .since(at)
+                .build());
+        enqueue(memNo, new PendingStatus(at.toLocalDate(), seated ? "Y" : "N", seated ? "N" : "Y", seated, at));
+    }
+
+    // 퇴근 상태 표시 (퇴근 버튼 이후 플래그만 정리)
+    public void leave(Long memNo, LocalDateTime at) {
+        ensureLoaded();
+        publish(PresenceDto.builder().memNo(memNo).status("LEFT").statusLabel("퇴근").since(at).build());
+        // 자리 비움 구간을 닫기 위해 착석과 같이 처리
+        enqueue(memNo, new PendingStatus(at.toLocalDate(), "N", "N", true, at));
+    }
+
+    // ===== SSE =====
+
+    public SseEmitter subscribe() {
+        SseEmitter emitter = new SseEmitter(30L * 60L * 1000L); // 30분 타임아웃 설정
+        emitters.add(emitter);
+        emitter.onCompletion(() -> emitters.remove(emitter));
+        emitter.onTimeout(() -> emitters.remove(emitter));
+        emitter.onError((e) -> emitters.remove(emitter));
+        try {
+            emitter.send(SseEmitter.event().name("ping").data("keep-alive"));
+        } catch (Exception e) {
+            emitters.remove(emitter);
+        }
+        return emitter;
+    }
+
+    // ===== DB 반영 =====
+
+    @Scheduled(fixedDelay = FLUSH_INTERVAL_MILLIS)
+    public void flushPending() {
+        for (Long memNo : new ArrayList<>(pending.keySet())) {
+            List<PendingStatus> statuses = pending.remove(memNo);
+            if (statuses == null || statuses.isEmpty()) {
+                continue;
+            }
+            int done = 0;
+            try {
+                // 플래그는 마지막 상태만 (다시 시도해도 결과 같음)
+                PendingStatus last = statuses.get(statuses.size() - 1);
+                commuteRepository.updateFlags(memNo, last.workDate, last.blue, last.purple);
+                // 일별 근태는 외출 → 착석이 한 주기 안에 있어도 자리 비움 시작부터 순서대로
+                for (PendingStatus status : statuses) {
+                    dailyAttendanceService.recordStatus(memNo, status.workDate, status.seated, status.changedAt);
+                    done++;
+                }
+                teamAttendanceService.evictMember(memNo);
+            } catch (Exception e) {
+                e.printStackTrace();
+                // 기록하지 못한 변경부터 그 사이 들어온 변경 앞에 두고 다음 주기에 다시 시도
+                List<PendingStatus> rest = new ArrayList<>(statuses.subList(done, statuses.size()));
+                if (rest.isEmpty()) {
+                    continue;
+                }
+                pending.merge(memNo, rest, (newer, failed) -> {
+                    failed.addAll(newer);
+                    return failed;
+                });
+            }
+        }
+    }
+
+    private void enqueue(Long memNo, PendingStatus status) {
+        pending.compute(memNo, (key, statuses) -> {
+            List<PendingStatus> queued = statuses != null ? statuses : new ArrayList<>();
+            queued.add(status);
+            return queued;
+        });
+    }
+
+    // 날짜가 바뀌었으면 오늘 출근 기록으로 다시 채움
+    private void ensureLoaded() {
+        LocalDate today = LocalDate.now(ZONE);
+        if (today.equals(presenceDate)) {
+            return;
+        }
+        synchronized (this) {
+            if (today.equals(presenceDate)) {
+                return;
+            }
+            Map<Long, PresenceDto> loaded = new ConcurrentHashMap<>();
+            for (Object[] row : commuteRepository.findStatusByWorkDate(today)) {
+                Long memNo = (Long) row[0];
+                loaded.put(memNo, fromRow(memNo, row));
+            }
+            presence.clear();
+            presence.putAll(loaded);
+            presenceDate = today;
+            System.out.println("근무 상태 초기화: " + today + " (" + loaded.size() + "명)");
+        }
+    }
+
+    // [회원 번호, 착석, 외출, 출근 시각, 퇴근 시각] → 근무 상태
+    private PresenceDto fromRow(Long memNo, Object[] row) {
+        if ("Y".equals(row[2])) {
+            return PresenceDto.builder().memNo(memNo).status("OUT").statusLabel("외출").build();
+        }
+        if ("Y".equals(row[1])) {
+            return PresenceDto.builder().memNo(memNo).status("IN").statusLabel("착석").since((LocalDateTime) row[3]).build();
+        }
+        return PresenceDto.builder().memNo(memNo).status("LEFT").statusLabel("퇴근").since((LocalDateTime) row[4]).build();
+    }
+
+    private void publish(PresenceDto dto) {
+        presence.put(dto.getMemNo(), dto);
+        List<SseEmitter> deadEmitters = new ArrayList<>();
+        for (SseEmitter emitter : emitters) {
+            try {
+                emitter.send(SseEmitter.event().name("presence").data(dto));
+            } catch (Exception e) {
+                deadEmitters.add(emitter);
+            }
+        }
+        emitters.removeAll(deadEmitters);
+    }
+
+    private static class PendingStatus {
+        private final LocalDate workDate;
+        private final String blue;
+        private final String purple;
+        private final boolean seated;
+        private final LocalDateTime changedAt;
+
+        private PendingStatus(LocalDate workDate, String blue, String purple, boolean seated, LocalDateTime changedAt) {
+            this.workDate = workDate;
+            this.blue = blue;
+            this.purple = purple;
+            this.seated = seated;
+            this.changedAt = changedAt;
+        }
+    }
+}
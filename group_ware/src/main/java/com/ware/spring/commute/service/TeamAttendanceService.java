@@ -0,0 +1,183 @@
+package com.ware.spring.commute.service;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.ware.spring.commute.domain.TeamAttendanceDto;
+import com.ware.spring.commute.domain.WeeklyWorkingTime;
+import com.ware.spring.commute.repository.CommuteRepository;
+import com.ware.spring.commute.repository.WeeklyWorkingTimeRepository;
+import com.ware.spring.member.domain.Member;
+import com.ware.spring.member.repository.MemberRepository;
+
+/**
+ * 지점 근태 현황판 (팀 단위 일괄 조회 + 지점/일자별 캐시)
+ * 기술: JPQL GROUP BY, IN 조건 일괄 조회, ConcurrentHashMap 캐시
+ * 설명: 지점 직원 전체(50~200명)의 이번 주 근무 시간, 이번 주/이번 달 지각 횟수, 현재 근무 상태를
+ *        인원 수와 관계없이 4번의 쿼리(직원, 주간 근무, 지각 집계, 오늘 출근)로 조회합니다.
+ *        결과는 지점별로 당일에만 보관하며, 출근/퇴근/상태 변경 시 해당 직원이 속한 지점의 캐시를 비웁니다.
+ */
+@Service
+public class TeamAttendanceService {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+    private final MemberRepository memberRepository;
+    private final CommuteRepository commuteRepository;
+    private final WeeklyWorkingTimeRepository weeklyWorkingTimeRepository;
+
+    private final Map<Long, CachedTeam> cache = new ConcurrentHashMap<>();
+    // 무효화 횟수 (조회 중에 무효화가 일어나면 조회 결과를 캐시에 넣지 않음)
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public TeamAttendanceService(MemberRepository memberRepository, CommuteRepository commuteRepository,
+                                 WeeklyWorkingTimeRepository weeklyWorkingTimeRepository) {
+        this.memberRepository = memberRepository;
+        this.commuteRepository = commuteRepository;
+        this.weeklyWorkingTimeRepository = weeklyWorkingTimeRepository;
+    }
+
+    /**
+     * 지점 근태 현황 (캐시 사용)
+     * @param distributorNo 지점 번호
+     * @return 사번 순 직원별 근태 현황
+     */
+    @Transactional(readOnly = true)
+    public List<TeamAttendanceDto> getBranchAttendance(Long distributorNo) {
+        LocalDate today = LocalDate.now(ZONE);
+        CachedTeam cached = cache.get(distributorNo);
+        if (cached != null && cached.date.equals(today)) {
+            return cached.rows;
+        }
+
+        long invalidationsBefore = invalidations.get();
+        List<Member> members = memberRepository.findActiveWithRankByDistributorNo(distributorNo);
+        List<TeamAttendanceDto> rows = getTeamAttendance(members, today);
+
+        if (invalidations.get() == invalidationsBefore) {
+            Set<Long> memNos = rows.stream().map(TeamAttendanceDto::getMemNo).collect(Collectors.toSet());
+            cache.put(distributorNo, new CachedTeam(today, rows, memNos));
+        }
+        return rows;
+    }
+
+    /**
+     * 직원 목록의 근태 현황 (캐시 없이 일괄 조회)
+     * @param members 대상 직원
+     * @param today 기준 일자
+     */
+    @Transactional(readOnly = true)
+    public List<TeamAttendanceDto> getTeamAttendance(List<Member> members, LocalDate today) {
+        if (members.isEmpty()) {
+            return List.of();
+        }
+        List<Long> memNos = members.stream().map(Member::getMemNo).collect(Collectors.toList());
+        LocalDate startOfWeek = today.with(DayOfWeek.MONDAY);
+        LocalDate startOfMonth = today.withDayOfMonth(1);
+        LocalDateTime from = (startOfWeek.isBefore(startOfMonth) ? startOfWeek : startOfMonth).atStartOfDay();
+        LocalDateTime to = today.plusDays(1).atStartOfDay();
+
+        // 1) 이번 주 근무 시간
+        Map<Long, WeeklyWorkingTime> weekly = new HashMap<>();
+        for (WeeklyWorkingTime row : weeklyWorkingTimeRepository.findByMemNoInAndStartOfWeek(memNos, startOfWeek)) {
+            weekly.put(row.getMemNo(), row);
+        }
+
+        // 2) 지각 횟수 (이번 주 / 이번 달을 한 번에 집계)
+        Map<Long, int[]> lateCounts = new HashMap<>();
+        for (Object[] row : commuteRepository.countLateCommutesByMemNos(memNos, startOfWeek.atStartOfDay(), startOfMonth.atStartOfDay(), from, to)) {
+            lateCounts.put((Long) row[0], new int[] {((Number) row[1]).intValue(), ((Number) row[2]).intValue()});
+        }
+
+        // 3) 오늘 출근 상태
+        Map<Long, Object[]> todayStatus = new HashMap<>();
+        for (Object[] row : commuteRepository.findStatusByMemNosAndWorkDate(memNos, today)) {
+            todayStatus.put((Long) row[0], row);
+        }
+
+        List<TeamAttendanceDto> rows = new ArrayList<>();
+        for (Member member : members) {
+            WeeklyWorkingTime week = weekly.get(member.getMemNo());
+            int[] late = lateCounts.getOrDefault(member.getMemNo(), new int[2]);
+            Object[] status = todayStatus.get(member.getMemNo());
+
+            rows.add(TeamAttendanceDto.builder()
+                    .memNo(member.getMemNo())
+                    .empNo(member.getEmpNo())
+                    .memName(member.getMemName())
+                    .rankName(member.getRank() != null ? member.getRank().getRankName() : null)
+                    .weekHours(week != null ? week.getWeekHours() : 0)
+                    .weekMinutes(week != null ? week.getWeekMinutes() : 0)
+                    .weekLateCount(late[0])
+                    .monthLateCount(late[1])
+                    .status(toStatus(status))
+                    .startTime(status != null ? (LocalDateTime) status[3] : null)
+                    .endTime(status != null ? (LocalDateTime) status[4] : null)
+                    .build());
+        }
+        return rows;
+    }
+
+    /**
+     * 직원이 속한 지점의 현황판 캐시 무효화 (출근/퇴근/상태 변경 시 호출)
+     * 트랜잭션 안에서 호출되면 커밋 이후에 한 번 더 무효화합니다.
+     * @param memNo 회원 번호
+     */
+    public void evictMember(Long memNo) {
+        evict(memNo);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evict(memNo);
+                }
+            });
+        }
+    }
+
+    private void evict(Long memNo) {
+        invalidations.incrementAndGet();
+        cache.values().removeIf(entry -> entry.memNos.contains(memNo));
+    }
+
+    // [회원 번호, 착석, 외출, 출근 시각, 퇴근 시각] → 상태 코드
+    private String toStatus(Object[] status) {
+        if (status == null) {
+            return "ABSENT";
+        }
+        if (status[4] != null && !"Y".equals(status[1]) && !"Y".equals(status[2])) {
+            return "LEFT";
+        }
+        if ("Y".equals(status[2])) {
+            return "OUT";
+        }
+        return "Y".equals(status[1]) ? "IN" : "LEFT";
+    }
+
+    private static class CachedTeam {
+        private final LocalDate date;
+        private final List<TeamAttendanceDto> rows;
+        private final Set<Long> memNos;
+
+        private CachedTeam(LocalDate date, List<TeamAttendanceDto> rows, Set<Long> memNos) {
+            this.date = date;
+            this.rows = rows;
+            this.memNos = memNos;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.ware.spring.commute.service;
+
+import java.time.LocalDate;
+import java.util.BitSet;
+
+import org.springframework.stereotype.Component;
+
+import com.ware.spring.commute.repository.CommuteRepository;
+
+/**
+ * 오늘 출근 여부 (메모리 비트맵)
+ * 기술: BitSet
+ * 설명: 회원 번호를 비트 위치로 사용하여 오늘 출근한 회원을 기록하고, 출근 여부 확인을 SQL 없이 응답합니다.
+ *        날짜가 바뀌면 오늘 출근 기록(work_date)을 한 번 읽어서 다시 채우므로 서버 재시작 후에도 값이 유지됩니다.
+ *        출근 처리가 커밋된 후에만 표시하며, 서버 한 대 기준입니다.
+ */
+@Component
+public class TodayCommuteCache {
+
+    private final CommuteRepository commuteRepository;
+
+    private LocalDate workDate;
+    private BitSet clockedIn = new BitSet();
+
+    public TodayCommuteCache(CommuteRepository commuteRepository) {
+        this.commuteRepository = commuteRepository;
+    }
+
+    public synchronized boolean isClockedIn(Long memNo, LocalDate today) {
+        if (!load(today)) {
+            return false;
+        }
+        return clockedIn.get(toIndex(memNo));
+    }
+
+    public synchronized void markClockedIn(Long memNo, LocalDate today) {
+        if (load(today)) {
+            clockedIn.set(toIndex(memNo));
+        }
+    }
+
+    // 날짜가 바뀌었으면 해당 날짜의 출근 기록으로 다시 채움 (자정 직전에 시작된 이전 날짜 요청은 무시)
+    private boolean load(LocalDate today) {
+        if (today.equals(workDate)) {
+            return true;
+        }
+        if (workDate != null && today.isBefore(workDate)) {
+            return false;
+        }
+        BitSet loaded = new BitSet();
+        for (Long memNo : commuteRepository.findMemNosByWorkDate(today)) {
+            loaded.set(toIndex(memNo));
+        }
+        clockedIn = loaded;
+        workDate = today;
+        return true;
+    }
+
+    private int toIndex(Long memNo) {
+        return Math.toIntExact(memNo);
+    }
+}
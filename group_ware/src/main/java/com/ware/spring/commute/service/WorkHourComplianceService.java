@@ -0,0 +1,351 @@
+package com.ware.spring.commute.service;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.ware.spring.authorization.repository.AuthorizationRepository;
+import com.ware.spring.commute.domain.ComplianceAlertDto;
+import com.ware.spring.commute.domain.WeeklyWorkingTime;
+import com.ware.spring.commute.repository.CommuteRepository;
+import com.ware.spring.commute.repository.WeeklyWorkingTimeRepository;
+
+/**
+ * 주 52시간 근무 점검 (이벤트 기반, 메모리 집계)
+ * 기술: ConcurrentHashMap, SseEmitter, Spring @Scheduled
+ * 설명: 출근/퇴근/야근 승인 이벤트를 받아 회원별 이번 주 근무 시간과 승인된 야근 시간을 메모리에 누적합니다.
+ *        주가 바뀌면 주간 근무 시간, 오늘 출근 기록, 이번 주 승인된 야근 문서를 한 번씩만 조회하여 채우고,
+ *        이후에는 과거 기록을 다시 조회하지 않습니다.
+ *        근무 시간이 경고 시간(warn-hours) 또는 최대 시간(limit-hours)을 넘거나,
+ *        주 40시간을 넘은 근무가 승인된 야근 시간보다 많으면 알림을 만들어 SSE로 전송합니다. (단계별로 주 1회)
+ *        근무 중인 회원은 CHECK_INTERVAL_MILLIS 마다 현재까지의 근무 시간으로 다시 점검합니다.
+ */
+@Service
+public class WorkHourComplianceService {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final long STANDARD_WEEK_SECONDS = 40L * 3600;
+    private static final long CHECK_INTERVAL_MILLIS = 60_000;
+    private static final int RECENT_ALERTS_MAX = 200;
+
+    private final WeeklyWorkingTimeRepository weeklyWorkingTimeRepository;
+    private final CommuteRepository commuteRepository;
+    private final AuthorizationRepository authorizationRepository;
+    private final long warnSeconds;
+    private final long limitSeconds;
+
+    private final Map<Long, WeekState> states = new ConcurrentHashMap<>();
+    // 이번 주에 반영한 야근 문서 (같은 문서가 두 번 승인 처리되어도 한 번만 반영)
+    private final Set<Long> countedOvertimeDocs = ConcurrentHashMap.newKeySet();
+    private final Deque<ComplianceAlertDto> recentAlerts = new ArrayDeque<>();
+    private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+    private volatile LocalDate currentWeek;
+    // load 가 끝날 때마다 증가 (퇴근 커밋 전후로 다시 채웠는지 확인)
+    private final AtomicLong loadCount = new AtomicLong();
+
+    public WorkHourComplianceService(WeeklyWorkingTimeRepository weeklyWorkingTimeRepository, CommuteRepository commuteRepository,
+                                     AuthorizationRepository authorizationRepository,
+                                     @Value("${commute.compliance.warn-hours:48}") long warnHours,
+                                     @Value("${commute.compliance.limit-hours:52}") long limitHours) {
+        this.weeklyWorkingTimeRepository = weeklyWorkingTimeRepository;
+        this.commuteRepository = commuteRepository;
+        this.authorizationRepository = authorizationRepository;
+        this.warnSeconds = warnHours * 3600;
+        this.limitSeconds = limitHours * 3600;
+    }
+
+    // ===== 이벤트 =====
+
+    // 출근 (퇴근 전까지 현재까지의 근무 시간을 점검에 포함)
+    public void onClockIn(Long memNo, LocalDateTime at) {
+        if (!ensureWeek(at.toLocalDate())) {
+            return;
+        }
+        state(memNo).clockIn(at);
+    }
+
+    /**
+     * 퇴근 (이번 퇴근으로 늘어난 근무 시간만 전달, 트랜잭션 안에서 호출되면 커밋 후 반영)
+     * 설명: 호출 이후 주간 근무 시간을 다시 채웠다면 커밋된 이번 퇴근분이 이미 포함되었을 수 있으므로,
+     *        더하지 않고 회원의 주간 근무 시간 행을 다시 읽어 맞춥니다. (주 첫 퇴근, 재시작 후 첫 퇴근)
+     * @param workDate 근무일 (출근한 날)
+     * @param addedMinutes 이전 퇴근 기록 대비 늘어난 근무 시간 (분)
+     */
+    public void onClockOut(Long memNo, LocalDate workDate, long addedMinutes, LocalDateTime at) {
+        long loadsBefore = loadCount.get();
+        runAfterCommit(() -> {
+            if (!ensureWeek(workDate)) {
+                return;
+            }
+            WeekState state = state(memNo);
+            if (loadCount.get() == loadsBefore) {
+                state.clockOut(addedMinutes * 60);
+            } else {
+                state.closeAt(weeklyWorkingTimeRepository.findByMemNoAndStartOfWeek(memNo, currentWeek)
+                        .map(weekly -> ((long) weekly.getWeekHours() * 60 + weekly.getWeekMinutes()) * 60)
+                        .orElse(0L));
+            }
+            evaluate(memNo, state, at);
+        });
+    }
+
+    /**
+     * 야근 문서 최종 승인 (트랜잭션 안에서 호출되면 커밋 후 반영)
+     * @param startDate 야근 시작 일시 (문서의 startDate, yyyy-MM-dd 또는 yyyy-MM-ddTHH:mm)
+     * @param hours 야근 시간 (문서의 startEndDate)
+     */
+    public void onOvertimeApproved(Long authorNo, Long memNo, String startDate, Double hours) {
+        if (memNo == null || hours == null) {
+            return;
+        }
+        runAfterCommit(() -> {
+            LocalDateTime now = LocalDateTime.now(ZONE);
+            LocalDate date = parseDate(startDate, now.toLocalDate());
+            if (!ensureWeek(date) || !countedOvertimeDocs.add(authorNo)) {
+                return;
+            }
+            WeekState state = state(memNo);
+            state.addApprovedOvertime((long) (hours * 3600));
+            evaluate(memNo, state, now);
+        });
+    }
+
+    // 근무 중인 회원 점검 (메모리만 사용)
+    @Scheduled(fixedDelay = CHECK_INTERVAL_MILLIS)
+    public void checkOpenSessions() {
+        LocalDateTime now = LocalDateTime.now(ZONE);
+        if (!ensureWeek(now.toLocalDate())) {
+            return;
+        }
+        states.forEach((memNo, state) -> {
+            if (state.isOpen()) {
+                evaluate(memNo, state, now);
+            }
+        });
+    }
+
+    // ===== 조회 / SSE =====
+
+    public List<ComplianceAlertDto> getRecentAlerts() {
+        synchronized (recentAlerts) {
+            return new ArrayList<>(recentAlerts);
+        }
+    }
+
+    // 회원의 이번 주 근무 시간 (분, 근무 중이면 현재까지 포함)
+    public long getWorkedMinutes(Long memNo) {
+        LocalDateTime now = LocalDateTime.now(ZONE);
+        ensureWeek(now.toLocalDate());
+        WeekState state = states.get(memNo);
+        return state != null ? state.workedSeconds(now) / 60 : 0;
+    }
+
+    public SseEmitter subscribe() {
+        SseEmitter emitter = new SseEmitter(30L * 60L * 1000L); // 30분 타임아웃 설정
+        emitters.add(emitter);
+        emitter.onCompletion(() -> emitters.remove(emitter));
+        emitter.onTimeout(() -> emitters.remove(emitter));
+        emitter.onError((e) -> emitters.remove(emitter));
+        try {
+            emitter.send(SseEmitter.event().name("ping").data("keep-alive"));
+        } catch (Exception e) {
+            emitters.remove(emitter);
+        }
+        return emitter;
+    }
+
+    // ===== 내부 =====
+
+    private void evaluate(Long memNo, WeekState state, LocalDateTime now) {
+        long worked = state.workedSeconds(now);
+        long approved = state.approvedOvertimeSeconds();
+        if (worked >= limitSeconds) {
+            if (state.raise(WeekState.EXCEEDED)) {
+                publish(memNo, "EXCEEDED", worked, approved, now);
+            }
+        } else if (worked >= warnSeconds && state.raise(WeekState.APPROACHING)) {
+            publish(memNo, "APPROACHING", worked, approved, now);
+        }
+        // 승인 없는 연장 근무는 퇴근 기록 기준으로만 판단 (근무 중 시간은 아직 확정되지 않음)
+        if (state.closedSeconds() - STANDARD_WEEK_SECONDS > approved && state.raise(WeekState.UNAPPROVED_OVERTIME)) {
+            publish(memNo, "UNAPPROVED_OVERTIME", worked, approved, now);
+        }
+    }
+
+    private void publish(Long memNo, String type, long workedSeconds, long approvedSeconds, LocalDateTime now) {
+        ComplianceAlertDto alert = ComplianceAlertDto.builder()
+                .memNo(memNo)
+                .type(type)
+                .weekStart(currentWeek)
+                .workedMinutes(workedSeconds / 60)
+                .approvedOvertimeMinutes(approvedSeconds / 60)
+                .at(now)
+                .build();
+        synchronized (recentAlerts) {
+            recentAlerts.addFirst(alert);
+            if (recentAlerts.size() > RECENT_ALERTS_MAX) {
+                recentAlerts.removeLast();
+            }
+        }
+        System.out.println("근무 시간 점검 알림: " + type + " memNo=" + memNo + " (" + alert.getWorkedMinutes() / 60 + "시간)");
+
+        List<SseEmitter> deadEmitters = new ArrayList<>();
+        for (SseEmitter emitter : emitters) {
+            try {
+                emitter.send(SseEmitter.event().name("compliance").data(alert));
+            } catch (Exception e) {
+                deadEmitters.add(emitter);
+            }
+        }
+        emitters.removeAll(deadEmitters);
+    }
+
+    private WeekState state(Long memNo) {
+        return states.computeIfAbsent(memNo, k -> new WeekState());
+    }
+
+    /**
+     * 이번 주 집계 준비 (주가 바뀌면 한 번만 조회하여 다시 채움)
+     * @return date가 이번 주이면 true (지난 주 기록은 점검하지 않음)
+     */
+    private boolean ensureWeek(LocalDate date) {
+        LocalDate thisWeek = LocalDate.now(ZONE).with(DayOfWeek.MONDAY);
+        if (!thisWeek.equals(currentWeek)) {
+            synchronized (this) {
+                if (!thisWeek.equals(currentWeek)) {
+                    load(thisWeek);
+                }
+            }
+        }
+        return !date.isBefore(thisWeek);
+    }
+
+    private void load(LocalDate weekStart) {
+        states.clear();
+        countedOvertimeDocs.clear();
+
+        for (WeeklyWorkingTime weekly : weeklyWorkingTimeRepository.findByStartOfWeek(weekStart)) {
+            state(weekly.getMemNo()).clockOut(((long) weekly.getWeekHours() * 60 + weekly.getWeekMinutes()) * 60);
+        }
+        // 오늘 출근 후 아직 퇴근하지 않은 회원 [회원 번호, 착석, 외출, 출근 시각, 퇴근 시각]
+        for (Object[] row : commuteRepository.findStatusByWorkDate(LocalDate.now(ZONE))) {
+            if (row[3] != null && row[4] == null) {
+                state((Long) row[0]).clockIn((LocalDateTime) row[3]);
+            }
+        }
+        // 이번 주 승인된 야근 문서 [문서 번호, 회원 번호, 야근 시간]
+        for (Object[] row : authorizationRepository.findApprovedByDoctypeAndStartDateRange(
+                "overtime Report", weekStart.toString(), weekStart.plusWeeks(1).toString())) {
+            if (row[1] == null || row[2] == null) {
+                continue;
+            }
+            countedOvertimeDocs.add((Long) row[0]);
+            state((Long) row[1]).addApprovedOvertime((long) (((Number) row[2]).doubleValue() * 3600));
+        }
+        currentWeek = weekStart;
+        loadCount.incrementAndGet();
+        System.out.println("근무 시간 점검 초기화: " + weekStart + " (" + states.size() + "명)");
+    }
+
+    private LocalDate parseDate(String value, LocalDate defaultDate) {
+        if (value == null || value.length() < 10) {
+            return defaultDate;
+        }
+        try {
+            return LocalDate.parse(value.substring(0, 10));
+        } catch (Exception e) {
+            return defaultDate;
+        }
+    }
+
+    private void runAfterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+
+    // 회원별 이번 주 집계
+    private static class WeekState {
+        private static final int APPROACHING = 1;
+        private static final int EXCEEDED = 2;
+        private static final int UNAPPROVED_OVERTIME = 4;
+
+        private long closedSeconds;           // 퇴근 기록으로 확정된 근무 시간
+        private long approvedOvertimeSeconds; // 승인된 야근 시간
+        private LocalDateTime openSince;      // 근무 중이면 출근 시각
+        private int raised;                   // 이번 주에 보낸 알림 단계
+
+        synchronized void clockIn(LocalDateTime at) {
+            openSince = at;
+        }
+
+        synchronized void clockOut(long addedSeconds) {
+            closedSeconds += Math.max(addedSeconds, 0);
+            openSince = null;
+        }
+
+        // 커밋된 주간 근무 시간으로 맞춤
+        synchronized void closeAt(long seconds) {
+            closedSeconds = seconds;
+            openSince = null;
+        }
+
+        synchronized void addApprovedOvertime(long seconds) {
+            approvedOvertimeSeconds += seconds;
+        }
+
+        synchronized boolean isOpen() {
+            return openSince != null;
+        }
+
+        // 근무 중이면 오늘 출근 이후 시간까지 포함
+        synchronized long workedSeconds(LocalDateTime now) {
+            if (openSince == null || !openSince.toLocalDate().equals(now.toLocalDate())) {
+                return closedSeconds;
+            }
+            return closedSeconds + Math.max(Duration.between(openSince, now).getSeconds(), 0);
+        }
+
+        synchronized long closedSeconds() {
+            return closedSeconds;
+        }
+
+        synchronized long approvedOvertimeSeconds() {
+            return approvedOvertimeSeconds;
+        }
+
+        // 처음 도달한 단계이면 true
+        synchronized boolean raise(int level) {
+            if ((raised & level) != 0) {
+                return false;
+            }
+            raised |= level;
+            return true;
+        }
+    }
+}
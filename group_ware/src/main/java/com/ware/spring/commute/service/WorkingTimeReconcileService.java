@@ -0,0 +1,41 @@
+package com.ware.spring.commute.service;
+
+import java.util.List;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.ware.spring.commute.repository.CommuteRepository;
+
+/**
+ * 근무 시간 집계 보정
+ * 기술: Spring @Scheduled
+ * 설명: 퇴근 시에는 주간/월간/전체 집계에 증분만 더하므로, 매일 새벽 출퇴근 원본 기록으로 집계를 다시 계산합니다.
+ *        회원별로 별도 트랜잭션에서 처리하여 한 명의 오류가 전체 보정을 막지 않도록 합니다.
+ */
+@Service
+public class WorkingTimeReconcileService {
+
+    private final CommuteRepository commuteRepository;
+    private final CommuteService commuteService;
+
+    public WorkingTimeReconcileService(CommuteRepository commuteRepository, CommuteService commuteService) {
+        this.commuteRepository = commuteRepository;
+        this.commuteService = commuteService;
+    }
+
+    @Scheduled(cron = "0 30 3 * * *", zone = "Asia/Seoul") // 매일 03:30 (출퇴근이 없는 시간)
+    public void reconcileAll() {
+        List<Long> memNos = commuteRepository.findDistinctMemNos();
+        int failed = 0;
+        for (Long memNo : memNos) {
+            try {
+                commuteService.rebuildWorkingTime(memNo);
+            } catch (Exception e) {
+                failed++;
+                e.printStackTrace();
+            }
+        }
+        System.out.println("근무 시간 집계 보정 완료: " + memNos.size() + "명 (실패 " + failed + "명)");
+    }
+}
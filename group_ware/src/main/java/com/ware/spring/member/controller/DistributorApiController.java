@@ -1,6 +1,7 @@
 package com.ware.spring.member.controller;
 
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
@@ -15,8 +16,10 @@ import org.springframework.web.bind.annotation.RestController;
 
 import com.ware.spring.member.domain.Distributor;
 import com.ware.spring.member.domain.DistributorDto;
+import com.ware.spring.member.domain.DistributorLocationDto;
 import com.ware.spring.member.domain.MemberDto;
 import com.ware.spring.member.repository.DistributorRepository;
+import com.ware.spring.member.service.DistributorGeoService;
 import com.ware.spring.member.service.DistributorService;
 
 @RestController
@@ -25,11 +28,14 @@ public class DistributorApiController {
 
     private final DistributorService distributorService;
     private final DistributorRepository distributorRepository;
+    private final DistributorGeoService distributorGeoService;
 
     @Autowired
-    public DistributorApiController(DistributorService distributorService, DistributorRepository distributorRepository) {
+    public DistributorApiController(DistributorService distributorService, DistributorRepository distributorRepository,
+                                    DistributorGeoService distributorGeoService) {
         this.distributorService = distributorService;
         this.distributorRepository = distributorRepository;
+        this.distributorGeoService = distributorGeoService;
     }
 
     /**
@@ -73,6 +79,57 @@ public class DistributorApiController {
         return ResponseEntity.ok(distributorDtos);
     }
 
+    /**
+     * 운영 중인 지점 위치를 반환합니다 (지도 표시용).
+     * 설명: 메모리 위치 색인에서 읽으므로 DB를 조회하지 않습니다.
+     * 
+     * @return DistributorLocationDto 리스트 - 지점 번호, 이름, 주소, 위도, 경도
+     */
+    @GetMapping("/locations")
+    public List<DistributorLocationDto> getLocations() {
+        return distributorGeoService.getLocations();
+    }
+
+    /**
+     * 기준 좌표에서 가까운 지점을 반환합니다.
+     * 설명: 메모리 위치 색인에서 기준 좌표 주변 칸부터 찾아 거리순으로 반환합니다.
+     * 
+     * @param lat 기준 위도
+     * @param lng 기준 경도
+     * @param limit 최대 지점 수 (1 ~ 100)
+     * @return 거리(distanceKm) 오름차순 지점 리스트
+     */
+    @GetMapping("/nearest")
+    public ResponseEntity<?> getNearest(@RequestParam("lat") double lat,
+                                        @RequestParam("lng") double lng,
+                                        @RequestParam(value = "limit", defaultValue = "5") int limit) {
+        try {
+            return ResponseEntity.ok(distributorGeoService.findNearest(lat, lng, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    /**
+     * 기준 좌표에서 반경 안의 지점을 반환합니다.
+     * 설명: 메모리 위치 색인에서 반경을 덮는 칸만 확인해 거리순으로 반환합니다.
+     * 
+     * @param lat 기준 위도
+     * @param lng 기준 경도
+     * @param radiusKm 반경 (km, 최대 500)
+     * @return 거리(distanceKm) 오름차순 지점 리스트
+     */
+    @GetMapping("/within")
+    public ResponseEntity<?> getWithinRadius(@RequestParam("lat") double lat,
+                                             @RequestParam("lng") double lng,
+                                             @RequestParam("radiusKm") double radiusKm) {
+        try {
+            return ResponseEntity.ok(distributorGeoService.findWithinRadius(lat, lng, radiusKm));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
     /**
      * 새로운 지점을 등록합니다.
      * 설명: 요청 본문으로부터 받은 DistributorDto 객체를 사용하여 새로운 지점을 등록합니다.
@@ -87,4 +87,15 @@ public class DistributorViewController {
     public String showRegisterPage() {
         return "distributor/distributor_register";
     }
+
+    /**
+     * 지점 지도 페이지를 반환합니다.
+     * 설명: 운영 중인 지점 위치, 가까운 지점 찾기, 지역별 판매 열지도를 보여 줍니다. (데이터는 /api/distributors, /api/vehicle/sales/heatmap)
+     * 
+     * @return 지점 지도 페이지 뷰 (distributor/distributor_map)
+     */
+    @GetMapping("/distributor/map")
+    public String showMapPage() {
+        return "distributor/distributor_map";
+    }
 }
@@ -0,0 +1,20 @@
+package com.ware.spring.member.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DistributorLocationDto {
+
+    private Long distributorNo;
+    private String distributorName;
+    private String distributorAddr;
+    private double distributorLatitude;
+    private double distributorLongitude;
+    private Double distanceKm; // 기준 지점에서의 거리 (거리 조회가 아니면 null)
+}
@@ -36,4 +36,7 @@ public interface DistributorRepository extends JpaRepository<Distributor, Long>
     Page<Distributor> findByDistributorAddrContainingAndDistributorStatus(String address, int status, Pageable pageable);
 
     Page<Distributor> findByDistributorStatus(int status, Pageable pageable);
+
+    // 상태별 전체 지점 (위치 색인용)
+    List<Distributor> findByDistributorStatus(int status);
 }
\ No newline at end of file
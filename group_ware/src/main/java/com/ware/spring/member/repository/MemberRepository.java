@@ -1,5 +1,6 @@
 package com.ware.spring.member.repository;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -26,6 +27,17 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
     // 지점별 회원 조회
     List<Member> findByDistributor_DistributorNo(Long distributorNo);
 
+    // 지점 재직자 목록 (직급 함께 조회, 근태 현황판용)
+    @Query("SELECT m FROM Member m LEFT JOIN FETCH m.rank " +
+           "WHERE m.distributor.distributorNo = :distributorNo AND m.memLeave = 'N' ORDER BY m.empNo")
+    List<Member> findActiveWithRankByDistributorNo(@Param("distributorNo") Long distributorNo);
+
+    // 회원 번호 순 구간 조회 [회원 번호, 사번, 이름, 직급, 지점, 퇴사 여부] (급여 기간 내보내기, afterMemNo 다음부터)
+    @Query("SELECT m.memNo, m.empNo, m.memName, r.rankName, d.distributorName, m.memLeave " +
+           "FROM Member m LEFT JOIN m.rank r LEFT JOIN m.distributor d " +
+           "WHERE m.memNo > :afterMemNo ORDER BY m.memNo")
+    List<Object[]> findExportRowsAfter(@Param("afterMemNo") Long afterMemNo, Pageable pageable);
+
     // 조직도 관련
     @Query("SELECT m FROM Member m WHERE m.distributor.distributorNo = :distributorNo")
     List<Member> findMembersByDistributorNo(@Param("distributorNo") Long distributorNo);
@@ -35,6 +47,11 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
     @Query("UPDATE Member m SET m.profileSaved = :profileSaved WHERE m.memNo = :memNo")
     void updateProfilePicture(@Param("memNo") int memNo, @Param("profileSaved") String profileSaved);
 
+    // 연차 차감 (일괄 결재 시 기안자별 합산 일수를 한 번에 반영)
+    @Modifying
+    @Query("UPDATE Member m SET m.memOff = m.memOff - :days, m.memUseOff = m.memUseOff + :days WHERE m.memNo = :memNo")
+    int deductLeaveDays(@Param("memNo") Long memNo, @Param("days") Double days);
+
     // mem_leave에 따른 필터링 (퇴사 여부)
     @EntityGraph(attributePaths = {"rank", "distributor"})
     Page<Member> findAllByMemLeaveOrderByEmpNoAsc(String memLeave, Pageable pageable);
@@ -98,6 +115,10 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
     Page<Member> findByDistributorDistributorNameContainingAndMemLeave(String distributorName, String memLeave, Pageable pageable);
     Page<Member> findByEmpNoContainingAndMemLeave(String empNo, String memLeave, Pageable pageable);
 
+    // 판매 가져오기: 사번 -> [사번, 회원 번호, 지점 번호] 일괄 조회
+    @Query("SELECT m.empNo, m.memNo, d.distributorNo FROM Member m LEFT JOIN m.distributor d WHERE m.empNo IN :empNos")
+    List<Object[]> findSaleRefsByEmpNos(@Param("empNos") Collection<String> empNos);
+
     // 회원 번호로 회원 조회
     Optional<Member> findByMemNo(Long memNo);
     Optional<Member> findByMemName(String memName);
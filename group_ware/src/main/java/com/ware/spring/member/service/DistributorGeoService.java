@@ -0,0 +1,259 @@
+package com.ware.spring.member.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.ware.spring.member.domain.Distributor;
+import com.ware.spring.member.domain.DistributorLocationDto;
+import com.ware.spring.member.repository.DistributorRepository;
+
+/**
+ * 운영 중인 지점 위치 색인 (가까운 지점, 반경 내 지점)
+ * 기술: 위도/경도 균등 격자 (CELL_DEGREES 칸), 하버사인 거리, volatile 불변 스냅샷 교체
+ * 설명: 운영 중인 지점의 좌표를 격자 칸별 목록으로 메모리에 올려 두고, 조회는 SQL 없이 주변 칸만 확인합니다.
+ *        - 반경 내 지점: 반경을 덮는 위도/경도 범위의 칸만 읽고 실제 거리로 거릅니다.
+ *        - 가까운 N개 지점: 기준 칸에서 한 바퀴씩 넓혀 가며 후보를 모으고,
+ *          N번째 후보의 거리가 다음 바퀴의 최소 거리보다 가까우면 멈춥니다.
+ *        registerDistributor 에서 다시 만들고, DB에서 직접 바꾼 경우를 위해 REBUILD_MILLIS 마다 한 번 더 만듭니다.
+ *        좌표가 (0, 0) 인 지점은 위치를 입력하지 않은 것으로 보고 제외합니다. (경도 180도 경계는 고려하지 않음)
+ */
+@Service
+public class DistributorGeoService {
+
+    public static final int MAX_NEAREST = 100;
+    public static final double MAX_RADIUS_KM = 500;
+
+    private static final double CELL_DEGREES = 0.1;        // 위도 약 11km
+    private static final double EARTH_RADIUS_KM = 6371.0088;
+    private static final double KM_PER_DEGREE = Math.PI * EARTH_RADIUS_KM / 180;
+    private static final long REBUILD_MILLIS = 600_000;
+
+    private final DistributorRepository distributorRepository;
+
+    private volatile Grid grid = new Grid(List.of());
+
+    public DistributorGeoService(DistributorRepository distributorRepository) {
+        this.distributorRepository = distributorRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        rebuild();
+    }
+
+    @Scheduled(fixedDelay = REBUILD_MILLIS, initialDelay = REBUILD_MILLIS)
+    public void scheduledRebuild() {
+        rebuild();
+    }
+
+    /**
+     * 색인 다시 만들기 (지점 등록/상태 변경 후 호출)
+     */
+    public void rebuild() {
+        List<DistributorLocationDto> locations = new ArrayList<>();
+        for (Distributor distributor : distributorRepository.findByDistributorStatus(1)) {
+            if (distributor.getDistributorLatitude() == 0 && distributor.getDistributorLongitude() == 0) {
+                continue;
+            }
+            locations.add(DistributorLocationDto.builder()
+                    .distributorNo(distributor.getDistributorNo())
+                    .distributorName(distributor.getDistributorName())
+                    .distributorAddr(distributor.getDistributorAddr())
+                    .distributorLatitude(distributor.getDistributorLatitude())
+                    .distributorLongitude(distributor.getDistributorLongitude())
+                    .build());
+        }
+        grid = new Grid(locations);
+    }
+
+    /**
+     * 색인된 전체 지점 위치 (지도 표시용, 읽기 전용)
+     */
+    public List<DistributorLocationDto> getLocations() {
+        return grid.locations;
+    }
+
+    /**
+     * 기준 좌표에서 가까운 지점
+     * @param limit 최대 MAX_NEAREST
+     * @return 거리 오름차순 지점 목록 (distanceKm 포함)
+     */
+    public List<DistributorLocationDto> findNearest(double latitude, double longitude, int limit) {
+        validate(latitude, longitude);
+        if (limit < 1 || limit > MAX_NEAREST) {
+            throw new IllegalArgumentException("limit 은 1 ~ " + MAX_NEAREST + " 사이여야 합니다.");
+        }
+        Grid current = grid;
+        List<DistributorLocationDto> result = new ArrayList<>();
+        if (current.locations.isEmpty()) {
+            return result;
+        }
+
+        int row = row(latitude);
+        int col = col(longitude);
+        List<Candidate> candidates = new ArrayList<>();
+        // 격자 범위 밖의 바퀴는 건너뜀
+        int firstRing = Math.max(0, Math.max(Math.max(current.minRow - row, row - current.maxRow),
+                Math.max(current.minCol - col, col - current.maxCol)));
+        for (int ring = firstRing; ; ring++) {
+            for (int r = Math.max(row - ring, current.minRow); r <= Math.min(row + ring, current.maxRow); r++) {
+                if (r == row - ring || r == row + ring) {
+                    for (int c = Math.max(col - ring, current.minCol); c <= Math.min(col + ring, current.maxCol); c++) {
+                        current.collect(r, c, latitude, longitude, candidates);
+                    }
+                } else {
+                    current.collect(r, col - ring, latitude, longitude, candidates);
+                    current.collect(r, col + ring, latitude, longitude, candidates);
+                }
+            }
+            boolean outside = row - ring <= current.minRow && row + ring >= current.maxRow
+                    && col - ring <= current.minCol && col + ring >= current.maxCol;
+            if (outside) {
+                break;
+            }
+            if (candidates.size() >= limit) {
+                // 다음 바퀴 칸의 점은 최소 ring 칸 만큼 떨어져 있음
+                candidates.sort(Comparator.comparingDouble(candidate -> candidate.distanceKm));
+                double bound = ring * CELL_DEGREES * KM_PER_DEGREE
+                        * Math.cos(Math.toRadians(Math.min(89, Math.abs(latitude) + (ring + 1) * CELL_DEGREES)));
+                if (candidates.get(limit - 1).distanceKm <= bound) {
+                    break;
+                }
+            }
+        }
+
+        candidates.sort(Comparator.comparingDouble(candidate -> candidate.distanceKm));
+        for (Candidate candidate : candidates.subList(0, Math.min(limit, candidates.size()))) {
+            result.add(candidate.toDto());
+        }
+        return result;
+    }
+
+    /**
+     * 기준 좌표에서 반경 안의 지점
+     * @param radiusKm 최대 MAX_RADIUS_KM
+     * @return 거리 오름차순 지점 목록 (distanceKm 포함)
+     */
+    public List<DistributorLocationDto> findWithinRadius(double latitude, double longitude, double radiusKm) {
+        validate(latitude, longitude);
+        if (!(radiusKm > 0) || radiusKm > MAX_RADIUS_KM) {
+            throw new IllegalArgumentException("반경은 0 ~ " + (int) MAX_RADIUS_KM + "km 사이여야 합니다.");
+        }
+        Grid current = grid;
+        double latSpan = radiusKm / KM_PER_DEGREE;
+        double lonSpan = radiusKm / (KM_PER_DEGREE * Math.max(Math.cos(Math.toRadians(Math.min(89, Math.abs(latitude) + latSpan))), 0.01));
+
+        List<Candidate> candidates = new ArrayList<>();
+        int fromRow = Math.max(row(latitude - latSpan), current.minRow);
+        int toRow = Math.min(row(latitude + latSpan), current.maxRow);
+        int fromCol = Math.max(col(longitude - lonSpan), current.minCol);
+        int toCol = Math.min(col(longitude + lonSpan), current.maxCol);
+        for (int r = fromRow; r <= toRow; r++) {
+            for (int c = fromCol; c <= toCol; c++) {
+                current.collect(r, c, latitude, longitude, candidates);
+            }
+        }
+        candidates.removeIf(candidate -> candidate.distanceKm > radiusKm);
+        candidates.sort(Comparator.comparingDouble(candidate -> candidate.distanceKm));
+
+        List<DistributorLocationDto> result = new ArrayList<>(candidates.size());
+        for (Candidate candidate : candidates) {
+            result.add(candidate.toDto());
+        }
+        return result;
+    }
+
+    /**
+     * 두 좌표 사이 거리 (km, 하버사인)
+     */
+    public static double distanceKm(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    private static void validate(double latitude, double longitude) {
+        if (!(latitude >= -90 && latitude <= 90) || !(longitude >= -180 && longitude <= 180)) {
+            throw new IllegalArgumentException("위도는 -90 ~ 90, 경도는 -180 ~ 180 사이여야 합니다.");
+        }
+    }
+
+    private static int row(double latitude) {
+        return (int) Math.floor(latitude / CELL_DEGREES);
+    }
+
+    private static int col(double longitude) {
+        return (int) Math.floor(longitude / CELL_DEGREES);
+    }
+
+    private static long key(int row, int col) {
+        return ((long) row << 32) | (col & 0xffffffffL);
+    }
+
+    // 만든 뒤에는 바뀌지 않는 격자 (다시 만들 때 통째로 교체)
+    private static class Grid {
+        private final List<DistributorLocationDto> locations;
+        private final Map<Long, List<DistributorLocationDto>> cells = new HashMap<>();
+        private int minRow = Integer.MAX_VALUE;
+        private int maxRow = Integer.MIN_VALUE;
+        private int minCol = Integer.MAX_VALUE;
+        private int maxCol = Integer.MIN_VALUE;
+
+        private Grid(List<DistributorLocationDto> locations) {
+            this.locations = Collections.unmodifiableList(locations);
+            for (DistributorLocationDto location : locations) {
+                int row = row(location.getDistributorLatitude());
+                int col = col(location.getDistributorLongitude());
+                cells.computeIfAbsent(key(row, col), k -> new ArrayList<>()).add(location);
+                minRow = Math.min(minRow, row);
+                maxRow = Math.max(maxRow, row);
+                minCol = Math.min(minCol, col);
+                maxCol = Math.max(maxCol, col);
+            }
+        }
+
+        private void collect(int row, int col, double latitude, double longitude, List<Candidate> candidates) {
+            List<DistributorLocationDto> cell = cells.get(key(row, col));
+            if (cell == null) {
+                return;
+            }
+            for (DistributorLocationDto location : cell) {
+                candidates.add(new Candidate(location, distanceKm(latitude, longitude,
+                        location.getDistributorLatitude(), location.getDistributorLongitude())));
+            }
+        }
+    }
+
+    private static class Candidate {
+        private final DistributorLocationDto location;
+        private final double distanceKm;
+
+        private Candidate(DistributorLocationDto location, double distanceKm) {
+            this.location = location;
+            this.distanceKm = distanceKm;
+        }
+
+        // 색인의 객체는 공유되므로 복사해서 거리를 담음
+        private DistributorLocationDto toDto() {
+            return DistributorLocationDto.builder()
+                    .distributorNo(location.getDistributorNo())
+                    .distributorName(location.getDistributorName())
+                    .distributorAddr(location.getDistributorAddr())
+                    .distributorLatitude(location.getDistributorLatitude())
+                    .distributorLongitude(location.getDistributorLongitude())
+                    .distanceKm(Math.round(distanceKm * 1000) / 1000.0)
+                    .build();
+        }
+    }
+}
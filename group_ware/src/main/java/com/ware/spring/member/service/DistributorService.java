@@ -19,11 +19,14 @@ public class DistributorService {
 
     private final DistributorRepository distributorRepository;
     private final MemberRepository memberRepository;
+    private final DistributorGeoService distributorGeoService;
 
     @Autowired
-    public DistributorService(DistributorRepository distributorRepository, MemberRepository memberRepository) {
+    public DistributorService(DistributorRepository distributorRepository, MemberRepository memberRepository,
+                              DistributorGeoService distributorGeoService) {
         this.distributorRepository = distributorRepository;
         this.memberRepository = memberRepository;
+        this.distributorGeoService = distributorGeoService;
     }
 
     /**
@@ -135,6 +138,7 @@ public class DistributorService {
      * 새로운 지점을 등록합니다.
      * 기술: Spring Data JPA
      * 설명: DTO로부터 지점 엔티티를 생성하여 데이터베이스에 저장합니다. 기본 상태는 '운영 중'으로 설정됩니다.
+     *        저장 후 지점 위치 색인을 다시 만들어 지도와 거리 조회에 바로 반영합니다.
      *
      * @param distributorDto 등록할 지점 정보를 담은 DTO
      */
@@ -150,6 +154,7 @@ public class DistributorService {
                 .distributorStatus(1)
                 .build();
         distributorRepository.save(distributor);
+        distributorGeoService.rebuild();
     }
 
     /**
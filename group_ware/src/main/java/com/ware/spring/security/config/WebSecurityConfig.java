@@ -44,6 +44,10 @@ public class WebSecurityConfig {
                 requests
                     .requestMatchers("/login", "/css/**", "/image/**").permitAll() 
                     .requestMatchers("/member/register").hasAnyAuthority( "ROLE_지점대표", "ROLE_대표") 
+                    .requestMatchers("/api/commute/export/**").hasAuthority("ROLE_대표") // 전 직원 근태 내보내기
+                    .requestMatchers("/api/vehicle/sales/import/**").hasAuthority("ROLE_대표") // 판매 내역 일괄 가져오기
+                    .requestMatchers("/api/vehicle/forecasts/refresh").hasAuthority("ROLE_대표") // 판매 예측 즉시 계산
+                    .requestMatchers("/api/commute/compliance/**").hasAnyAuthority("ROLE_지점대표", "ROLE_대표") // 주 52시간 점검 알림
                     .requestMatchers("/authorization/**", "/approval/**", "/notice/**","/board/**","/chat/**","/api/**","/commute/**","/vehicle/**","/clearNoticeNotification/**").authenticated()
                     .anyRequest().authenticated()  // 그 외 모든 요청은 인증 필요
             )
@@ -1,39 +1,57 @@
 package com.ware.spring.vehicle.controller;
 
-import java.io.File;
 import java.io.IOException;
+import java.nio.file.Path;
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import com.ware.spring.security.vo.SecurityUser;
-import com.ware.spring.vehicle.domain.Vehicle;
+import com.ware.spring.vehicle.domain.SalesQueryDto;
+import com.ware.spring.vehicle.domain.SalesRankDto;
 import com.ware.spring.vehicle.domain.VehicleDistributorSales;
 import com.ware.spring.vehicle.domain.VehicleDistributorSalesDto;
 import com.ware.spring.vehicle.domain.VehicleDto;
+import com.ware.spring.vehicle.domain.VehicleReservation;
 import com.ware.spring.vehicle.domain.VehicleSalesDto;
+import com.ware.spring.vehicle.domain.VehicleSalesMonthly;
 import com.ware.spring.vehicle.domain.VehicleSize;
 import com.ware.spring.vehicle.repository.VehicleDistributorSalesRepository;
-import com.ware.spring.vehicle.repository.VehicleRepository;
-import com.ware.spring.vehicle.repository.VehicleSalesRepository;
 import com.ware.spring.vehicle.repository.VehicleSizeRepository;
+import com.ware.spring.vehicle.service.SalesQueryService;
+import com.ware.spring.vehicle.service.SalesRankingService;
+import com.ware.spring.vehicle.service.SalesRegionService;
+import com.ware.spring.vehicle.service.VehicleImageService;
+import com.ware.spring.vehicle.service.VehicleReservationService;
 import com.ware.spring.vehicle.service.VehicleService;
 
+import jakarta.persistence.EntityNotFoundException;
+
 @RestController
 @RequestMapping("/api/vehicle")
 public class VehicleApiController {
@@ -41,13 +59,19 @@ public class VehicleApiController {
     @Autowired
     private VehicleService vehicleService;
     @Autowired
-    private VehicleSalesRepository vehicleSalesRepository;
-    @Autowired
-    private VehicleRepository vehicleRepository;
-    @Autowired
     private VehicleSizeRepository vehicleSizeRepository;
     @Autowired
     private VehicleDistributorSalesRepository vehicleDistributorSalesRepository;
+    @Autowired
+    private VehicleReservationService vehicleReservationService;
+    @Autowired
+    private SalesRankingService salesRankingService;
+    @Autowired
+    private SalesQueryService salesQueryService;
+    @Autowired
+    private VehicleImageService vehicleImageService;
+    @Autowired
+    private SalesRegionService salesRegionService;
 
     /**
      * 연간 개인 판매량 및 매출액을 조회합니다.
@@ -58,7 +82,7 @@ public class VehicleApiController {
      * @return 월별 판매량 및 매출액 정보가 담긴 Map
      */
     @GetMapping("/yearly")
-    public Map<String, Map<Integer, Integer>> getYearlySalesData(@RequestParam("year") int year, @RequestParam("memNo") Long memNo) {
+    public Map<String, Map<Integer, Long>> getYearlySalesData(@RequestParam("year") int year, @RequestParam("memNo") Long memNo) {
         return vehicleService.getYearlyIndividualSalesData(year, memNo);
     }
     /**
@@ -71,7 +95,7 @@ public class VehicleApiController {
      * @return 월간 판매량 및 매출액 정보가 담긴 Map
      */
     @GetMapping("/monthly")
-    public Map<String, Integer> getMonthlySalesData(@RequestParam("year") int year, @RequestParam("month") int month, @RequestParam("memNo") Long memNo) {
+    public Map<String, Long> getMonthlySalesData(@RequestParam("year") int year, @RequestParam("month") int month, @RequestParam("memNo") Long memNo) {
         return vehicleService.getMonthlyIndividualSalesData(year, month, memNo);
     }
     /**
@@ -96,30 +120,107 @@ public class VehicleApiController {
      */
     @GetMapping("/top-vehicles")
     public List<VehicleSalesDto> getTop5VehiclesBySales(@RequestParam("year") int year, @RequestParam("month") int month) {
-        LocalDate startDate = LocalDate.of(year, month, 1);
-        LocalDate endDate = startDate.withDayOfMonth(startDate.lengthOfMonth());
+        // 이번 달은 실시간 순위 스냅샷, 지난 달은 모델명까지 한 번에 묶어서 5행만 조회
+        return salesRankingService.getTopRanking(VehicleSalesMonthly.VEHICLE, YearMonth.of(year, month), 5).stream()
+                .map(rank -> VehicleSalesDto.builder()
+                        .vehicle(VehicleDto.builder()
+                                .vehicleNo(rank.getNo())
+                                .vehicleModel(rank.getName())
+                                .build())
+                        .saleCount((int) rank.getSaleCount())
+                        .salePrices(rank.getSalePrices())
+                        .build())
+                .collect(Collectors.toList());
+    }
 
-        List<Object[]> results = vehicleSalesRepository.findTop5VehiclesBySales(startDate, endDate);
+    /**
+     * 월간 판매 순위를 조회합니다.
+     * 설명: 지점/회원/차량별 판매 수량 순위를 DB에서 묶어 상위 limit 개만 반환합니다.
+     * 
+     * @param dimension distributor, member, vehicle 중 하나
+     * @param year 조회할 연도
+     * @param month 조회할 월
+     * @param limit 조회할 순위 수 (최대 50)
+     * @return 순위 목록
+     */
+    @GetMapping("/ranking/{dimension}")
+    public ResponseEntity<List<SalesRankDto>> getSalesRanking(@PathVariable("dimension") String dimension,
+                                                              @RequestParam("year") int year,
+                                                              @RequestParam("month") int month,
+                                                              @RequestParam(value = "limit", defaultValue = "10") int limit) {
+        try {
+            return ResponseEntity.ok(salesRankingService.getRanking(dimension.toUpperCase(), YearMonth.of(year, month), limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
 
-        return results.stream().map(result -> {
-            Long vehicleNo = ((Number) result[0]).longValue();
-            int saleCount = ((Number) result[1]).intValue();
-            int salePrices = ((Number) result[2]).intValue();
+    /**
+     * 이번 달 실시간 판매 순위 알림 (SSE, 순위가 바뀐 기준마다 1초에 최대 한 번 "leaderboard" 이벤트 전송)
+     */
+    @GetMapping("/leaderboard/sse")
+    public SseEmitter subscribeLeaderboard() {
+        return salesRankingService.subscribe();
+    }
 
-            Vehicle vehicle = vehicleRepository.findById(vehicleNo).orElse(null);
-            String vehicleModel = (vehicle != null) ? vehicle.getVehicleModel() : "Unknown Model";
+    /**
+     * 이번 달 실시간 판매 순위를 조회합니다.
+     * 설명: 판매가 기록될 때마다 갱신되는 메모리 순위표의 스냅샷(최대 1초 전)에서 상위 limit 개를 반환합니다.
+     * 
+     * @param dimension distributor, member, vehicle 중 하나
+     * @param limit 조회할 순위 수 (최대 50)
+     * @return 순위 목록
+     */
+    @GetMapping("/leaderboard/{dimension}")
+    public ResponseEntity<List<SalesRankDto>> getLeaderboard(@PathVariable("dimension") String dimension,
+                                                             @RequestParam(value = "limit", defaultValue = "10") int limit) {
+        try {
+            return ResponseEntity.ok(salesRankingService.getLeaderboard(dimension.toUpperCase(), limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
 
-            VehicleDto vehicleDto = VehicleDto.builder()
-                    .vehicleNo(vehicleNo)
-                    .vehicleModel(vehicleModel)
-                    .build();
+    /**
+     * 판매 분석 데이터를 조회합니다.
+     * 설명: 기준과 측정값을 골라 임의 기간의 판매를 묶어 반환합니다.
+     *        예) /api/vehicle/sales/query?dimensions=distributor,month&measures=count,revenue&from=2024-01-01&to=2024-12-31
+     * 
+     * @param salesQueryDto dimensions(member, distributor, vehicle, vehicle_size, day, week, month),
+     *                      measures(count, revenue), from, to(포함), memNo/distributorNo/vehicleNo/sizeNo(선택)
+     * @return 기준 값과 saleCount, salePrices 가 담긴 행 목록 (최대 5000행)
+     */
+    @GetMapping("/sales/query")
+    public ResponseEntity<?> querySales(@ModelAttribute SalesQueryDto salesQueryDto) {
+        try {
+            return ResponseEntity.ok(salesQueryService.query(salesQueryDto));
+        } catch (IllegalArgumentException e) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("res_msg", e.getMessage());
+            return ResponseEntity.badRequest().body(response);
+        }
+    }
 
-            return VehicleSalesDto.builder()
-                    .vehicle(vehicleDto)
-                    .saleCount(saleCount)
-                    .salePrices(salePrices)
-                    .build();
-        }).collect(Collectors.toList());
+    /**
+     * 지역별 판매 열지도 데이터를 조회합니다.
+     * 설명: 월별 집계의 지점별 합계를 지점 좌표 격자 칸별로 합쳐 반환합니다. (1분 캐시)
+     * 
+     * @param year 조회할 연도
+     * @param month 조회할 월 (없으면 연간)
+     * @param cellDegrees 칸 크기 (도 단위, 기본 0.1 = 약 11km)
+     * @return 칸 중심 위도/경도, 지점 수, 판매량, 매출액 목록 (매출 내림차순)
+     */
+    @GetMapping("/sales/heatmap")
+    public ResponseEntity<?> getSalesHeatmap(@RequestParam("year") int year,
+                                             @RequestParam(value = "month", required = false) Integer month,
+                                             @RequestParam(value = "cellDegrees", defaultValue = "0.1") double cellDegrees) {
+        try {
+            return ResponseEntity.ok(salesRegionService.getHeatmap(year, month, cellDegrees));
+        } catch (IllegalArgumentException e) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("res_msg", e.getMessage());
+            return ResponseEntity.badRequest().body(response);
+        }
     }
 
     /**
@@ -145,7 +246,7 @@ public class VehicleApiController {
         );
 
         int totalSaleCount = 0;
-        int totalSalePrices = 0;
+        long totalSalePrices = 0;
 
         for (VehicleDistributorSales sales : salesList) {
             totalSaleCount += sales.getDistributorSaleCount();
@@ -163,6 +264,7 @@ public class VehicleApiController {
     /**
      * 새로운 차량을 등록합니다.
      * 설명: 차량 정보와 이미지 파일을 받아서 차량을 저장하고, 이미지 파일은 지정된 경로에 저장합니다.
+     *        이미지는 내용 해시 파일명으로 저장하고 목록/상세용 축소본을 함께 만듭니다. (VehicleImageService)
      * 
      * @param vehicleDto 차량 정보가 담긴 DTO
      * @param file 차량 이미지 파일
@@ -180,21 +282,17 @@ public class VehicleApiController {
                     .orElseThrow(() -> new IllegalArgumentException("Invalid sizeNo: " + sizeNo));
             vehicleDto.setVehicleSize(vehicleSize);          
             if (file != null && !file.isEmpty()) {
-                String uploadDir = new File("src/main/resources/static/image/vehicles/").getAbsolutePath();
-                File directory = new File(uploadDir);
-                if (!directory.exists()) {
-                    directory.mkdirs();
-                }	
-                String filePath = uploadDir + "/" + file.getOriginalFilename();
-                File dest = new File(filePath);
-                file.transferTo(dest);
-
-                vehicleDto.setVehicleProfile("/image/vehicles/" + file.getOriginalFilename());
+                // 원본과 함께 목록/상세용 축소본을 만들어 둠
+                vehicleDto.setVehicleProfile(vehicleImageService.store(file));
             }
             vehicleService.saveVehicle(vehicleDto, vehicleDto.getVehicleProfile());
             response.put("success", true);
             response.put("res_msg", "차량이 성공적으로 등록되었습니다.");
             return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            response.put("success", false);
+            response.put("res_msg", e.getMessage());
+            return ResponseEntity.badRequest().body(response);
         } catch (IOException e) {
             e.printStackTrace();
             response.put("success", false);
@@ -207,4 +305,124 @@ public class VehicleApiController {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
         }
     }
+
+    /**
+     * 차량 이미지를 응답합니다.
+     * 설명: 파일명이 내용 해시라 내용이 바뀌지 않으므로 1년 immutable 캐시 헤더를 붙입니다.
+     *        브라우저는 만료 전까지 다시 요청하지 않고, 이미지를 바꾸면 새 파일명으로 저장됩니다.
+     * 
+     * @param fileName 원본({해시}.{확장자}) 또는 축소본({해시}_{너비}.jpg) 파일명
+     * @return 이미지 파일
+     */
+    @GetMapping("/images/{fileName:.+}")
+    public ResponseEntity<Resource> getImage(@PathVariable("fileName") String fileName) {
+        Path image = vehicleImageService.getImage(fileName);
+        if (image == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaTypeFactory.getMediaType(fileName).orElse(MediaType.APPLICATION_OCTET_STREAM))
+                .cacheControl(CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable())
+                .body(new FileSystemResource(image));
+    }
+
+    /**
+     * 차량 재고를 예약합니다.
+     * 설명: 재고가 충분하면 바로 차감하고 예약 번호를 반환합니다. 확정하지 않으면 유지 시간이 지난 뒤 재고가 복구됩니다.
+     * 
+     * @param vehicleNo 차량 번호
+     * @param saleCount 예약 수량
+     * @return 예약 번호와 만료 시각을 담은 응답
+     */
+    @PostMapping("/reservations")
+    public ResponseEntity<Map<String, Object>> reserveVehicle(@RequestParam("vehicleNo") Long vehicleNo,
+                                                              @RequestParam(value = "saleCount", defaultValue = "1") int saleCount) {
+        Map<String, Object> response = new HashMap<>();
+        try {
+            VehicleReservation reservation = vehicleReservationService.reserve(vehicleNo, saleCount, currentMemNo());
+            response.put("success", true);
+            response.put("reservationNo", reservation.getReservationNo());
+            response.put("expiresAt", reservation.getExpiresAt());
+            return ResponseEntity.ok(response);
+        } catch (EntityNotFoundException e) {
+            response.put("success", false);
+            response.put("res_msg", "차량을 찾을 수 없습니다.");
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
+        } catch (IllegalArgumentException e) {
+            response.put("success", false);
+            response.put("res_msg", e.getMessage());
+            return ResponseEntity.badRequest().body(response);
+        } catch (IllegalStateException e) {
+            // 재고 부족
+            response.put("success", false);
+            response.put("res_msg", e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+        }
+    }
+
+    /**
+     * 예약을 확정하여 판매로 기록합니다.
+     * 
+     * @param reservationNo 예약 번호
+     * @return 처리 결과
+     */
+    @PostMapping("/reservations/{reservationNo}/confirm")
+    public ResponseEntity<Map<String, Object>> confirmReservation(@PathVariable("reservationNo") Long reservationNo) {
+        Map<String, Object> response = new HashMap<>();
+        try {
+            vehicleReservationService.confirm(reservationNo, currentMemNo());
+            response.put("success", true);
+            response.put("res_msg", "판매가 등록되었습니다.");
+            return ResponseEntity.ok(response);
+        } catch (EntityNotFoundException e) {
+            response.put("success", false);
+            response.put("res_msg", "예약을 찾을 수 없습니다.");
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
+        } catch (AccessDeniedException e) {
+            response.put("success", false);
+            response.put("res_msg", e.getMessage());
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(response);
+        } catch (IllegalStateException e) {
+            // 이미 처리되었거나 만료된 예약
+            response.put("success", false);
+            response.put("res_msg", e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+        }
+    }
+
+    /**
+     * 예약을 취소하고 재고를 되돌립니다.
+     * 
+     * @param reservationNo 예약 번호
+     * @return 처리 결과
+     */
+    @PostMapping("/reservations/{reservationNo}/cancel")
+    public ResponseEntity<Map<String, Object>> cancelReservation(@PathVariable("reservationNo") Long reservationNo) {
+        Map<String, Object> response = new HashMap<>();
+        try {
+            vehicleReservationService.cancel(reservationNo, currentMemNo());
+            response.put("success", true);
+            response.put("res_msg", "예약이 취소되었습니다.");
+            return ResponseEntity.ok(response);
+        } catch (EntityNotFoundException e) {
+            response.put("success", false);
+            response.put("res_msg", "예약을 찾을 수 없습니다.");
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
+        } catch (AccessDeniedException e) {
+            response.put("success", false);
+            response.put("res_msg", e.getMessage());
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(response);
+        } catch (IllegalStateException e) {
+            // 이미 처리되었거나 만료된 예약
+            response.put("success", false);
+            response.put("res_msg", e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+        }
+    }
+
+    private Long currentMemNo() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        SecurityUser userDetails = (SecurityUser) authentication.getPrincipal();
+        return userDetails.getMember().getMemNo();
+    }
 }
@@ -0,0 +1,85 @@
+package com.ware.spring.vehicle.controller;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.ware.spring.vehicle.domain.SaleImportJob;
+import com.ware.spring.vehicle.service.VehicleSaleImportService;
+
+/**
+ * 판매 내역 일괄 가져오기 (대표 전용, WebSecurityConfig에서 제한)
+ */
+@RestController
+@RequestMapping("/api/vehicle/sales/import")
+public class VehicleSaleImportApiController {
+
+    private final VehicleSaleImportService vehicleSaleImportService;
+
+    public VehicleSaleImportApiController(VehicleSaleImportService vehicleSaleImportService) {
+        this.vehicleSaleImportService = vehicleSaleImportService;
+    }
+
+    /**
+     * 가져오기 시작
+     *
+     * @param file CSV 또는 XLSX (머리글: 판매일,사번,차량번호,수량,판매금액)
+     * @param deductInventory true이면 가져온 수량만큼 재고 차감
+     * @return 작업 상태 (jobId로 진행률 조회)
+     */
+    @PostMapping
+    public ResponseEntity<?> startImport(@RequestParam("file") MultipartFile file,
+                                         @RequestParam(value = "deductInventory", defaultValue = "false") boolean deductInventory) {
+        try {
+            return ResponseEntity.ok(vehicleSaleImportService.start(file, deductInventory));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        } catch (Exception e) {
+            e.printStackTrace();
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(Map.of("error", "판매 가져오기를 시작하는 중 오류가 발생했습니다."));
+        }
+    }
+
+    /**
+     * 가져오기 진행 상황 (처리한 행 수, 가져온 행 수, 오류 행 수, 진행률, 상태)
+     */
+    @GetMapping("/{jobId}")
+    public ResponseEntity<SaleImportJob> getImport(@PathVariable("jobId") String jobId) {
+        SaleImportJob job = vehicleSaleImportService.getJob(jobId);
+        return job != null ? ResponseEntity.ok(job) : ResponseEntity.notFound().build();
+    }
+
+    /**
+     * 오류 행 파일 다운로드 (줄 번호, 사유, 원본 열)
+     */
+    @GetMapping("/{jobId}/errors")
+    public ResponseEntity<Resource> downloadErrors(@PathVariable("jobId") String jobId) {
+        try {
+            Path file = vehicleSaleImportService.getErrorFile(jobId);
+            if (!Files.exists(file)) {
+                return ResponseEntity.notFound().build();
+            }
+            return ResponseEntity.ok()
+                    .contentType(new MediaType("text", "csv", StandardCharsets.UTF_8))
+                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + file.getFileName() + "\"")
+                    .body(new FileSystemResource(file));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+}
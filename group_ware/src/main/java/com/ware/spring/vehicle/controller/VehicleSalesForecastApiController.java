@@ -0,0 +1,67 @@
+package com.ware.spring.vehicle.controller;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.ware.spring.vehicle.domain.VehicleSalesForecast;
+import com.ware.spring.vehicle.service.VehicleSalesForecastService;
+
+/**
+ * 지점별 월말 판매 예측과 이상 판매 알림 (매일 새벽 계산된 vehicle_sales_forecast 조회)
+ */
+@RestController
+@RequestMapping("/api/vehicle/forecasts")
+public class VehicleSalesForecastApiController {
+
+    private final VehicleSalesForecastService vehicleSalesForecastService;
+
+    public VehicleSalesForecastApiController(VehicleSalesForecastService vehicleSalesForecastService) {
+        this.vehicleSalesForecastService = vehicleSalesForecastService;
+    }
+
+    /**
+     * 이번 달 전체 지점 예측 (예상 매출 내림차순)
+     */
+    @GetMapping
+    public List<VehicleSalesForecast> getForecasts() {
+        return vehicleSalesForecastService.getForecasts();
+    }
+
+    /**
+     * 전날 판매가 평소와 크게 다른 지점 (SPIKE, DROP)
+     */
+    @GetMapping("/anomalies")
+    public List<VehicleSalesForecast> getAnomalies() {
+        return vehicleSalesForecastService.getAnomalies();
+    }
+
+    /**
+     * 이번 달 지점 예측
+     */
+    @GetMapping("/{distributorNo}")
+    public ResponseEntity<VehicleSalesForecast> getForecast(@PathVariable("distributorNo") Long distributorNo) {
+        VehicleSalesForecast forecast = vehicleSalesForecastService.getForecast(distributorNo);
+        return forecast != null ? ResponseEntity.ok(forecast) : ResponseEntity.notFound().build();
+    }
+
+    /**
+     * 예측 즉시 다시 계산 (대표 전용, WebSecurityConfig에서 제한)
+     * @return 계산한 지점 수
+     */
+    @PostMapping("/refresh")
+    public ResponseEntity<?> refresh() {
+        try {
+            return ResponseEntity.ok(Map.of("distributors", vehicleSalesForecastService.refreshForecasts()));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("error", e.getMessage()));
+        }
+    }
+}
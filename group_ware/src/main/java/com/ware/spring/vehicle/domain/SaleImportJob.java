@@ -0,0 +1,37 @@
+package com.ware.spring.vehicle.domain;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SaleImportJob {
+
+    private String jobId;             // sale_import_{요청 시각}
+    private String fileName;          // 올린 파일 이름
+    private boolean deductInventory;  // true이면 가져온 수량만큼 재고 차감
+    private String status;            // QUEUED, RUNNING, DONE, FAILED
+    private long totalRows;           // 머리글을 뺀 전체 행 수
+    private long processedRows;       // 검사를 마친 행 수
+    private long importedRows;        // 판매 내역으로 기록된 행 수
+    private long errorRows;           // 오류로 건너뛴 행 수
+    private List<String> errors;      // 앞쪽 오류 (전체는 오류 파일)
+    private String errorMessage;      // 작업 전체가 실패한 경우
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+
+    // 진행률 (0 ~ 100)
+    public int getProgress() {
+        if (totalRows == 0) {
+            return "DONE".equals(status) ? 100 : 0;
+        }
+        return (int) Math.min(100, processedRows * 100 / totalRows);
+    }
+}
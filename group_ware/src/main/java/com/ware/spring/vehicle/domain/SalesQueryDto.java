@@ -0,0 +1,37 @@
+package com.ware.spring.vehicle.domain;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.format.annotation.DateTimeFormat;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 판매 분석 조회 조건 (SalesQueryService)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SalesQueryDto {
+
+    private List<String> dimensions; // MEMBER, DISTRIBUTOR, VEHICLE, VEHICLE_SIZE, DAY, WEEK, MONTH (묶는 순서대로)
+    private List<String> measures; // COUNT, REVENUE (비어 있으면 둘 다)
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate from; // 시작일 (포함)
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate to; // 종료일 (포함)
+
+    // 선택 조건 (값이 있으면 해당 번호의 판매만 집계)
+    private Long memNo;
+    private Long distributorNo;
+    private Long vehicleNo;
+    private Long sizeNo;
+}
@@ -0,0 +1,25 @@
+package com.ware.spring.vehicle.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 판매 순위 한 줄 (지점/회원/차량 공통)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SalesRankDto {
+
+    private int rank; // 1부터 시작
+    private String dimension; // VehicleSalesMonthly.MEMBER / DISTRIBUTOR / VEHICLE
+    private Long no; // 회원/지점/차량 번호
+    private String name; // 회원 이름, 지점명, 차량 모델명
+    private long saleCount;
+    private long salePrices;
+}
@@ -0,0 +1,24 @@
+package com.ware.spring.vehicle.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 지역(위도/경도 격자 칸)별 판매 합계
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SalesRegionDto {
+
+    private double latitude;       // 칸 중심 위도
+    private double longitude;      // 칸 중심 경도
+    private int distributorCount;  // 칸 안의 운영 중인 지점 수
+    private long saleCount;
+    private long salePrices;
+}
@@ -10,9 +10,11 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -20,7 +22,11 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "vehicle_distributor_sales")
+@Table(name = "vehicle_distributor_sales", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_vehicle_distributor_sales_distributor_date", columnNames = {"distributor_no", "sale_date"})
+}, indexes = {
+        @Index(name = "idx_vehicle_distributor_sales_date", columnList = "sale_date")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -45,7 +51,7 @@ public class VehicleDistributorSales {
     private Integer distributorSaleCount;
 
     @Column(name = "distributor_sale_prices", nullable = false)
-    private Integer distributorSalePrices;
+    private Long distributorSalePrices;
 
     @Column(name = "sale_date", nullable = false)
     private LocalDate saleDate;
@@ -22,7 +22,7 @@ public class VehicleDistributorSalesDto {
     private Distributor distributor; // Distributor 객체로 변경
     private Member member; // Member 객체로 변경
     private Integer distributorSaleCount; // Total number of sales for the distributor
-    private Integer distributorSalePrices; // Total sales price for the distributor
+    private Long distributorSalePrices; // Total sales price for the distributor
     private LocalDate saleDate;
 
     // 엔티티로 변환하는 메서드
@@ -1,5 +1,7 @@
 package com.ware.spring.vehicle.domain;
 
+import com.ware.spring.vehicle.service.VehicleImageService;
+
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -27,6 +29,16 @@ public class VehicleDto {
     private String vehicleRpm;
     private Integer vehiclePrice;
 
+    // 목록용 축소본 이미지 경로
+    public String getThumbnailUrl() {
+        return VehicleImageService.imageUrl(vehicleNo, vehicleProfile, VehicleImageService.THUMB_WIDTH);
+    }
+
+    // 상세 화면용 이미지 경로
+    public String getImageUrl() {
+        return VehicleImageService.imageUrl(vehicleNo, vehicleProfile, VehicleImageService.DETAIL_WIDTH);
+    }
+
     public Vehicle toEntity() {
         return Vehicle.builder()
                 .vehicleNo(vehicleNo)
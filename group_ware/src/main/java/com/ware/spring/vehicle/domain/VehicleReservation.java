@@ -0,0 +1,60 @@
+package com.ware.spring.vehicle.domain;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 차량 재고 예약 (HELD -> CONFIRMED / CANCELLED / EXPIRED)
+ * 설명: 예약 시점에 재고를 차감해 두고, 확정되면 판매 내역을 기록하며 취소/만료되면 재고를 되돌립니다.
+ */
+@Entity
+@Table(name = "vehicle_reservation", indexes = {
+        @Index(name = "idx_vehicle_reservation_status_expires", columnList = "status, expires_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class VehicleReservation {
+
+    public static final String HELD = "HELD";
+    public static final String CONFIRMED = "CONFIRMED";
+    public static final String CANCELLED = "CANCELLED";
+    public static final String EXPIRED = "EXPIRED";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "reservation_no")
+    private Long reservationNo;
+
+    @Column(name = "vehicle_no", nullable = false)
+    private Long vehicleNo;
+
+    @Column(name = "mem_no", nullable = false)
+    private Long memNo;
+
+    @Column(name = "sale_count", nullable = false)
+    private Integer saleCount;
+
+    @Column(name = "status", nullable = false, length = 10)
+    private String status;
+
+    @Column(name = "reserved_at", nullable = false)
+    private LocalDateTime reservedAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+}
@@ -10,6 +10,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -20,7 +21,11 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "vehicle_sales")
+@Table(name = "vehicle_sales", indexes = {
+        @Index(name = "idx_vehicle_sales_distributor_date", columnList = "distributor_no, sale_date"),
+        @Index(name = "idx_vehicle_sales_member_date", columnList = "mem_no, sale_date"),
+        @Index(name = "idx_vehicle_sales_date", columnList = "sale_date")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -23,7 +23,7 @@ public class VehicleSalesDto {
     private VehicleDto vehicle; // VehicleDto 사용
     private Member member; // Member 객체로 설정
     private int saleCount;
-    private int salePrices;
+    private long salePrices; // 집계 매출은 INT 범위를 넘을 수 있음
     private LocalDate saleDate;
 
     // 엔티티로 변환하는 메서드
@@ -34,7 +34,7 @@ public class VehicleSalesDto {
                 .vehicle(vehicle != null ? vehicle.toEntity() : null) // VehicleDto -> Vehicle
                 .member(member) // Member 객체로 설정
                 .saleCount(saleCount)
-                .salePrices(salePrices)
+                .salePrices(Math.toIntExact(salePrices)) // 판매 한 건의 금액
                 .saleDate(saleDate)
                 .build();
     }
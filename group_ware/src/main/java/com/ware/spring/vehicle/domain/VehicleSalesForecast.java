@@ -0,0 +1,85 @@
+package com.ware.spring.vehicle.domain;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 지점별 월말 판매 예측 (지점 x 월)
+ * 설명: VehicleSalesForecastService 가 매일 지점 일별 판매로 다시 계산해서 덮어씁니다.
+ *        anomaly 는 base_date 하루 판매가 평소 수준에서 크게 벗어났는지 (NONE, SPIKE, DROP) 입니다.
+ */
+@Entity
+@Table(name = "vehicle_sales_forecast", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_vehicle_sales_forecast_distributor_month", columnNames = {"distributor_no", "forecast_month"})
+}, indexes = {
+        @Index(name = "idx_vehicle_sales_forecast_month", columnList = "forecast_month")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class VehicleSalesForecast {
+
+    public static final String NONE = "NONE";
+    public static final String SPIKE = "SPIKE";
+    public static final String DROP = "DROP";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "forecast_no")
+    private Long forecastNo;
+
+    @Column(name = "distributor_no", nullable = false)
+    private Long distributorNo;
+
+    @Column(name = "forecast_month", nullable = false)
+    private LocalDate forecastMonth; // 예측 대상 월 1일
+
+    @Column(name = "base_date", nullable = false)
+    private LocalDate baseDate; // 마지막으로 반영한 판매일
+
+    @Column(name = "month_to_date_count", nullable = false)
+    private Long monthToDateCount;
+
+    @Column(name = "month_to_date_prices", nullable = false)
+    private Long monthToDatePrices;
+
+    @Column(name = "projected_count", nullable = false)
+    private Long projectedCount; // 월말 예상 판매 수량
+
+    @Column(name = "projected_prices", nullable = false)
+    private Long projectedPrices; // 월말 예상 매출액
+
+    @Column(name = "daily_level", nullable = false)
+    private Double dailyLevel; // 평활한 하루 판매 수량 (요일 보정 전)
+
+    @Column(name = "last_day_count", nullable = false)
+    private Integer lastDayCount; // base_date 판매 수량
+
+    @Column(name = "expected_count", nullable = false)
+    private Double expectedCount; // base_date 예상 판매 수량
+
+    @Column(name = "deviation", nullable = false)
+    private Double deviation; // (실제 - 예상) / 표준편차
+
+    @Column(name = "anomaly", nullable = false, length = 5)
+    private String anomaly;
+
+    @Column(name = "computed_at", nullable = false)
+    private LocalDateTime computedAt;
+}
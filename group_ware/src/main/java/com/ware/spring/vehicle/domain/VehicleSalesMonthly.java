@@ -0,0 +1,57 @@
+package com.ware.spring.vehicle.domain;
+
+import java.time.LocalDate;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 월별 판매 집계 (회원 x 월, 지점 x 월, 차량 x 월)
+ * 설명: 판매가 기록될 때마다 세 기준의 해당 월 행에 판매 수량과 매출액을 더합니다.
+ *        dimension 이 MEMBER 이면 dim_no 는 회원 번호, DISTRIBUTOR 이면 지점 번호, VEHICLE 이면 차량 번호입니다.
+ */
+@Entity
+@Table(name = "vehicle_sales_monthly", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_vehicle_sales_monthly_dim_month", columnNames = {"dimension", "dim_no", "start_of_month"})
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class VehicleSalesMonthly {
+
+    public static final String MEMBER = "MEMBER";
+    public static final String DISTRIBUTOR = "DISTRIBUTOR";
+    public static final String VEHICLE = "VEHICLE";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "monthly_no")
+    private Long monthlyNo;
+
+    @Column(name = "dimension", nullable = false, length = 12)
+    private String dimension;
+
+    @Column(name = "dim_no", nullable = false)
+    private Long dimNo;
+
+    @Column(name = "start_of_month", nullable = false)
+    private LocalDate startOfMonth; // 해당 월 1일
+
+    @Column(name = "sale_count", nullable = false)
+    private Long saleCount;
+
+    @Column(name = "sale_prices", nullable = false)
+    private Long salePrices;
+}
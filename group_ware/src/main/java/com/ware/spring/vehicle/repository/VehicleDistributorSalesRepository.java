@@ -1,12 +1,17 @@
 package com.ware.spring.vehicle.repository;
 
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.ware.spring.member.domain.Distributor;
 import com.ware.spring.vehicle.domain.VehicleDistributorSales;
@@ -16,13 +21,43 @@ public interface VehicleDistributorSalesRepository extends JpaRepository<Vehicle
     // 특정 부서의 특정 날짜에 대한 판매 데이터를 조회합니다.
     Optional<VehicleDistributorSales> findByDistributorAndSaleDate(Distributor distributor, LocalDate saleDate);
 
-    @Query("SELECT vds FROM VehicleDistributorSales vds WHERE YEAR(vds.saleDate) = :year AND MONTH(vds.saleDate) = :month ORDER BY vds.distributorSalePrices DESC")
-    List<VehicleDistributorSales> findTop5DepartmentsByMonth(@Param("year") int year, @Param("month") int month);
+    // 지점 당일 판매 누적 (행이 없으면 생성, 있으면 수량/매출을 더함, 지점+판매일 유니크 키 사용)
+    // mem_no 는 그날 첫 판매자로 남음
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO vehicle_distributor_sales (distributor_no, mem_no, sale_date, distributor_sale_count, distributor_sale_prices) " +
+                   "VALUES (:distributorNo, :memNo, :saleDate, :count, :prices) " +
+                   "ON DUPLICATE KEY UPDATE distributor_sale_count = distributor_sale_count + :count, " +
+                   "distributor_sale_prices = distributor_sale_prices + :prices",
+           nativeQuery = true)
+    int addDailySales(@Param("distributorNo") Long distributorNo,
+                      @Param("memNo") Long memNo,
+                      @Param("saleDate") LocalDate saleDate,
+                      @Param("count") int count,
+                      @Param("prices") long prices);
+
+    // 월별 조회는 날짜 범위 조건으로 변환 (sale_date 인덱스 사용), 상위 5행만 조회
+    default List<VehicleDistributorSales> findTop5DepartmentsByMonth(int year, int month) {
+        YearMonth yearMonth = YearMonth.of(year, month);
+        return findBySaleDateRangeOrderByPricesDesc(yearMonth.atDay(1), yearMonth.plusMonths(1).atDay(1), PageRequest.of(0, 5));
+    }
+    // 판매일 범위 조회 (from 이상, to 미만), 매출 내림차순
+    @Query("SELECT vds FROM VehicleDistributorSales vds WHERE vds.saleDate >= :from AND vds.saleDate < :to ORDER BY vds.distributorSalePrices DESC")
+    List<VehicleDistributorSales> findBySaleDateRangeOrderByPricesDesc(@Param("from") LocalDate from, @Param("to") LocalDate to, Pageable pageable);
 
     List<VehicleDistributorSales> findBySaleDateBetween(LocalDate startDate, LocalDate endDate);
 
-    @Query("SELECT vds FROM VehicleDistributorSales vds WHERE vds.saleDate BETWEEN :startDate AND :endDate ORDER BY vds.distributorSalePrices DESC")
-    List<VehicleDistributorSales> findTop5BySaleDateBetween(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+    default List<VehicleDistributorSales> findTop5BySaleDateBetween(LocalDate startDate, LocalDate endDate) {
+        return findBySaleDateRangeOrderByPricesDesc(startDate, endDate.plusDays(1), PageRequest.of(0, 5));
+    }
+
+    // 지점별 판매 순위 (from 이상, to 미만), [지점 번호, 지점명, 판매 수량 합계, 매출 합계], 판매 수량 내림차순
+    @Query("SELECT vds.distributor.distributorNo, vds.distributor.distributorName, SUM(vds.distributorSaleCount), SUM(vds.distributorSalePrices) " +
+           "FROM VehicleDistributorSales vds " +
+           "WHERE vds.saleDate >= :from AND vds.saleDate < :to " +
+           "GROUP BY vds.distributor.distributorNo, vds.distributor.distributorName " +
+           "ORDER BY SUM(vds.distributorSaleCount) DESC, SUM(vds.distributorSalePrices) DESC")
+    List<Object[]> rankDistributorsBySaleCount(@Param("from") LocalDate from, @Param("to") LocalDate to, Pageable pageable);
 
     // 특정 distributorNo의 모든 판매 기록을 가져오는 메서드
     List<VehicleDistributorSales> findByDistributor_DistributorNo(Long distributorNo);
@@ -42,12 +77,27 @@ public interface VehicleDistributorSalesRepository extends JpaRepository<Vehicle
     	                                                           @Param("endDate") LocalDate endDate);
     Optional<VehicleDistributorSales> findByDistributor_DistributorNoAndSaleDate(Long distributorNo, LocalDate saleDate);
 
-    @Query("SELECT ds FROM VehicleDistributorSales ds WHERE YEAR(ds.saleDate) = :year AND MONTH(ds.saleDate) = :month")
-    List<VehicleDistributorSales> findByMonth(@Param("year") int year, @Param("month") int month);
+    default List<VehicleDistributorSales> findByMonth(int year, int month) {
+        YearMonth yearMonth = YearMonth.of(year, month);
+        return findBySaleDateRange(yearMonth.atDay(1), yearMonth.plusMonths(1).atDay(1));
+    }
+
+    @Query("SELECT ds FROM VehicleDistributorSales ds WHERE ds.saleDate >= :from AND ds.saleDate < :to")
+    List<VehicleDistributorSales> findBySaleDateRange(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    default Integer getTotalSaleCountByMonth(int year, int month) {
+        YearMonth yearMonth = YearMonth.of(year, month);
+        return getTotalSaleCountBySaleDateRange(yearMonth.atDay(1), yearMonth.plusMonths(1).atDay(1));
+    }
+
+    @Query("SELECT SUM(ds.distributorSaleCount) FROM VehicleDistributorSales ds WHERE ds.saleDate >= :from AND ds.saleDate < :to")
+    Integer getTotalSaleCountBySaleDateRange(@Param("from") LocalDate from, @Param("to") LocalDate to);
 
-    @Query("SELECT SUM(ds.distributorSaleCount) FROM VehicleDistributorSales ds WHERE YEAR(ds.saleDate) = :year AND MONTH(ds.saleDate) = :month")
-    Integer getTotalSaleCountByMonth(@Param("year") int year, @Param("month") int month);
+    default Long getTotalSalePricesByMonth(int year, int month) {
+        YearMonth yearMonth = YearMonth.of(year, month);
+        return getTotalSalePricesBySaleDateRange(yearMonth.atDay(1), yearMonth.plusMonths(1).atDay(1));
+    }
 
-    @Query("SELECT SUM(ds.distributorSalePrices) FROM VehicleDistributorSales ds WHERE YEAR(ds.saleDate) = :year AND MONTH(ds.saleDate) = :month")
-    Integer getTotalSalePricesByMonth(@Param("year") int year, @Param("month") int month);
+    @Query("SELECT SUM(ds.distributorSalePrices) FROM VehicleDistributorSales ds WHERE ds.saleDate >= :from AND ds.saleDate < :to")
+    Long getTotalSalePricesBySaleDateRange(@Param("from") LocalDate from, @Param("to") LocalDate to);
 }
@@ -1,7 +1,31 @@
 package com.ware.spring.vehicle.repository;
 
+import java.util.Collection;
+import java.util.List;
+
 import com.ware.spring.vehicle.domain.Vehicle;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface VehicleRepository extends JpaRepository<Vehicle, Long> {
+
+    // 재고가 충분할 때만 차감 (조건부 UPDATE 한 번으로 처리, 재고 부족이면 0건)
+    @Transactional
+    @Modifying
+    @Query("UPDATE Vehicle v SET v.vehicleInventory = v.vehicleInventory - :count " +
+           "WHERE v.vehicleNo = :vehicleNo AND v.vehicleInventory >= :count")
+    int decrementInventory(@Param("vehicleNo") Long vehicleNo, @Param("count") int count);
+
+    // 예약 취소/만료 시 재고 복구
+    @Transactional
+    @Modifying
+    @Query("UPDATE Vehicle v SET v.vehicleInventory = v.vehicleInventory + :count WHERE v.vehicleNo = :vehicleNo")
+    int incrementInventory(@Param("vehicleNo") Long vehicleNo, @Param("count") int count);
+
+    // 판매 가져오기: 차량 번호 -> [번호, 가격] 일괄 조회
+    @Query("SELECT v.vehicleNo, v.vehiclePrice FROM Vehicle v WHERE v.vehicleNo IN :vehicleNos")
+    List<Object[]> findPricesByVehicleNos(@Param("vehicleNos") Collection<Long> vehicleNos);
 }
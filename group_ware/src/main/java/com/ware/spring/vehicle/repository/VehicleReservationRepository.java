@@ -0,0 +1,25 @@
+package com.ware.spring.vehicle.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.ware.spring.vehicle.domain.VehicleReservation;
+
+public interface VehicleReservationRepository extends JpaRepository<VehicleReservation, Long> {
+
+    // HELD 상태일 때만 상태 변경 (확정/취소/만료가 동시에 들어와도 한 건만 성공)
+    @Transactional
+    @Modifying
+    @Query("UPDATE VehicleReservation r SET r.status = :status " +
+           "WHERE r.reservationNo = :reservationNo AND r.status = 'HELD'")
+    int releaseHeld(@Param("reservationNo") Long reservationNo, @Param("status") String status);
+
+    // 만료 시각이 지난 예약
+    List<VehicleReservation> findByStatusAndExpiresAtBefore(String status, LocalDateTime now);
+}
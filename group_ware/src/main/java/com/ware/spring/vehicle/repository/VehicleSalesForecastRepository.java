@@ -0,0 +1,21 @@
+package com.ware.spring.vehicle.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.ware.spring.vehicle.domain.VehicleSalesForecast;
+
+public interface VehicleSalesForecastRepository extends JpaRepository<VehicleSalesForecast, Long> {
+
+    // 한 지점의 월 예측
+    Optional<VehicleSalesForecast> findByDistributorNoAndForecastMonth(Long distributorNo, LocalDate forecastMonth);
+
+    // 한 달의 전체 지점 예측, 예상 매출 내림차순
+    List<VehicleSalesForecast> findByForecastMonthOrderByProjectedPricesDesc(LocalDate forecastMonth);
+
+    // 특정 판매일 기준 이상 판매 지점 (anomaly 가 NONE 이 아닌 행), 벗어난 정도 내림차순
+    List<VehicleSalesForecast> findByBaseDateAndAnomalyNotOrderByDeviationDesc(LocalDate baseDate, String anomaly);
+}
@@ -0,0 +1,46 @@
+package com.ware.spring.vehicle.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.ware.spring.vehicle.domain.VehicleSalesMonthly;
+
+public interface VehicleSalesMonthlyRepository extends JpaRepository<VehicleSalesMonthly, Long> {
+
+    // 월별 판매 누적 (행이 없으면 생성, 있으면 수량/매출을 더함)
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO vehicle_sales_monthly (dimension, dim_no, start_of_month, sale_count, sale_prices) " +
+                   "VALUES (:dimension, :dimNo, :startOfMonth, :count, :prices) " +
+                   "ON DUPLICATE KEY UPDATE sale_count = sale_count + :count, sale_prices = sale_prices + :prices",
+           nativeQuery = true)
+    int addMonthlySales(@Param("dimension") String dimension,
+                        @Param("dimNo") Long dimNo,
+                        @Param("startOfMonth") LocalDate startOfMonth,
+                        @Param("count") long count,
+                        @Param("prices") long prices);
+
+    // 한 기준의 기간 집계 (from 이상, to 미만, 최대 12행/년)
+    @Query("SELECT m FROM VehicleSalesMonthly m WHERE m.dimension = :dimension AND m.dimNo = :dimNo " +
+           "AND m.startOfMonth >= :from AND m.startOfMonth < :to ORDER BY m.startOfMonth")
+    List<VehicleSalesMonthly> findSeries(@Param("dimension") String dimension,
+                                         @Param("dimNo") Long dimNo,
+                                         @Param("from") LocalDate from,
+                                         @Param("to") LocalDate to);
+
+    // 한 달의 기준별 전체 집계 (실시간 순위표 초기화용)
+    List<VehicleSalesMonthly> findByDimensionAndStartOfMonth(String dimension, LocalDate startOfMonth);
+
+    // 기간 내 기준 번호별 합계 (from 이상, to 미만), [기준 번호, 판매 수량 합계, 매출 합계]
+    @Query("SELECT m.dimNo, SUM(m.saleCount), SUM(m.salePrices) FROM VehicleSalesMonthly m " +
+           "WHERE m.dimension = :dimension AND m.startOfMonth >= :from AND m.startOfMonth < :to GROUP BY m.dimNo")
+    List<Object[]> sumByDimNo(@Param("dimension") String dimension,
+                              @Param("from") LocalDate from,
+                              @Param("to") LocalDate to);
+}
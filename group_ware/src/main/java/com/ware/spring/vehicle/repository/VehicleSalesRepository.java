@@ -1,8 +1,12 @@
 package com.ware.spring.vehicle.repository;
 
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.List;
+import java.util.stream.Collectors;
 
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -14,31 +18,61 @@ public interface VehicleSalesRepository extends JpaRepository<VehicleSales, Long
 
     @Query("SELECT SUM(vs.saleCount) FROM VehicleSales vs WHERE vs.vehicle.vehicleNo = :vehicleNo")
     Integer sumSaleCountByVehicleNo(@Param("vehicleNo") Long vehicleNo);
-    @Query("SELECT vs FROM VehicleSales vs WHERE YEAR(vs.saleDate) = :year AND MONTH(vs.saleDate) = :month")
-    List<VehicleSales> findSalesByMonth(@Param("year") int year, @Param("month") int month);
+    // 월별 조회는 날짜 범위 조건으로 변환 (sale_date 인덱스 사용)
+    default List<VehicleSales> findSalesByMonth(int year, int month) {
+        YearMonth yearMonth = YearMonth.of(year, month);
+        return findSalesBySaleDateRange(yearMonth.atDay(1), yearMonth.plusMonths(1).atDay(1));
+    }
+    // 판매일 범위 조회 (from 이상, to 미만)
+    @Query("SELECT vs FROM VehicleSales vs WHERE vs.saleDate >= :from AND vs.saleDate < :to")
+    List<VehicleSales> findSalesBySaleDateRange(@Param("from") LocalDate from, @Param("to") LocalDate to);
     List<VehicleSales> findByMember_MemNoAndSaleDateBetween(Long memNo, LocalDate startDate, LocalDate endDate);
 
-    @Query("SELECT SUM(vs.saleCount) FROM VehicleSales vs WHERE YEAR(vs.saleDate) = :year AND MONTH(vs.saleDate) = :month")
-    Integer sumSaleCountByMonth(@Param("year") int year, @Param("month") int month);
+    default Integer sumSaleCountByMonth(int year, int month) {
+        YearMonth yearMonth = YearMonth.of(year, month);
+        return sumSaleCountBySaleDateRange(yearMonth.atDay(1), yearMonth.plusMonths(1).atDay(1));
+    }
+    @Query("SELECT SUM(vs.saleCount) FROM VehicleSales vs WHERE vs.saleDate >= :from AND vs.saleDate < :to")
+    Integer sumSaleCountBySaleDateRange(@Param("from") LocalDate from, @Param("to") LocalDate to);
 
 
-    @Query(value = "SELECT v.vehicle.vehicleNo, SUM(v.saleCount), SUM(v.salePrices) " +
-            "FROM VehicleSales v " +
-            "WHERE v.saleDate BETWEEN :startDate AND :endDate " +
-            "GROUP BY v.vehicle.vehicleNo " +
-            "ORDER BY SUM(v.saleCount) DESC")
-	List<Object[]> findTop5VehiclesBySales(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
-	@Query("SELECT v.member.memNo, SUM(v.saleCount), SUM(v.salePrices) " +
-		       "FROM VehicleSales v " +
-		       "GROUP BY v.member.memNo " +
-		       "ORDER BY SUM(v.saleCount) DESC")
-		List<Object[]> findIndividualSalesRanking();
-	@Query("SELECT v.member, SUM(v.saleCount), SUM(v.salePrices) " +
-		       "FROM VehicleSales v " +
-		       "GROUP BY v.member " +
-		       "ORDER BY SUM(v.salePrices) DESC")
-		List<Object[]> findTop5MembersByRevenue();
+    // 차량별 판매 순위 [차량 번호, 판매 수량 합계, 매출 합계] (startDate ~ endDate 포함), 상위 5개
+    default List<Object[]> findTop5VehiclesBySales(LocalDate startDate, LocalDate endDate) {
+        return rankVehiclesBySaleCount(startDate, endDate.plusDays(1), PageRequest.of(0, 5)).stream()
+                .map(row -> new Object[] {row[0], row[2], row[3]})
+                .collect(Collectors.toList());
+    }
 
+    // 차량별 판매 순위 (from 이상, to 미만), [차량 번호, 모델명, 판매 수량 합계, 매출 합계], 판매 수량 내림차순
+    @Query("SELECT v.vehicle.vehicleNo, v.vehicle.vehicleModel, SUM(v.saleCount), SUM(v.salePrices) " +
+           "FROM VehicleSales v " +
+           "WHERE v.saleDate >= :from AND v.saleDate < :to " +
+           "GROUP BY v.vehicle.vehicleNo, v.vehicle.vehicleModel " +
+           "ORDER BY SUM(v.saleCount) DESC, SUM(v.salePrices) DESC")
+    List<Object[]> rankVehiclesBySaleCount(@Param("from") LocalDate from, @Param("to") LocalDate to, Pageable pageable);
 
-}
+    // 회원별 판매 순위 (from 이상, to 미만), [회원 번호, 이름, 판매 수량 합계, 매출 합계], 판매 수량 내림차순
+    @Query("SELECT v.member.memNo, v.member.memName, SUM(v.saleCount), SUM(v.salePrices) " +
+           "FROM VehicleSales v " +
+           "WHERE v.saleDate >= :from AND v.saleDate < :to " +
+           "GROUP BY v.member.memNo, v.member.memName " +
+           "ORDER BY SUM(v.saleCount) DESC, SUM(v.salePrices) DESC")
+    List<Object[]> rankMembersBySaleCount(@Param("from") LocalDate from, @Param("to") LocalDate to, Pageable pageable);
+
+    // 전체 기간 회원별 판매 순위 [회원 번호, 판매 수량 합계, 매출 합계]
+    @Query("SELECT v.member.memNo, SUM(v.saleCount), SUM(v.salePrices) " +
+           "FROM VehicleSales v " +
+           "GROUP BY v.member.memNo " +
+           "ORDER BY SUM(v.saleCount) DESC")
+    List<Object[]> findIndividualSalesRanking(Pageable pageable);
 
+    // 전체 기간 매출 상위 5명 [회원 번호, 이름, 판매 수량 합계, 매출 합계]
+    default List<Object[]> findTop5MembersByRevenue() {
+        return findMembersByRevenue(PageRequest.of(0, 5));
+    }
+    @Query("SELECT v.member.memNo, v.member.memName, SUM(v.saleCount), SUM(v.salePrices) " +
+           "FROM VehicleSales v " +
+           "GROUP BY v.member.memNo, v.member.memName " +
+           "ORDER BY SUM(v.salePrices) DESC")
+    List<Object[]> findMembersByRevenue(Pageable pageable);
+}
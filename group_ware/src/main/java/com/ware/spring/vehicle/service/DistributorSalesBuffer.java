@@ -0,0 +1,113 @@
+package com.ware.spring.vehicle.service;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.ware.spring.vehicle.repository.VehicleDistributorSalesRepository;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 지점 당일 판매 누적 버퍼 (선택 사항, vehicle.sales.buffer.enabled=true 일 때만 사용)
+ * 기술: ConcurrentHashMap + LongAdder, Spring @Scheduled
+ * 설명: 월말처럼 한 지점에 판매가 몰리면 지점+판매일 한 행의 UPDATE에 판매 트랜잭션이 줄을 서게 됩니다.
+ *        버퍼를 켜면 판매 트랜잭션은 커밋 후 메모리 누적값만 더하고, flush-millis 마다 지점별로 한 번씩 DB에 더합니다.
+ *        대신 집계 화면은 최대 flush-millis 만큼 늦게 반영되며, 서버가 비정상 종료되면 마지막 누적분이 빠질 수 있습니다.
+ *        (개인 판매 내역 vehicle_sales 는 버퍼와 관계없이 바로 기록되므로 원본으로 다시 집계할 수 있음)
+ */
+@Component
+public class DistributorSalesBuffer {
+
+    private final VehicleDistributorSalesRepository vehicleDistributorSalesRepository;
+    private final boolean enabled;
+
+    // "지점번호|판매일" -> 누적값
+    private final Map<String, Pending> pending = new ConcurrentHashMap<>();
+
+    public DistributorSalesBuffer(VehicleDistributorSalesRepository vehicleDistributorSalesRepository,
+                                  @Value("${vehicle.sales.buffer.enabled:false}") boolean enabled) {
+        this.vehicleDistributorSalesRepository = vehicleDistributorSalesRepository;
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 판매 누적 (트랜잭션 안에서 호출되면 커밋 이후에 더함, 롤백된 판매는 반영하지 않음)
+     */
+    public void add(Long distributorNo, Long memNo, LocalDate saleDate, int count, int prices) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    accumulate(distributorNo, memNo, saleDate, count, prices);
+                }
+            });
+        } else {
+            accumulate(distributorNo, memNo, saleDate, count, prices);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${vehicle.sales.buffer.flush-millis:3000}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        LocalDate staleBefore = LocalDate.now().minusDays(1);
+        for (Map.Entry<String, Pending> entry : pending.entrySet()) {
+            Pending sales = entry.getValue();
+            long count = sales.count.sumThenReset();
+            long prices = sales.prices.sumThenReset();
+            if (count != 0 || prices != 0) {
+                try {
+                    vehicleDistributorSalesRepository.addDailySales(sales.distributorNo, sales.memNo, sales.saleDate, (int) count, prices);
+                } catch (Exception e) {
+                    // 다음 주기에 다시 반영
+                    sales.count.add(count);
+                    sales.prices.add(prices);
+                    e.printStackTrace();
+                    continue;
+                }
+            }
+            // 이틀 지난 판매일은 더 이상 누적되지 않으므로 정리
+            if (sales.saleDate.isBefore(staleBefore) && sales.count.sum() == 0 && sales.prices.sum() == 0) {
+                pending.remove(entry.getKey(), sales);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private void accumulate(Long distributorNo, Long memNo, LocalDate saleDate, int count, int prices) {
+        Pending sales = pending.computeIfAbsent(distributorNo + "|" + saleDate, key -> new Pending(distributorNo, memNo, saleDate));
+        sales.count.add(count);
+        sales.prices.add(prices);
+    }
+
+    private static class Pending {
+        private final Long distributorNo;
+        private final Long memNo; // 행을 새로 만들 때 기록할 판매자
+        private final LocalDate saleDate;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder prices = new LongAdder();
+
+        private Pending(Long distributorNo, Long memNo, LocalDate saleDate) {
+            this.distributorNo = distributorNo;
+            this.memNo = memNo;
+            this.saleDate = saleDate;
+        }
+    }
+}
@@ -0,0 +1,271 @@
+package com.ware.spring.vehicle.service;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * 판매 가져오기 파일 읽기 (CSV, XLSX 첫 번째 시트)
+ * 기술: BufferedReader 한 줄씩 읽기, ZipFile + StAX
+ * 설명: 한 행씩 셀 문자열 목록으로 돌려주므로 파일 전체를 메모리에 올리지 않습니다.
+ *        CSV 는 UTF-8 로 읽을 수 없으면 엑셀 기본 저장 형식인 MS949 로 읽습니다.
+ *        XLSX 는 공유 문자열(sharedStrings.xml)만 미리 읽고, 시트 XML 은 행 단위로 읽습니다.
+ *        (날짜 셀은 엑셀 일련번호 그대로 돌려주며, 변환은 VehicleSaleImportService 에서 합니다)
+ */
+abstract class SaleFileReader implements Closeable {
+
+    static SaleFileReader open(Path file) throws IOException {
+        String name = file.getFileName().toString().toLowerCase();
+        if (name.endsWith(".xlsx")) {
+            return new Xlsx(file);
+        }
+        if (name.endsWith(".csv")) {
+            return new Csv(file);
+        }
+        throw new IllegalArgumentException("CSV 또는 XLSX 파일만 가져올 수 있습니다.");
+    }
+
+    /**
+     * 다음 행의 셀 목록 (파일 끝이면 null)
+     */
+    abstract List<String> next() throws IOException;
+
+    private static class Csv extends SaleFileReader {
+        private final BufferedReader reader;
+
+        private Csv(Path file) throws IOException {
+            Charset charset = isUtf8(file) ? StandardCharsets.UTF_8 : Charset.forName("MS949");
+            reader = Files.newBufferedReader(file, charset);
+            reader.mark(1);
+            if (reader.read() != '\uFEFF') { // BOM 건너뜀
+                reader.reset();
+            }
+        }
+
+        // 따옴표 안의 쉼표, 줄바꿈, "" 처리
+        @Override
+        List<String> next() throws IOException {
+            int c = reader.read();
+            if (c == -1) {
+                return null;
+            }
+            List<String> cells = new ArrayList<>();
+            StringBuilder cell = new StringBuilder();
+            boolean quoted = false;
+            while (c != -1) {
+                if (quoted) {
+                    if (c == '"') {
+                        reader.mark(1);
+                        if (reader.read() == '"') {
+                            cell.append('"');
+                        } else {
+                            reader.reset();
+                            quoted = false;
+                        }
+                    } else {
+                        cell.append((char) c);
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    cells.add(cell.toString());
+                    cell.setLength(0);
+                } else if (c == '\n') {
+                    break;
+                } else if (c != '\r') {
+                    cell.append((char) c);
+                }
+                c = reader.read();
+            }
+            cells.add(cell.toString());
+            return cells;
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+
+        private static boolean isUtf8(Path file) throws IOException {
+            CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+                    .onMalformedInput(CodingErrorAction.REPORT)
+                    .onUnmappableCharacter(CodingErrorAction.REPORT);
+            char[] buffer = new char[8192];
+            try (Reader in = new InputStreamReader(Files.newInputStream(file), decoder)) {
+                while (in.read(buffer) != -1) {
+                    // 끝까지 읽히면 UTF-8
+                }
+                return true;
+            } catch (CharacterCodingException e) {
+                return false;
+            }
+        }
+    }
+
+    private static class Xlsx extends SaleFileReader {
+        private final ZipFile zip;
+        private final InputStream sheetStream;
+        private final XMLStreamReader sheet;
+        private final List<String> sharedStrings = new ArrayList<>();
+
+        private Xlsx(Path file) throws IOException {
+            zip = new ZipFile(file.toFile());
+            try {
+                XMLInputFactory factory = XMLInputFactory.newInstance();
+                factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+                factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+
+                ZipEntry strings = zip.getEntry("xl/sharedStrings.xml");
+                if (strings != null) {
+                    readSharedStrings(factory, strings);
+                }
+                sheetStream = zip.getInputStream(firstSheet());
+                sheet = factory.createXMLStreamReader(sheetStream, "UTF-8");
+            } catch (XMLStreamException | RuntimeException e) {
+                zip.close();
+                throw new IOException("XLSX 파일을 읽을 수 없습니다.", e);
+            }
+        }
+
+        @Override
+        List<String> next() throws IOException {
+            try {
+                while (sheet.hasNext()) {
+                    if (sheet.next() == XMLStreamConstants.START_ELEMENT && "row".equals(sheet.getLocalName())) {
+                        return readRow();
+                    }
+                }
+                return null;
+            } catch (XMLStreamException e) {
+                throw new IOException("XLSX 시트를 읽을 수 없습니다.", e);
+            }
+        }
+
+        // <row><c r="B3" t="s"><v>0</v></c>...</row>
+        private List<String> readRow() throws XMLStreamException {
+            List<String> cells = new ArrayList<>();
+            String type = null;
+            StringBuilder value = null;
+            while (sheet.hasNext()) {
+                int event = sheet.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    String name = sheet.getLocalName();
+                    if ("c".equals(name)) {
+                        int column = column(sheet.getAttributeValue(null, "r"), cells.size());
+                        while (cells.size() < column) {
+                            cells.add("");
+                        }
+                        type = sheet.getAttributeValue(null, "t");
+                        value = new StringBuilder();
+                    } else if (("v".equals(name) || "t".equals(name)) && value != null) {
+                        value.append(sheet.getElementText());
+                    }
+                } else if (event == XMLStreamConstants.END_ELEMENT) {
+                    String name = sheet.getLocalName();
+                    if ("c".equals(name) && value != null) {
+                        String text = value.toString();
+                        cells.add("s".equals(type) && !text.isEmpty() ? sharedStrings.get(Integer.parseInt(text)) : text);
+                        value = null;
+                    } else if ("row".equals(name)) {
+                        break;
+                    }
+                }
+            }
+            return cells;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                sheet.close();
+            } catch (XMLStreamException e) {
+                // 파일은 아래에서 닫음
+            }
+            sheetStream.close();
+            zip.close();
+        }
+
+        private void readSharedStrings(XMLInputFactory factory, ZipEntry entry) throws IOException, XMLStreamException {
+            try (InputStream in = zip.getInputStream(entry)) {
+                XMLStreamReader reader = factory.createXMLStreamReader(in, "UTF-8");
+                StringBuilder text = null;
+                boolean phonetic = false; // <rPh> 안의 윗주 글자는 제외
+                while (reader.hasNext()) {
+                    int event = reader.next();
+                    if (event == XMLStreamConstants.START_ELEMENT) {
+                        String name = reader.getLocalName();
+                        if ("si".equals(name)) {
+                            text = new StringBuilder();
+                        } else if ("rPh".equals(name)) {
+                            phonetic = true;
+                        } else if ("t".equals(name) && text != null && !phonetic) {
+                            text.append(reader.getElementText());
+                        }
+                    } else if (event == XMLStreamConstants.END_ELEMENT) {
+                        String name = reader.getLocalName();
+                        if ("rPh".equals(name)) {
+                            phonetic = false;
+                        } else if ("si".equals(name)) {
+                            sharedStrings.add(text.toString());
+                            text = null;
+                        }
+                    }
+                }
+                reader.close();
+            }
+        }
+
+        // sheet1.xml 이 없으면 이름순으로 첫 번째 시트
+        private ZipEntry firstSheet() {
+            ZipEntry sheet1 = zip.getEntry("xl/worksheets/sheet1.xml");
+            if (sheet1 != null) {
+                return sheet1;
+            }
+            ZipEntry first = null;
+            Enumeration<? extends ZipEntry> entries = zip.entries();
+            while (entries.hasMoreElements()) {
+                ZipEntry entry = entries.nextElement();
+                if (entry.getName().startsWith("xl/worksheets/sheet") && entry.getName().endsWith(".xml")
+                        && (first == null || entry.getName().compareTo(first.getName()) < 0)) {
+                    first = entry;
+                }
+            }
+            if (first == null) {
+                throw new IllegalArgumentException("XLSX 파일에 시트가 없습니다.");
+            }
+            return first;
+        }
+
+        // "AB12" -> 27 (0부터), 셀 주소가 없으면 다음 열
+        private static int column(String ref, int next) {
+            if (ref == null) {
+                return next;
+            }
+            int column = 0;
+            for (int i = 0; i < ref.length() && Character.isLetter(ref.charAt(i)); i++) {
+                column = column * 26 + (Character.toUpperCase(ref.charAt(i)) - 'A' + 1);
+            }
+            return column - 1;
+        }
+    }
+}
@@ -0,0 +1,358 @@
+package com.ware.spring.vehicle.service;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.ware.spring.vehicle.domain.SalesQueryDto;
+import com.ware.spring.vehicle.domain.VehicleSalesMonthly;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
+/**
+ * 판매 분석 조회 (기준 x 측정값 x 기간)
+ * 기술: 정해진 JPQL 조각으로 GROUP BY 쿼리 조립, 월별 집계 테이블 우선 사용, ConcurrentHashMap 결과 캐시
+ * 설명: 기준(회원, 지점, 차량, 차종, 일, 주, 월)과 측정값(판매 수량, 매출액)을 골라 임의 기간의 판매를 쿼리 한 번으로 묶어 조회합니다.
+ *        요청 값은 미리 정해 둔 JPQL 식을 고르는 데만 쓰고, 번호와 날짜는 파라미터로 넘기므로 쿼리에 그대로 들어가지 않습니다.
+ *        기간이 월 단위로 맞고 회원/지점/차량 중 한 기준(과 월)만 묶으면 vehicle_sales_monthly 에서,
+ *        그 밖에는 vehicle_sales 에서 집계합니다.
+ *        주 단위는 JPQL 에 DB 공통 주 함수가 없어 일 단위로 묶은 뒤 월요일 기준으로 합칩니다.
+ *        결과는 조회 조건별로 CACHE_TTL_MILLIS 동안 보관하며, 판매가 커밋되면 그 판매일이 기간에 들어가는 결과만 지웁니다.
+ */
+@Service
+public class SalesQueryService {
+
+    public static final String MEMBER = VehicleSalesMonthly.MEMBER;
+    public static final String DISTRIBUTOR = VehicleSalesMonthly.DISTRIBUTOR;
+    public static final String VEHICLE = VehicleSalesMonthly.VEHICLE;
+    public static final String VEHICLE_SIZE = "VEHICLE_SIZE";
+    public static final String DAY = "DAY";
+    public static final String WEEK = "WEEK";
+    public static final String MONTH = "MONTH";
+
+    public static final String COUNT = "COUNT";
+    public static final String REVENUE = "REVENUE";
+
+    public static final int MAX_ROWS = 5_000;
+    private static final long CACHE_TTL_MILLIS = 60_000;
+    private static final int CACHE_MAX_SIZE = 1_000;
+
+    // 기준 -> {결과 키, vehicle_sales(s) 기준 JPQL 식} 목록
+    private static final Map<String, String[][]> RAW_COLUMNS = Map.of(
+            MEMBER, new String[][] {{"memNo", "s.member.memNo"}, {"memName", "s.member.memName"}},
+            DISTRIBUTOR, new String[][] {{"distributorNo", "s.distributor.distributorNo"}, {"distributorName", "s.distributor.distributorName"}},
+            VEHICLE, new String[][] {{"vehicleNo", "s.vehicle.vehicleNo"}, {"vehicleModel", "s.vehicle.vehicleModel"}},
+            VEHICLE_SIZE, new String[][] {{"sizeNo", "s.vehicle.vehicleSize.sizeNo"}, {"vehicleSize", "s.vehicle.vehicleSize.vehicleSize"}},
+            DAY, new String[][] {{"day", "s.saleDate"}},
+            WEEK, new String[][] {{"week", "s.saleDate"}},
+            MONTH, new String[][] {{"year", "year(s.saleDate)"}, {"month", "month(s.saleDate)"}});
+
+    // 월별 집계가 있는 기준 -> {엔티티, 번호 속성, 이름 속성} (이름은 vehicle_sales_monthly 와 조인해서 가져옴)
+    private static final Map<String, String[]> ROLLUP_ENTITIES = Map.of(
+            MEMBER, new String[] {"Member", "memNo", "memName"},
+            DISTRIBUTOR, new String[] {"Distributor", "distributorNo", "distributorName"},
+            VEHICLE, new String[] {"Vehicle", "vehicleNo", "vehicleModel"});
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // 조회 조건 -> 결과
+    private final Map<String, CachedResult> cache = new ConcurrentHashMap<>();
+    // 판매 반영으로 캐시를 지울 때마다 증가 (조회 중에 지워졌으면 그 결과는 캐시하지 않음)
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * 판매 분석 조회
+     * @return 행마다 기준 값(memNo, memName, day, week, year, month 등)과 측정값(saleCount, salePrices)
+     */
+    public List<Map<String, Object>> query(SalesQueryDto request) {
+        Criteria criteria = new Criteria(request);
+        long now = System.currentTimeMillis();
+        CachedResult cached = cache.get(criteria.key);
+        if (cached != null && cached.expiresAt > now) {
+            return cached.rows;
+        }
+
+        long startGeneration = generation.get();
+        String rollupDimension = rollupDimension(criteria);
+        List<Map<String, Object>> rows = Collections.unmodifiableList(rollupDimension != null
+                ? queryRollup(criteria, rollupDimension)
+                : queryRaw(criteria));
+
+        if (generation.get() == startGeneration) {
+            if (cache.size() >= CACHE_MAX_SIZE) {
+                cache.values().removeIf(entry -> entry.expiresAt <= now);
+            }
+            cache.put(criteria.key, new CachedResult(rows, criteria.from, criteria.to, now + CACHE_TTL_MILLIS));
+        }
+        return rows;
+    }
+
+    /**
+     * 판매 반영 (트랜잭션 안에서 호출되면 커밋 이후에 그 판매일이 들어가는 결과를 지움)
+     */
+    public void onSale(LocalDate saleDate) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(saleDate);
+                }
+            });
+        } else {
+            evict(saleDate);
+        }
+    }
+
+    private void evict(LocalDate saleDate) {
+        generation.incrementAndGet();
+        cache.values().removeIf(entry -> !saleDate.isBefore(entry.from) && saleDate.isBefore(entry.to));
+    }
+
+    // 월별 집계로 처리할 수 있으면 그 기준 (기간이 월 단위이고, 묶는 기준과 조건이 회원/지점/차량 중 하나 + 월)
+    private String rollupDimension(Criteria criteria) {
+        if (criteria.from.getDayOfMonth() != 1 || criteria.to.getDayOfMonth() != 1) {
+            return null;
+        }
+        Set<String> entities = new LinkedHashSet<>(criteria.filters.keySet());
+        for (String dimension : criteria.dimensions) {
+            if (!dimension.equals(MONTH)) {
+                entities.add(dimension);
+            }
+        }
+        if (entities.size() > 1 || !ROLLUP_ENTITIES.keySet().containsAll(entities)) {
+            return null;
+        }
+        // 기준 없이 합계만 필요하면 모든 판매가 들어가는 지점 집계 사용
+        return entities.isEmpty() ? DISTRIBUTOR : entities.iterator().next();
+    }
+
+    private List<Map<String, Object>> queryRaw(Criteria criteria) {
+        List<String> keys = new ArrayList<>();
+        List<String> groupBy = new ArrayList<>();
+        for (String dimension : criteria.dimensions) {
+            for (String[] column : RAW_COLUMNS.get(dimension)) {
+                keys.add(column[0]);
+                groupBy.add(column[1]);
+            }
+        }
+
+        StringBuilder where = new StringBuilder("s.saleDate >= :from AND s.saleDate < :to");
+        Map<String, Object> params = new LinkedHashMap<>();
+        params.put("from", criteria.from);
+        params.put("to", criteria.to);
+        for (Map.Entry<String, Long> filter : criteria.filters.entrySet()) {
+            String[] no = RAW_COLUMNS.get(filter.getKey())[0];
+            where.append(" AND ").append(no[1]).append(" = :").append(no[0]);
+            params.put(no[0], filter.getValue());
+        }
+
+        List<Object[]> rows = run(criteria, "VehicleSales s", where.toString(), groupBy, "s.saleCount", "s.salePrices", params);
+        if (criteria.dimensions.contains(WEEK)) {
+            rows = foldWeeks(rows, keys.indexOf("week"), keys.size());
+        }
+        return toMaps(criteria, keys, rows);
+    }
+
+    private List<Map<String, Object>> queryRollup(Criteria criteria, String rollupDimension) {
+        List<String> keys = new ArrayList<>();
+        List<String> groupBy = new ArrayList<>();
+        StringBuilder from = new StringBuilder("VehicleSalesMonthly m");
+        StringBuilder where = new StringBuilder("m.dimension = :dimension AND m.startOfMonth >= :from AND m.startOfMonth < :to");
+        Map<String, Object> params = new LinkedHashMap<>();
+        params.put("dimension", rollupDimension);
+        params.put("from", criteria.from);
+        params.put("to", criteria.to);
+
+        for (String dimension : criteria.dimensions) {
+            if (dimension.equals(MONTH)) {
+                keys.add("year");
+                groupBy.add("year(m.startOfMonth)");
+                keys.add("month");
+                groupBy.add("month(m.startOfMonth)");
+            } else {
+                String[] entity = ROLLUP_ENTITIES.get(dimension);
+                String[][] columns = RAW_COLUMNS.get(dimension);
+                from.append(", ").append(entity[0]).append(" x");
+                where.append(" AND x.").append(entity[1]).append(" = m.dimNo");
+                keys.add(columns[0][0]);
+                groupBy.add("m.dimNo");
+                keys.add(columns[1][0]);
+                groupBy.add("x." + entity[2]);
+            }
+        }
+        Long dimNo = criteria.filters.get(rollupDimension);
+        if (dimNo != null) {
+            where.append(" AND m.dimNo = :dimNo");
+            params.put("dimNo", dimNo);
+        }
+
+        List<Object[]> rows = run(criteria, from.toString(), where.toString(), groupBy, "m.saleCount", "m.salePrices", params);
+        return toMaps(criteria, keys, rows);
+    }
+
+    // SELECT 기준..., 측정값... FROM ... WHERE ... GROUP BY 기준... ORDER BY 기준...
+    private List<Object[]> run(Criteria criteria, String from, String where, List<String> groupBy,
+                               String countColumn, String pricesColumn, Map<String, Object> params) {
+        List<String> select = new ArrayList<>(groupBy);
+        for (String measure : criteria.measures) {
+            select.add(measure.equals(COUNT) ? "sum(" + countColumn + ")" : "sum(" + pricesColumn + ")");
+        }
+        StringBuilder jpql = new StringBuilder("SELECT ").append(String.join(", ", select))
+                .append(" FROM ").append(from)
+                .append(" WHERE ").append(where);
+        if (!groupBy.isEmpty()) {
+            jpql.append(" GROUP BY ").append(String.join(", ", groupBy))
+                .append(" ORDER BY ").append(String.join(", ", groupBy));
+        }
+
+        TypedQuery<Object[]> query = entityManager.createQuery(jpql.toString(), Object[].class);
+        params.forEach(query::setParameter);
+        query.setMaxResults(MAX_ROWS + 1);
+        List<Object[]> rows = query.getResultList();
+        if (rows.size() > MAX_ROWS) {
+            throw new IllegalArgumentException("조회 결과가 " + MAX_ROWS + "행을 넘습니다. 기간이나 기준을 줄여 주세요.");
+        }
+        return rows;
+    }
+
+    // 일 단위 행을 그 주 월요일로 바꾸어 합침 (정렬 순서 유지)
+    private static List<Object[]> foldWeeks(List<Object[]> rows, int weekIndex, int keyCount) {
+        Map<List<Object>, Object[]> folded = new LinkedHashMap<>();
+        for (Object[] row : rows) {
+            row[weekIndex] = ((LocalDate) row[weekIndex]).with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            Object[] sum = folded.putIfAbsent(Arrays.asList(Arrays.copyOf(row, keyCount)), row);
+            if (sum != null) {
+                for (int i = keyCount; i < row.length; i++) {
+                    sum[i] = toLong(sum[i]) + toLong(row[i]);
+                }
+            }
+        }
+        List<Object[]> result = new ArrayList<>(folded.values());
+        result.sort((a, b) -> {
+            for (int i = 0; i < keyCount; i++) {
+                int compared = compareKey(a[i], b[i]);
+                if (compared != 0) {
+                    return compared;
+                }
+            }
+            return 0;
+        });
+        return result;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static int compareKey(Object a, Object b) {
+        if (a == null || b == null) {
+            return a == null ? (b == null ? 0 : -1) : 1;
+        }
+        return ((Comparable) a).compareTo(b);
+    }
+
+    private static List<Map<String, Object>> toMaps(Criteria criteria, List<String> keys, List<Object[]> rows) {
+        List<Map<String, Object>> result = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            Map<String, Object> map = new LinkedHashMap<>();
+            for (int i = 0; i < keys.size(); i++) {
+                map.put(keys.get(i), row[i]);
+            }
+            for (int i = 0; i < criteria.measures.size(); i++) {
+                map.put(criteria.measures.get(i).equals(COUNT) ? "saleCount" : "salePrices", toLong(row[keys.size() + i]));
+            }
+            result.add(Collections.unmodifiableMap(map));
+        }
+        return result;
+    }
+
+    private static long toLong(Object value) {
+        return value != null ? ((Number) value).longValue() : 0;
+    }
+
+    // 검증하고 대문자/중복 제거한 조회 조건
+    private static class Criteria {
+        private final List<String> dimensions = new ArrayList<>();
+        private final List<String> measures = new ArrayList<>();
+        private final LocalDate from;
+        private final LocalDate to; // 종료일 다음 날 (미포함)
+        private final Map<String, Long> filters = new LinkedHashMap<>();
+        private final String key;
+
+        private Criteria(SalesQueryDto request) {
+            if (request.getFrom() == null || request.getTo() == null) {
+                throw new IllegalArgumentException("조회 기간(from, to)을 입력해 주세요.");
+            }
+            if (request.getTo().isBefore(request.getFrom())) {
+                throw new IllegalArgumentException("종료일이 시작일보다 빠릅니다.");
+            }
+            if (request.getDimensions() != null) {
+                for (String dimension : request.getDimensions()) {
+                    String normalized = dimension.trim().toUpperCase();
+                    if (!RAW_COLUMNS.containsKey(normalized)) {
+                        throw new IllegalArgumentException("Invalid sales dimension: " + dimension);
+                    }
+                    if (!dimensions.contains(normalized)) {
+                        dimensions.add(normalized);
+                    }
+                }
+            }
+            if (request.getMeasures() != null) {
+                for (String measure : request.getMeasures()) {
+                    String normalized = measure.trim().toUpperCase();
+                    if (!normalized.equals(COUNT) && !normalized.equals(REVENUE)) {
+                        throw new IllegalArgumentException("Invalid sales measure: " + measure);
+                    }
+                    if (!measures.contains(normalized)) {
+                        measures.add(normalized);
+                    }
+                }
+            }
+            if (measures.isEmpty()) {
+                measures.add(COUNT);
+                measures.add(REVENUE);
+            }
+            from = request.getFrom();
+            to = request.getTo().plusDays(1);
+            putFilter(MEMBER, request.getMemNo());
+            putFilter(DISTRIBUTOR, request.getDistributorNo());
+            putFilter(VEHICLE, request.getVehicleNo());
+            putFilter(VEHICLE_SIZE, request.getSizeNo());
+            key = dimensions + "|" + measures + "|" + from + "|" + to + "|" + filters;
+        }
+
+        private void putFilter(String dimension, Long no) {
+            if (no != null) {
+                filters.put(dimension, no);
+            }
+        }
+    }
+
+    private static class CachedResult {
+        private final List<Map<String, Object>> rows;
+        private final LocalDate from;
+        private final LocalDate to;
+        private final long expiresAt;
+
+        private CachedResult(List<Map<String, Object>> rows, LocalDate from, LocalDate to, long expiresAt) {
+            this.rows = rows;
+            this.from = from;
+            this.to = to;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
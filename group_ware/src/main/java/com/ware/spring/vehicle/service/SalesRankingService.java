@@ -0,0 +1,407 @@
+package com.ware.spring.vehicle.service;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.ware.spring.member.domain.Distributor;
+import com.ware.spring.member.repository.DistributorRepository;
+import com.ware.spring.member.repository.MemberRepository;
+import com.ware.spring.vehicle.domain.SalesRankDto;
+import com.ware.spring.vehicle.domain.VehicleDistributorSalesDto;
+import com.ware.spring.vehicle.domain.VehicleSalesMonthly;
+import com.ware.spring.vehicle.repository.VehicleDistributorSalesRepository;
+import com.ware.spring.vehicle.repository.VehicleRepository;
+import com.ware.spring.vehicle.repository.VehicleSalesMonthlyRepository;
+import com.ware.spring.vehicle.repository.VehicleSalesRepository;
+
+/**
+ * 판매 순위 (지점/회원/차량)
+ * 기술: GROUP BY + Pageable(LIMIT) 스칼라 조회, TreeSet 기반 실시간 순위표, SseEmitter
+ * 설명: 기간 순위는 DB에서 묶고 정렬한 뒤 상위 N행의 [번호, 이름, 수량, 매출]만 가져옵니다.
+ *        이번 달 순위는 기준마다 메모리 순위표를 두고 판매가 커밋될 때마다 해당 항목만 다시 정렬 위치에 넣습니다.
+ *        달이 바뀌거나 5분마다 월별 집계(vehicle_sales_monthly)로 다시 채웁니다.
+ *        순위표가 바뀐 기준은 1초에 한 번 상위 MAX_LIMIT 개의 스냅샷을 새로 만들고,
+ *        순위나 합계가 달라졌으면 구독 중인 화면에 "leaderboard" 이벤트로 보냅니다.
+ *        이번 달 순위 조회(실시간 순위, 홈 화면 상위 5개)는 이 스냅샷을 그대로 읽으므로 보는 사람이 많아도 DB 조회가 늘지 않습니다.
+ */
+@Service
+public class SalesRankingService {
+
+    public static final int MAX_LIMIT = 50;
+
+    // 판매 수량 내림차순, 매출 내림차순, 번호 오름차순
+    private static final Comparator<Standing> ORDER = Comparator.comparingLong((Standing s) -> s.saleCount).reversed()
+            .thenComparing(Comparator.comparingLong((Standing s) -> s.salePrices).reversed())
+            .thenComparingLong(s -> s.no);
+
+    private final VehicleSalesRepository vehicleSalesRepository;
+    private final VehicleDistributorSalesRepository vehicleDistributorSalesRepository;
+    private final VehicleSalesMonthlyRepository vehicleSalesMonthlyRepository;
+    private final DistributorRepository distributorRepository;
+    private final MemberRepository memberRepository;
+    private final VehicleRepository vehicleRepository;
+
+    private final Map<String, Leaderboard> leaderboards = new HashMap<>();
+    // 기준 -> 마지막으로 만든 이번 달 상위 MAX_LIMIT 개 (조회와 SSE 전송에 같이 사용, 만든 월과 함께 보관)
+    private final Map<String, Snapshot> snapshots = new ConcurrentHashMap<>();
+    // 마지막 스냅샷 이후 판매가 반영된 기준
+    private final Set<String> changed = ConcurrentHashMap.newKeySet();
+    // 기준별 번호 -> 이름 (지점명, 회원 이름, 차량 모델명, 5분마다 초기화)
+    private final Map<String, Map<Long, String>> names = new ConcurrentHashMap<>();
+    private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+
+    public SalesRankingService(VehicleSalesRepository vehicleSalesRepository,
+                               VehicleDistributorSalesRepository vehicleDistributorSalesRepository,
+                               VehicleSalesMonthlyRepository vehicleSalesMonthlyRepository,
+                               DistributorRepository distributorRepository,
+                               MemberRepository memberRepository,
+                               VehicleRepository vehicleRepository) {
+        this.vehicleSalesRepository = vehicleSalesRepository;
+        this.vehicleDistributorSalesRepository = vehicleDistributorSalesRepository;
+        this.vehicleSalesMonthlyRepository = vehicleSalesMonthlyRepository;
+        this.distributorRepository = distributorRepository;
+        this.memberRepository = memberRepository;
+        this.vehicleRepository = vehicleRepository;
+        for (String dimension : List.of(VehicleSalesMonthly.DISTRIBUTOR, VehicleSalesMonthly.MEMBER, VehicleSalesMonthly.VEHICLE)) {
+            leaderboards.put(dimension, new Leaderboard());
+            names.put(dimension, new ConcurrentHashMap<>());
+        }
+    }
+
+    // ===== 기간 순위 (DB) =====
+
+    /**
+     * 한 달의 판매 순위 (DB에서 상위 limit 행만 조회)
+     * @param dimension VehicleSalesMonthly.DISTRIBUTOR / MEMBER / VEHICLE
+     */
+    public List<SalesRankDto> getRanking(String dimension, YearMonth month, int limit) {
+        LocalDate from = month.atDay(1);
+        LocalDate to = month.plusMonths(1).atDay(1);
+        PageRequest page = PageRequest.of(0, clamp(limit));
+        List<Object[]> rows;
+        switch (dimension) {
+            case VehicleSalesMonthly.DISTRIBUTOR:
+                rows = vehicleDistributorSalesRepository.rankDistributorsBySaleCount(from, to, page);
+                break;
+            case VehicleSalesMonthly.MEMBER:
+                rows = vehicleSalesRepository.rankMembersBySaleCount(from, to, page);
+                break;
+            case VehicleSalesMonthly.VEHICLE:
+                rows = vehicleSalesRepository.rankVehiclesBySaleCount(from, to, page);
+                break;
+            default:
+                throw new IllegalArgumentException("Invalid ranking dimension: " + dimension);
+        }
+
+        List<SalesRankDto> ranking = new ArrayList<>();
+        for (Object[] row : rows) {
+            ranking.add(SalesRankDto.builder()
+                    .rank(ranking.size() + 1)
+                    .dimension(dimension)
+                    .no(((Number) row[0]).longValue())
+                    .name((String) row[1])
+                    .saleCount(row[2] != null ? ((Number) row[2]).longValue() : 0)
+                    .salePrices(row[3] != null ? ((Number) row[3]).longValue() : 0)
+                    .build());
+        }
+        return ranking;
+    }
+
+    /**
+     * 한 달의 상위 limit 개 (이번 달이면 실시간 순위 스냅샷, 지난 달이면 DB)
+     */
+    public List<SalesRankDto> getTopRanking(String dimension, YearMonth month, int limit) {
+        return month.equals(YearMonth.now()) ? getLeaderboard(dimension, limit) : getRanking(dimension, month, limit);
+    }
+
+    /**
+     * 월간 상위 5개 부서 (홈 화면 차트 응답 형식)
+     */
+    public List<VehicleDistributorSalesDto> getTop5Distributors(int year, int month) {
+        return getTopRanking(VehicleSalesMonthly.DISTRIBUTOR, YearMonth.of(year, month), 5).stream()
+                .map(rank -> VehicleDistributorSalesDto.builder()
+                        .distributor(Distributor.builder()
+                                .distributorNo(rank.getNo())
+                                .distributorName(rank.getName())
+                                .build())
+                        .distributorSaleCount((int) rank.getSaleCount())
+                        .distributorSalePrices(rank.getSalePrices())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    // ===== 이번 달 실시간 순위 (메모리) =====
+
+    /**
+     * 판매 한 건을 이번 달 순위표에 반영 (트랜잭션 안에서 호출되면 커밋 이후에 반영)
+     */
+    public void onSale(Long memNo, Long distributorNo, Long vehicleNo, LocalDate saleDate, int count, long prices) {
+        Runnable apply = () -> {
+            YearMonth month = YearMonth.from(saleDate);
+            addIfLoaded(VehicleSalesMonthly.MEMBER, month, memNo, count, prices);
+            addIfLoaded(VehicleSalesMonthly.DISTRIBUTOR, month, distributorNo, count, prices);
+            addIfLoaded(VehicleSalesMonthly.VEHICLE, month, vehicleNo, count, prices);
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply.run();
+                }
+            });
+        } else {
+            apply.run();
+        }
+    }
+
+    /**
+     * 이번 달 실시간 순위 (마지막 스냅샷의 앞쪽 limit 개, 최대 1초 전 상태)
+     */
+    public List<SalesRankDto> getLeaderboard(String dimension, int limit) {
+        Snapshot snapshot = snapshots.get(dimension);
+        List<SalesRankDto> ranking = snapshot != null && YearMonth.now().equals(snapshot.month)
+                ? snapshot.ranking : refreshSnapshot(dimension);
+        return ranking.subList(0, Math.min(clamp(limit), ranking.size()));
+    }
+
+    // ===== SSE =====
+
+    public SseEmitter subscribe() {
+        SseEmitter emitter = new SseEmitter(30L * 60L * 1000L); // 30분 타임아웃 설정
+        emitters.add(emitter);
+        emitter.onCompletion(() -> emitters.remove(emitter));
+        emitter.onTimeout(() -> emitters.remove(emitter));
+        emitter.onError((e) -> emitters.remove(emitter));
+        try {
+            emitter.send(SseEmitter.event().name("ping").data("keep-alive"));
+            // 구독 직후 화면을 바로 그릴 수 있도록 현재 순위 전송
+            for (String dimension : leaderboards.keySet()) {
+                emitter.send(SseEmitter.event().name("leaderboard").data(event(dimension, getLeaderboard(dimension, MAX_LIMIT))));
+            }
+        } catch (Exception e) {
+            emitters.remove(emitter);
+        }
+        return emitter;
+    }
+
+    // 1초 동안 들어온 판매를 모아 바뀐 기준의 스냅샷을 새로 만들고, 순위가 달라졌으면 전송
+    @Scheduled(fixedDelay = 1_000)
+    public void publishLeaderboards() {
+        YearMonth month = YearMonth.now();
+        for (String dimension : leaderboards.keySet()) {
+            Snapshot previous = snapshots.get(dimension);
+            // 달이 바뀐 기준은 판매가 없어도 새 달 순위로 교체
+            boolean stale = previous != null && !month.equals(previous.month);
+            if (!changed.remove(dimension) && !stale) {
+                continue;
+            }
+            List<SalesRankDto> current = refreshSnapshot(dimension);
+            if (previous == null || stale || !sameRanking(previous.ranking, current)) {
+                send(event(dimension, current));
+            }
+        }
+    }
+
+    // 커밋 직후 반영과 다시 채우기가 겹쳐 생길 수 있는 차이를 주기적으로 바로잡음
+    @Scheduled(fixedDelay = 300_000)
+    public void reloadLeaderboards() {
+        YearMonth month = YearMonth.now();
+        for (Map.Entry<String, Leaderboard> entry : leaderboards.entrySet()) {
+            entry.getValue().reset(month, vehicleSalesMonthlyRepository.findByDimensionAndStartOfMonth(entry.getKey(), month.atDay(1)));
+            names.get(entry.getKey()).clear();
+            changed.add(entry.getKey());
+        }
+    }
+
+    // 이번 달 순위표 (달이 바뀌었으면 월별 집계로 다시 채움)
+    private Leaderboard leaderboard(String dimension) {
+        Leaderboard board = leaderboards.get(dimension);
+        if (board == null) {
+            throw new IllegalArgumentException("Invalid ranking dimension: " + dimension);
+        }
+        reloadIfStale(dimension, board);
+        return board;
+    }
+
+    // 커밋된 판매 반영 (방금 월별 집계로 다시 채웠다면 이미 포함되어 있으므로 더하지 않음)
+    private void addIfLoaded(String dimension, YearMonth saleMonth, Long no, int count, long prices) {
+        Leaderboard board = leaderboards.get(dimension);
+        if (!reloadIfStale(dimension, board)) {
+            board.add(saleMonth, no, count, prices);
+        }
+        changed.add(dimension);
+    }
+
+    private boolean reloadIfStale(String dimension, Leaderboard board) {
+        YearMonth month = YearMonth.now();
+        if (month.equals(board.month)) {
+            return false;
+        }
+        board.reset(month, vehicleSalesMonthlyRepository.findByDimensionAndStartOfMonth(dimension, month.atDay(1)));
+        return true;
+    }
+
+    // 순위표 앞쪽 MAX_LIMIT 개로 스냅샷 생성
+    private List<SalesRankDto> refreshSnapshot(String dimension) {
+        YearMonth month = YearMonth.now();
+        List<Standing> top = leaderboard(dimension).top(MAX_LIMIT);
+        Map<Long, String> nameByNo = nameOf(dimension, top.stream().map(s -> s.no).collect(Collectors.toList()));
+
+        List<SalesRankDto> ranking = new ArrayList<>();
+        for (Standing standing : top) {
+            ranking.add(SalesRankDto.builder()
+                    .rank(ranking.size() + 1)
+                    .dimension(dimension)
+                    .no(standing.no)
+                    .name(nameByNo.get(standing.no))
+                    .saleCount(standing.saleCount)
+                    .salePrices(standing.salePrices)
+                    .build());
+        }
+        List<SalesRankDto> snapshot = Collections.unmodifiableList(ranking);
+        snapshots.put(dimension, new Snapshot(month, snapshot));
+        return snapshot;
+    }
+
+    private static boolean sameRanking(List<SalesRankDto> a, List<SalesRankDto> b) {
+        if (a.size() != b.size()) {
+            return false;
+        }
+        for (int i = 0; i < a.size(); i++) {
+            SalesRankDto x = a.get(i);
+            SalesRankDto y = b.get(i);
+            if (!x.getNo().equals(y.getNo()) || x.getSaleCount() != y.getSaleCount() || x.getSalePrices() != y.getSalePrices()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Map<String, Object> event(String dimension, List<SalesRankDto> ranking) {
+        Map<String, Object> event = new HashMap<>();
+        event.put("dimension", dimension);
+        event.put("ranking", ranking);
+        return event;
+    }
+
+    private void send(Map<String, Object> event) {
+        List<SseEmitter> deadEmitters = new ArrayList<>();
+        for (SseEmitter emitter : emitters) {
+            try {
+                emitter.send(SseEmitter.event().name("leaderboard").data(event));
+            } catch (Exception e) {
+                deadEmitters.add(emitter);
+            }
+        }
+        emitters.removeAll(deadEmitters);
+    }
+
+    // 이름 조회 (처음 보는 번호만 DB에서 읽음)
+    private Map<Long, String> nameOf(String dimension, List<Long> nos) {
+        Map<Long, String> cached = names.get(dimension);
+        List<Long> missing = nos.stream().filter(no -> !cached.containsKey(no)).collect(Collectors.toList());
+        if (!missing.isEmpty()) {
+            switch (dimension) {
+                case VehicleSalesMonthly.DISTRIBUTOR:
+                    distributorRepository.findAllById(missing)
+                            .forEach(d -> cached.put(d.getDistributorNo(), d.getDistributorName()));
+                    break;
+                case VehicleSalesMonthly.MEMBER:
+                    memberRepository.findAllById(missing)
+                            .forEach(m -> cached.put(m.getMemNo(), m.getMemName()));
+                    break;
+                default:
+                    vehicleRepository.findAllById(missing)
+                            .forEach(v -> cached.put(v.getVehicleNo(), v.getVehicleModel()));
+            }
+        }
+        return cached;
+    }
+
+    private static int clamp(int limit) {
+        return Math.max(1, Math.min(limit, MAX_LIMIT));
+    }
+
+    private static class Snapshot {
+        private final YearMonth month;
+        private final List<SalesRankDto> ranking;
+
+        private Snapshot(YearMonth month, List<SalesRankDto> ranking) {
+            this.month = month;
+            this.ranking = ranking;
+        }
+    }
+
+    // 한 기준의 이번 달 순위표 (항목별 합계 + 정렬된 집합)
+    private static class Leaderboard {
+        private volatile YearMonth month;
+        private final Map<Long, Standing> standings = new HashMap<>();
+        private final TreeSet<Standing> order = new TreeSet<>(ORDER);
+
+        private synchronized void add(YearMonth saleMonth, Long no, long count, long prices) {
+            if (!saleMonth.equals(month)) {
+                return; // 지난 달 판매는 순위표에 반영하지 않음
+            }
+            Standing old = standings.get(no);
+            if (old != null) {
+                order.remove(old);
+            }
+            Standing updated = old == null
+                    ? new Standing(no, count, prices)
+                    : new Standing(no, old.saleCount + count, old.salePrices + prices);
+            standings.put(no, updated);
+            order.add(updated);
+        }
+
+        private synchronized List<Standing> top(int limit) {
+            List<Standing> top = new ArrayList<>(limit);
+            Iterator<Standing> it = order.iterator();
+            while (it.hasNext() && top.size() < limit) {
+                top.add(it.next());
+            }
+            return top;
+        }
+
+        private synchronized void reset(YearMonth month, List<VehicleSalesMonthly> rows) {
+            standings.clear();
+            order.clear();
+            for (VehicleSalesMonthly row : rows) {
+                Standing standing = new Standing(row.getDimNo(), row.getSaleCount(), row.getSalePrices());
+                standings.put(standing.no, standing);
+                order.add(standing);
+            }
+            this.month = month;
+        }
+    }
+
+    private static class Standing {
+        private final long no;
+        private final long saleCount;
+        private final long salePrices;
+
+        private Standing(long no, long saleCount, long salePrices) {
+            this.no = no;
+            this.saleCount = saleCount;
+            this.salePrices = salePrices;
+        }
+    }
+}
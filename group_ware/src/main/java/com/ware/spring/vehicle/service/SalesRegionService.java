@@ -0,0 +1,109 @@
+package com.ware.spring.vehicle.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Service;
+
+import com.ware.spring.member.domain.DistributorLocationDto;
+import com.ware.spring.member.service.DistributorGeoService;
+import com.ware.spring.vehicle.domain.SalesRegionDto;
+import com.ware.spring.vehicle.domain.VehicleSalesMonthly;
+import com.ware.spring.vehicle.repository.VehicleSalesMonthlyRepository;
+
+/**
+ * 지역별 판매 열지도 (위도/경도 격자 칸별 판매 합계)
+ * 기술: 월별 집계(vehicle_sales_monthly) 지점 합계 쿼리 한 번 + 메모리 지점 위치 색인(DistributorGeoService), ConcurrentHashMap 결과 캐시
+ * 설명: 기간의 지점별 판매 합계를 월별 집계에서 한 번에 읽고, 색인된 지점 좌표로 칸을 정해 합칩니다.
+ *        같은 조건은 CACHE_TTL_MILLIS 동안 캐시된 결과를 돌려주므로 지도를 움직여도 다시 조회하지 않습니다.
+ *        위치가 없거나 폐점한 지점의 판매는 열지도에 포함되지 않습니다.
+ */
+@Service
+public class SalesRegionService {
+
+    public static final double MIN_CELL_DEGREES = 0.01;
+    public static final double MAX_CELL_DEGREES = 5;
+    private static final long CACHE_TTL_MILLIS = 60_000;
+    private static final int CACHE_MAX_SIZE = 200;
+
+    private final VehicleSalesMonthlyRepository vehicleSalesMonthlyRepository;
+    private final DistributorGeoService distributorGeoService;
+
+    private final Map<String, CachedHeatmap> cache = new ConcurrentHashMap<>();
+
+    public SalesRegionService(VehicleSalesMonthlyRepository vehicleSalesMonthlyRepository,
+                              DistributorGeoService distributorGeoService) {
+        this.vehicleSalesMonthlyRepository = vehicleSalesMonthlyRepository;
+        this.distributorGeoService = distributorGeoService;
+    }
+
+    /**
+     * 지역별 판매 합계
+     * @param year 연도
+     * @param month 월 (null이면 연간)
+     * @param cellDegrees 칸 크기 (도 단위, MIN_CELL_DEGREES ~ MAX_CELL_DEGREES)
+     * @return 매출 내림차순 칸 목록
+     */
+    public List<SalesRegionDto> getHeatmap(int year, Integer month, double cellDegrees) {
+        if (month != null && (month < 1 || month > 12)) {
+            throw new IllegalArgumentException("월은 1 ~ 12 사이여야 합니다.");
+        }
+        if (!(cellDegrees >= MIN_CELL_DEGREES && cellDegrees <= MAX_CELL_DEGREES)) {
+            throw new IllegalArgumentException("칸 크기는 " + MIN_CELL_DEGREES + " ~ " + MAX_CELL_DEGREES + "도 사이여야 합니다.");
+        }
+        LocalDate from = month != null ? LocalDate.of(year, month, 1) : LocalDate.of(year, 1, 1);
+        LocalDate to = month != null ? from.plusMonths(1) : from.plusYears(1);
+
+        String key = from + "|" + to + "|" + cellDegrees;
+        long now = System.currentTimeMillis();
+        CachedHeatmap cached = cache.get(key);
+        if (cached != null && cached.expiresAt > now) {
+            return cached.regions;
+        }
+
+        Map<Long, long[]> sales = new HashMap<>();
+        for (Object[] row : vehicleSalesMonthlyRepository.sumByDimNo(VehicleSalesMonthly.DISTRIBUTOR, from, to)) {
+            sales.put(((Number) row[0]).longValue(), new long[] { ((Number) row[1]).longValue(), ((Number) row[2]).longValue() });
+        }
+
+        Map<Long, SalesRegionDto> cells = new HashMap<>();
+        for (DistributorLocationDto location : distributorGeoService.getLocations()) {
+            long row = (long) Math.floor(location.getDistributorLatitude() / cellDegrees);
+            long col = (long) Math.floor(location.getDistributorLongitude() / cellDegrees);
+            SalesRegionDto cell = cells.computeIfAbsent((row << 32) | (col & 0xffffffffL), k -> SalesRegionDto.builder()
+                    .latitude((row + 0.5) * cellDegrees)
+                    .longitude((col + 0.5) * cellDegrees)
+                    .build());
+            long[] total = sales.getOrDefault(location.getDistributorNo(), new long[2]);
+            cell.setDistributorCount(cell.getDistributorCount() + 1);
+            cell.setSaleCount(cell.getSaleCount() + total[0]);
+            cell.setSalePrices(cell.getSalePrices() + total[1]);
+        }
+
+        List<SalesRegionDto> regions = new ArrayList<>(cells.values());
+        regions.sort(Comparator.comparingLong(SalesRegionDto::getSalePrices).reversed());
+        regions = Collections.unmodifiableList(regions);
+
+        if (cache.size() >= CACHE_MAX_SIZE) {
+            cache.values().removeIf(entry -> entry.expiresAt <= now);
+        }
+        cache.put(key, new CachedHeatmap(regions, now + CACHE_TTL_MILLIS));
+        return regions;
+    }
+
+    private static class CachedHeatmap {
+        private final List<SalesRegionDto> regions;
+        private final long expiresAt;
+
+        private CachedHeatmap(List<SalesRegionDto> regions, long expiresAt) {
+            this.regions = regions;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.ware.spring.vehicle.service;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.regex.Pattern;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * 차량 이미지 저장과 축소본 생성
+ * 기술: SHA-256 내용 해시 파일명, ImageIO + Graphics2D 축소
+ * 설명: 업로드할 때 원본과 함께 목록용(THUMB_WIDTH)과 상세용(DETAIL_WIDTH) 축소본을 미리 만들어 둡니다.
+ *        파일명이 내용 해시라 같은 이름의 파일 내용이 바뀌는 일이 없으므로,
+ *        응답에 immutable 캐시 헤더를 붙여 브라우저가 다시 요청하지 않게 할 수 있습니다.
+ */
+@Service
+public class VehicleImageService {
+
+    // 이미지 응답 경로 (VehicleApiController.getImage)
+    public static final String IMAGE_URL = "/api/vehicle/images/";
+    public static final int THUMB_WIDTH = 320;
+    public static final int DETAIL_WIDTH = 960;
+
+    private static final Pattern FILE_NAME = Pattern.compile("[0-9a-f]{64}(_\\d+\\.jpg|\\.(png|jpg|jpeg|gif|bmp))");
+    private static final long MAX_PIXELS = 40_000_000L; // 이보다 큰 이미지는 거부 (메모리 보호)
+
+    private final Path imageDir;
+
+    public VehicleImageService(@Value("${vehicle.image.dir:C:/document/vehicle-image/}") String imageDir) {
+        this.imageDir = Paths.get(imageDir);
+    }
+
+    /**
+     * 차량 이미지 저장
+     * 설명: 원본은 {해시}.{확장자}, 축소본은 {해시}_{너비}.jpg 로 저장합니다.
+     *        같은 이미지를 다시 올리면 이미 있는 파일을 그대로 씁니다.
+     *
+     * @param file 업로드된 이미지
+     * @return 차량 프로필로 저장할 원본 이미지 경로 (/api/vehicle/images/{해시}.{확장자})
+     */
+    public String store(MultipartFile file) throws IOException {
+        String ext = extension(file.getOriginalFilename());
+        byte[] bytes = file.getBytes();
+        BufferedImage image = read(bytes);
+
+        String hash = sha256(bytes);
+        Files.createDirectories(imageDir);
+        Path original = imageDir.resolve(hash + "." + ext);
+        if (!Files.exists(original)) {
+            writeAtomically(original, bytes);
+        }
+        for (int width : new int[] { THUMB_WIDTH, DETAIL_WIDTH }) {
+            Path rendition = imageDir.resolve(hash + "_" + width + ".jpg");
+            if (!Files.exists(rendition)) {
+                writeRendition(image, width, rendition);
+            }
+        }
+        return IMAGE_URL + original.getFileName();
+    }
+
+    /**
+     * 응답할 이미지 파일 (해시 파일명 형식이 아니거나 없으면 null)
+     */
+    public Path getImage(String fileName) {
+        if (fileName == null || !FILE_NAME.matcher(fileName).matches()) {
+            return null;
+        }
+        Path file = imageDir.resolve(fileName);
+        return Files.isRegularFile(file) ? file : null;
+    }
+
+    /**
+     * 차량 프로필의 축소본 경로
+     * 설명: 업로드 때 축소본을 만든 이미지만 바꾸고, 예전 방식으로 저장된 이미지는 원본 경로를 그대로 씁니다.
+     *        (초기 데이터는 static/image/vehicles/{차량 번호}/{파일명})
+     */
+    public static String imageUrl(Long vehicleNo, String profile, int width) {
+        if (profile == null || profile.isBlank()) {
+            return null;
+        }
+        if (profile.startsWith(IMAGE_URL) && profile.lastIndexOf('.') > IMAGE_URL.length()) {
+            return profile.substring(0, profile.lastIndexOf('.')) + "_" + width + ".jpg";
+        }
+        if (profile.startsWith("/")) {
+            return profile;
+        }
+        return "/image/vehicles/" + vehicleNo + "/" + profile;
+    }
+
+    // 헤더의 크기를 먼저 확인한 뒤 디코딩 (작은 파일이 큰 크기를 선언한 경우 메모리를 잡기 전에 거부)
+    BufferedImage read(byte[] bytes) throws IOException {
+        try (InputStream in = new ByteArrayInputStream(bytes);
+             ImageInputStream input = ImageIO.createImageInputStream(in)) {
+            Iterator<ImageReader> readers = input != null ? ImageIO.getImageReaders(input) : null;
+            if (readers == null || !readers.hasNext()) {
+                throw new IllegalArgumentException("이미지 파일만 등록할 수 있습니다.");
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                if ((long) reader.getWidth(0) * reader.getHeight(0) > MAX_PIXELS) {
+                    throw new IllegalArgumentException("이미지 해상도가 너무 큽니다.");
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // 너비를 width 로 줄인 JPEG (원본이 더 작으면 크기 유지, 투명 영역은 흰색)
+    private void writeRendition(BufferedImage image, int width, Path target) throws IOException {
+        int targetWidth = Math.min(width, image.getWidth());
+        int targetHeight = Math.max(1, (int) Math.round((double) image.getHeight() * targetWidth / image.getWidth()));
+
+        BufferedImage scaled = new BufferedImage(targetWidth, targetHeight, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = scaled.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, targetWidth, targetHeight);
+            g.drawImage(image, 0, 0, targetWidth, targetHeight, null);
+        } finally {
+            g.dispose();
+        }
+
+        Path temp = Files.createTempFile(imageDir, "rendition", ".tmp");
+        try {
+            ImageIO.write(scaled, "jpg", temp.toFile());
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    // 다 쓰기 전의 파일이 응답되지 않도록 임시 파일에 쓴 뒤 이동
+    private void writeAtomically(Path target, byte[] bytes) throws IOException {
+        Path temp = Files.createTempFile(imageDir, "upload", ".tmp");
+        try {
+            Files.write(temp, bytes);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private static String extension(String fileName) {
+        String name = fileName == null ? "" : new File(fileName).getName().toLowerCase();
+        int dot = name.lastIndexOf('.');
+        String ext = dot < 0 ? "" : name.substring(dot + 1);
+        if (!ext.matches("png|jpg|jpeg|gif|bmp")) {
+            throw new IllegalArgumentException("PNG, JPG, GIF, BMP 이미지만 등록할 수 있습니다.");
+        }
+        return ext;
+    }
+
+    private static String sha256(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.ware.spring.vehicle.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.ware.spring.vehicle.domain.VehicleReservation;
+import com.ware.spring.vehicle.repository.VehicleRepository;
+import com.ware.spring.vehicle.repository.VehicleReservationRepository;
+
+import jakarta.persistence.EntityNotFoundException;
+
+/**
+ * 차량 재고 예약 (예약 -> 확정 / 취소)
+ * 기술: 조건부 UPDATE (재고 차감, 예약 상태 변경), Spring @Scheduled
+ * 설명: 예약 시 "재고 >= 수량" 조건의 UPDATE 한 번으로 재고를 차감하므로, 동시에 예약해도 재고 이상 팔리지 않습니다.
+ *        확정/취소/만료는 HELD 상태일 때만 바뀌는 UPDATE로 처리하여, 한 예약에 대해 판매 기록 또는 재고 복구가 한 번만 일어납니다.
+ *        vehicle.reservation.hold-minutes 가 지나도 확정되지 않은 예약은 만료시키고 재고를 되돌립니다.
+ */
+@Service
+public class VehicleReservationService {
+
+    private final VehicleRepository vehicleRepository;
+    private final VehicleReservationRepository vehicleReservationRepository;
+    private final VehicleService vehicleService;
+    private final int holdMinutes;
+
+    public VehicleReservationService(VehicleRepository vehicleRepository,
+                                     VehicleReservationRepository vehicleReservationRepository,
+                                     VehicleService vehicleService,
+                                     @Value("${vehicle.reservation.hold-minutes:30}") int holdMinutes) {
+        this.vehicleRepository = vehicleRepository;
+        this.vehicleReservationRepository = vehicleReservationRepository;
+        this.vehicleService = vehicleService;
+        this.holdMinutes = holdMinutes;
+    }
+
+    /**
+     * 재고 예약 (재고를 바로 차감)
+     * @param vehicleNo 차량 번호
+     * @param saleCount 예약 수량
+     * @param memNo 예약한 회원 번호
+     * @return 저장된 예약 (HELD)
+     * @throws IllegalArgumentException 예약 수량이 잘못된 경우
+     * @throws IllegalStateException 재고가 부족한 경우 (조건부 차감이 0행)
+     */
+    @Transactional
+    public VehicleReservation reserve(Long vehicleNo, int saleCount, Long memNo) {
+        if (saleCount <= 0) {
+            throw new IllegalArgumentException("예약 수량은 1 이상이어야 합니다.");
+        }
+        if (vehicleRepository.decrementInventory(vehicleNo, saleCount) == 0) {
+            if (!vehicleRepository.existsById(vehicleNo)) {
+                throw new EntityNotFoundException("Vehicle not found with id: " + vehicleNo);
+            }
+            throw new IllegalStateException("재고가 부족합니다.");
+        }
+        LocalDateTime now = LocalDateTime.now();
+        return vehicleReservationRepository.save(VehicleReservation.builder()
+                .vehicleNo(vehicleNo)
+                .memNo(memNo)
+                .saleCount(saleCount)
+                .status(VehicleReservation.HELD)
+                .reservedAt(now)
+                .expiresAt(now.plusMinutes(holdMinutes))
+                .build());
+    }
+
+    /**
+     * 예약 확정 (판매 내역 기록)
+     * @param reservationNo 예약 번호
+     * @param memNo 요청한 회원 번호 (예약한 회원만 확정 가능)
+     * @throws AccessDeniedException 예약한 회원이 아닌 경우
+     * @throws IllegalStateException 이미 처리되었거나 만료된 예약인 경우
+     */
+    @Transactional
+    public void confirm(Long reservationNo, Long memNo) {
+        VehicleReservation reservation = findOwned(reservationNo, memNo);
+        if (vehicleReservationRepository.releaseHeld(reservationNo, VehicleReservation.CONFIRMED) == 0) {
+            throw new IllegalStateException("이미 처리되었거나 만료된 예약입니다: " + reservationNo);
+        }
+        vehicleService.recordSale(reservation.getVehicleNo(), reservation.getSaleCount(), reservation.getMemNo());
+    }
+
+    /**
+     * 예약 취소 (재고 복구)
+     * @param reservationNo 예약 번호
+     * @param memNo 요청한 회원 번호 (예약한 회원만 취소 가능)
+     * @throws AccessDeniedException 예약한 회원이 아닌 경우
+     * @throws IllegalStateException 이미 처리되었거나 만료된 예약인 경우
+     */
+    @Transactional
+    public void cancel(Long reservationNo, Long memNo) {
+        VehicleReservation reservation = findOwned(reservationNo, memNo);
+        if (vehicleReservationRepository.releaseHeld(reservationNo, VehicleReservation.CANCELLED) == 0) {
+            throw new IllegalStateException("이미 처리되었거나 만료된 예약입니다: " + reservationNo);
+        }
+        vehicleRepository.incrementInventory(reservation.getVehicleNo(), reservation.getSaleCount());
+    }
+
+    // 유지 시간이 지난 예약 만료 및 재고 복구
+    @Scheduled(fixedDelay = 60_000)
+    @Transactional
+    public void expireReservations() {
+        List<VehicleReservation> expired = vehicleReservationRepository
+                .findByStatusAndExpiresAtBefore(VehicleReservation.HELD, LocalDateTime.now());
+        int count = 0;
+        for (VehicleReservation reservation : expired) {
+            // 그 사이 확정/취소된 예약은 건너뜀
+            if (vehicleReservationRepository.releaseHeld(reservation.getReservationNo(), VehicleReservation.EXPIRED) == 1) {
+                vehicleRepository.incrementInventory(reservation.getVehicleNo(), reservation.getSaleCount());
+                count++;
+            }
+        }
+        if (count > 0) {
+            System.out.println("차량 예약 만료 처리: " + count + "건");
+        }
+    }
+
+    private VehicleReservation findOwned(Long reservationNo, Long memNo) {
+        VehicleReservation reservation = vehicleReservationRepository.findById(reservationNo)
+                .orElseThrow(() -> new EntityNotFoundException("Reservation not found with id: " + reservationNo));
+        if (!reservation.getMemNo().equals(memNo)) {
+            throw new AccessDeniedException("본인이 예약한 차량만 처리할 수 있습니다.");
+        }
+        return reservation;
+    }
+}
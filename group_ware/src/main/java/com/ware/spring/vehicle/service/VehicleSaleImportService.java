@@ -0,0 +1,554 @@
+package com.ware.spring.vehicle.service;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.ResolverStyle;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.ware.spring.member.repository.MemberRepository;
+import com.ware.spring.vehicle.domain.SaleImportJob;
+import com.ware.spring.vehicle.domain.VehicleSalesMonthly;
+import com.ware.spring.vehicle.repository.VehicleRepository;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 판매 내역 일괄 가져오기 (CSV / XLSX)
+ * 기술: 스트리밍 파일 읽기(SaleFileReader), IN 절 일괄 조회, JdbcTemplate batchUpdate, 단일 스레드 작업 실행기
+ * 설명: 지점을 새로 들일 때 과거 판매 수천 건을 processSale 로 한 건씩 넣으면 건마다 5개 이상의 SQL 이 실행됩니다.
+ *        가져오기는 파일을 CHUNK_SIZE 행씩 읽어 검사하고, 구간마다 사번과 차량 번호를 IN 조회 한 번씩으로 찾습니다.
+ *        그다음 한 트랜잭션 안에서 판매 내역은 배치 INSERT 로 넣고,
+ *        지점 일별 판매와 월별 집계는 (지점, 판매일) / (기준, 월) 별로 합친 값을 배치 upsert 로 더합니다.
+ *        재고 차감을 선택하면 차량별 합계로 조건부 UPDATE 를 한 번씩 실행하고, 재고가 모자란 차량의 행은 건너뜁니다.
+ *        잘못된 행은 오류 파일(줄 번호, 사유, 원본)에 남기고 나머지는 계속 가져오며, 진행률은 작업 상태로 조회합니다.
+ */
+@Service
+public class VehicleSaleImportService {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final int CHUNK_SIZE = 1_000;
+    private static final int MAX_REPORTED_ERRORS = 100;
+    private static final String HEADER = "판매일,사번,차량번호,수량,판매금액";
+    private static final LocalDate EXCEL_EPOCH = LocalDate.of(1899, 12, 30);
+    private static final DateTimeFormatter DATE = DateTimeFormatter.ofPattern("uuuu-M-d").withResolverStyle(ResolverStyle.STRICT);
+    private static final DateTimeFormatter JOB_TIME = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+
+    private static final String INSERT_SALE =
+            "INSERT INTO vehicle_sales (distributor_no, vehicle_no, mem_no, sale_count, sale_prices, sale_date) VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String ADD_DAILY_SALES =
+            "INSERT INTO vehicle_distributor_sales (distributor_no, mem_no, sale_date, distributor_sale_count, distributor_sale_prices) " +
+            "VALUES (?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE distributor_sale_count = distributor_sale_count + ?, " +
+            "distributor_sale_prices = distributor_sale_prices + ?";
+    private static final String ADD_MONTHLY_SALES =
+            "INSERT INTO vehicle_sales_monthly (dimension, dim_no, start_of_month, sale_count, sale_prices) " +
+            "VALUES (?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE sale_count = sale_count + ?, sale_prices = sale_prices + ?";
+
+    private final MemberRepository memberRepository;
+    private final VehicleRepository vehicleRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final SalesQueryService salesQueryService;
+    private final SalesRankingService salesRankingService;
+    private final Path importDir;
+
+    // 가져오기 작업 실행용 (한 번에 하나씩, 나머지는 QUEUED)
+    private final ExecutorService jobRunner = Executors.newSingleThreadExecutor();
+    private final Map<String, SaleImportJob> jobs = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    public VehicleSaleImportService(MemberRepository memberRepository, VehicleRepository vehicleRepository,
+                                    JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                                    SalesQueryService salesQueryService, SalesRankingService salesRankingService,
+                                    @Value("${vehicle.import.dir:C:/document/sale-import/}") String importDir) {
+        this.memberRepository = memberRepository;
+        this.vehicleRepository = vehicleRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.salesQueryService = salesQueryService;
+        this.salesRankingService = salesRankingService;
+        this.importDir = Paths.get(importDir.endsWith(File.separator) || importDir.endsWith("/") ? importDir : importDir + File.separator);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        jobRunner.shutdownNow();
+    }
+
+    /**
+     * 가져오기 시작 (파일을 저장하고 백그라운드에서 처리)
+     * @param file 머리글 한 줄 + "판매일,사번,차량번호,수량,판매금액" 열 (판매금액이 비어 있으면 차량 가격 x 수량)
+     * @param deductInventory true이면 가져온 수량만큼 재고 차감 (과거 판매처럼 이미 재고에 반영된 경우 false)
+     * @return 작업 상태 (jobId로 진행률 조회)
+     */
+    public synchronized SaleImportJob start(MultipartFile file, boolean deductInventory) throws IOException {
+        String fileName = file.getOriginalFilename() != null ? file.getOriginalFilename() : "";
+        String lowerName = fileName.toLowerCase();
+        if (!lowerName.endsWith(".csv") && !lowerName.endsWith(".xlsx")) {
+            throw new IllegalArgumentException("CSV 또는 XLSX 파일만 가져올 수 있습니다.");
+        }
+        if (file.isEmpty()) {
+            throw new IllegalArgumentException("빈 파일입니다.");
+        }
+
+        String jobId = "sale_import_" + LocalDateTime.now(ZONE).format(JOB_TIME) + "_" + sequence.incrementAndGet();
+        Files.createDirectories(importDir);
+        Path upload = importDir.resolve(jobId + lowerName.substring(lowerName.lastIndexOf('.')));
+        file.transferTo(upload);
+
+        SaleImportJob job = SaleImportJob.builder()
+                .jobId(jobId)
+                .fileName(fileName)
+                .deductInventory(deductInventory)
+                .status("QUEUED")
+                .errors(new ArrayList<>())
+                .build();
+        jobs.put(jobId, job);
+        jobRunner.submit(() -> runJob(job, upload));
+        return snapshot(job);
+    }
+
+    public SaleImportJob getJob(String jobId) {
+        SaleImportJob job = jobs.get(jobId);
+        return job != null ? snapshot(job) : null;
+    }
+
+    // 끝난 작업의 오류 파일
+    public Path getErrorFile(String jobId) {
+        SaleImportJob job = jobs.get(jobId);
+        if (job == null || "QUEUED".equals(job.getStatus()) || "RUNNING".equals(job.getStatus())) {
+            throw new IllegalStateException("끝난 가져오기 작업이 아닙니다: " + jobId);
+        }
+        return errorPath(jobId);
+    }
+
+    private void runJob(SaleImportJob job, Path upload) {
+        synchronized (job) {
+            job.setStatus("RUNNING");
+            job.setStartedAt(LocalDateTime.now(ZONE));
+        }
+        Set<LocalDate> importedDates = new HashSet<>();
+        try (Writer errors = Files.newBufferedWriter(errorPath(job.getJobId()), StandardCharsets.UTF_8)) {
+            errors.write('\uFEFF'); // 엑셀에서 UTF-8로 열리도록 BOM 추가
+            errors.write("줄,사유," + HEADER + "\r\n");
+
+            long total = countRows(upload);
+            synchronized (job) {
+                job.setTotalRows(total);
+            }
+            try (SaleFileReader reader = SaleFileReader.open(upload)) {
+                reader.next(); // 머리글
+                int line = 1;
+                List<SaleRow> chunk = new ArrayList<>(CHUNK_SIZE);
+                List<String> cells;
+                while ((cells = reader.next()) != null) {
+                    line++;
+                    if (isBlank(cells)) {
+                        continue;
+                    }
+                    chunk.add(new SaleRow(line, cells));
+                    if (chunk.size() == CHUNK_SIZE) {
+                        importChunk(job, chunk, errors, importedDates);
+                        chunk.clear();
+                    }
+                }
+                if (!chunk.isEmpty()) {
+                    importChunk(job, chunk, errors, importedDates);
+                }
+            }
+            synchronized (job) {
+                job.setStatus("DONE");
+                job.setFinishedAt(LocalDateTime.now(ZONE));
+            }
+            System.out.println("판매 가져오기 완료: " + job.getJobId() + " (" + job.getImportedRows() + "건, 오류 " + job.getErrorRows() + "건)");
+        } catch (Exception e) {
+            e.printStackTrace();
+            synchronized (job) {
+                job.setStatus("FAILED");
+                job.setErrorMessage(e.getMessage());
+                job.setFinishedAt(LocalDateTime.now(ZONE));
+            }
+        } finally {
+            try {
+                Files.deleteIfExists(upload);
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+            refreshCaches(importedDates);
+        }
+    }
+
+    // 구간 하나 가져오기 (검사 -> 일괄 조회 -> 한 트랜잭션으로 기록)
+    private void importChunk(SaleImportJob job, List<SaleRow> rows, Writer errors, Set<LocalDate> importedDates) throws IOException {
+        LocalDate today = LocalDate.now(ZONE);
+        List<SaleRow> valid = new ArrayList<>(rows.size());
+        for (SaleRow row : rows) {
+            row.error = parse(row, today);
+            if (row.error == null) {
+                valid.add(row);
+            }
+        }
+        List<SaleRow> resolved = resolve(valid);
+
+        List<SaleRow> imported;
+        try {
+            imported = transactionTemplate.execute(status -> write(resolved, job.isDeductInventory()));
+        } catch (Exception e) {
+            e.printStackTrace();
+            for (SaleRow row : resolved) {
+                row.error = "저장 실패: " + e.getMessage();
+            }
+            imported = List.of();
+        }
+
+        for (SaleRow row : rows) {
+            if (row.error != null) {
+                reject(job, errors, row);
+            }
+        }
+        errors.flush();
+        for (SaleRow row : imported) {
+            importedDates.add(row.saleDate);
+        }
+        synchronized (job) {
+            job.setProcessedRows(job.getProcessedRows() + rows.size());
+            job.setImportedRows(job.getImportedRows() + imported.size());
+        }
+    }
+
+    // 형식 검사 (오류 사유, 정상이면 null)
+    private String parse(SaleRow row, LocalDate today) {
+        if (row.cells.size() < 4) {
+            return "열이 부족합니다. (" + HEADER + ")";
+        }
+        try {
+            row.saleDate = parseDate(cell(row, 0));
+        } catch (DateTimeException | ArithmeticException | NumberFormatException e) {
+            return "판매일 형식이 잘못되었습니다.";
+        }
+        if (row.saleDate.isAfter(today)) {
+            return "판매일이 오늘 이후입니다.";
+        }
+        row.empNo = cell(row, 1);
+        if (row.empNo.isEmpty()) {
+            return "사번이 없습니다.";
+        }
+        try {
+            row.vehicleNo = parseWhole(cell(row, 2));
+            long count = parseWhole(cell(row, 3));
+            if (count <= 0 || count > Integer.MAX_VALUE) {
+                return "수량은 1 이상이어야 합니다.";
+            }
+            row.saleCount = (int) count;
+        } catch (ArithmeticException | NumberFormatException e) {
+            return "차량번호와 수량은 숫자여야 합니다.";
+        }
+        String prices = cell(row, 4);
+        if (!prices.isEmpty()) {
+            try {
+                long value = parseWhole(prices);
+                if (value < 0 || value > Integer.MAX_VALUE) {
+                    return "판매금액 범위가 잘못되었습니다.";
+                }
+                row.salePrices = (int) value;
+            } catch (ArithmeticException | NumberFormatException e) {
+                return "판매금액은 숫자여야 합니다.";
+            }
+        }
+        return null;
+    }
+
+    // 사번, 차량 번호를 구간마다 한 번씩 조회해서 채움
+    private List<SaleRow> resolve(List<SaleRow> rows) {
+        if (rows.isEmpty()) {
+            return rows;
+        }
+        Set<String> empNos = new HashSet<>();
+        Set<Long> vehicleNos = new HashSet<>();
+        for (SaleRow row : rows) {
+            empNos.add(row.empNo);
+            vehicleNos.add(row.vehicleNo);
+        }
+        Map<String, Object[]> members = new HashMap<>();
+        for (Object[] member : memberRepository.findSaleRefsByEmpNos(empNos)) {
+            members.put((String) member[0], member);
+        }
+        Map<Long, Integer> prices = new HashMap<>();
+        for (Object[] vehicle : vehicleRepository.findPricesByVehicleNos(vehicleNos)) {
+            prices.put((Long) vehicle[0], (Integer) vehicle[1]);
+        }
+
+        List<SaleRow> resolved = new ArrayList<>(rows.size());
+        for (SaleRow row : rows) {
+            Object[] member = members.get(row.empNo);
+            if (member == null) {
+                row.error = "사번에 해당하는 회원이 없습니다.";
+            } else if (member[2] == null) {
+                row.error = "지점이 없는 회원입니다.";
+            } else if (!prices.containsKey(row.vehicleNo)) {
+                row.error = "차량번호에 해당하는 차량이 없습니다.";
+            } else if (row.salePrices == null && prices.get(row.vehicleNo) == null) {
+                row.error = "차량 가격이 없어 판매금액을 입력해야 합니다.";
+            } else if (row.salePrices == null && (long) prices.get(row.vehicleNo) * row.saleCount > Integer.MAX_VALUE) {
+                row.error = "판매금액 범위가 잘못되었습니다.";
+            } else {
+                row.memNo = (Long) member[1];
+                row.distributorNo = (Long) member[2];
+                if (row.salePrices == null) {
+                    row.salePrices = prices.get(row.vehicleNo) * row.saleCount;
+                }
+                resolved.add(row);
+            }
+        }
+        return resolved;
+    }
+
+    // 트랜잭션 안에서 실행 (재고 차감 -> 판매 내역 배치 INSERT -> 지점 일별/월별 집계 배치 upsert)
+    private List<SaleRow> write(List<SaleRow> rows, boolean deductInventory) {
+        List<SaleRow> accepted = rows;
+        if (deductInventory) {
+            // 차량 번호 순으로 차감 (동시에 다른 판매와 겹쳐도 잠금 순서가 같도록)
+            Map<Long, Integer> counts = new TreeMap<>();
+            for (SaleRow row : rows) {
+                counts.merge(row.vehicleNo, row.saleCount, Integer::sum);
+            }
+            Set<Long> shortOfStock = new HashSet<>();
+            for (Map.Entry<Long, Integer> entry : counts.entrySet()) {
+                if (vehicleRepository.decrementInventory(entry.getKey(), entry.getValue()) == 0) {
+                    shortOfStock.add(entry.getKey());
+                }
+            }
+            accepted = new ArrayList<>(rows.size());
+            for (SaleRow row : rows) {
+                if (shortOfStock.contains(row.vehicleNo)) {
+                    row.error = "재고 부족 (이 구간의 차량 판매 합계 " + counts.get(row.vehicleNo) + "대)";
+                } else {
+                    accepted.add(row);
+                }
+            }
+        }
+        if (accepted.isEmpty()) {
+            return accepted;
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_SALE, accepted, CHUNK_SIZE, (ps, row) -> {
+            ps.setLong(1, row.distributorNo);
+            ps.setLong(2, row.vehicleNo);
+            ps.setLong(3, row.memNo);
+            ps.setInt(4, row.saleCount);
+            ps.setInt(5, row.salePrices);
+            ps.setObject(6, row.saleDate);
+        });
+
+        // 지점 + 판매일별 합계 (행을 새로 만들면 그날 첫 판매자를 기록)
+        Map<String, Delta> daily = new LinkedHashMap<>();
+        Map<String, Delta> monthly = new LinkedHashMap<>();
+        for (SaleRow row : accepted) {
+            daily.computeIfAbsent(row.distributorNo + "|" + row.saleDate,
+                    key -> new Delta(null, row.distributorNo, row.memNo, row.saleDate)).add(row);
+            LocalDate startOfMonth = row.saleDate.withDayOfMonth(1);
+            monthly.computeIfAbsent(VehicleSalesMonthly.MEMBER + "|" + row.memNo + "|" + startOfMonth,
+                    key -> new Delta(VehicleSalesMonthly.MEMBER, row.memNo, null, startOfMonth)).add(row);
+            monthly.computeIfAbsent(VehicleSalesMonthly.DISTRIBUTOR + "|" + row.distributorNo + "|" + startOfMonth,
+                    key -> new Delta(VehicleSalesMonthly.DISTRIBUTOR, row.distributorNo, null, startOfMonth)).add(row);
+            monthly.computeIfAbsent(VehicleSalesMonthly.VEHICLE + "|" + row.vehicleNo + "|" + startOfMonth,
+                    key -> new Delta(VehicleSalesMonthly.VEHICLE, row.vehicleNo, null, startOfMonth)).add(row);
+        }
+        jdbcTemplate.batchUpdate(ADD_DAILY_SALES, daily.values(), CHUNK_SIZE, (ps, delta) -> {
+            ps.setLong(1, delta.no);
+            ps.setLong(2, delta.memNo);
+            ps.setObject(3, delta.date);
+            ps.setLong(4, delta.count);
+            ps.setLong(5, delta.prices);
+            ps.setLong(6, delta.count);
+            ps.setLong(7, delta.prices);
+        });
+        jdbcTemplate.batchUpdate(ADD_MONTHLY_SALES, monthly.values(), CHUNK_SIZE, (ps, delta) -> {
+            ps.setString(1, delta.dimension);
+            ps.setLong(2, delta.no);
+            ps.setObject(3, delta.date);
+            ps.setLong(4, delta.count);
+            ps.setLong(5, delta.prices);
+            ps.setLong(6, delta.count);
+            ps.setLong(7, delta.prices);
+        });
+        return accepted;
+    }
+
+    // 가져온 판매일의 분석 조회 캐시를 지우고, 이번 달 판매가 있으면 실시간 순위를 다시 채움
+    // (홈 화면 모델은 VehicleSalesCubeService 의 TTL 이내에 반영됨)
+    private void refreshCaches(Set<LocalDate> importedDates) {
+        YearMonth currentMonth = YearMonth.now();
+        boolean currentMonthImported = false;
+        for (LocalDate date : importedDates) {
+            salesQueryService.onSale(date);
+            currentMonthImported |= YearMonth.from(date).equals(currentMonth);
+        }
+        if (currentMonthImported) {
+            salesRankingService.reloadLeaderboards();
+        }
+    }
+
+    private void reject(SaleImportJob job, Writer errors, SaleRow row) throws IOException {
+        StringBuilder line = new StringBuilder(128);
+        line.append(row.line).append(',').append(csv(row.error));
+        for (String cell : row.cells) {
+            line.append(',').append(csv(cell));
+        }
+        errors.write(line.append("\r\n").toString());
+        synchronized (job) {
+            job.setErrorRows(job.getErrorRows() + 1);
+            if (job.getErrors().size() < MAX_REPORTED_ERRORS) {
+                job.getErrors().add(row.line + "행: " + row.error);
+            }
+        }
+    }
+
+    // 머리글과 빈 행을 뺀 행 수 (진행률 계산용)
+    private long countRows(Path upload) throws IOException {
+        long count = 0;
+        try (SaleFileReader reader = SaleFileReader.open(upload)) {
+            if (reader.next() == null) {
+                return 0;
+            }
+            List<String> cells;
+            while ((cells = reader.next()) != null) {
+                if (!isBlank(cells)) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    // yyyy-MM-dd, yyyy/M/d, yyyy.M.d 또는 엑셀 날짜 일련번호
+    private static LocalDate parseDate(String value) {
+        if (value.matches("\\d+(\\.0+)?")) {
+            return EXCEL_EPOCH.plusDays(parseWhole(value));
+        }
+        return LocalDate.parse(value.replace('/', '-').replace('.', '-'), DATE);
+    }
+
+    // "1,200", "3.0" 같은 값도 정수로 (소수점 아래가 있으면 ArithmeticException)
+    private static long parseWhole(String value) {
+        return new BigDecimal(value.replace(",", "")).longValueExact();
+    }
+
+    private static String cell(SaleRow row, int index) {
+        return index < row.cells.size() && row.cells.get(index) != null ? row.cells.get(index).trim() : "";
+    }
+
+    private static boolean isBlank(List<String> cells) {
+        for (String cell : cells) {
+            if (cell != null && !cell.isBlank()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 쉼표, 따옴표, 줄바꿈이 있으면 따옴표로 감쌈
+    private static String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0 || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+
+    private SaleImportJob snapshot(SaleImportJob job) {
+        synchronized (job) {
+            return SaleImportJob.builder()
+                    .jobId(job.getJobId())
+                    .fileName(job.getFileName())
+                    .deductInventory(job.isDeductInventory())
+                    .status(job.getStatus())
+                    .totalRows(job.getTotalRows())
+                    .processedRows(job.getProcessedRows())
+                    .importedRows(job.getImportedRows())
+                    .errorRows(job.getErrorRows())
+                    .errors(new ArrayList<>(job.getErrors()))
+                    .errorMessage(job.getErrorMessage())
+                    .startedAt(job.getStartedAt())
+                    .finishedAt(job.getFinishedAt())
+                    .build();
+        }
+    }
+
+    private Path errorPath(String jobId) {
+        return importDir.resolve(jobId + "_errors.csv");
+    }
+
+    // 파일의 한 행
+    private static class SaleRow {
+        private final int line;
+        private final List<String> cells;
+        private LocalDate saleDate;
+        private String empNo;
+        private Long vehicleNo;
+        private int saleCount;
+        private Integer salePrices; // null이면 차량 가격 x 수량
+        private Long memNo;
+        private Long distributorNo;
+        private String error;
+
+        private SaleRow(int line, List<String> cells) {
+            this.line = line;
+            this.cells = cells;
+        }
+    }
+
+    // 지점 일별 / 월별 집계에 더할 값
+    private static class Delta {
+        private final String dimension; // 월별 집계 기준 (지점 일별이면 null)
+        private final Long no;
+        private final Long memNo; // 지점 일별 행을 새로 만들 때 기록할 판매자
+        private final LocalDate date; // 판매일 또는 월 시작일
+        private long count;
+        private long prices;
+
+        private Delta(String dimension, Long no, Long memNo, LocalDate date) {
+            this.dimension = dimension;
+            this.no = no;
+            this.memNo = memNo;
+            this.date = date;
+        }
+
+        private void add(SaleRow row) {
+            count += row.saleCount;
+            prices += row.salePrices;
+        }
+    }
+}
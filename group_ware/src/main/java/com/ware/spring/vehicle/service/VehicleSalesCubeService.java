@@ -0,0 +1,249 @@
+package com.ware.spring.vehicle.service;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.ware.spring.vehicle.domain.VehicleDistributorSalesDto;
+import com.ware.spring.vehicle.domain.VehicleSalesMonthly;
+import com.ware.spring.vehicle.repository.VehicleSalesMonthlyRepository;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 월별 판매 집계 (회원 x 월, 지점 x 월, 차량 x 월) + 홈 화면 모델 캐시
+ * 기술: INSERT ... ON DUPLICATE KEY UPDATE 누적, ConcurrentHashMap 캐시, LongAdder 누적 버퍼
+ * 설명: 판매가 기록될 때 세 기준의 월별 행에 수량과 매출액을 더해 두고,
+ *        월별 차트는 판매 내역 전체 대신 해당 연도의 집계 행(기준마다 최대 12행)만 읽습니다.
+ *        회원 행은 판매 트랜잭션 안에서 더하지만, 여러 직원이 함께 쓰는 지점/차량 행은 행 잠금에 판매가 줄을 서지 않도록
+ *        커밋 후 별도 트랜잭션으로 더합니다. (vehicle.sales.buffer.enabled=true 이면 메모리에 모아 flush-millis 마다 더함)
+ *        홈 화면 모델은 회원별로 DASHBOARD_TTL_MILLIS 동안 보관하며, 본인 판매가 커밋되면 바로 무효화합니다.
+ *        (같은 지점 다른 직원의 판매는 TTL 이내에 반영됨)
+ */
+@Service
+public class VehicleSalesCubeService {
+
+    private static final long DASHBOARD_TTL_MILLIS = 60_000;
+    private static final int DASHBOARD_MAX_SIZE = 2_000;
+
+    private final VehicleSalesMonthlyRepository vehicleSalesMonthlyRepository;
+    private final SalesRankingService salesRankingService;
+    private final TransactionTemplate requiresNew;
+    private final boolean bufferEnabled;
+
+    // 회원 번호 -> 홈 화면 모델
+    private final Map<Long, CachedDashboard> dashboards = new ConcurrentHashMap<>();
+    // "기준|번호|월" -> 아직 DB에 더하지 않은 지점/차량 판매
+    private final Map<String, Pending> pending = new ConcurrentHashMap<>();
+
+    public VehicleSalesCubeService(VehicleSalesMonthlyRepository vehicleSalesMonthlyRepository,
+                                   SalesRankingService salesRankingService,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${vehicle.sales.buffer.enabled:false}") boolean bufferEnabled) {
+        this.vehicleSalesMonthlyRepository = vehicleSalesMonthlyRepository;
+        this.salesRankingService = salesRankingService;
+        // 커밋 후 콜백에서는 끝난 트랜잭션에 참여하지 않도록 새 트랜잭션 사용
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.bufferEnabled = bufferEnabled;
+    }
+
+    /**
+     * 판매 한 건을 세 기준의 월별 집계에 더함 (판매 트랜잭션 안에서 호출)
+     * 설명: 회원 행은 바로 더하고, 지점/차량 행은 커밋된 뒤에 더합니다. (롤백된 판매는 반영하지 않음)
+     */
+    public void addSale(Long memNo, Long distributorNo, Long vehicleNo, LocalDate saleDate, int count, long prices) {
+        LocalDate startOfMonth = saleDate.withDayOfMonth(1);
+        vehicleSalesMonthlyRepository.addMonthlySales(VehicleSalesMonthly.MEMBER, memNo, startOfMonth, count, prices);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    addShared(distributorNo, vehicleNo, startOfMonth, count, prices);
+                }
+            });
+        } else {
+            addShared(distributorNo, vehicleNo, startOfMonth, count, prices);
+        }
+        evictDashboard(memNo);
+    }
+
+    /**
+     * 모아 둔 지점/차량 판매를 DB에 더함 (실패한 누적분은 다음 주기에 다시 시도)
+     */
+    @Scheduled(fixedDelayString = "${vehicle.sales.buffer.flush-millis:3000}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        LocalDate staleBefore = LocalDate.now().withDayOfMonth(1).minusMonths(1);
+        for (Map.Entry<String, Pending> entry : pending.entrySet()) {
+            Pending sales = entry.getValue();
+            long count = sales.count.sumThenReset();
+            long prices = sales.prices.sumThenReset();
+            if (count != 0 || prices != 0) {
+                try {
+                    requiresNew.executeWithoutResult(status -> vehicleSalesMonthlyRepository.addMonthlySales(
+                            sales.dimension, sales.dimNo, sales.startOfMonth, count, prices));
+                } catch (Exception e) {
+                    sales.count.add(count);
+                    sales.prices.add(prices);
+                    e.printStackTrace();
+                    continue;
+                }
+            }
+            // 지난 달보다 이전 월은 더 이상 누적되지 않으므로 정리
+            if (sales.startOfMonth.isBefore(staleBefore) && sales.count.sum() == 0 && sales.prices.sum() == 0) {
+                pending.remove(entry.getKey(), sales);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    // 지점/차량 행 누적 (버퍼를 켜지 않았으면 바로 더하고, 실패하면 버퍼에 남겨 다시 시도)
+    private void addShared(Long distributorNo, Long vehicleNo, LocalDate startOfMonth, int count, long prices) {
+        if (!bufferEnabled) {
+            try {
+                requiresNew.executeWithoutResult(status -> {
+                    vehicleSalesMonthlyRepository.addMonthlySales(VehicleSalesMonthly.DISTRIBUTOR, distributorNo, startOfMonth, count, prices);
+                    vehicleSalesMonthlyRepository.addMonthlySales(VehicleSalesMonthly.VEHICLE, vehicleNo, startOfMonth, count, prices);
+                });
+                return;
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        }
+        accumulate(VehicleSalesMonthly.DISTRIBUTOR, distributorNo, startOfMonth, count, prices);
+        accumulate(VehicleSalesMonthly.VEHICLE, vehicleNo, startOfMonth, count, prices);
+    }
+
+    private void accumulate(String dimension, Long dimNo, LocalDate startOfMonth, int count, long prices) {
+        Pending sales = pending.computeIfAbsent(dimension + "|" + dimNo + "|" + startOfMonth,
+                key -> new Pending(dimension, dimNo, startOfMonth));
+        sales.count.add(count);
+        sales.prices.add(prices);
+    }
+
+    /**
+     * 한 기준의 연간 월별 판매 (1~12월, 판매가 없는 월은 0)
+     * @param dimension VehicleSalesMonthly.MEMBER / DISTRIBUTOR / VEHICLE
+     * @return monthlySales(월 -> 판매 수량), monthlySalePrices(월 -> 매출액)
+     */
+    public Map<String, Map<Integer, Long>> getYearSeries(String dimension, Long dimNo, int year) {
+        Map<Integer, Long> monthlySales = new HashMap<>();
+        Map<Integer, Long> monthlySalePrices = new HashMap<>();
+        for (int i = 1; i <= 12; i++) {
+            monthlySales.put(i, 0L);
+            monthlySalePrices.put(i, 0L);
+        }
+        for (VehicleSalesMonthly row : vehicleSalesMonthlyRepository.findSeries(dimension, dimNo,
+                LocalDate.of(year, 1, 1), LocalDate.of(year + 1, 1, 1))) {
+            int month = row.getStartOfMonth().getMonthValue();
+            monthlySales.put(month, row.getSaleCount());
+            monthlySalePrices.put(month, row.getSalePrices());
+        }
+
+        Map<String, Map<Integer, Long>> series = new HashMap<>();
+        series.put("monthlySales", monthlySales);
+        series.put("monthlySalePrices", monthlySalePrices);
+        return series;
+    }
+
+    /**
+     * 한 기준의 한 달 판매 합계
+     * @return [판매 수량, 매출액]
+     */
+    public long[] getMonth(String dimension, Long dimNo, YearMonth month) {
+        List<VehicleSalesMonthly> rows = vehicleSalesMonthlyRepository.findSeries(dimension, dimNo,
+                month.atDay(1), month.plusMonths(1).atDay(1));
+        return rows.isEmpty() ? new long[2] : new long[] {rows.get(0).getSaleCount(), rows.get(0).getSalePrices()};
+    }
+
+    /**
+     * 홈 화면 모델 (올해 개인/지점 월별 판매, 이번 달 지점 판매 순위)
+     * @return 모델 속성 이름 -> 값
+     */
+    public Map<String, Object> getDashboard(Long memNo, Long distributorNo) {
+        long now = System.currentTimeMillis();
+        CachedDashboard cached = dashboards.get(memNo);
+        if (cached != null && cached.expiresAt > now && cached.distributorNo.equals(distributorNo)) {
+            return cached.model;
+        }
+
+        int year = LocalDate.now().getYear();
+        YearMonth currentMonth = YearMonth.now();
+        Map<String, Map<Integer, Long>> individual = getYearSeries(VehicleSalesMonthly.MEMBER, memNo, year);
+        Map<String, Map<Integer, Long>> distributor = getYearSeries(VehicleSalesMonthly.DISTRIBUTOR, distributorNo, year);
+        List<VehicleDistributorSalesDto> topDistributors = salesRankingService.getTop5Distributors(
+                currentMonth.getYear(), currentMonth.getMonthValue());
+
+        Map<String, Object> model = new HashMap<>();
+        model.put("monthlyIndividualSales", individual.get("monthlySales")); // 개인 월별 판매량
+        model.put("monthlyIndividualSalePrices", individual.get("monthlySalePrices")); // 개인 월별 매출액
+        model.put("topDistributors", topDistributors); // 부서별 상위 5개 판매량 및 매출액
+        model.put("monthlyDistributorSales", distributor.get("monthlySales")); // 지점의 월별 판매량
+        model.put("monthlyDistributorSalesPrices", distributor.get("monthlySalePrices")); // 지점의 월별 매출액
+
+        if (dashboards.size() >= DASHBOARD_MAX_SIZE) {
+            dashboards.values().removeIf(entry -> entry.expiresAt <= now);
+        }
+        dashboards.put(memNo, new CachedDashboard(model, distributorNo, now + DASHBOARD_TTL_MILLIS));
+        return model;
+    }
+
+    // 커밋 후 한 번 더 무효화 (커밋 전에 다시 캐시된 모델 제거)
+    private void evictDashboard(Long memNo) {
+        dashboards.remove(memNo);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    dashboards.remove(memNo);
+                }
+            });
+        }
+    }
+
+    private static class Pending {
+        private final String dimension;
+        private final Long dimNo;
+        private final LocalDate startOfMonth;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder prices = new LongAdder();
+
+        private Pending(String dimension, Long dimNo, LocalDate startOfMonth) {
+            this.dimension = dimension;
+            this.dimNo = dimNo;
+            this.startOfMonth = startOfMonth;
+        }
+    }
+
+    private static class CachedDashboard {
+        private final Map<String, Object> model;
+        private final Long distributorNo;
+        private final long expiresAt;
+
+        private CachedDashboard(Map<String, Object> model, Long distributorNo, long expiresAt) {
+            this.model = model;
+            this.distributorNo = distributorNo;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,289 @@
+package com.ware.spring.vehicle.service;
+
+import java.sql.PreparedStatement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.ware.spring.vehicle.domain.VehicleSalesForecast;
+import com.ware.spring.vehicle.repository.VehicleSalesForecastRepository;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 지점별 월말 판매 예측과 이상 판매 알림 (vehicle_sales_forecast)
+ * 기술: JdbcTemplate 행 단위 읽기, ForkJoinPool 병렬 계산, 지수 평활 + 요일 계수, JdbcTemplate batchUpdate
+ * 설명: 매일 새벽 운영 중인 지점의 최근 HISTORY_DAYS 일 판매(vehicle_distributor_sales)를 한 번의 범위 조회로 읽어
+ *        지점별 일별 배열에 바로 담고 (엔티티를 만들지 않음), 지점마다 독립적인 모델을 병렬로 계산합니다.
+ *        - 요일 계수: 요일별 평균 / 전체 평균 (관측이 적은 요일은 1 쪽으로 당김)
+ *        - 하루 판매 수준: 요일 계수로 나눈 판매 수량의 지수 평활 (ALPHA)
+ *        - 월말 예측: 이번 달 실적 + 남은 날짜별 (수준 x 요일 계수), 매출은 기간 평균 단가로 환산
+ *        - 이상 판매: 전날 판매가 예상에서 ANOMALY_THRESHOLD 표준편차 이상 벗어나면 SPIKE / DROP
+ *          (표준편차는 예측 오차의 지수 평활 분산, 판매 수량이 적은 지점을 위해 예상 수량의 제곱근을 하한으로 사용)
+ *        HISTORY_DAYS 는 의도한 계산 범위입니다. 요일 계수, 평활 시작 수준(기간 평균), 활동 일수, 평균 단가는 이 기간 전체로 계산하므로
+ *        기간을 바꾸면 결과도 달라집니다. (지수 평활 단계만 보면 182일 전 판매의 가중치는 0.8^182 로 무시할 수 있음)
+ *        결과는 지점 x 월 한 행으로 덮어쓰며, 홈 화면과 예측 API 는 이 테이블만 읽습니다.
+ */
+@Service
+public class VehicleSalesForecastService {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final int HISTORY_DAYS = 182;            // 26주
+    private static final int MIN_HISTORY_DAYS = 28;         // 첫 판매 후 이 기간이 지나야 이상 판매를 알림
+    private static final double ALPHA = 0.2;
+    private static final double WEEKDAY_PRIOR_DAYS = 4;     // 요일 계수를 1 쪽으로 당기는 가상 관측 일수
+    private static final double ANOMALY_THRESHOLD = 3.0;
+    private static final int FETCH_SIZE = 1_000;
+
+    private static final String ACTIVE_DISTRIBUTORS =
+            "SELECT distributor_no FROM distributor WHERE distributor_status = 1";
+    private static final String DAILY_SALES =
+            "SELECT distributor_no, sale_date, distributor_sale_count, distributor_sale_prices " +
+            "FROM vehicle_distributor_sales WHERE sale_date >= ? AND sale_date <= ?";
+    private static final String UPSERT_FORECAST =
+            "INSERT INTO vehicle_sales_forecast (distributor_no, forecast_month, base_date, month_to_date_count, month_to_date_prices, " +
+            "projected_count, projected_prices, daily_level, last_day_count, expected_count, deviation, anomaly, computed_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE base_date = VALUES(base_date), month_to_date_count = VALUES(month_to_date_count), " +
+            "month_to_date_prices = VALUES(month_to_date_prices), projected_count = VALUES(projected_count), " +
+            "projected_prices = VALUES(projected_prices), daily_level = VALUES(daily_level), last_day_count = VALUES(last_day_count), " +
+            "expected_count = VALUES(expected_count), deviation = VALUES(deviation), anomaly = VALUES(anomaly), computed_at = VALUES(computed_at)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final VehicleSalesForecastRepository vehicleSalesForecastRepository;
+
+    // 지점별 계산용 (스케줄러 스레드를 막지 않도록 공용 풀과 분리)
+    private final ForkJoinPool forecastPool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public VehicleSalesForecastService(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                                       VehicleSalesForecastRepository vehicleSalesForecastRepository) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.vehicleSalesForecastRepository = vehicleSalesForecastRepository;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        forecastPool.shutdownNow();
+    }
+
+    // 매일 04:20 (전날 판매 확정, 새벽 집계 보정 이후)
+    @Scheduled(cron = "0 20 4 * * *", zone = "Asia/Seoul")
+    public void scheduledRefresh() {
+        try {
+            refreshForecasts();
+        } catch (IllegalStateException e) {
+            System.out.println("판매 예측 계산 실패: " + e.getMessage());
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * 전체 지점 예측 다시 계산
+     * @return 저장한 지점 수
+     */
+    public int refreshForecasts() {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("판매 예측을 이미 계산하고 있습니다.");
+        }
+        try {
+            long started = System.currentTimeMillis();
+            LocalDate today = LocalDate.now(ZONE);
+            LocalDate from = today.minusDays(HISTORY_DAYS);
+            Map<Long, DailySeries> series = loadSeries(from, today.minusDays(1));
+
+            List<VehicleSalesForecast> forecasts = forecastPool.submit(() -> series.values().parallelStream()
+                    .map(daily -> fit(daily, today))
+                    .collect(Collectors.toList()))
+                    .get();
+            save(forecasts);
+
+            long anomalies = forecasts.stream().filter(f -> !VehicleSalesForecast.NONE.equals(f.getAnomaly())).count();
+            System.out.println("판매 예측 계산 완료: 지점 " + forecasts.size() + "곳, 이상 판매 " + anomalies + "곳, "
+                    + (System.currentTimeMillis() - started) + "ms");
+            return forecasts.size();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("판매 예측 계산이 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("판매 예측 계산 중 오류가 발생했습니다.", e.getCause());
+        } finally {
+            running.set(false);
+        }
+    }
+
+    // 이번 달 지점 예측 (아직 계산 전이면 null)
+    public VehicleSalesForecast getForecast(Long distributorNo) {
+        return vehicleSalesForecastRepository
+                .findByDistributorNoAndForecastMonth(distributorNo, LocalDate.now(ZONE).withDayOfMonth(1))
+                .orElse(null);
+    }
+
+    // 이번 달 전체 지점 예측, 예상 매출 내림차순
+    public List<VehicleSalesForecast> getForecasts() {
+        return vehicleSalesForecastRepository.findByForecastMonthOrderByProjectedPricesDesc(LocalDate.now(ZONE).withDayOfMonth(1));
+    }
+
+    // 전날 판매가 평소와 크게 다른 지점
+    public List<VehicleSalesForecast> getAnomalies() {
+        return vehicleSalesForecastRepository.findByBaseDateAndAnomalyNotOrderByDeviationDesc(
+                LocalDate.now(ZONE).minusDays(1), VehicleSalesForecast.NONE);
+    }
+
+    // 운영 중인 지점마다 [from, to] 일별 판매 배열 (판매가 없는 날은 0)
+    private Map<Long, DailySeries> loadSeries(LocalDate from, LocalDate to) {
+        Map<Long, DailySeries> series = new HashMap<>();
+        int days = (int) ChronoUnit.DAYS.between(from, to) + 1;
+        for (Long distributorNo : jdbcTemplate.queryForList(ACTIVE_DISTRIBUTORS, Long.class)) {
+            series.put(distributorNo, new DailySeries(distributorNo, from, days));
+        }
+
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(DAILY_SALES);
+            ps.setFetchSize(FETCH_SIZE);
+            ps.setObject(1, from);
+            ps.setObject(2, to);
+            return ps;
+        }, rs -> {
+            DailySeries daily = series.get(rs.getLong(1));
+            if (daily == null) {
+                return; // 폐점 지점
+            }
+            int index = (int) ChronoUnit.DAYS.between(from, rs.getDate(2).toLocalDate());
+            daily.counts[index] += rs.getInt(3);
+            daily.prices[index] += rs.getLong(4);
+        });
+        return series;
+    }
+
+    // 지점 하나의 모델 계산 (다른 지점과 공유하는 상태 없음)
+    static VehicleSalesForecast fit(DailySeries daily, LocalDate today) {
+        int days = daily.counts.length;
+        int last = days - 1;
+        LocalDate monthStart = today.withDayOfMonth(1);
+        int firstDow = daily.from.getDayOfWeek().getValue() - 1;
+
+        int first = 0;
+        while (first < days && daily.counts[first] == 0) {
+            first++;
+        }
+
+        // 요일 계수와 평균 단가 (첫 판매일 이후만)
+        double[] weekdaySum = new double[7];
+        int[] weekdayDays = new int[7];
+        long totalCount = 0;
+        long totalPrices = 0;
+        for (int i = first; i < days; i++) {
+            int dow = (firstDow + i) % 7;
+            weekdaySum[dow] += daily.counts[i];
+            weekdayDays[dow]++;
+            totalCount += daily.counts[i];
+            totalPrices += daily.prices[i];
+        }
+        int activeDays = days - first;
+        double mean = activeDays > 0 ? (double) totalCount / activeDays : 0;
+        double[] factor = new double[7];
+        for (int dow = 0; dow < 7; dow++) {
+            factor[dow] = mean > 0
+                    ? (weekdaySum[dow] + WEEKDAY_PRIOR_DAYS * mean) / ((weekdayDays[dow] + WEEKDAY_PRIOR_DAYS) * mean)
+                    : 1;
+        }
+
+        // 지수 평활 (마지막 날은 평활 전에 예상값과 비교)
+        double level = mean;
+        double variance = mean;
+        double expected = 0;
+        double deviation = 0;
+        for (int i = first; i < days; i++) {
+            int dow = (firstDow + i) % 7;
+            double predicted = level * factor[dow];
+            double error = daily.counts[i] - predicted;
+            if (i == last) {
+                expected = predicted;
+                deviation = error / Math.sqrt(Math.max(variance, Math.max(predicted, 1.0)));
+            }
+            variance = (1 - ALPHA) * (variance + ALPHA * error * error);
+            level = ALPHA * daily.counts[i] / factor[dow] + (1 - ALPHA) * level;
+        }
+
+        String anomaly = VehicleSalesForecast.NONE;
+        if (activeDays >= MIN_HISTORY_DAYS && Math.abs(deviation) >= ANOMALY_THRESHOLD) {
+            anomaly = deviation > 0 ? VehicleSalesForecast.SPIKE : VehicleSalesForecast.DROP;
+        }
+
+        // 이번 달 실적 + 남은 날 예측
+        long monthToDateCount = 0;
+        long monthToDatePrices = 0;
+        int monthStartIndex = (int) Math.max(0, ChronoUnit.DAYS.between(daily.from, monthStart));
+        for (int i = monthStartIndex; i < days; i++) {
+            monthToDateCount += daily.counts[i];
+            monthToDatePrices += daily.prices[i];
+        }
+        double remaining = 0;
+        LocalDate baseDate = daily.from.plusDays(last);
+        LocalDate monthEnd = monthStart.plusMonths(1);
+        for (LocalDate date = baseDate.plusDays(1).isBefore(monthStart) ? monthStart : baseDate.plusDays(1);
+             date.isBefore(monthEnd); date = date.plusDays(1)) {
+            remaining += level * factor[date.getDayOfWeek().getValue() - 1];
+        }
+        double unitPrice = totalCount > 0 ? (double) totalPrices / totalCount : 0;
+
+        return VehicleSalesForecast.builder()
+                .distributorNo(daily.distributorNo)
+                .forecastMonth(monthStart)
+                .baseDate(baseDate)
+                .monthToDateCount(monthToDateCount)
+                .monthToDatePrices(monthToDatePrices)
+                .projectedCount(monthToDateCount + Math.round(remaining))
+                .projectedPrices(monthToDatePrices + Math.round(remaining * unitPrice))
+                .dailyLevel(level)
+                .lastDayCount(daily.counts[last])
+                .expectedCount(expected)
+                .deviation(deviation)
+                .anomaly(anomaly)
+                .computedAt(LocalDateTime.now(ZONE))
+                .build();
+    }
+
+    private void save(List<VehicleSalesForecast> forecasts) {
+        List<Object[]> rows = new ArrayList<>(forecasts.size());
+        for (VehicleSalesForecast f : forecasts) {
+            rows.add(new Object[] { f.getDistributorNo(), f.getForecastMonth(), f.getBaseDate(),
+                    f.getMonthToDateCount(), f.getMonthToDatePrices(), f.getProjectedCount(), f.getProjectedPrices(),
+                    f.getDailyLevel(), f.getLastDayCount(), f.getExpectedCount(), f.getDeviation(), f.getAnomaly(),
+                    f.getComputedAt() });
+        }
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(UPSERT_FORECAST, rows));
+    }
+
+    // 지점 하나의 일별 판매 (index 0 = from)
+    static class DailySeries {
+        private final Long distributorNo;
+        private final LocalDate from;
+        final int[] counts;
+        final long[] prices;
+
+        DailySeries(Long distributorNo, LocalDate from, int days) {
+            this.distributorNo = distributorNo;
+            this.from = from;
+            this.counts = new int[days];
+            this.prices = new long[days];
+        }
+    }
+}
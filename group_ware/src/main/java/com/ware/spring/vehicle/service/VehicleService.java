@@ -1,15 +1,18 @@
 package com.ware.spring.vehicle.service;
 
 import java.time.LocalDate;
-import java.util.Comparator;
+import java.time.YearMonth;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import com.ware.spring.member.domain.Distributor;
 import com.ware.spring.member.domain.Member;
@@ -20,6 +23,7 @@ import com.ware.spring.vehicle.domain.VehicleDistributorSalesDto;
 import com.ware.spring.vehicle.domain.VehicleDto;
 import com.ware.spring.vehicle.domain.VehicleSales;
 import com.ware.spring.vehicle.domain.VehicleSalesDto;
+import com.ware.spring.vehicle.domain.VehicleSalesMonthly;
 import com.ware.spring.vehicle.domain.VehicleSize;
 import com.ware.spring.vehicle.repository.VehicleDistributorSalesRepository;
 import com.ware.spring.vehicle.repository.VehicleRepository;
@@ -43,6 +47,19 @@ public class VehicleService {
     private final MemberRepository memberRepository;
     @Autowired
     private final VehicleSizeRepository vehicleSizeRepository;
+    @Autowired
+    private final DistributorSalesBuffer distributorSalesBuffer;
+    @Autowired
+    private final VehicleSalesCubeService vehicleSalesCubeService;
+    @Autowired
+    private final SalesRankingService salesRankingService;
+    @Autowired
+    private final SalesQueryService salesQueryService;
+
+    // 차량 목록 캐시 (등록/수정 시 evictCatalog 로 비움)
+    private volatile List<VehicleDto> catalog;
+    // 목록을 읽는 동안 무효화가 일어났으면 읽은 목록을 캐시에 넣지 않음
+    private final AtomicLong catalogVersion = new AtomicLong();
 
     /**
      * 차량 정보를 저장합니다.
@@ -60,19 +77,57 @@ public class VehicleService {
         vehicle.setVehicleSize(vehicleSize);
         vehicle.setVehicleProfile(imagePath);
 
-        return vehicleRepository.save(vehicle);
+        Vehicle saved = vehicleRepository.save(vehicle);
+        evictCatalog();
+        return saved;
     }
 
     /**
      * 모든 차량 목록을 반환합니다.
      * 설명: 모든 차량 정보를 DTO로 변환하여 반환합니다.
+     *        차량 목록은 등록/수정할 때만 바뀌므로 처음 읽은 목록을 캐시해 두고, saveVehicle 에서 비웁니다.
+     *        판매로 바뀌는 재고와 판매량은 캐시된 목록에 반영되지 않으므로 상세 화면처럼 DB에서 다시 조회해야 합니다.
      * 
-     * @return 모든 VehicleDto 리스트
+     * @return 모든 VehicleDto 리스트 (읽기 전용)
      */
     public List<VehicleDto> getAllVehicles() {
-        return vehicleRepository.findAll().stream()
+        List<VehicleDto> cached = catalog;
+        if (cached != null) {
+            return cached;
+        }
+        long version = catalogVersion.get();
+        List<VehicleDto> loaded = List.copyOf(vehicleRepository.findAll().stream()
                 .map(VehicleDto::toDto)
-                .collect(Collectors.toList());
+                .collect(Collectors.toList()));
+        synchronized (catalogVersion) {
+            if (catalogVersion.get() == version) {
+                catalog = loaded;
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * 차량 목록 캐시 무효화 (차량 등록/수정 시 호출)
+     * 트랜잭션 안에서 호출되면 커밋 이후에 한 번 더 무효화합니다.
+     */
+    public void evictCatalog() {
+        clearCatalog();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    clearCatalog();
+                }
+            });
+        }
+    }
+
+    private void clearCatalog() {
+        synchronized (catalogVersion) {
+            catalogVersion.incrementAndGet();
+            catalog = null;
+        }
     }
 
     /**
@@ -90,7 +145,8 @@ public class VehicleService {
 
     /**
      * 차량 판매를 처리합니다.
-     * 설명: 차량 재고를 감소시키고 판매 내역을 기록합니다. 또한, 부서별 판매 내역을 업데이트합니다.
+     * 설명: 재고가 충분할 때만 차감하는 조건부 UPDATE로 재고를 줄인 뒤 판매 내역과 부서별 판매 내역을 기록합니다.
+     *        재고 행을 읽고 쓰는 사이에 다른 판매가 끼어들 틈이 없어, 동시에 판매해도 재고가 음수가 되지 않습니다.
      * 
      * @param vehicleNo 판매된 차량 번호
      * @param saleCount 판매 수량
@@ -98,44 +154,60 @@ public class VehicleService {
      */
     @Transactional
     public void processSale(Long vehicleNo, int saleCount, Long memNo) {
+        if (saleCount <= 0) {
+            throw new IllegalArgumentException("Invalid sale count: " + saleCount);
+        }
+        if (vehicleRepository.decrementInventory(vehicleNo, saleCount) == 0) {
+            if (!vehicleRepository.existsById(vehicleNo)) {
+                throw new EntityNotFoundException("Vehicle not found with id: " + vehicleNo);
+            }
+            throw new IllegalArgumentException("Insufficient vehicle inventory");
+        }
+        recordSale(vehicleNo, saleCount, memNo);
+    }
+
+    /**
+     * 판매 내역을 기록합니다. (재고는 이미 차감된 상태)
+     * 설명: 개인 판매 내역을 저장하고 부서의 당일 판매 내역에 수량과 매출액을 더합니다.
+     *        회원/지점/차량별 월간 집계(VehicleSalesCubeService)와 이번 달 실시간 순위(SalesRankingService)도 함께 갱신합니다.
+     *        vehicle.sales.buffer.enabled=true 이면 부서 판매 내역은 DistributorSalesBuffer 를 거쳐 몇 초 뒤에 반영됩니다.
+     *        예약 확정(VehicleReservationService.confirm)에서도 사용합니다.
+     * 
+     * @param vehicleNo 판매된 차량 번호
+     * @param saleCount 판매 수량
+     * @param memNo 판매자 회원 번호
+     */
+    @Transactional
+    public void recordSale(Long vehicleNo, int saleCount, Long memNo) {
         Vehicle vehicle = vehicleRepository.findById(vehicleNo)
                 .orElseThrow(() -> new EntityNotFoundException("Vehicle not found with id: " + vehicleNo));
 
         Member member = memberRepository.findById(memNo)
                 .orElseThrow(() -> new EntityNotFoundException("Member not found with id: " + memNo));
 
-        if (vehicle.getVehicleInventory() < saleCount) {
-            throw new IllegalArgumentException("Insufficient vehicle inventory");
-        }
-
-        vehicle.setVehicleInventory(vehicle.getVehicleInventory() - saleCount);
-        vehicleRepository.save(vehicle);
-
-        int totalSalePrice = vehicle.getVehiclePrice() * saleCount;
+        Distributor distributor = member.getDistributor();
+        LocalDate today = LocalDate.now();
+        int totalSalePrice = Math.multiplyExact(vehicle.getVehiclePrice(), saleCount); // 건당 매출이 int 범위를 넘으면 실패
         VehicleSales vehicleSales = VehicleSales.builder()
+                .distributor(distributor)
                 .vehicle(vehicle)
                 .member(member)
                 .saleCount(saleCount)
                 .salePrices(totalSalePrice)
-                .saleDate(LocalDate.now())
+                .saleDate(today)
                 .build();
         vehicleSalesRepository.save(vehicleSales);
 
-        Distributor distributor = member.getDistributor();
-        LocalDate today = LocalDate.now();
-        VehicleDistributorSales distributorSales = vehicleDistributorSalesRepository
-                .findByDistributorAndSaleDate(distributor, today)
-                .orElseGet(() -> VehicleDistributorSales.builder()
-                        .distributor(distributor)
-                        .distributorSaleCount(0)
-                        .distributorSalePrices(0)
-                        .saleDate(today)
-                        .build());
-
-        distributorSales.setDistributorSaleCount(distributorSales.getDistributorSaleCount() + saleCount);
-        distributorSales.setDistributorSalePrices(distributorSales.getDistributorSalePrices() + totalSalePrice);
-
-        vehicleDistributorSalesRepository.save(distributorSales);
+        vehicleSalesCubeService.addSale(memNo, distributor.getDistributorNo(), vehicleNo, today, saleCount, totalSalePrice);
+        salesRankingService.onSale(memNo, distributor.getDistributorNo(), vehicleNo, today, saleCount, totalSalePrice);
+        salesQueryService.onSale(today);
+
+        // 지점+판매일 유니크 키로 한 번에 누적 (동시 판매에도 행 중복/누락 없음)
+        if (distributorSalesBuffer.isEnabled()) {
+            distributorSalesBuffer.add(distributor.getDistributorNo(), memNo, today, saleCount, totalSalePrice);
+        } else {
+            vehicleDistributorSalesRepository.addDailySales(distributor.getDistributorNo(), memNo, today, saleCount, totalSalePrice);
+        }
     }
 
     /**
@@ -169,68 +241,31 @@ public class VehicleService {
 
     /**
      * 연간 개인 판매 데이터를 조회합니다.
-     * 설명: 주어진 회원 번호와 연도에 대한 월별 판매량 및 매출액을 반환합니다.
+     * 설명: 주어진 회원 번호와 연도에 대한 월별 판매량 및 매출액을 월별 집계(최대 12행)에서 반환합니다.
      * 
      * @param year 조회할 연도
      * @param memNo 회원 번호
      * @return 월별 판매량 및 매출액 정보를 담은 Map
      */
-    public Map<String, Map<Integer, Integer>> getYearlyIndividualSalesData(int year, Long memNo) {
-        List<VehicleSales> salesList = vehicleSalesRepository.findByMember_MemNoAndSaleDateBetween(
-                memNo,
-                LocalDate.of(year, 1, 1),
-                LocalDate.of(year, 12, 31)
-        );
-
-        Map<Integer, Integer> monthlySales = new HashMap<>();
-        Map<Integer, Integer> monthlySalePrices = new HashMap<>();
-
-        for (int i = 1; i <= 12; i++) {
-            monthlySales.put(i, 0);
-            monthlySalePrices.put(i, 0);
-        }
-
-        for (VehicleSales sale : salesList) {
-            int month = sale.getSaleDate().getMonthValue();
-            monthlySales.put(month, monthlySales.get(month) + sale.getSaleCount());
-            monthlySalePrices.put(month, monthlySalePrices.get(month) + sale.getSalePrices());
-        }
-
-        Map<String, Map<Integer, Integer>> salesData = new HashMap<>();
-        salesData.put("monthlySales", monthlySales);
-        salesData.put("monthlySalePrices", monthlySalePrices);
-
-        return salesData;
+    public Map<String, Map<Integer, Long>> getYearlyIndividualSalesData(int year, Long memNo) {
+        return vehicleSalesCubeService.getYearSeries(VehicleSalesMonthly.MEMBER, memNo, year);
     }
 
     /**
      * 월간 개인 판매 데이터를 조회합니다.
-     * 설명: 주어진 회원 번호와 연, 월에 대한 개인 판매량 및 매출액을 반환합니다.
+     * 설명: 주어진 회원 번호와 연, 월에 대한 개인 판매량 및 매출액을 월별 집계에서 반환합니다.
      * 
      * @param year 연도
      * @param month 월
      * @param memNo 회원 번호
      * @return 개인 판매량 및 매출액 정보가 담긴 Map
      */
-    public Map<String, Integer> getMonthlyIndividualSalesData(int year, int month, Long memNo) {
-        List<VehicleSales> salesList = vehicleSalesRepository.findByMember_MemNoAndSaleDateBetween(
-                memNo,
-                LocalDate.of(year, month, 1),
-                LocalDate.of(year, month, LocalDate.of(year, month, 1).lengthOfMonth())
-        );
-
-        Map<String, Integer> salesData = new HashMap<>();
-        int totalSalesCount = 0;
-        int totalSalePrices = 0;
-
-        for (VehicleSales sale : salesList) {
-            totalSalesCount += sale.getSaleCount();
-            totalSalePrices += sale.getSalePrices();
-        }
-
-        salesData.put("totalSalesCount", totalSalesCount);
-        salesData.put("totalSalePrices", totalSalePrices);
+    public Map<String, Long> getMonthlyIndividualSalesData(int year, int month, Long memNo) {
+        long[] total = vehicleSalesCubeService.getMonth(VehicleSalesMonthly.MEMBER, memNo, YearMonth.of(year, month));
 
+        Map<String, Long> salesData = new HashMap<>();
+        salesData.put("totalSalesCount", total[0]);
+        salesData.put("totalSalePrices", total[1]);
         return salesData;
     }
 
@@ -248,40 +283,14 @@ public class VehicleService {
 
     /**
      * 월간 상위 5개 부서를 조회합니다.
-     * 설명: 특정 연도와 월에 대한 상위 5개 부서의 판매 대수와 매출액을 반환합니다.
+     * 설명: 특정 연도와 월에 대한 상위 5개 부서의 판매 대수와 매출액을 반환합니다. (DB에서 지점별로 묶어 5행만 조회)
      * 
      * @param year 연도
      * @param month 월
      * @return VehicleDistributorSalesDto 상위 5개 부서의 판매 데이터
      */
     public List<VehicleDistributorSalesDto> getTop5DistributorsBySales(int year, int month) {
-        LocalDate startDate = LocalDate.of(year, month, 1);
-        LocalDate endDate = startDate.withDayOfMonth(startDate.lengthOfMonth());
-
-        List<VehicleDistributorSales> salesList = vehicleDistributorSalesRepository.findBySaleDateBetween(startDate, endDate);
-
-        Map<Long, VehicleDistributorSalesDto> aggregatedSalesMap = new HashMap<>();
-        for (VehicleDistributorSales sales : salesList) {
-            Long distributorNo = sales.getDistributor().getDistributorNo();
-
-            VehicleDistributorSalesDto existingDto = aggregatedSalesMap.getOrDefault(distributorNo,
-                VehicleDistributorSalesDto.builder()
-                    .distributor(sales.getDistributor())
-                    .distributorSaleCount(0)
-                    .distributorSalePrices(0)
-                    .build()
-            );
-
-            existingDto.setDistributorSaleCount(existingDto.getDistributorSaleCount() + sales.getDistributorSaleCount());
-            existingDto.setDistributorSalePrices(existingDto.getDistributorSalePrices() + sales.getDistributorSalePrices());
-
-            aggregatedSalesMap.put(distributorNo, existingDto);
-        }
-
-        return aggregatedSalesMap.values().stream()
-                .sorted(Comparator.comparingInt(VehicleDistributorSalesDto::getDistributorSaleCount).reversed())
-                .limit(5)
-                .collect(Collectors.toList());
+        return salesRankingService.getTop5Distributors(year, month);
     }
 
     /**
@@ -299,7 +308,7 @@ public class VehicleService {
                 .map(result -> {
                     Long vehicleNo = ((Number) result[0]).longValue();
                     int totalSaleCount = ((Number) result[1]).intValue();
-                    int totalSalePrices = ((Number) result[2]).intValue();
+                    long totalSalePrices = ((Number) result[2]).longValue();
 
                     VehicleDto vehicleDto = new VehicleDto();
                     vehicleDto.setVehicleNo(vehicleNo);
@@ -0,0 +1,24 @@
+-- 결재 문서 다중 첨부파일 (내용 해시 기반 중복 제거)
+
+CREATE TABLE IF NOT EXISTS attachment_blob (
+    blob_hash      CHAR(64)     NOT NULL,             -- SHA-256 (16진수)
+    blob_size      BIGINT       NOT NULL,
+    stored_path    VARCHAR(255) NOT NULL,             -- blobs/ 기준 상대 경로
+    ref_count      INT          NOT NULL DEFAULT 0,
+    blob_reg_date  DATETIME     NOT NULL,
+    blob_mod_date  DATETIME     NOT NULL,
+    PRIMARY KEY (blob_hash),
+    KEY idx_attachment_blob_orphan (ref_count, blob_mod_date)
+);
+
+CREATE TABLE IF NOT EXISTS authorization_attachment (
+    attach_no        BIGINT       NOT NULL AUTO_INCREMENT,
+    author_no        BIGINT       NOT NULL,
+    blob_hash        CHAR(64)     NOT NULL,
+    ori_file_name    VARCHAR(255),
+    attach_reg_date  DATETIME,
+    PRIMARY KEY (attach_no),
+    KEY idx_authorization_attachment_author (author_no),
+    CONSTRAINT fk_authorization_attachment_author FOREIGN KEY (author_no) REFERENCES `authorization` (author_no),
+    CONSTRAINT fk_authorization_attachment_blob FOREIGN KEY (blob_hash) REFERENCES attachment_blob (blob_hash)
+);
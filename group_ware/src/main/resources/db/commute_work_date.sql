@@ -0,0 +1,18 @@
+-- 출근 처리량 개선: 회원별 근무일(work_date) 하루 한 건 유니크 키
+
+ALTER TABLE commute
+    ADD COLUMN work_date DATE NULL AFTER mem_no;
+
+UPDATE commute
+   SET work_date = DATE(commute_on_start_time)
+ WHERE work_date IS NULL;
+
+-- 중복 클릭 등으로 같은 날 여러 건이 생긴 경우 먼저 생성된 기록만 남김
+DELETE c1 FROM commute c1
+JOIN commute c2
+  ON c1.mem_no = c2.mem_no AND c1.work_date = c2.work_date AND c1.commute_no > c2.commute_no;
+
+ALTER TABLE commute
+    ADD UNIQUE KEY uk_commute_member_work_date (mem_no, work_date);
+
+-- 정리 후 WorkingTimeReconcileService.reconcileAll()을 한 번 실행하여 근무 시간 집계를 다시 맞춥니다.
@@ -0,0 +1,21 @@
+-- 일별 근태 집계 (회원, 근무일, 근무 시간(초), 지각 여부, 자리 비움 시간(분))
+-- 출근/상태 변경/퇴근 시 갱신하고, DailyAttendanceService.backfillRecent()가 매일 최근 7일을 원본으로 보정합니다.
+
+CREATE TABLE IF NOT EXISTS daily_attendance (
+    daily_no        BIGINT      NOT NULL AUTO_INCREMENT,
+    mem_no          BIGINT      NOT NULL,
+    work_date       DATE        NOT NULL,
+    worked_seconds  BIGINT      NOT NULL DEFAULT 0,
+    is_late         CHAR(1)     NOT NULL DEFAULT 'N',
+    away_minutes    INT         NOT NULL DEFAULT 0,
+    away_since      DATETIME    NULL,
+    PRIMARY KEY (daily_no),
+    UNIQUE KEY uk_daily_attendance_member_date (mem_no, work_date)
+);
+
+-- 기존 출퇴근 기록 전체 적재 (commute_work_date.sql 적용 후 실행)
+INSERT INTO daily_attendance (mem_no, work_date, worked_seconds, is_late, away_minutes)
+SELECT c.mem_no, c.work_date, COALESCE(TIME_TO_SEC(c.commute_out_time), 0), COALESCE(c.is_late, 'N'), 0
+  FROM commute c
+ WHERE c.work_date IS NOT NULL
+ON DUPLICATE KEY UPDATE worked_seconds = VALUES(worked_seconds), is_late = VALUES(is_late);
@@ -0,0 +1,26 @@
+-- 날짜 범위 조회용 복합 인덱스
+-- YEAR()/MONTH() 조건을 "from 이상, to 미만" 범위 조건으로 바꾼 쿼리와 짝을 이룹니다.
+-- 적용 전후로 아래 EXPLAIN 의 type 이 ALL → range 로 바뀌는지 확인합니다.
+
+-- 출퇴근: 회원별 기간 조회 (연간 근무/지각 통계)
+CREATE INDEX IF NOT EXISTS idx_commute_member_start
+    ON commute (mem_no, commute_on_start_time);
+
+-- 차량 판매: 지점별/회원별/전체 기간 조회
+CREATE INDEX IF NOT EXISTS idx_vehicle_sales_distributor_date
+    ON vehicle_sales (distributor_no, sale_date);
+CREATE INDEX IF NOT EXISTS idx_vehicle_sales_member_date
+    ON vehicle_sales (mem_no, sale_date);
+CREATE INDEX IF NOT EXISTS idx_vehicle_sales_date
+    ON vehicle_sales (sale_date);
+
+-- 지점 판매: 지점별 기간 조회는 (distributor_no, sale_date) 유니크 키(vehicle_distributor_sales_unique.sql) 사용
+CREATE INDEX IF NOT EXISTS idx_vehicle_distributor_sales_date
+    ON vehicle_distributor_sales (sale_date);
+
+-- 주간 근무: (mem_no, start_of_week) 유니크 키(working_time_aggregate.sql)를 그대로 사용
+
+-- 확인용
+-- EXPLAIN SELECT * FROM vehicle_distributor_sales WHERE YEAR(sale_date) = 2024 AND MONTH(sale_date) = 10;
+-- EXPLAIN SELECT * FROM vehicle_distributor_sales WHERE sale_date >= '2024-10-01' AND sale_date < '2024-11-01';
+-- EXPLAIN SELECT * FROM commute WHERE mem_no = 1 AND commute_on_start_time >= '2024-01-01' AND commute_on_start_time < '2025-01-01';
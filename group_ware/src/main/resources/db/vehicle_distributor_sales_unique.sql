@@ -0,0 +1,26 @@
+-- 지점 당일 판매 누적 (판매 시 INSERT ... ON DUPLICATE KEY UPDATE 로 수량/매출을 더함)
+-- 동시 판매로 생긴 같은 지점+판매일 중복 행을 가장 앞선 행으로 합친 뒤 유니크 키 추가
+
+UPDATE vehicle_distributor_sales keep
+JOIN (
+    SELECT distributor_no, sale_date, MIN(distributor_sales_no) AS keep_no,
+           SUM(distributor_sale_count) AS total_count, SUM(distributor_sale_prices) AS total_prices
+      FROM vehicle_distributor_sales
+     GROUP BY distributor_no, sale_date
+    HAVING COUNT(*) > 1
+) dup ON keep.distributor_sales_no = dup.keep_no
+   SET keep.distributor_sale_count = dup.total_count,
+       keep.distributor_sale_prices = dup.total_prices;
+
+DELETE d1 FROM vehicle_distributor_sales d1
+JOIN vehicle_distributor_sales d2
+  ON d1.distributor_no = d2.distributor_no AND d1.sale_date = d2.sale_date
+ AND d1.distributor_sales_no > d2.distributor_sales_no;
+
+-- 유니크 키가 (distributor_no, sale_date) 조회 인덱스를 대신함
+ALTER TABLE vehicle_distributor_sales
+    ADD UNIQUE KEY uk_vehicle_distributor_sales_distributor_date (distributor_no, sale_date);
+DROP INDEX IF EXISTS idx_vehicle_distributor_sales_distributor_date ON vehicle_distributor_sales;
+
+-- 당일 매출 누적이 INT 범위(약 21억)를 넘지 않도록 BIGINT 로 변경 (3천만 원 차량 72대면 넘음)
+ALTER TABLE vehicle_distributor_sales MODIFY distributor_sale_prices BIGINT NOT NULL;
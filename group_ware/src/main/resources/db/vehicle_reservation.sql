@@ -0,0 +1,17 @@
+-- 차량 재고 예약 (예약 시 vehicle.vehicle_inventory 를 조건부 UPDATE로 차감)
+-- status: HELD(재고 차감됨) -> CONFIRMED(판매 기록) / CANCELLED, EXPIRED(재고 복구)
+
+CREATE TABLE IF NOT EXISTS vehicle_reservation (
+    reservation_no  BIGINT      NOT NULL AUTO_INCREMENT,
+    vehicle_no      BIGINT      NOT NULL,
+    mem_no          BIGINT      NOT NULL,
+    sale_count      INT         NOT NULL,
+    status          VARCHAR(10) NOT NULL,
+    reserved_at     DATETIME    NOT NULL,
+    expires_at      DATETIME    NOT NULL,
+    PRIMARY KEY (reservation_no),
+    KEY idx_vehicle_reservation_status_expires (status, expires_at)
+);
+
+-- 재고가 음수가 되지 않도록 보장 (MariaDB 10.2 이상)
+ALTER TABLE vehicle ADD CONSTRAINT chk_vehicle_inventory CHECK (vehicle_inventory >= 0);
@@ -0,0 +1,22 @@
+-- 지점별 월말 판매 예측과 일별 이상 판매 알림 (VehicleSalesForecastService 가 매일 계산해서 덮어씀)
+-- anomaly: NONE, SPIKE(평소보다 많이 팔림), DROP(평소보다 적게 팔림)
+
+CREATE TABLE IF NOT EXISTS vehicle_sales_forecast (
+    forecast_no           BIGINT      NOT NULL AUTO_INCREMENT,
+    distributor_no        BIGINT      NOT NULL,
+    forecast_month        DATE        NOT NULL,             -- 예측 대상 월 1일
+    base_date             DATE        NOT NULL,             -- 마지막으로 반영한 판매일 (계산일 전날)
+    month_to_date_count   BIGINT      NOT NULL DEFAULT 0,   -- 대상 월 1일 ~ base_date 실적
+    month_to_date_prices  BIGINT      NOT NULL DEFAULT 0,
+    projected_count       BIGINT      NOT NULL DEFAULT 0,   -- 월말 예상 판매 수량
+    projected_prices      BIGINT      NOT NULL DEFAULT 0,   -- 월말 예상 매출액
+    daily_level           DOUBLE      NOT NULL DEFAULT 0,   -- 평활한 하루 판매 수량 (요일 보정 전)
+    last_day_count        INT         NOT NULL DEFAULT 0,   -- base_date 판매 수량
+    expected_count        DOUBLE      NOT NULL DEFAULT 0,   -- base_date 예상 판매 수량
+    deviation             DOUBLE      NOT NULL DEFAULT 0,   -- (실제 - 예상) / 표준편차
+    anomaly               VARCHAR(5)  NOT NULL DEFAULT 'NONE',
+    computed_at           DATETIME    NOT NULL,
+    PRIMARY KEY (forecast_no),
+    UNIQUE KEY uk_vehicle_sales_forecast_distributor_month (distributor_no, forecast_month),
+    KEY idx_vehicle_sales_forecast_month (forecast_month)
+);
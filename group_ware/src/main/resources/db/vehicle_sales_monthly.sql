@@ -0,0 +1,31 @@
+-- 월별 판매 집계 (회원/지점/차량 x 월), 판매 시 INSERT ... ON DUPLICATE KEY UPDATE 로 누적
+
+CREATE TABLE IF NOT EXISTS vehicle_sales_monthly (
+    monthly_no      BIGINT      NOT NULL AUTO_INCREMENT,
+    dimension       VARCHAR(12) NOT NULL,             -- MEMBER, DISTRIBUTOR, VEHICLE
+    dim_no          BIGINT      NOT NULL,             -- 회원/지점/차량 번호
+    start_of_month  DATE        NOT NULL,             -- 해당 월 1일
+    sale_count      BIGINT      NOT NULL DEFAULT 0,
+    sale_prices     BIGINT      NOT NULL DEFAULT 0,
+    PRIMARY KEY (monthly_no),
+    UNIQUE KEY uk_vehicle_sales_monthly_dim_month (dimension, dim_no, start_of_month)
+);
+
+-- 기존 판매 내역 적재 (다시 실행하면 원본 기준 값으로 덮어씀)
+INSERT INTO vehicle_sales_monthly (dimension, dim_no, start_of_month, sale_count, sale_prices)
+SELECT 'MEMBER', vs.mem_no, DATE_FORMAT(vs.sale_date, '%Y-%m-01'), SUM(vs.sale_count), SUM(vs.sale_prices)
+  FROM vehicle_sales vs
+ GROUP BY vs.mem_no, DATE_FORMAT(vs.sale_date, '%Y-%m-01')
+ON DUPLICATE KEY UPDATE sale_count = VALUES(sale_count), sale_prices = VALUES(sale_prices);
+
+INSERT INTO vehicle_sales_monthly (dimension, dim_no, start_of_month, sale_count, sale_prices)
+SELECT 'DISTRIBUTOR', vs.distributor_no, DATE_FORMAT(vs.sale_date, '%Y-%m-01'), SUM(vs.sale_count), SUM(vs.sale_prices)
+  FROM vehicle_sales vs
+ GROUP BY vs.distributor_no, DATE_FORMAT(vs.sale_date, '%Y-%m-01')
+ON DUPLICATE KEY UPDATE sale_count = VALUES(sale_count), sale_prices = VALUES(sale_prices);
+
+INSERT INTO vehicle_sales_monthly (dimension, dim_no, start_of_month, sale_count, sale_prices)
+SELECT 'VEHICLE', vs.vehicle_no, DATE_FORMAT(vs.sale_date, '%Y-%m-01'), SUM(vs.sale_count), SUM(vs.sale_prices)
+  FROM vehicle_sales vs
+ GROUP BY vs.vehicle_no, DATE_FORMAT(vs.sale_date, '%Y-%m-01')
+ON DUPLICATE KEY UPDATE sale_count = VALUES(sale_count), sale_prices = VALUES(sale_prices);
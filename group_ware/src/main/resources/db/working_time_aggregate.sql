@@ -0,0 +1,28 @@
+-- 근무 시간 증분 집계 (퇴근 시 주간/월간/전체 집계에 INSERT ... ON DUPLICATE KEY UPDATE 로 누적)
+
+CREATE TABLE IF NOT EXISTS monthly_working_time (
+    month_no        BIGINT  NOT NULL AUTO_INCREMENT,
+    mem_no          BIGINT  NOT NULL,
+    month_hours     INT     NOT NULL DEFAULT 0,
+    month_minutes   INT     NOT NULL DEFAULT 0,
+    start_of_month  DATE    NOT NULL,             -- 해당 월 1일
+    PRIMARY KEY (month_no),
+    UNIQUE KEY uk_monthly_working_time_member_month (mem_no, start_of_month)
+);
+
+-- 누적 쿼리가 기존 행을 찾을 수 있도록 중복 행 정리 후 유니크 키 추가
+DELETE w1 FROM weekly_working_time w1
+JOIN weekly_working_time w2
+  ON w1.mem_no = w2.mem_no AND w1.start_of_week = w2.start_of_week AND w1.week_no > w2.week_no;
+
+ALTER TABLE weekly_working_time
+    ADD UNIQUE KEY uk_weekly_working_time_member_week (mem_no, start_of_week);
+
+DELETE t1 FROM working_time t1
+JOIN working_time t2
+  ON t1.mem_no = t2.mem_no AND t1.time_no > t2.time_no;
+
+ALTER TABLE working_time
+    ADD UNIQUE KEY uk_working_time_member (mem_no);
+
+-- 적용 후 WorkingTimeReconcileService.reconcileAll()을 한 번 실행하면 월간 집계가 원본 기록으로 채워집니다.
@@ -0,0 +1,165 @@
+package com.ware.spring.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import com.ware.spring.approval_route.domain.ApprovalRoute;
+import com.ware.spring.authorization.domain.Authorization;
+import com.ware.spring.member.domain.Distributor;
+import com.ware.spring.member.domain.Member;
+import com.ware.spring.member.domain.Rank;
+import com.ware.spring.member.repository.DistributorRepository;
+import com.ware.spring.member.repository.MemberRepository;
+import com.ware.spring.member.repository.RankRepository;
+
+/**
+ * 결재 성능 측정용 합성 데이터 생성기
+ * 설명: 지점(Distributor), 직원(Member), 결재 문서(Authorization), 결재 경로(ApprovalRoute)를
+ *        지정한 규모로 생성합니다. 시드를 고정하여 실행할 때마다 같은 데이터가 만들어집니다.
+ *        - 메모리 객체 생성: JMH DTO 변환 벤치마크에서 사용 (DB 불필요)
+ *        - DB 저장: 부하 테스트에서 기안/결재 대상 직원을 미리 만들어 둘 때 사용
+ *
+ * 규모는 시스템 프로퍼티로 조절합니다.
+ *   benchmark.distributors (기본 10), benchmark.members (기본 200),
+ *   benchmark.documents (기본 300), benchmark.approvers (기본 3), benchmark.seed (기본 42)
+ */
+public class ApprovalDataGenerator {
+
+    public static final String[] DOCTYPES = {"off Report", "trip Report", "late Report", "outside Report", "overtime Report"};
+    public static final String[] RANK_NAMES = {"사원", "대리", "과장", "차장", "부장"};
+
+    private final Random random;
+
+    public ApprovalDataGenerator(long seed) {
+        this.random = new Random(seed);
+    }
+
+    public static ApprovalDataGenerator fromSystemProperties() {
+        return new ApprovalDataGenerator(Long.getLong("benchmark.seed", 42L));
+    }
+
+    public static int scale(String key, int defaultValue) {
+        return Integer.getInteger("benchmark." + key, defaultValue);
+    }
+
+    // ===== 메모리 객체 생성 =====
+
+    public List<Rank> ranks() {
+        List<Rank> ranks = new ArrayList<>();
+        for (int i = 0; i < RANK_NAMES.length; i++) {
+            ranks.add(Rank.builder().rankNo((long) (i + 1)).rankName(RANK_NAMES[i]).build());
+        }
+        return ranks;
+    }
+
+    public List<Distributor> distributors(int count) {
+        List<Distributor> distributors = new ArrayList<>();
+        for (int i = 1; i <= count; i++) {
+            distributors.add(Distributor.builder()
+                    .distributorName("벤치마크 지점 " + i)
+                    .distributorPhone(String.format("02-%04d-%04d", i, random.nextInt(10000)))
+                    .distributorAddr("서울특별시 테스트구 " + i + "번길")
+                    .distributorAddrDetail(i + "층")
+                    .distributorLatitude(37.4 + random.nextDouble() * 0.3)
+                    .distributorLongitude(126.8 + random.nextDouble() * 0.4)
+                    .distributorStatus(1)
+                    .build());
+        }
+        return distributors;
+    }
+
+    public List<Member> members(int count, List<Rank> ranks, List<Distributor> distributors) {
+        List<Member> members = new ArrayList<>();
+        for (int i = 1; i <= count; i++) {
+            members.add(Member.builder()
+                    .memId("bench" + i)
+                    .memPw("{noop}bench")
+                    .memName("직원" + i)
+                    .memPhone(String.format("010-%04d-%04d", i, random.nextInt(10000)))
+                    .memEmail("bench" + i + "@groupware.test")
+                    .memOff(15)
+                    .memUseOff(0)
+                    .rank(ranks.get(random.nextInt(ranks.size())))
+                    .distributor(distributors.get(random.nextInt(distributors.size())))
+                    .empNo(String.format("B%06d", i))
+                    .memLeave("N")
+                    .build());
+        }
+        return members;
+    }
+
+    /**
+     * 결재 경로까지 연결된 문서 생성 (메모리 객체, 식별자 포함)
+     * @param count 문서 수
+     * @param approverCount 문서당 결재자 수 (참조자 1명 별도)
+     */
+    public List<Authorization> authorizations(int count, int approverCount, List<Member> members) {
+        List<Authorization> authorizations = new ArrayList<>();
+        long approNo = 1;
+        for (int i = 1; i <= count; i++) {
+            Member drafter = members.get(random.nextInt(members.size()));
+            Authorization authorization = document(drafter, DOCTYPES[random.nextInt(DOCTYPES.length)]);
+            authorization.setAuthorNo((long) i);
+
+            List<ApprovalRoute> routes = new ArrayList<>();
+            for (int order = 1; order <= approverCount + 1; order++) {
+                boolean referer = order > approverCount;
+                Member member = pickOther(members, drafter);
+                routes.add(ApprovalRoute.builder()
+                        .approNo(approNo++)
+                        .authorization(authorization)
+                        .member(member)
+                        .approvalStatus("P")
+                        .approvalOrder(order)
+                        .isApprover(referer ? "N" : "Y")
+                        .isReferer(referer ? "Y" : "N")
+                        .rank(member.getRank())
+                        .build());
+            }
+            authorization.setApprovalRoutes(routes);
+            authorizations.add(authorization);
+        }
+        return authorizations;
+    }
+
+    public Authorization document(Member drafter, String doctype) {
+        return Authorization.builder()
+                .member(drafter)
+                .empNo(drafter.getEmpNo())
+                .authorName(drafter.getMemName())
+                .authorStatus("P")
+                .authTitle("벤치마크 " + doctype)
+                .authContent("<p>성능 측정용 결재 문서입니다.</p>")
+                .doctype(doctype)
+                .folderPrivateNo(1)
+                .leaveType("off Report".equals(doctype) ? "연차" : null)
+                .startDate("2024-10-01")
+                .endDate("2024-10-01")
+                .startEndDate(1.0)
+                .approvalRoutes(new ArrayList<>())
+                .build();
+    }
+
+    public Member pickOther(List<Member> members, Member exclude) {
+        Member member;
+        do {
+            member = members.get(random.nextInt(members.size()));
+        } while (member == exclude && members.size() > 1);
+        return member;
+    }
+
+    // ===== DB 저장 =====
+
+    /**
+     * 직급, 지점, 직원을 저장하고 저장된 직원 목록을 반환합니다.
+     */
+    public List<Member> persistMembers(RankRepository rankRepository, DistributorRepository distributorRepository,
+                                       MemberRepository memberRepository, int distributorCount, int memberCount) {
+        List<Rank> ranks = ranks();
+        ranks.forEach(rank -> rank.setRankNo(null));
+        ranks = rankRepository.saveAll(ranks);
+        List<Distributor> distributors = distributorRepository.saveAll(distributors(distributorCount));
+        return memberRepository.saveAll(members(memberCount, ranks, distributors));
+    }
+}
@@ -0,0 +1,252 @@
+package com.ware.spring.benchmark;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.ware.spring.approval_route.domain.ApprovalRoute;
+import com.ware.spring.approval_route.domain.ApprovalRouteDto;
+import com.ware.spring.approval_route.repository.ApprovalRouteRepository;
+import com.ware.spring.authorization.domain.Authorization;
+import com.ware.spring.authorization.domain.AuthorizationDto;
+import com.ware.spring.authorization.domain.BulkApprovalResultDto;
+import com.ware.spring.authorization.repository.AuthorizationRepository;
+import com.ware.spring.authorization.service.AuthorizationService;
+import com.ware.spring.member.domain.Member;
+import com.ware.spring.member.repository.DistributorRepository;
+import com.ware.spring.member.repository.MemberRepository;
+import com.ware.spring.member.repository.RankRepository;
+import com.ware.spring.security.vo.SecurityUser;
+
+/**
+ * 결재 흐름 부하 테스트 (./gradlew benchmark)
+ * 설명: 내장 H2(MariaDB 호환 모드)에서 기안 → 결재 → 완료 흐름을 반복 실행하여
+ *        단계별 p50/p99 처리 시간과 처리량을 출력합니다.
+ *        - 단건 결재: AuthorizationApiController의 /api/authorization/sign 과 같은 순서로 서비스 호출
+ *        - 일괄 결재: bulkSignDocuments로 같은 결재자의 문서를 묶어서 처리
+ *        기본 test 태스크에서는 제외되며(benchmark 태그), 규모는 ApprovalDataGenerator의 시스템 프로퍼티로 조절합니다.
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("benchmark")
+class ApprovalWorkflowLoadTest {
+
+    private static final String SIGNATURE = "data:image/png;base64,iVBORw0KGgoAAAANSUhEUgAAAAEAAAABCAYAAAAfFcSJAAAADUlEQVR42mNk+M9QDwADhgGAWjR9awAAAABJRU5ErkJggg==";
+    private static final int BULK_BATCH_SIZE = 50;
+
+    @Autowired
+    private AuthorizationService authorizationService;
+    @Autowired
+    private AuthorizationRepository authorizationRepository;
+    @Autowired
+    private ApprovalRouteRepository approvalRouteRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private DistributorRepository distributorRepository;
+    @Autowired
+    private RankRepository rankRepository;
+
+    private ApprovalDataGenerator generator;
+    private List<Member> members;
+    private Random random;
+    private int documents;
+    private int approvers;
+
+    @BeforeEach
+    void setUp() {
+        generator = ApprovalDataGenerator.fromSystemProperties();
+        random = new Random(Long.getLong("benchmark.seed", 42L));
+        documents = ApprovalDataGenerator.scale("documents", 300);
+        approvers = ApprovalDataGenerator.scale("approvers", 3);
+
+        approvalRouteRepository.deleteAllInBatch();
+        authorizationRepository.deleteAllInBatch();
+        members = generator.persistMembers(rankRepository, distributorRepository, memberRepository,
+                ApprovalDataGenerator.scale("distributors", 10),
+                ApprovalDataGenerator.scale("members", 200));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void singleSignWorkflow() {
+        LatencyRecorder submit = new LatencyRecorder("submit");
+        LatencyRecorder sign = new LatencyRecorder("sign (single)");
+        LatencyRecorder endToEnd = new LatencyRecorder("submit→complete");
+        int completed = 0;
+        int leaveRejected = 0;
+
+        for (int i = 0; i < documents; i++) {
+            List<Member> participants = pickParticipants(approvers + 2);
+            Member drafter = participants.get(0);
+            String doctype = ApprovalDataGenerator.DOCTYPES[i % ApprovalDataGenerator.DOCTYPES.length];
+            long documentStart = System.nanoTime();
+
+            long start = System.nanoTime();
+            Authorization authorization = submit(drafter, doctype,
+                    participants.subList(1, approvers + 1), participants.get(approvers + 1));
+            submit.record(System.nanoTime() - start);
+            Long authorNo = authorization.getAuthorNo();
+
+            // 결재 순서대로 서명 (컨트롤러의 단건 결재 호출 순서와 동일)
+            for (ApprovalRoute route : routesInOrder(authorNo)) {
+                Long memNo = route.getMember().getMemNo();
+                start = System.nanoTime();
+                try {
+                    authorizationService.approveDocument(authorNo, SIGNATURE, memNo);
+                    authorizationService.updateApproverSignature(authorNo, memNo, SIGNATURE);
+                } catch (IllegalArgumentException e) {
+                    // 잔여 연차 부족 → 반려
+                    break;
+                } finally {
+                    authorizationService.updateApprovalRouteStatus(authorNo, "approve");
+                    authorizationService.checkAndUpdateDocumentStatus(authorNo);
+                    sign.record(System.nanoTime() - start);
+                }
+            }
+            endToEnd.record(System.nanoTime() - documentStart);
+
+            String status = authorizationRepository.findByAuthorNo(authorNo).getAuthorStatus();
+            if ("Y".equals(status)) {
+                completed++;
+            } else if ("N".equals(status) && "off Report".equals(doctype)) {
+                leaveRejected++;
+            }
+        }
+
+        System.out.println(submit.summary());
+        System.out.println(sign.summary());
+        System.out.println(endToEnd.summary());
+        assertEquals(documents, completed + leaveRejected, "모든 문서가 완료(Y) 또는 연차 부족 반려(N) 상태여야 합니다.");
+    }
+
+    @Test
+    void bulkSignWorkflow() {
+        LatencyRecorder submit = new LatencyRecorder("submit");
+        LatencyRecorder bulk = new LatencyRecorder("sign (bulk x" + BULK_BATCH_SIZE + ")");
+        LatencyRecorder perDocument = new LatencyRecorder("sign (bulk, per doc)");
+
+        // 같은 결재 라인으로 문서를 모아 두고 결재자별로 일괄 처리
+        List<Member> participants = pickParticipants(approvers + 2);
+        List<Member> approverLine = participants.subList(1, approvers + 1);
+        Member referer = participants.get(approvers + 1);
+        List<Long> authorNos = new ArrayList<>();
+        for (int i = 0; i < documents; i++) {
+            Member drafter = members.get(random.nextInt(members.size()));
+            if (approverLine.contains(drafter) || drafter == referer) {
+                drafter = participants.get(0);
+            }
+            long start = System.nanoTime();
+            authorNos.add(submit(drafter, "trip Report", approverLine, referer).getAuthorNo());
+            submit.record(System.nanoTime() - start);
+        }
+
+        // 결재 순서별 결재자 → 문서 목록
+        Map<Integer, Map<Long, List<Long>>> byOrder = new LinkedHashMap<>();
+        for (Long authorNo : authorNos) {
+            for (ApprovalRoute route : routesInOrder(authorNo)) {
+                if ("Y".equals(route.getIsApprover())) {
+                    byOrder.computeIfAbsent(route.getApprovalOrder(), key -> new LinkedHashMap<>())
+                           .computeIfAbsent(route.getMember().getMemNo(), key -> new ArrayList<>())
+                           .add(authorNo);
+                }
+            }
+        }
+
+        for (Map<Long, List<Long>> approverDocuments : byOrder.values()) {
+            for (Map.Entry<Long, List<Long>> entry : approverDocuments.entrySet()) {
+                List<Long> pending = entry.getValue();
+                for (int from = 0; from < pending.size(); from += BULK_BATCH_SIZE) {
+                    List<Long> batch = pending.subList(from, Math.min(pending.size(), from + BULK_BATCH_SIZE));
+                    long start = System.nanoTime();
+                    List<BulkApprovalResultDto> results = authorizationService.bulkSignDocuments(batch, SIGNATURE, "approve", entry.getKey());
+                    long elapsed = System.nanoTime() - start;
+                    bulk.record(elapsed);
+                    for (int i = 0; i < batch.size(); i++) {
+                        perDocument.record(elapsed / batch.size());
+                    }
+                    assertTrue(results.stream().allMatch(BulkApprovalResultDto::isSuccess), "일괄 결재 실패: " + results);
+                }
+            }
+        }
+
+        System.out.println(submit.summary());
+        System.out.println(bulk.summary());
+        System.out.println(perDocument.summary());
+        long completed = authorNos.stream()
+                .map(authorizationRepository::findByAuthorNo)
+                .filter(authorization -> "Y".equals(authorization.getAuthorStatus()))
+                .count();
+        assertEquals(documents, completed);
+    }
+
+    /**
+     * 로그인한 기안자로 문서 기안 (AuthorizationService.createAuthorizationFromDto)
+     */
+    private Authorization submit(Member drafter, String doctype, List<Member> approverLine, Member referer) {
+        SecurityUser user = new SecurityUser(drafter, List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+
+        Authorization template = generator.document(drafter, doctype);
+        AuthorizationDto dto = AuthorizationDto.builder()
+                .authorName(template.getAuthorName())
+                .authorStatus(template.getAuthorStatus())
+                .authTitle(template.getAuthTitle())
+                .authContent(template.getAuthContent())
+                .doctype(template.getDoctype())
+                .empNo(template.getEmpNo())
+                .leaveType(template.getLeaveType())
+                .startDate(template.getStartDate())
+                .endDate(template.getEndDate())
+                .startEndDate(template.getStartEndDate())
+                .build();
+        List<ApprovalRouteDto> approverDtos = approverLine.stream()
+                .map(member -> ApprovalRouteDto.builder().memNo(member.getMemNo()).isApprover("Y").isReferer("N").build())
+                .collect(Collectors.toList());
+
+        try {
+            return authorizationService.createAuthorizationFromDto(dto, approverDtos, List.of(referer.getMemNo()));
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    private List<ApprovalRoute> routesInOrder(Long authorNo) {
+        List<ApprovalRoute> routes = new ArrayList<>(approvalRouteRepository.findByAuthorization_AuthorNo(authorNo));
+        routes.sort(Comparator.comparingInt(ApprovalRoute::getApprovalOrder));
+        return routes;
+    }
+
+    /**
+     * 서로 다른 직원 n명 (기안자, 결재자..., 참조자 순)
+     */
+    private List<Member> pickParticipants(int n) {
+        List<Member> shuffled = new ArrayList<>(members);
+        Collections.shuffle(shuffled, random);
+        return new ArrayList<>(shuffled.subList(0, n));
+    }
+}
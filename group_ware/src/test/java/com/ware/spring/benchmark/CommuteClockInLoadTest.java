@@ -0,0 +1,147 @@
+package com.ware.spring.benchmark;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.ware.spring.commute.domain.WorkingTime;
+import com.ware.spring.commute.repository.CommuteRepository;
+import com.ware.spring.commute.repository.WorkingTimeRepository;
+import com.ware.spring.commute.service.CommuteService;
+import com.ware.spring.member.domain.Member;
+import com.ware.spring.member.repository.DistributorRepository;
+import com.ware.spring.member.repository.MemberRepository;
+import com.ware.spring.member.repository.RankRepository;
+
+/**
+ * 출근 집중 시간대 부하 테스트 (./gradlew benchmark)
+ * 설명: 직원 5,000명이 2분 안에 출근 버튼을 누르는 상황을 재현합니다.
+ *        - 도착 시각은 window 안에서 무작위, 일부 직원은 출근 버튼을 거의 동시에 두 번 누름
+ *        - 출근 처리와 출근 여부 확인(checkTodayCommute)의 p50/p99 처리 시간과 처리량 출력
+ *        - 직원별 출근 기록 1건, 근무 일수 1일, 출근 여부 true 인지 검증
+ *        규모는 -Dbenchmark.employees, -Dbenchmark.windowSeconds, -Dbenchmark.threads 로 조절합니다.
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("benchmark")
+class CommuteClockInLoadTest {
+
+    private static final double DOUBLE_SUBMIT_RATE = 0.05;
+
+    @Autowired
+    private CommuteService commuteService;
+    @Autowired
+    private CommuteRepository commuteRepository;
+    @Autowired
+    private WorkingTimeRepository workingTimeRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private DistributorRepository distributorRepository;
+    @Autowired
+    private RankRepository rankRepository;
+
+    private List<Member> members;
+    private Random random;
+    private int windowSeconds;
+    private int threads;
+
+    @BeforeEach
+    void setUp() {
+        ApprovalDataGenerator generator = ApprovalDataGenerator.fromSystemProperties();
+        random = new Random(Long.getLong("benchmark.seed", 42L));
+        windowSeconds = ApprovalDataGenerator.scale("windowSeconds", 120);
+        threads = ApprovalDataGenerator.scale("threads", 64);
+
+        commuteRepository.deleteAllInBatch();
+        workingTimeRepository.deleteAllInBatch();
+        members = generator.persistMembers(rankRepository, distributorRepository, memberRepository,
+                ApprovalDataGenerator.scale("distributors", 10),
+                ApprovalDataGenerator.scale("employees", 5_000));
+    }
+
+    @Test
+    void clockInRush() throws InterruptedException {
+        LatencyRecorder clockIn = new LatencyRecorder("clock-in");
+        LatencyRecorder check = new LatencyRecorder("checkTodayCommute");
+        AtomicInteger failures = new AtomicInteger();
+
+        // 도착 시각 배정 (일부는 중복 클릭)
+        long windowMillis = windowSeconds * 1000L;
+        int submissions = 0;
+        long[][] arrivals = new long[members.size()][];
+        for (int i = 0; i < members.size(); i++) {
+            long arrival = (long) (random.nextDouble() * windowMillis);
+            arrivals[i] = random.nextDouble() < DOUBLE_SUBMIT_RATE
+                    ? new long[] {arrival, arrival + random.nextInt(50)}
+                    : new long[] {arrival};
+            submissions += arrivals[i].length;
+        }
+
+        ScheduledExecutorService executor = Executors.newScheduledThreadPool(threads);
+        CountDownLatch done = new CountDownLatch(submissions);
+        long rushStart = System.nanoTime();
+        for (int i = 0; i < members.size(); i++) {
+            Long memNo = members.get(i).getMemNo();
+            for (long arrival : arrivals[i]) {
+                executor.schedule(() -> {
+                    long start = System.nanoTime();
+                    try {
+                        commuteService.startWork(memNo);
+                    } catch (Exception e) {
+                        failures.incrementAndGet();
+                        e.printStackTrace();
+                    } finally {
+                        long elapsed = System.nanoTime() - start;
+                        synchronized (clockIn) {
+                            clockIn.record(elapsed);
+                        }
+                        done.countDown();
+                    }
+                }, arrival, TimeUnit.MILLISECONDS);
+            }
+        }
+        boolean finished = done.await(windowSeconds + 60L, TimeUnit.SECONDS);
+        long rushMillis = (System.nanoTime() - rushStart) / 1_000_000;
+        executor.shutdownNow();
+
+        for (Member member : members) {
+            long start = System.nanoTime();
+            boolean clockedIn = commuteService.hasTodayCommute(member.getMemNo());
+            check.record(System.nanoTime() - start);
+            assertTrue(clockedIn, "출근 여부가 false 입니다. memNo: " + member.getMemNo());
+        }
+
+        System.out.println(clockIn.summary());
+        System.out.println(check.summary());
+        System.out.println("[benchmark] clock-in rush: " + members.size() + "명, 요청 " + submissions
+                + "건, 소요 " + rushMillis + " ms (window " + windowMillis + " ms)");
+
+        assertTrue(finished, "제한 시간 안에 출근 처리가 끝나지 않았습니다.");
+        assertEquals(0, failures.get(), "출근 처리 실패 건수");
+        assertEquals(members.size(), commuteRepository.count(), "직원별 출근 기록은 하루 한 건이어야 합니다.");
+
+        LocalDate today = LocalDate.now(ZoneId.of("Asia/Seoul"));
+        for (Member member : members) {
+            assertTrue(commuteRepository.findByMemberMemNoAndWorkDate(member.getMemNo(), today).isPresent());
+            WorkingTime workingTime = workingTimeRepository.findByMemNo(member.getMemNo()).orElseThrow();
+            assertEquals(1, workingTime.getTotalDate(), "중복 출근이 근무 일수에 반영되었습니다. memNo: " + member.getMemNo());
+        }
+    }
+}
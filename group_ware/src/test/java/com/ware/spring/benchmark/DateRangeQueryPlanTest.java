@@ -0,0 +1,98 @@
+package com.ware.spring.benchmark;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * 날짜 조건 실행 계획 비교 (./gradlew benchmark)
+ * 설명: YEAR()/MONTH() 함수 조건(변경 전)과 날짜 범위 조건(변경 후)의 EXPLAIN 결과를 비교합니다.
+ *        변경 전은 전체 스캔, 변경 후는 엔티티에 선언한 인덱스를 범위 조건으로 사용해야 합니다.
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("benchmark")
+class DateRangeQueryPlanTest {
+
+    // H2 실행 계획의 테이블 접근 주석: /* public.인덱스명: 조건 */
+    private static final Pattern ACCESS = Pattern.compile("/\\*\\s*\"?public\"?\\.\"?([\\w.]+?)\"?(?::([^*]*))?\\s*\\*/");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void distributorSalesByMonth() {
+        String before = explain("SELECT * FROM vehicle_distributor_sales WHERE YEAR(sale_date) = 2024 AND MONTH(sale_date) = 10");
+        String after = explain("SELECT * FROM vehicle_distributor_sales WHERE sale_date >= DATE '2024-10-01' AND sale_date < DATE '2024-11-01'");
+
+        assertTrue(access(before)[0].endsWith("tablescan"), before);
+        assertEquals("idx_vehicle_distributor_sales_date", access(after)[0], after);
+        assertTrue(access(after)[1].contains("sale_date >="), after);
+    }
+
+    @Test
+    void distributorSalesByDistributorAndMonth() {
+        String after = explain("SELECT * FROM vehicle_distributor_sales WHERE distributor_no = 1 "
+                + "AND sale_date >= DATE '2024-10-01' AND sale_date < DATE '2024-11-01'");
+
+        assertEquals("idx_vehicle_distributor_sales_distributor_date", access(after)[0], after);
+        assertTrue(access(after)[1].contains("sale_date <"), after);
+    }
+
+    @Test
+    void vehicleSalesByMonth() {
+        String before = explain("SELECT SUM(sale_count) FROM vehicle_sales WHERE YEAR(sale_date) = 2024 AND MONTH(sale_date) = 10");
+        String after = explain("SELECT SUM(sale_count) FROM vehicle_sales WHERE sale_date >= DATE '2024-10-01' AND sale_date < DATE '2024-11-01'");
+
+        assertTrue(access(before)[0].endsWith("tablescan"), before);
+        assertEquals("idx_vehicle_sales_date", access(after)[0], after);
+    }
+
+    @Test
+    void commutesByYear() {
+        String before = explain("SELECT * FROM commute WHERE mem_no = 1 AND YEAR(commute_on_start_time) = 2024");
+        String after = explain("SELECT * FROM commute WHERE mem_no = 1 "
+                + "AND commute_on_start_time >= TIMESTAMP '2024-01-01 00:00:00' AND commute_on_start_time < TIMESTAMP '2025-01-01 00:00:00'");
+
+        // 변경 전에도 mem_no 로는 인덱스를 타지만, 연도 조건은 인덱스 범위에 들어가지 못함
+        assertFalse(access(before)[1].contains("commute_on_start_time"), before);
+        assertEquals("idx_commute_member_start", access(after)[0], after);
+        assertTrue(access(after)[1].contains("commute_on_start_time >="), after);
+    }
+
+    @Test
+    void weeklyWorkingTimeByYear() {
+        String before = explain("SELECT * FROM weekly_working_time WHERE mem_no = 1 AND YEAR(start_of_week) = 2024");
+        String after = explain("SELECT * FROM weekly_working_time WHERE mem_no = 1 "
+                + "AND start_of_week >= DATE '2024-01-01' AND start_of_week < DATE '2025-01-01'");
+
+        assertFalse(access(before)[1].contains("start_of_week"), before);
+        assertTrue(access(after)[1].contains("start_of_week >="), after);
+    }
+
+    private String explain(String sql) {
+        String plan = String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class))
+                .replace("\"", "")
+                .toLowerCase(Locale.ROOT);
+        System.out.println("[benchmark] EXPLAIN " + sql + "\n" + plan);
+        return plan;
+    }
+
+    // 첫 번째 테이블 접근 방식 {인덱스(또는 테이블.tablescan), 인덱스 조건}
+    private String[] access(String plan) {
+        Matcher matcher = ACCESS.matcher(plan);
+        assertTrue(matcher.find(), plan);
+        return new String[] {matcher.group(1), matcher.group(2) == null ? "" : matcher.group(2)};
+    }
+}
@@ -0,0 +1,81 @@
+package com.ware.spring.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.ware.spring.approval_route.domain.ApprovalRoute;
+import com.ware.spring.approval_route.domain.ApprovalRouteDto;
+import com.ware.spring.authorization.domain.Authorization;
+import com.ware.spring.authorization.domain.AuthorizationDto;
+import com.ware.spring.member.domain.Member;
+
+/**
+ * 결재 문서 DTO 변환 마이크로벤치마크 (./gradlew jmh)
+ * 설명: 목록/상세 화면에서 문서마다 호출되는 AuthorizationDto.toDto, ApprovalRouteDto.toDto의
+ *        단건 처리 시간을 측정합니다. 결재 경로 수(approvers)에 따라 비용이 어떻게 늘어나는지 비교합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.AverageTime, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DtoMappingBenchmark {
+
+    @Param({"1", "3", "6"})
+    public int approvers;
+
+    private List<Authorization> authorizations;
+    private List<ApprovalRoute> routes;
+    private Member approver;
+    private Member referer;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ApprovalDataGenerator generator = new ApprovalDataGenerator(42L);
+        List<Member> members = generator.members(200, generator.ranks(), generator.distributors(10));
+        authorizations = generator.authorizations(1_000, approvers, members);
+        routes = authorizations.get(0).getApprovalRoutes();
+        approver = routes.get(0).getMember();
+        referer = routes.get(routes.size() - 1).getMember();
+    }
+
+    private Authorization next() {
+        cursor = (cursor + 1) % authorizations.size();
+        return authorizations.get(cursor);
+    }
+
+    @Benchmark
+    public AuthorizationDto authorizationToDto() {
+        return AuthorizationDto.toDto(next());
+    }
+
+    @Benchmark
+    public void approvalRouteToDto(Blackhole blackhole) {
+        for (ApprovalRoute route : routes) {
+            blackhole.consume(ApprovalRouteDto.toDto(route));
+        }
+    }
+
+    @Benchmark
+    public void approvalRouteToDtoWithMembers(Blackhole blackhole) {
+        for (ApprovalRoute route : routes) {
+            blackhole.consume(ApprovalRouteDto.toDto(route, approver, referer));
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.ware.spring.benchmark;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * 구간별 처리 시간 기록기
+ * 설명: 측정값(나노초)을 모아 p50/p99/최대값과 처리량을 계산합니다.
+ *        회귀 여부를 비교할 수 있도록 한 줄 요약 형식으로 출력합니다.
+ */
+public class LatencyRecorder {
+
+    private final String name;
+    private long[] samples = new long[1024];
+    private int count;
+    private long totalNanos;
+
+    public LatencyRecorder(String name) {
+        this.name = name;
+    }
+
+    public void record(long nanos) {
+        if (count == samples.length) {
+            samples = Arrays.copyOf(samples, count * 2);
+        }
+        samples[count++] = nanos;
+        totalNanos += nanos;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * 백분위 값 (nearest-rank 방식)
+     * @param percentile 0 ~ 100
+     * @return 해당 백분위의 처리 시간 (나노초)
+     */
+    public long percentile(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+        int rank = (int) Math.ceil(percentile / 100.0 * count);
+        return sorted[Math.max(0, Math.min(count - 1, rank - 1))];
+    }
+
+    public String summary() {
+        double seconds = totalNanos / 1_000_000_000.0;
+        return String.format(Locale.ROOT,
+                "[benchmark] %-22s n=%6d  p50=%8.3f ms  p99=%8.3f ms  max=%8.3f ms  throughput=%9.1f ops/s",
+                name, count,
+                percentile(50) / 1_000_000.0,
+                percentile(99) / 1_000_000.0,
+                percentile(100) / 1_000_000.0,
+                seconds > 0 ? count / seconds : 0);
+    }
+}
@@ -0,0 +1,265 @@
+package com.ware.spring.benchmark;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.ware.spring.member.domain.Member;
+import com.ware.spring.member.repository.DistributorRepository;
+import com.ware.spring.member.repository.MemberRepository;
+import com.ware.spring.member.repository.RankRepository;
+import com.ware.spring.vehicle.domain.Vehicle;
+import com.ware.spring.vehicle.domain.VehicleReservation;
+import com.ware.spring.vehicle.domain.VehicleSalesMonthly;
+import com.ware.spring.vehicle.domain.VehicleSize;
+import com.ware.spring.vehicle.repository.VehicleDistributorSalesRepository;
+import com.ware.spring.vehicle.repository.VehicleRepository;
+import com.ware.spring.vehicle.repository.VehicleReservationRepository;
+import com.ware.spring.vehicle.repository.VehicleSalesRepository;
+import com.ware.spring.vehicle.repository.VehicleSizeRepository;
+import com.ware.spring.vehicle.service.SalesRankingService;
+import com.ware.spring.vehicle.service.VehicleReservationService;
+import com.ware.spring.vehicle.service.VehicleSalesCubeService;
+import com.ware.spring.vehicle.service.VehicleService;
+
+/**
+ * 차량 재고 동시 판매 테스트 (./gradlew benchmark)
+ * 설명: 재고 100대인 차량에 수백 건의 판매/예약 요청을 동시에 보내 재고 이상 팔리지 않는지 확인합니다.
+ *        - 바로 판매(processSale): 성공 건수 = 재고, 남은 재고 0, 판매 내역 = 재고
+ *        - 예약 후 확정/취소: 예약 성공 건수 = 재고, 취소한 만큼 재고 복구, 확정한 만큼 판매 내역 기록
+ *        - 지점 당일 판매: 지점마다 한 행, 판매 수량 합계 = 판매 건수 (차량 월별 집계, 판매 순위, 실시간 순위도 같음)
+ *        - 지점 매출 합계 = 판매 건수 x 차량 가격 (실제 가격이라 합계가 INT 범위를 넘음)
+ *        규모는 -Dbenchmark.inventory, -Dbenchmark.sales, -Dbenchmark.threads 로 조절합니다.
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("benchmark")
+class VehicleInventoryConcurrencyTest {
+
+    private static final int VEHICLE_PRICE = 30_000_000;
+
+    @Autowired
+    private VehicleService vehicleService;
+    @Autowired
+    private VehicleReservationService vehicleReservationService;
+    @Autowired
+    private VehicleSalesCubeService vehicleSalesCubeService;
+    @Autowired
+    private SalesRankingService salesRankingService;
+    @Autowired
+    private VehicleRepository vehicleRepository;
+    @Autowired
+    private VehicleSizeRepository vehicleSizeRepository;
+    @Autowired
+    private VehicleSalesRepository vehicleSalesRepository;
+    @Autowired
+    private VehicleDistributorSalesRepository vehicleDistributorSalesRepository;
+    @Autowired
+    private VehicleReservationRepository vehicleReservationRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private DistributorRepository distributorRepository;
+    @Autowired
+    private RankRepository rankRepository;
+
+    private List<Member> members;
+    private Long vehicleNo;
+    private int inventory;
+    private int sales;
+    private int threads;
+
+    @BeforeEach
+    void setUp() {
+        inventory = ApprovalDataGenerator.scale("inventory", 100);
+        sales = ApprovalDataGenerator.scale("sales", 500);
+        threads = ApprovalDataGenerator.scale("threads", 64);
+
+        vehicleReservationRepository.deleteAllInBatch();
+        vehicleSalesRepository.deleteAllInBatch();
+        vehicleDistributorSalesRepository.deleteAllInBatch();
+        members = ApprovalDataGenerator.fromSystemProperties().persistMembers(rankRepository, distributorRepository, memberRepository,
+                ApprovalDataGenerator.scale("distributors", 10),
+                ApprovalDataGenerator.scale("members", 200));
+
+        VehicleSize size = vehicleSizeRepository.save(VehicleSize.builder().vehicleSize("중형").build());
+        vehicleNo = vehicleRepository.save(Vehicle.builder()
+                .vehicleSize(size)
+                .vehicleModel("벤치마크 차량")
+                .vehicleReg("2024")
+                .vehicleInventory(inventory)
+                .vehicleFuel("가솔린")
+                .vehicleEfficiency("12.0")
+                .vehicleDisplacement("1998")
+                .vehicleSales(0)
+                .vehicleStatus("판매중")
+                .vehicleProfile("/image/vehicles/bench.png")
+                .vehicleRpm("6000")
+                .vehiclePrice(VEHICLE_PRICE)
+                .build()).getVehicleNo();
+    }
+
+    @Test
+    void concurrentSalesNeverOversell() throws InterruptedException {
+        LatencyRecorder latency = new LatencyRecorder("processSale");
+        AtomicInteger sold = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        AtomicInteger failures = new AtomicInteger();
+
+        boolean finished = runConcurrently(latency, memNo -> {
+            try {
+                vehicleService.processSale(vehicleNo, 1, memNo);
+                sold.incrementAndGet();
+            } catch (IllegalArgumentException e) {
+                rejected.incrementAndGet();
+            } catch (Exception e) {
+                failures.incrementAndGet();
+                e.printStackTrace();
+            }
+        });
+
+        System.out.println(latency.summary());
+        System.out.println("[benchmark] vehicle sales: 요청 " + sales + "건, 판매 " + sold.get() + "건, 재고 부족 " + rejected.get() + "건");
+
+        assertTrue(finished, "제한 시간 안에 판매 처리가 끝나지 않았습니다.");
+        assertEquals(0, failures.get(), "판매 처리 실패 건수");
+        assertEquals(Math.min(inventory, sales), sold.get(), "판매 성공 건수");
+        assertEquals(sales - sold.get(), rejected.get(), "재고 부족 건수");
+        assertEquals(inventory - sold.get(), vehicleRepository.findById(vehicleNo).orElseThrow().getVehicleInventory(), "남은 재고");
+        assertEquals(sold.get(), vehicleSalesRepository.count(), "판매 내역 건수");
+        assertEquals(sold.get(), vehicleDistributorSalesRepository.getTotalSaleCountBySaleDateRange(LocalDate.now(), LocalDate.now().plusDays(1)),
+                "지점 판매 합계");
+        assertEquals((long) sold.get() * VEHICLE_PRICE,
+                vehicleDistributorSalesRepository.getTotalSalePricesBySaleDateRange(LocalDate.now(), LocalDate.now().plusDays(1)),
+                "지점 매출 합계");
+        assertEquals(soldDistributorCount(), vehicleDistributorSalesRepository.count(), "지점별 당일 판매 행은 하나여야 합니다.");
+        assertEquals(sold.get(), vehicleSalesCubeService.getMonth(VehicleSalesMonthly.VEHICLE, vehicleNo, YearMonth.now())[0], "차량 월별 집계");
+        assertEquals(sold.get(), salesRankingService.getRanking(VehicleSalesMonthly.VEHICLE, YearMonth.now(), 1).get(0).getSaleCount(), "차량 판매 순위");
+        salesRankingService.publishLeaderboards(); // 1초 주기를 기다리지 않고 스냅샷 갱신
+        assertEquals(sold.get(), salesRankingService.getLeaderboard(VehicleSalesMonthly.VEHICLE, SalesRankingService.MAX_LIMIT).stream()
+                .filter(rank -> rank.getNo().equals(vehicleNo))
+                .findFirst().orElseThrow().getSaleCount(), "이번 달 실시간 순위");
+    }
+
+    @Test
+    void concurrentReservationsNeverOversell() throws InterruptedException {
+        LatencyRecorder latency = new LatencyRecorder("reserve");
+        List<VehicleReservation> reserved = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger rejected = new AtomicInteger();
+        AtomicInteger failures = new AtomicInteger();
+
+        boolean finished = runConcurrently(latency, memNo -> {
+            try {
+                reserved.add(vehicleReservationService.reserve(vehicleNo, 1, memNo));
+            } catch (IllegalStateException e) {
+                rejected.incrementAndGet();
+            } catch (Exception e) {
+                failures.incrementAndGet();
+                e.printStackTrace();
+            }
+        });
+        assertTrue(finished, "제한 시간 안에 예약 처리가 끝나지 않았습니다.");
+        assertEquals(0, failures.get(), "예약 처리 실패 건수");
+        assertEquals(Math.min(inventory, sales), reserved.size(), "예약 성공 건수");
+        assertEquals(inventory - reserved.size(), vehicleRepository.findById(vehicleNo).orElseThrow().getVehicleInventory(), "예약 후 재고");
+
+        // 절반은 확정, 절반은 취소 (같은 예약을 동시에 확정/취소해도 한쪽만 성공)
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        AtomicInteger confirmed = new AtomicInteger();
+        AtomicInteger cancelled = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(reserved.size() * 2);
+        for (int i = 0; i < reserved.size(); i++) {
+            VehicleReservation reservation = reserved.get(i);
+            boolean confirmFirst = i % 2 == 0;
+            for (int attempt = 0; attempt < 2; attempt++) {
+                boolean confirm = (attempt == 0) == confirmFirst;
+                executor.execute(() -> {
+                    try {
+                        if (confirm) {
+                            vehicleReservationService.confirm(reservation.getReservationNo(), reservation.getMemNo());
+                            confirmed.incrementAndGet();
+                        } else {
+                            vehicleReservationService.cancel(reservation.getReservationNo(), reservation.getMemNo());
+                            cancelled.incrementAndGet();
+                        }
+                    } catch (IllegalStateException e) {
+                        // 이미 처리된 예약
+                    } catch (Exception e) {
+                        failures.incrementAndGet();
+                        e.printStackTrace();
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            }
+        }
+        assertTrue(done.await(120, TimeUnit.SECONDS), "제한 시간 안에 확정/취소가 끝나지 않았습니다.");
+        executor.shutdownNow();
+
+        System.out.println(latency.summary());
+        System.out.println("[benchmark] vehicle reservations: 예약 " + reserved.size() + "건, 확정 " + confirmed.get()
+                + "건, 취소 " + cancelled.get() + "건, 재고 부족 " + rejected.get() + "건");
+
+        assertEquals(0, failures.get(), "확정/취소 실패 건수");
+        assertEquals(reserved.size(), confirmed.get() + cancelled.get(), "예약마다 확정 또는 취소 한 번");
+        assertEquals(inventory - confirmed.get(), vehicleRepository.findById(vehicleNo).orElseThrow().getVehicleInventory(), "취소 후 재고");
+        assertEquals(confirmed.get(), vehicleSalesRepository.count(), "판매 내역 건수");
+    }
+
+    // 판매 내역이 있는 지점 수
+    private long soldDistributorCount() {
+        return vehicleSalesRepository.findAll().stream()
+                .map(sale -> sale.getDistributor().getDistributorNo())
+                .distinct()
+                .count();
+    }
+
+    // sales 건의 요청을 threads 개 스레드에서 동시에 시작
+    private boolean runConcurrently(LatencyRecorder latency, Consumer<Long> sale) throws InterruptedException {
+        Random random = new Random(Long.getLong("benchmark.seed", 42L));
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(sales);
+        for (int i = 0; i < sales; i++) {
+            Long memNo = members.get(random.nextInt(members.size())).getMemNo();
+            executor.execute(() -> {
+                try {
+                    start.await();
+                    long begin = System.nanoTime();
+                    sale.accept(memNo);
+                    long elapsed = System.nanoTime() - begin;
+                    synchronized (latency) {
+                        latency.record(elapsed);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+        boolean finished = done.await(120, TimeUnit.SECONDS);
+        executor.shutdownNow();
+        return finished;
+    }
+}
@@ -0,0 +1,73 @@
+package com.ware.spring.commute.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import com.ware.spring.commute.repository.CommuteRepository;
+
+/**
+ * 근무 상태 DB 반영 테스트
+ * 설명: 한 반영 주기 안에 외출 후 착석해도 자리 비움 시작이 빠지지 않고,
+ *        기록에 실패한 변경은 다음 주기에 순서대로 다시 기록하는지 확인합니다.
+ */
+class PresenceServiceTest {
+
+    private static final Long MEM_NO = 1L;
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+    private CommuteRepository commuteRepository;
+    private DailyAttendanceService dailyAttendanceService;
+    private PresenceService service;
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        commuteRepository = mock(CommuteRepository.class);
+        dailyAttendanceService = mock(DailyAttendanceService.class);
+        service = new PresenceService(commuteRepository, dailyAttendanceService, mock(TeamAttendanceService.class));
+        now = LocalDateTime.now(ZONE);
+    }
+
+    @Test
+    void awayAndBackWithinOneFlushRecordsBoth() {
+        service.changeStatus(MEM_NO, "외출", now);
+        service.changeStatus(MEM_NO, "seated", now.plusSeconds(1));
+
+        service.flushPending();
+
+        InOrder order = inOrder(dailyAttendanceService);
+        order.verify(dailyAttendanceService).recordStatus(MEM_NO, now.toLocalDate(), false, now);
+        order.verify(dailyAttendanceService).recordStatus(MEM_NO, now.toLocalDate(), true, now.plusSeconds(1));
+        // 플래그는 마지막 상태만
+        verify(commuteRepository, times(1)).updateFlags(any(), any(), any(), any());
+        verify(commuteRepository).updateFlags(MEM_NO, now.toLocalDate(), "Y", "N");
+    }
+
+    @Test
+    void failedTransitionIsRetriedBeforeNewerOnes() {
+        doThrow(new IllegalStateException("db"))
+                .doNothing()
+                .when(dailyAttendanceService).recordStatus(eq(MEM_NO), any(), eq(false), eq(now));
+        service.changeStatus(MEM_NO, "외출", now);
+        service.flushPending();
+
+        service.changeStatus(MEM_NO, "seated", now.plusSeconds(5));
+        service.flushPending();
+
+        InOrder order = inOrder(dailyAttendanceService);
+        order.verify(dailyAttendanceService, times(2)).recordStatus(MEM_NO, now.toLocalDate(), false, now);
+        order.verify(dailyAttendanceService).recordStatus(MEM_NO, now.toLocalDate(), true, now.plusSeconds(5));
+    }
+}
@@ -0,0 +1,91 @@
+package com.ware.spring.commute.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.ware.spring.authorization.repository.AuthorizationRepository;
+import com.ware.spring.commute.domain.WeeklyWorkingTime;
+import com.ware.spring.commute.repository.CommuteRepository;
+import com.ware.spring.commute.repository.WeeklyWorkingTimeRepository;
+
+/**
+ * 주 52시간 점검 퇴근 반영 테스트
+ * 설명: 주간 근무 시간을 처음 채우는 퇴근은 이미 커밋된 근무 시간을 다시 더하지 않고,
+ *        이후 퇴근은 늘어난 시간만 더하며, 롤백된 퇴근은 반영하지 않는지 확인합니다.
+ */
+class WorkHourComplianceServiceTest {
+
+    private static final Long MEM_NO = 1L;
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+    private WeeklyWorkingTimeRepository weeklyWorkingTimeRepository;
+    private WorkHourComplianceService service;
+    private LocalDate today;
+
+    @BeforeEach
+    void setUp() {
+        today = LocalDate.now(ZONE);
+        LocalDate weekStart = today.with(DayOfWeek.MONDAY);
+        // 이번 퇴근 60분이 이미 커밋되어 10시간
+        WeeklyWorkingTime weekly = WeeklyWorkingTime.builder()
+                .memNo(MEM_NO)
+                .weekHours(10)
+                .weekMinutes(0)
+                .startOfWeek(weekStart)
+                .endOfWeek(weekStart.plusDays(6))
+                .build();
+
+        weeklyWorkingTimeRepository = mock(WeeklyWorkingTimeRepository.class);
+        when(weeklyWorkingTimeRepository.findByStartOfWeek(weekStart)).thenReturn(List.of(weekly));
+        when(weeklyWorkingTimeRepository.findByMemNoAndStartOfWeek(MEM_NO, weekStart)).thenReturn(Optional.of(weekly));
+        CommuteRepository commuteRepository = mock(CommuteRepository.class);
+        when(commuteRepository.findStatusByWorkDate(any())).thenReturn(List.of());
+        AuthorizationRepository authorizationRepository = mock(AuthorizationRepository.class);
+        when(authorizationRepository.findApprovedByDoctypeAndStartDateRange(any(), any(), any())).thenReturn(List.of());
+
+        service = new WorkHourComplianceService(weeklyWorkingTimeRepository, commuteRepository, authorizationRepository, 48, 52);
+    }
+
+    @Test
+    void firstClockOutOfWeekIsCountedOnce() {
+        service.onClockOut(MEM_NO, today, 60, LocalDateTime.now(ZONE));
+
+        assertEquals(600, service.getWorkedMinutes(MEM_NO));
+    }
+
+    @Test
+    void laterClockOutAddsOnlyAddedMinutes() {
+        assertEquals(600, service.getWorkedMinutes(MEM_NO)); // 이번 주 집계 채움
+
+        service.onClockOut(MEM_NO, today, 30, LocalDateTime.now(ZONE));
+
+        assertEquals(630, service.getWorkedMinutes(MEM_NO));
+    }
+
+    @Test
+    void rolledBackClockOutIsNotCounted() {
+        assertEquals(600, service.getWorkedMinutes(MEM_NO));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            service.onClockOut(MEM_NO, today, 30, LocalDateTime.now(ZONE));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization(); // 커밋 없이 종료
+        }
+
+        assertEquals(600, service.getWorkedMinutes(MEM_NO));
+    }
+}
@@ -0,0 +1,100 @@
+package com.ware.spring.vehicle.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * 판매 가져오기 파일 읽기 테스트
+ * 설명: CSV 따옴표/BOM/MS949 처리와 XLSX 공유 문자열, 비어 있는 셀 채우기를 확인합니다.
+ */
+class SaleFileReaderTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void csvQuotedCommaNewlineAndEscapedQuote() throws IOException {
+        Path file = write("sales.csv", "판매일,메모\r\n2024-01-05,\"a,b\nc \"\"d\"\"\"\r\n2024-01-06,\r\n", StandardCharsets.UTF_8);
+
+        try (SaleFileReader reader = SaleFileReader.open(file)) {
+            assertEquals(List.of("판매일", "메모"), reader.next());
+            assertEquals(List.of("2024-01-05", "a,b\nc \"d\""), reader.next());
+            assertEquals(List.of("2024-01-06", ""), reader.next());
+            assertNull(reader.next());
+        }
+    }
+
+    @Test
+    void csvSkipsUtf8Bom() throws IOException {
+        Path file = write("bom.csv", "\uFEFF판매일,사번\n", StandardCharsets.UTF_8);
+
+        try (SaleFileReader reader = SaleFileReader.open(file)) {
+            assertEquals(List.of("판매일", "사번"), reader.next());
+            assertNull(reader.next());
+        }
+    }
+
+    @Test
+    void csvFallsBackToMs949() throws IOException {
+        Path file = write("excel.csv", "판매일,사번\r\n2024-01-05,홍길동\r\n", Charset.forName("MS949"));
+
+        try (SaleFileReader reader = SaleFileReader.open(file)) {
+            assertEquals(List.of("판매일", "사번"), reader.next());
+            assertEquals(List.of("2024-01-05", "홍길동"), reader.next());
+            assertNull(reader.next());
+        }
+    }
+
+    @Test
+    void xlsxSharedStringsAndSparseCells() throws IOException {
+        Path file = dir.resolve("sales.xlsx");
+        try (ZipOutputStream zip = new ZipOutputStream(Files.newOutputStream(file))) {
+            entry(zip, "xl/sharedStrings.xml",
+                    "<sst xmlns=\"http://schemas.openxmlformats.org/spreadsheetml/2006/main\">"
+                    + "<si><t>판매일</t></si>"
+                    + "<si><r><t>차</t></r><r><t>량</t></r><rPh><t>윗주</t></rPh></si>"
+                    + "</sst>");
+            entry(zip, "xl/worksheets/sheet1.xml",
+                    "<worksheet xmlns=\"http://schemas.openxmlformats.org/spreadsheetml/2006/main\"><sheetData>"
+                    + "<row r=\"1\"><c r=\"A1\" t=\"s\"><v>0</v></c><c r=\"C1\" t=\"s\"><v>1</v></c></row>"
+                    + "<row r=\"2\"><c r=\"A2\"><v>45296</v></c><c r=\"D2\" t=\"inlineStr\"><is><t>메모</t></is></c></row>"
+                    + "</sheetData></worksheet>");
+        }
+
+        try (SaleFileReader reader = SaleFileReader.open(file)) {
+            assertEquals(List.of("판매일", "", "차량"), reader.next());
+            assertEquals(List.of("45296", "", "", "메모"), reader.next());
+            assertNull(reader.next());
+        }
+    }
+
+    @Test
+    void rejectsOtherExtensions() throws IOException {
+        Path file = write("sales.txt", "판매일\n", StandardCharsets.UTF_8);
+
+        assertThrows(IllegalArgumentException.class, () -> SaleFileReader.open(file));
+    }
+
+    private Path write(String name, String content, Charset charset) throws IOException {
+        return Files.write(dir.resolve(name), content.getBytes(charset));
+    }
+
+    private static void entry(ZipOutputStream zip, String name, String xml) throws IOException {
+        zip.putNextEntry(new ZipEntry(name));
+        zip.write(xml.getBytes(StandardCharsets.UTF_8));
+        zip.closeEntry();
+    }
+}
@@ -0,0 +1,77 @@
+package com.ware.spring.vehicle.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.zip.CRC32;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+
+/**
+ * 차량 이미지 저장 테스트
+ * 설명: 헤더에 큰 해상도를 선언한 이미지는 디코딩 전에 거부하고, 일반 이미지는 원본과 축소본을 저장하는지 확인합니다.
+ */
+class VehicleImageServiceTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void rejectsOversizedHeaderBeforeDecoding() throws IOException {
+        // 1x1 PNG 의 IHDR 만 50000x50000 으로 바꾼 파일 (수십 바이트)
+        byte[] bomb = withSize(png(1, 1), 50_000, 50_000);
+        VehicleImageService service = new VehicleImageService(dir.toString());
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> service.read(bomb));
+        assertEquals("이미지 해상도가 너무 큽니다.", e.getMessage());
+    }
+
+    @Test
+    void rejectsNonImage() {
+        VehicleImageService service = new VehicleImageService(dir.toString());
+
+        assertThrows(IllegalArgumentException.class, () -> service.read("not an image".getBytes()));
+    }
+
+    @Test
+    void storesOriginalAndRenditions() throws IOException {
+        VehicleImageService service = new VehicleImageService(dir.toString());
+
+        String url = service.store(new MockMultipartFile("file", "car.png", "image/png", png(1200, 600)));
+
+        String fileName = url.substring(VehicleImageService.IMAGE_URL.length());
+        String hash = fileName.substring(0, fileName.lastIndexOf('.'));
+        assertNotNull(service.getImage(fileName));
+        assertEquals(VehicleImageService.THUMB_WIDTH,
+                ImageIO.read(service.getImage(hash + "_" + VehicleImageService.THUMB_WIDTH + ".jpg").toFile()).getWidth());
+        assertEquals(VehicleImageService.DETAIL_WIDTH,
+                ImageIO.read(service.getImage(hash + "_" + VehicleImageService.DETAIL_WIDTH + ".jpg").toFile()).getWidth());
+    }
+
+    private static byte[] png(int width, int height) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "png", out);
+        return out.toByteArray();
+    }
+
+    // PNG 서명(8) + IHDR 길이(4) + "IHDR"(4) 다음이 너비/높이, 바꾼 뒤 IHDR CRC 다시 계산
+    private static byte[] withSize(byte[] png, int width, int height) {
+        ByteBuffer buffer = ByteBuffer.wrap(png);
+        buffer.putInt(16, width);
+        buffer.putInt(20, height);
+        CRC32 crc = new CRC32();
+        crc.update(png, 12, 17); // "IHDR" + 13바이트 데이터
+        buffer.putInt(29, (int) crc.getValue());
+        return png;
+    }
+}
@@ -0,0 +1,96 @@
+package com.ware.spring.vehicle.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import com.ware.spring.vehicle.domain.VehicleSalesForecast;
+
+/**
+ * 지점 판매 예측 모델 테스트 (VehicleSalesForecastService.fit)
+ * 설명: 일정한 판매, 전날 급증, 판매 기간이 짧은 지점, 판매 없는 지점의 예측과 이상 판매 판정을 확인합니다.
+ */
+class VehicleSalesForecastServiceTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2024, 6, 16);
+    private static final int DAYS = 182;
+    private static final long PRICE = 30_000_000L;
+
+    @Test
+    void steadySalesProjectTheSameDailyCount() {
+        VehicleSalesForecastService.DailySeries daily = series(0, 2);
+
+        VehicleSalesForecast forecast = VehicleSalesForecastService.fit(daily, TODAY);
+
+        assertEquals(LocalDate.of(2024, 6, 1), forecast.getForecastMonth());
+        assertEquals(TODAY.minusDays(1), forecast.getBaseDate());
+        assertEquals(2.0, forecast.getDailyLevel(), 1e-9);
+        assertEquals(2.0, forecast.getExpectedCount(), 1e-9);
+        assertEquals(30L, forecast.getMonthToDateCount()); // 6/1 ~ 6/15
+        assertEquals(30L * PRICE, forecast.getMonthToDatePrices());
+        assertEquals(60L, forecast.getProjectedCount()); // 남은 15일 x 2대
+        assertEquals(60L * PRICE, forecast.getProjectedPrices());
+        assertEquals(VehicleSalesForecast.NONE, forecast.getAnomaly());
+    }
+
+    @Test
+    void spikeOnLastDayIsReported() {
+        VehicleSalesForecastService.DailySeries daily = series(0, 2);
+        setDay(daily, DAYS - 1, 20);
+
+        VehicleSalesForecast forecast = VehicleSalesForecastService.fit(daily, TODAY);
+
+        assertEquals(20, forecast.getLastDayCount());
+        assertTrue(forecast.getDeviation() >= 3.0, "표준편차 3 이상");
+        assertEquals(VehicleSalesForecast.SPIKE, forecast.getAnomaly());
+    }
+
+    @Test
+    void dropOnLastDayIsReported() {
+        VehicleSalesForecastService.DailySeries daily = series(0, 20);
+        setDay(daily, DAYS - 1, 0);
+
+        assertEquals(VehicleSalesForecast.DROP, VehicleSalesForecastService.fit(daily, TODAY).getAnomaly());
+    }
+
+    @Test
+    void shortHistoryIsNotReported() {
+        // 10일 전에 첫 판매
+        VehicleSalesForecastService.DailySeries daily = series(DAYS - 10, 2);
+        setDay(daily, DAYS - 1, 20);
+
+        VehicleSalesForecast forecast = VehicleSalesForecastService.fit(daily, TODAY);
+
+        assertEquals(VehicleSalesForecast.NONE, forecast.getAnomaly());
+        assertEquals(20, forecast.getLastDayCount());
+    }
+
+    @Test
+    void noSalesProjectsZero() {
+        VehicleSalesForecastService.DailySeries daily = new VehicleSalesForecastService.DailySeries(1L, TODAY.minusDays(DAYS), DAYS);
+
+        VehicleSalesForecast forecast = VehicleSalesForecastService.fit(daily, TODAY);
+
+        assertEquals(0L, forecast.getProjectedCount());
+        assertEquals(0L, forecast.getProjectedPrices());
+        assertEquals(0.0, forecast.getDailyLevel(), 1e-9);
+        assertEquals(VehicleSalesForecast.NONE, forecast.getAnomaly());
+    }
+
+    // from 번째 날부터 매일 count 대 판매
+    private static VehicleSalesForecastService.DailySeries series(int from, int count) {
+        VehicleSalesForecastService.DailySeries daily = new VehicleSalesForecastService.DailySeries(1L, TODAY.minusDays(DAYS), DAYS);
+        Arrays.fill(daily.counts, from, DAYS, count);
+        Arrays.fill(daily.prices, from, DAYS, count * PRICE);
+        return daily;
+    }
+
+    private static void setDay(VehicleSalesForecastService.DailySeries daily, int index, int count) {
+        daily.counts[index] = count;
+        daily.prices[index] = count * PRICE;
+    }
+}